@@ -0,0 +1,79 @@
+package site.okkul.be.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import site.okkul.be.domain.auth.dto.JwtUserDetails;
+import site.okkul.be.domain.user.entity.UserRole;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * <p>
+ * - legacy: 이전 필터 동작 (validateToken + getAuthentication, 매번 새 파서를 만들어 서명을 두 번 검증)
+ * - singleParse: 재사용 파서로 한 번만 파싱 (캐시 미스 경로)
+ * - cached: 검증된 토큰 캐시 적중 경로
+ * <p>
+ * 실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+	private SecretKey key;
+	private JwtProvider jwtProvider;
+	private JwtProvider uncachedProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		jwtProvider = new JwtProvider(SECRET, Duration.ofMinutes(15), Duration.ofDays(7), 10_000, new SimpleMeterRegistry());
+		token = jwtProvider.createAccessToken(1L, Set.of(UserRole.USER));
+		jwtProvider.authenticate(token); // 캐시 적재
+		uncachedProvider = new JwtProvider(SECRET, Duration.ofMinutes(15), Duration.ofDays(7), 0, new SimpleMeterRegistry());  // 캐시 크기 0 (항상 캐시 미스)
+	}
+
+	@Benchmark
+	public Authentication legacy() {
+		// validateToken
+		Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+		// getAuthentication -> parseClaims
+		Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+		List<?> roles = claims.get("roles", List.class);
+		List<SimpleGrantedAuthority> authorities = roles.stream()
+				.map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+				.toList();
+		JwtUserDetails principal = new JwtUserDetails(Long.parseLong(claims.getSubject()), authorities);
+		return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+	}
+
+	@Benchmark
+	public Authentication singleParse() {
+		return uncachedProvider.authenticate(token).orElseThrow();
+	}
+
+	@Benchmark
+	public Authentication cached() {
+		return jwtProvider.authenticate(token).orElseThrow();
+	}
+}
@@ -8,8 +8,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import site.okkul.be.domain.auth.dto.AccessTokenResponse;
+import site.okkul.be.domain.auth.dto.LogoutRequest;
 import site.okkul.be.domain.auth.dto.TokenReissueRequest;
+import site.okkul.be.domain.auth.dto.TokenResponse;
 import site.okkul.be.domain.auth.service.AuthService;
 import site.okkul.be.global.config.SwaggerConfig;
 
@@ -25,13 +26,27 @@ public class AuthController {
 	@Operation(
 			summary = "액세스 토큰 재발급",
 			description = "리프레시 토큰을 사용하여 새로운 액세스 토큰을 발급받습니다.<br>" +
-					"body에 리프래쉬 토큰만 담아주세요"
+					"body에 리프래쉬 토큰만 담아주세요<br>" +
+					"리프레시 토큰도 새로 발급되며, 이전 리프레시 토큰을 다시 사용하면 해당 로그인의 모든 토큰이 폐기됩니다."
 	)
-	public ResponseEntity<AccessTokenResponse> reissue(
+	public ResponseEntity<TokenResponse> reissue(
 			@RequestBody TokenReissueRequest request
 	) {
 		return ResponseEntity.ok(
 				authService.reissueAccessToken(request.refreshToken())
 		);
 	}
+
+	@PostMapping("/logout")
+	@Operation(
+			summary = "로그아웃",
+			description = "리프레시 토큰을 폐기합니다. 모든 서버에 즉시 반영됩니다.<br>" +
+					"allDevices 가 true 면 모든 기기의 로그인을 폐기합니다."
+	)
+	public ResponseEntity<Void> logout(
+			@RequestBody LogoutRequest request
+	) {
+		authService.logout(request.refreshToken(), request.allDevices());
+		return ResponseEntity.noContent().build();
+	}
 }
@@ -0,0 +1,49 @@
+package site.okkul.be.domain.auth.dto;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * <p>
+ * 서명/만료 검증을 통과하면 claims 를, 실패하면 실패 사유를 담습니다. (둘 중 하나만 존재)
+ *
+ * @param claims  검증된 claims (실패 시 null)
+ * @param failure 실패 사유 (성공 시 null)
+ */
+public record JwtVerification(Claims claims, Failure failure) {
+
+	public enum Failure {
+		/**
+		 * 토큰 없음
+		 */
+		EMPTY,
+		/**
+		 * 형식이 잘못된 토큰
+		 */
+		MALFORMED,
+		/**
+		 * 서명이 일치하지 않는 토큰
+		 */
+		INVALID_SIGNATURE,
+		/**
+		 * 만료된 토큰
+		 */
+		EXPIRED,
+		/**
+		 * 지원하지 않는 토큰 (서명 없는 토큰 등)
+		 */
+		UNSUPPORTED
+	}
+
+	public static JwtVerification success(Claims claims) {
+		return new JwtVerification(claims, null);
+	}
+
+	public static JwtVerification failure(Failure failure) {
+		return new JwtVerification(null, failure);
+	}
+
+	public boolean isValid() {
+		return failure == null;
+	}
+}
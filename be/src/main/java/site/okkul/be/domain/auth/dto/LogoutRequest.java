@@ -0,0 +1,16 @@
+package site.okkul.be.domain.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로그아웃 요청")
+public record LogoutRequest(
+		@Schema(
+				description = "리프레시 토큰",
+				requiredMode = Schema.RequiredMode.REQUIRED,
+				example = "eyJhbG..."
+		)
+		String refreshToken,
+		@Schema(description = "모든 기기에서 로그아웃 여부", example = "false")
+		boolean allDevices
+) {
+}
@@ -13,7 +13,7 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 import site.okkul.be.domain.auth.exception.AuthErrorCode;
-import site.okkul.be.domain.auth.service.JwtProvider;
+import site.okkul.be.domain.auth.service.AuthService;
 import site.okkul.be.domain.user.entity.OAuthProvider;
 import site.okkul.be.domain.user.entity.User;
 import site.okkul.be.domain.user.repository.UserJpaRepository;
@@ -26,7 +26,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
 	private final UserJpaRepository userRepository; // ★ DB 조회를 위해 주입
 
-	private final JwtProvider jwtProvider;
+	private final AuthService authService;
 
 	@Value("${app.frontend.url}")
 	private String frontendUrl;
@@ -52,15 +52,14 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 		// 3. 첫 로그인 판단 로직 (User 엔티티 상태로 판단)
 		boolean isFirst = (user.getTargetLevel() == null);
 
-		// 4. JWT 생성
-		String accessToken = jwtProvider.createAccessToken(user.getId(), user.getRoles());
-		String refreshToken = jwtProvider.createRefreshToken(user.getId());
+		// 4. JWT 생성 (Refresh Token 패밀리 등록, 권한도 함께 저장)
+		TokenResponse tokens = authService.issueTokens(user.getId(), user.getRoles());
 
 		// 5. 프론트 리다이렉트
 		// TODO: 프론트팀과 협의하여 URL 및 파라미터 결정
 		String targetUrl = UriComponentsBuilder.fromUriString(frontendUrl + "/oauth2/redirect")
-				.queryParam("accessToken", accessToken)
-				.queryParam("refreshToken", refreshToken)
+				.queryParam("accessToken", tokens.accessToken())
+				.queryParam("refreshToken", tokens.refreshToken())
 				.queryParam("isFirst", isFirst)
 				.build().toUriString();
 
@@ -0,0 +1,12 @@
+package site.okkul.be.domain.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 응답")
+public record TokenResponse(
+		@Schema(description = "새로 발급된 액세스 토큰", example = "eyJhbG...")
+		String accessToken,
+		@Schema(description = "새로 발급된 리프레시 토큰 (이전 리프레시 토큰은 더 이상 사용할 수 없음)", example = "eyJhbG...")
+		String refreshToken
+) {
+}
@@ -11,7 +11,8 @@ public enum AuthErrorCode implements ErrorCode {
 
 	TOKEN_INVALID_ERROR(HttpStatus.UNAUTHORIZED, "AUTH_001", "토큰이 유효하지 않습니다"),
 	USER_NOT_REGISTERED(HttpStatus.UNAUTHORIZED, "AUTH_002", "등록된 유저가 없습니다."),
-	UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.BAD_REQUEST, "AUTH_003", "지원하지 않는 소셜 로그인 제공자입니다.");
+	UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.BAD_REQUEST, "AUTH_003", "지원하지 않는 소셜 로그인 제공자입니다."),
+	REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "AUTH_004", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
 
 
 	private final HttpStatus status;
@@ -7,7 +7,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -26,11 +25,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		// 1. Request Header에서 토큰 추출
 		String token = resolveToken(request);
 
-		// 2. 토큰 유효성 검사
-		if (token != null && jwtProvider.validateToken(token)) {
+		// 2. 토큰 검증 (한 번만 파싱, 최근 검증한 토큰은 캐시 사용)
+		if (token != null) {
 			// 3. 토큰이 유효하면 인증 정보(Authentication)를 SecurityContext에 저장
-			Authentication authentication = jwtProvider.getAuthentication(token);
-			SecurityContextHolder.getContext().setAuthentication(authentication);
+			jwtProvider.authenticate(token)
+					.ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
 		}
 
 		// 4. 다음 필터로 넘김
@@ -1,41 +1,121 @@
 package site.okkul.be.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import site.okkul.be.domain.auth.dto.JwtVerification;
+import site.okkul.be.domain.auth.dto.TokenResponse;
 import site.okkul.be.domain.auth.exception.AuthErrorCode;
-import site.okkul.be.domain.auth.dto.AccessTokenResponse;
-import site.okkul.be.domain.auth.dto.JwtUserDetails;
 import site.okkul.be.domain.user.entity.User;
+import site.okkul.be.domain.user.entity.UserRole;
 import site.okkul.be.domain.user.repository.UserJpaRepository;
 import site.okkul.be.global.exception.BusinessException;
 
+/**
+ * 토큰 발급/재발급/폐기
+ * <p>
+ * Refresh Token 은 Redis 에 패밀리 단위로 등록되며, 재발급할 때마다 교체(rotation)됩니다.
+ * 권한은 재발급할 때마다 DB 에서 다시 읽어, 권한이 바뀌면 다음 재발급부터 반영됩니다.
+ * 패밀리 도입 전에 발급된(fid claim 이 없는) Refresh Token 은 재발급할 수 없으므로 해당 사용자는 다시 로그인해야 합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 	private final JwtProvider jwtProvider;
-	private final UserJpaRepository userJpaRepository;
+	private final RefreshTokenStore refreshTokenStore;
+	private final UserJpaRepository userRepository;
 
-	@Transactional(readOnly = true)
-	public AccessTokenResponse reissueAccessToken(String refreshToken) {
-		// 1. 리프레시 토큰 검증
-		if (!jwtProvider.validateToken(refreshToken)) {
-			throw new BusinessException(AuthErrorCode.TOKEN_INVALID_ERROR);
+	/**
+	 * 로그인 시 토큰 발급 (새 패밀리 등록)
+	 */
+	public TokenResponse issueTokens(Long userId, Set<UserRole> roles) {
+		String familyId = UUID.randomUUID().toString();
+		String tokenId = UUID.randomUUID().toString();
+		refreshTokenStore.register(familyId, userId, tokenId);
+
+		return new TokenResponse(
+				jwtProvider.createAccessToken(userId, roles),
+				jwtProvider.createRefreshToken(userId, familyId, tokenId)
+		);
+	}
+
+	/**
+	 * 토큰 재발급
+	 * - 제시된 Refresh Token 이 패밀리의 현재 토큰이면 새 토큰으로 교체합니다.
+	 * - 직전 토큰이 유예 시간 안에 다시 오면 (동시 재발급) 이미 교체된 현재 토큰으로 다시 발급합니다.
+	 * - 그 밖의 이미 교체된 토큰이 다시 오면 패밀리 전체를 폐기합니다. (탈취 대응)
+	 */
+	public TokenResponse reissueAccessToken(String refreshToken) {
+		// 1. 리프레시 토큰 검증 (한 번만 파싱)
+		RefreshTokenClaims claims = parseRefreshToken(refreshToken);
+
+		// 2. 토큰 교체 (Redis)
+		String newTokenId = UUID.randomUUID().toString();
+		RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(claims.familyId(), claims.userId(), claims.tokenId(), newTokenId);
+		switch (rotation.status()) {
+			case REVOKED -> throw new BusinessException(AuthErrorCode.TOKEN_INVALID_ERROR);
+			case REUSED -> {
+				log.warn("이미 교체된 리프레시 토큰이 재사용되어 토큰 패밀리를 폐기했습니다. userId={}, familyId={}",
+						claims.userId(), claims.familyId());
+				throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_REUSED);
+			}
+			case ROTATED -> {
+			}
 		}
 
-		// 2. 토큰에서 사용자 정보 추출
-		Authentication authentication = jwtProvider.getAuthentication(refreshToken);
-		JwtUserDetails userDetails = (JwtUserDetails) authentication.getPrincipal();
-		Long userId = userDetails.getUserId();
+		// 3. 권한 조회 (탈퇴한 사용자면 패밀리 폐기)
+		User user = userRepository.findById(claims.userId()).orElseThrow(() -> {
+			refreshTokenStore.revoke(claims.familyId(), claims.userId());
+			return new BusinessException(AuthErrorCode.USER_NOT_REGISTERED);
+		});
+
+		// 4. 새로운 토큰 발급
+		return new TokenResponse(
+				jwtProvider.createAccessToken(user.getId(), user.getRoles()),
+				jwtProvider.createRefreshToken(user.getId(), claims.familyId(), rotation.tokenId())
+		);
+	}
 
-		// 3. 사용자 조회 (Role 정보 획득)
-		User user = userJpaRepository.findById(userId)
-				.orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_REGISTERED));
+	/**
+	 * 로그아웃 (토큰 패밀리 폐기)
+	 * - 이미 만료/폐기된 토큰이어도 성공으로 처리합니다.
+	 *
+	 * @param allDevices true 면 사용자의 모든 패밀리를 폐기
+	 */
+	public void logout(String refreshToken, boolean allDevices) {
+		JwtVerification verification = jwtProvider.verify(refreshToken);
+		if (!verification.isValid() || verification.claims().get(JwtProvider.FAMILY_ID_CLAIM) == null) {
+			return;
+		}
+		RefreshTokenClaims claims = RefreshTokenClaims.from(verification.claims());
+		if (allDevices) {
+			refreshTokenStore.revokeAll(claims.userId());
+		} else {
+			refreshTokenStore.revoke(claims.familyId(), claims.userId());
+		}
+	}
 
-		// 4. 새로운 액세스 토큰 발급
-		String newAccessToken = jwtProvider.createAccessToken(user.getId(), user.getRoles());
+	private RefreshTokenClaims parseRefreshToken(String refreshToken) {
+		JwtVerification verification = jwtProvider.verify(refreshToken);
+		if (!verification.isValid()
+				|| verification.claims().get(JwtProvider.FAMILY_ID_CLAIM) == null
+				|| verification.claims().getId() == null) {
+			throw new BusinessException(AuthErrorCode.TOKEN_INVALID_ERROR);
+		}
+		return RefreshTokenClaims.from(verification.claims());
+	}
 
-		return new AccessTokenResponse(newAccessToken);
+	private record RefreshTokenClaims(Long userId, String familyId, String tokenId) {
+		static RefreshTokenClaims from(Claims claims) {
+			return new RefreshTokenClaims(
+					Long.parseLong(claims.getSubject()),
+					claims.get(JwtProvider.FAMILY_ID_CLAIM, String.class),
+					claims.getId()
+			);
+		}
 	}
 }
@@ -1,19 +1,31 @@
 package site.okkul.be.domain.auth.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
@@ -23,25 +35,43 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import site.okkul.be.domain.auth.dto.JwtUserDetails;
+import site.okkul.be.domain.auth.dto.JwtVerification;
 import site.okkul.be.domain.user.entity.UserRole;
 
+/**
+ * JWT 발급/검증
+ * <p>
+ * 파서는 한 번만 만들어 재사용하고, 토큰은 요청마다 한 번만 파싱(서명 검증)합니다.
+ * 최근 검증한 Access Token 은 토큰 해시를 키로 만료 시각(exp)까지 캐시해, 같은 토큰의 반복 요청은 서명 검증을 생략합니다.
+ */
 @Slf4j
 @Component
 public class JwtProvider {
-	@Value("${app.jwt.secret}")
-	private String secretKey;
 
-	@Value("${app.jwt.access-token-expiration}")
-	private Duration accessExpiration;
+	/**
+	 * Refresh Token 패밀리 ID claim (토큰 ID 는 jti)
+	 */
+	public static final String FAMILY_ID_CLAIM = "fid";
 
-	@Value("${app.jwt.refresh-token-expiration}")
-	private Duration refreshExpiration;
+	private final SecretKey key;
+	private final JwtParser parser;
+	private final Duration accessExpiration;
+	private final Duration refreshExpiration;
 
-	private SecretKey key;
+	/**
+	 * 검증된 토큰 캐시 (토큰 SHA-256 해시 -> 사용자 정보)
+	 */
+	private final Cache<String, VerifiedToken> verifiedTokens;
 
-	@PostConstruct
-	public void init() {
+	public JwtProvider(
+			@Value("${app.jwt.secret}") String secretKey,
+			@Value("${app.jwt.access-token-expiration}") Duration accessExpiration,
+			@Value("${app.jwt.refresh-token-expiration}") Duration refreshExpiration,
+			@Value("${app.jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize,
+			MeterRegistry meterRegistry
+	) {
 		byte[] keyBytes;
 		try {
 			keyBytes = Decoders.BASE64.decode(secretKey);
@@ -54,24 +84,40 @@ public class JwtProvider {
 		}
 
 		this.key = Keys.hmacShaKeyFor(keyBytes);
+		this.parser = Jwts.parser().verifyWith(key).build(); // 불변/스레드 안전
+		this.accessExpiration = accessExpiration;
+		this.refreshExpiration = refreshExpiration;
+
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(verifiedCacheSize)
+				.expireAfter(new ExpireAtTokenExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
 	}
 
 	/**
 	 * Access Token 생성
 	 */
 	public String createAccessToken(Long userId, Set<UserRole> roles) {
-		return createToken(userId, roles, accessExpiration);
+		return tokenBuilder(userId, roles, accessExpiration).compact();
 	}
 
 	/**
 	 * Refresh Token 생성
+	 *
+	 * @param familyId 로그인 단위 패밀리 ID (재발급해도 유지)
+	 * @param tokenId  이 토큰의 ID (재발급마다 새로 발급)
 	 */
-	public String createRefreshToken(Long userId) {
+	public String createRefreshToken(Long userId, String familyId, String tokenId) {
 		// Refresh Token에는 보통 권한 정보를 담지 않음 (가볍게)
-		return createToken(userId, null, refreshExpiration);
+		return tokenBuilder(userId, null, refreshExpiration)
+				.id(tokenId)
+				.claim(FAMILY_ID_CLAIM, familyId)
+				.compact();
 	}
 
-	private String createToken(Long userId, Set<UserRole> roles, Duration expiration) {
+	private JwtBuilder tokenBuilder(Long userId, Set<UserRole> roles, Duration expiration) {
 		Date now = new Date();
 
 		long expirationMillis = expiration.toMillis();
@@ -90,55 +136,125 @@ public class JwtProvider {
 			builder.claim("roles", roleClaims);
 		}
 
-		return builder.compact();
+		return builder;
+	}
+
+	/**
+	 * 요청 인증 (Filter에서 사용)
+	 * - 캐시에 있으면 서명 검증 없이, 없으면 한 번 파싱해서 검증 후 캐시합니다.
+	 *
+	 * @return 유효한 토큰이면 Authentication, 아니면 빈 값
+	 */
+	public Optional<Authentication> authenticate(String token) {
+		if (!StringUtils.hasText(token)) {
+			return Optional.empty();
+		}
+		String cacheKey = hash(token);
+		VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+		if (cached != null) {
+			return Optional.of(toAuthentication(cached.principal()));
+		}
+
+		JwtVerification verification = verify(token);
+		// Refresh Token 은 API 인증에 쓸 수 없음 (로그아웃으로 폐기해도 만료까지 쓰이는 것 방지)
+		if (!verification.isValid() || verification.claims().get(FAMILY_ID_CLAIM) != null) {
+			return Optional.empty();
+		}
+		JwtUserDetails principal = toPrincipal(verification.claims());
+		Date expiration = verification.claims().getExpiration();
+		if (expiration != null) {
+			verifiedTokens.put(cacheKey, new VerifiedToken(principal, expiration.getTime()));
+		}
+		return Optional.of(toAuthentication(principal));
 	}
 
 	/**
-	 * 토큰에서 Authentication 객체 추출 (Filter에서 사용)
+	 * 토큰 검증 (서명/만료를 한 번의 파싱으로 확인)
+	 *
+	 * @return 검증된 claims 또는 실패 사유
 	 */
-	public Authentication getAuthentication(String token) {
-		Claims claims = parseClaims(token);
+	public JwtVerification verify(String token) {
+		if (!StringUtils.hasText(token)) {
+			return JwtVerification.failure(JwtVerification.Failure.EMPTY);
+		}
+		try {
+			return JwtVerification.success(parser.parseSignedClaims(token).getPayload());
+		} catch (ExpiredJwtException e) {
+			log.debug("만료된 JWT 토큰입니다.");
+			return JwtVerification.failure(JwtVerification.Failure.EXPIRED);
+		} catch (SignatureException e) {
+			log.warn("잘못된 JWT 서명입니다.");
+			return JwtVerification.failure(JwtVerification.Failure.INVALID_SIGNATURE);
+		} catch (MalformedJwtException | IllegalArgumentException e) {
+			log.warn("JWT 토큰이 잘못되었습니다.");
+			return JwtVerification.failure(JwtVerification.Failure.MALFORMED);
+		} catch (UnsupportedJwtException e) {
+			log.warn("지원되지 않는 JWT 토큰입니다.");
+			return JwtVerification.failure(JwtVerification.Failure.UNSUPPORTED);
+		} catch (JwtException e) {
+			log.warn("JWT 토큰 검증에 실패했습니다. {}", e.getMessage());
+			return JwtVerification.failure(JwtVerification.Failure.INVALID_SIGNATURE);
+		}
+	}
 
+	private static JwtUserDetails toPrincipal(Claims claims) {
 		// 1. 권한 정보 가져오기
-		List<String> roles = claims.get("roles", List.class);
+		List<?> roles = claims.get("roles", List.class);
 		Collection<? extends GrantedAuthority> authorities = (roles == null || roles.isEmpty())
 				? List.of(new SimpleGrantedAuthority("ROLE_USER"))
 				: roles.stream()
 				.map(role -> new SimpleGrantedAuthority("ROLE_" + role)) // "ROLE_" 접두사 추가
 				.toList();
 
-
-		// UserDetails 객체 생성 (Principal)
+		// 2. UserDetails 객체 생성 (Principal)
 		Long userId = Long.parseLong(claims.getSubject());
-		JwtUserDetails principal = new JwtUserDetails(userId, authorities);
-
-		return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+		return new JwtUserDetails(userId, authorities);
 	}
 
 	/**
-	 * 토큰 검증
+	 * 요청마다 새 Authentication 을 만듭니다. (캐시된 principal 은 불변이라 공유)
 	 */
-	public boolean validateToken(String token) {
+	private static Authentication toAuthentication(JwtUserDetails principal) {
+		return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+	}
+
+	private static String hash(String token) {
 		try {
-			Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-			return true;
-		} catch (SecurityException | MalformedJwtException e) {
-			log.error("잘못된 JWT 서명입니다.");
-		} catch (ExpiredJwtException e) {
-			log.error("만료된 JWT 토큰입니다.");
-		} catch (UnsupportedJwtException e) {
-			log.error("지원되지 않는 JWT 토큰입니다.");
-		} catch (IllegalArgumentException e) {
-			log.error("JWT 토큰이 잘못되었습니다.");
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // 모든 JVM 이 SHA-256 을 지원
 		}
-		return false;
 	}
 
-	private Claims parseClaims(String token) {
-		try {
-			return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-		} catch (ExpiredJwtException e) {
-			return e.getClaims(); // 만료되어도 정보는 꺼낼 수 있음
+	/**
+	 * 검증된 토큰
+	 *
+	 * @param principal       사용자 정보
+	 * @param expiresAtMillis 토큰 만료 시각 (epoch millis)
+	 */
+	private record VerifiedToken(JwtUserDetails principal, long expiresAtMillis) {
+	}
+
+	/**
+	 * 캐시 항목을 토큰의 exp 에 맞춰 만료시킵니다. (읽기/갱신은 남은 시간을 바꾸지 않음)
+	 */
+	private static final class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+			return Duration.ofMillis(Math.max(0, remainingMillis)).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+			return currentDuration;
 		}
 	}
 }
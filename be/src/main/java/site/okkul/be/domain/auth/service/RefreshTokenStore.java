@@ -0,0 +1,183 @@
+package site.okkul.be.domain.auth.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * <p>
+ * 로그인 한 번에서 이어지는 Refresh Token 들을 하나의 패밀리(family)로 묶어 관리합니다.
+ * <ul>
+ *     <li>{@code {prefix}family:{familyId}} (HASH): user, current(현재 유효한 토큰 ID), previous(직전 토큰 ID), rotated_at(교체 시각 ms)</li>
+ *     <li>{@code {prefix}user:{userId}} (SET): 사용자의 패밀리 ID 목록 (전체 로그아웃용)</li>
+ * </ul>
+ * 재발급(rotate)은 현재 토큰 ID 비교와 교체를 Lua 스크립트 하나로 처리합니다.
+ * 이미 교체된 토큰이 다시 오면 탈취로 보고 패밀리 전체를 폐기합니다.
+ * 단, 직전 토큰이 교체 후 유예 시간 안에 다시 오면 (여러 탭의 동시 재발급, 응답 유실 후 재시도) 현재 토큰 ID 를 돌려줍니다.
+ * 권한은 저장하지 않습니다. (재발급 때 DB 에서 다시 읽음)
+ * </p>
+ */
+@Component
+public class RefreshTokenStore {
+
+	/**
+	 * 패밀리 등록 + 사용자 패밀리 목록에 추가
+	 */
+	private static final RedisScript<Long> REGISTER_SCRIPT = RedisScript.of("""
+			redis.call('HSET', KEYS[1], 'user', ARGV[1], 'current', ARGV[2])
+			redis.call('PEXPIRE', KEYS[1], ARGV[3])
+			redis.call('SADD', KEYS[2], ARGV[4])
+			redis.call('PEXPIRE', KEYS[2], ARGV[3])
+			return 1
+			""", Long.class);
+
+	/**
+	 * 현재 토큰이면 새 토큰 ID 로 교체하고 "ROTATED",
+	 * 유예 시간 안의 직전 토큰이면 "GRACE:{현재 토큰 ID}",
+	 * 그 밖의 이미 교체된 토큰이면 패밀리를 지우고 "REUSED",
+	 * 패밀리가 없으면(로그아웃/만료/폐기) "REVOKED"
+	 */
+	private static final RedisScript<String> ROTATE_SCRIPT = RedisScript.of("""
+			local family = redis.call('HMGET', KEYS[1], 'current', 'previous', 'rotated_at')
+			local current = family[1]
+			if not current then
+				return 'REVOKED'
+			end
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			if current ~= ARGV[1] then
+				if family[2] == ARGV[1] and now - tonumber(family[3]) <= tonumber(ARGV[5]) then
+					return 'GRACE:' .. current
+				end
+				redis.call('DEL', KEYS[1])
+				redis.call('SREM', KEYS[2], ARGV[4])
+				return 'REUSED'
+			end
+			redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1], 'rotated_at', string.format('%.0f', now))
+			redis.call('PEXPIRE', KEYS[1], ARGV[3])
+			redis.call('PEXPIRE', KEYS[2], ARGV[3])
+			return 'ROTATED'
+			""", String.class);
+
+	/**
+	 * 사용자의 모든 패밀리 폐기
+	 */
+	private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+			local families = redis.call('SMEMBERS', KEYS[1])
+			for _, family in ipairs(families) do
+				redis.call('DEL', ARGV[1] .. family)
+			end
+			redis.call('DEL', KEYS[1])
+			return #families
+			""", Long.class);
+
+	private static final String GRACE_PREFIX = "GRACE:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final String keyPrefix;
+	private final Duration ttl;
+	private final Duration reuseGrace;
+
+	public RefreshTokenStore(StringRedisTemplate redisTemplate,
+							 @Value("${app.jwt.refresh-token-key-prefix:okkul:auth:refresh:}") String keyPrefix,
+							 @Value("${app.jwt.refresh-token-expiration}") Duration ttl,
+							 @Value("${app.jwt.refresh-token-reuse-grace:10s}") Duration reuseGrace) {
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = keyPrefix;
+		this.ttl = ttl;
+		this.reuseGrace = reuseGrace;
+	}
+
+	/**
+	 * 새 패밀리를 등록합니다. (로그인)
+	 */
+	public void register(String familyId, Long userId, String tokenId) {
+		redisTemplate.execute(REGISTER_SCRIPT, List.of(familyKey(familyId), userKey(userId)),
+				String.valueOf(userId), tokenId, Long.toString(ttl.toMillis()), familyId);
+	}
+
+	/**
+	 * 제시된 토큰이 패밀리의 현재 토큰이면 새 토큰 ID 로 교체합니다.
+	 * 유예 시간 안의 직전 토큰이면 교체하지 않고 현재 토큰 ID 를 돌려줍니다.
+	 */
+	public Rotation rotate(String familyId, Long userId, String presentedTokenId, String newTokenId) {
+		String result = redisTemplate.execute(ROTATE_SCRIPT, List.of(familyKey(familyId), userKey(userId)),
+				presentedTokenId, newTokenId, Long.toString(ttl.toMillis()), familyId, Long.toString(reuseGrace.toMillis()));
+		if (result == null || result.equals("REVOKED")) {
+			return Rotation.revoked();
+		}
+		if (result.equals("REUSED")) {
+			return Rotation.reused();
+		}
+		if (result.startsWith(GRACE_PREFIX)) {
+			return Rotation.rotated(result.substring(GRACE_PREFIX.length()));
+		}
+		return Rotation.rotated(newTokenId);
+	}
+
+	/**
+	 * 패밀리 하나를 폐기합니다. (로그아웃)
+	 */
+	public void revoke(String familyId, Long userId) {
+		redisTemplate.delete(familyKey(familyId));
+		redisTemplate.opsForSet().remove(userKey(userId), familyId);
+	}
+
+	/**
+	 * 사용자의 모든 패밀리를 폐기합니다. (모든 기기 로그아웃)
+	 *
+	 * @return 폐기한 패밀리 수
+	 */
+	public long revokeAll(Long userId) {
+		Long revoked = redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(userKey(userId)), keyPrefix + "family:");
+		return revoked == null ? 0 : revoked;
+	}
+
+	private String familyKey(String familyId) {
+		return keyPrefix + "family:" + familyId;
+	}
+
+	private String userKey(Long userId) {
+		return keyPrefix + "user:" + userId;
+	}
+
+	/**
+	 * 재발급 결과
+	 *
+	 * @param status  결과
+	 * @param tokenId 새 Refresh Token 에 넣을 토큰 ID (ROTATED 일 때만, 유예 시간 안의 재요청이면 이미 교체된 현재 토큰 ID)
+	 */
+	public record Rotation(Status status, String tokenId) {
+
+		public enum Status {
+			/**
+			 * 새 토큰으로 교체됨 (유예 시간 안의 직전 토큰 재요청 포함)
+			 */
+			ROTATED,
+			/**
+			 * 이미 교체된 토큰의 재사용 (패밀리 폐기됨)
+			 */
+			REUSED,
+			/**
+			 * 로그아웃/만료/폐기된 패밀리
+			 */
+			REVOKED
+		}
+
+		static Rotation rotated(String tokenId) {
+			return new Rotation(Status.ROTATED, tokenId);
+		}
+
+		static Rotation reused() {
+			return new Rotation(Status.REUSED, null);
+		}
+
+		static Rotation revoked() {
+			return new Rotation(Status.REVOKED, null);
+		}
+	}
+}
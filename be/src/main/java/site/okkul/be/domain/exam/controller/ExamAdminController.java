@@ -5,11 +5,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import site.okkul.be.domain.exam.service.AdminExamService;
+import site.okkul.be.global.admission.AdmissionControlled;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.config.SwaggerConfig;
 
 @Tag(name = "ADMIN", description = "ADMIN")
@@ -22,20 +26,24 @@ public class ExamAdminController {
 
 	private final AdminExamService adminExamService;
 
+	@AdmissionControlled(AiWorkload.ADMIN)
 	@PostMapping("/exam/{examId}/recreate")
 	public ResponseEntity<Void> recreateExam(
-			@PathVariable Long examId
+			@PathVariable Long examId,
+			@AuthenticationPrincipal UserDetails user
 	) {
-		adminExamService.adminExamReportRecreate(examId);
+		adminExamService.requestReportRecreate(examId, Long.parseLong(user.getUsername()));
 		return ResponseEntity.noContent().build();
 	}
 
+	@AdmissionControlled(AiWorkload.ADMIN)
 	@PostMapping("/exam/{examId}/answers/{questionOrder}/recreate")
 	public ResponseEntity<Void> recreateAnswer(
 			@PathVariable Long examId,
-			@PathVariable Integer questionOrder
+			@PathVariable Integer questionOrder,
+			@AuthenticationPrincipal UserDetails user
 	) {
-		adminExamService.adminExamAnswerReportRecreate(examId, questionOrder);
+		adminExamService.requestAnswerReportRecreate(examId, questionOrder, Long.parseLong(user.getUsername()));
 		return ResponseEntity.noContent().build();
 	}
 }
@@ -1,5 +1,6 @@
 package site.okkul.be.domain.exam.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -22,7 +23,13 @@ import site.okkul.be.domain.exam.dto.request.ExamQuestionAnswerRequest;
 import site.okkul.be.domain.exam.dto.response.ExamDetailResponse;
 import site.okkul.be.domain.exam.service.ExamAnswerService;
 import site.okkul.be.domain.exam.service.ExamService;
+import site.okkul.be.global.admission.AdmissionControlled;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.global.idempotency.Idempotent;
+import site.okkul.be.global.ratelimit.RateLimitGroup;
+import site.okkul.be.global.ratelimit.RateLimited;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
 @RestController
 @RequestMapping("/exam")
@@ -115,6 +122,24 @@ public class ExamController implements ExamControllerDocs {
 	 * {@inheritDoc}
 	 */
 	@Override
+	@PostMapping("/{examId}/answers/{questionOrder}/upload-url")
+	public ResponseEntity<PresignedUploadResponse> issueAnswerUploadUrl(
+			@PathVariable Long examId,
+			@PathVariable Integer questionOrder,
+			@AuthenticationPrincipal UserDetails user
+	) {
+		return ResponseEntity.ok(
+				examAnswerService.issueAnswerUpload(examId, questionOrder, Long.parseLong(user.getUsername()))
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Idempotent
+	@RateLimited(RateLimitGroup.EXAM_ANSWER)
+	@AdmissionControlled(AiWorkload.LIVE_EXAM_ANSWER)
 	@PostMapping(
 			value = "/{examId}/answers/{questionOrder}",
 			consumes = MediaType.MULTIPART_FORM_DATA_VALUE
@@ -126,12 +151,39 @@ public class ExamController implements ExamControllerDocs {
 			@AuthenticationPrincipal UserDetails user,
 			@RequestHeader(value = SwaggerConfig.REAL_AI_USE, defaultValue = "false") boolean useRealAi
 	) {
-		examAnswerService.submitAnswer(examId, questionOrder, examQuestionAnswerRequest, Long.parseLong(user.getUsername()));
-		examAnswerService.feedbackAnswer(examId, questionOrder, useRealAi);
+		Long userId = Long.parseLong(user.getUsername());
+		examAnswerService.submitAnswer(examId, questionOrder, examQuestionAnswerRequest, userId);
+		examAnswerService.requestFeedback(examId, questionOrder, userId, useRealAi, AiWorkload.LIVE_EXAM_ANSWER);
+		return ResponseEntity.accepted().build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Idempotent
+	@RateLimited(RateLimitGroup.EXAM_ANSWER)
+	@AdmissionControlled(AiWorkload.LIVE_EXAM_ANSWER)
+	@PostMapping(
+			value = "/{examId}/answers/{questionOrder}/stream",
+			consumes = MediaType.MULTIPART_FORM_DATA_VALUE
+	)
+	public ResponseEntity<Void> submitAnswerStream(
+			@PathVariable Long examId,
+			@PathVariable Integer questionOrder,
+			HttpServletRequest request,
+			@AuthenticationPrincipal UserDetails user,
+			@RequestHeader(value = SwaggerConfig.REAL_AI_USE, defaultValue = "false") boolean useRealAi
+	) {
+		Long userId = Long.parseLong(user.getUsername());
+		examAnswerService.submitStreamedAnswer(examId, questionOrder, request, userId);
+		examAnswerService.requestFeedback(examId, questionOrder, userId, useRealAi, AiWorkload.LIVE_EXAM_ANSWER);
 		return ResponseEntity.accepted().build();
 	}
 
 	@Override
+	@RateLimited(RateLimitGroup.EXAM_AI_RETRY)
+	@AdmissionControlled(AiWorkload.REGENERATE)
 	@PostMapping("/{examId}/answers/{questionOrder}/regenerate")
 	public ResponseEntity<String> retryAnswerAiFeedback(
 			@PathVariable Long examId,
@@ -140,7 +192,7 @@ public class ExamController implements ExamControllerDocs {
 			@RequestHeader(value = SwaggerConfig.REAL_AI_USE, defaultValue = "false") boolean useRealAi
 	) {
 		examAnswerService.answerExists(examId, questionOrder);
-		examAnswerService.feedbackAnswer(examId, questionOrder, useRealAi);
+		examAnswerService.requestFeedback(examId, questionOrder, Long.parseLong(user.getUsername()), useRealAi, AiWorkload.REGENERATE);
 		return ResponseEntity.accepted().build();
 	}
 
@@ -148,14 +200,17 @@ public class ExamController implements ExamControllerDocs {
 	 * {@inheritDoc}
 	 */
 	@Override
+	@RateLimited(RateLimitGroup.EXAM_REPORT)
+	@AdmissionControlled(AiWorkload.EXAM_REPORT)
 	@PostMapping("/{examId}/complete")
 	public ResponseEntity<Void> completeExam(
 			@PathVariable Long examId,
 			@AuthenticationPrincipal UserDetails user,
 			@RequestHeader(value = SwaggerConfig.REAL_AI_USE, defaultValue = "false") boolean useRealAi
 	) {
-		examService.completeExam(examId, Long.parseLong(user.getUsername()));
-		examService.examCreateReport(examId, useRealAi);
+		Long userId = Long.parseLong(user.getUsername());
+		examService.completeExam(examId, userId);
+		examService.requestReport(examId, userId, useRealAi);
 		return ResponseEntity.ok().build();
 	}
 }
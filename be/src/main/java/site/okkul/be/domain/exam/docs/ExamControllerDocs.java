@@ -4,12 +4,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 import site.okkul.be.domain.exam.dto.request.ExamCreateRequest;
 import site.okkul.be.domain.exam.dto.request.ExamQuestionAnswerRequest;
 import site.okkul.be.domain.exam.dto.response.ExamDetailResponse;
 import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
 @Tag(name = "Exam", description = "모의고사 진행에 필요한 API")
 public interface ExamControllerDocs {
@@ -65,13 +67,29 @@ public interface ExamControllerDocs {
 			@Parameter(hidden = true) UserDetails user
 	);
 
+	/**
+	 * 답변 음성 직접 업로드 URL 발급
+	 * - 클라이언트는 uploadUrl 로 PUT 업로드한 뒤, objectKey 로 답변을 제출합니다.
+	 */
+	@Operation(
+			summary = "답변 음성 업로드 URL 발급",
+			description = "스토리지에 직접 업로드할 수 있는 Presigned PUT URL과 객체 키를 발급합니다. "
+					+ "업로드 시 Content-Type 헤더에 오디오 MIME 타입(audio/*)을 지정해야 합니다."
+	)
+	@SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
+	ResponseEntity<PresignedUploadResponse> issueAnswerUploadUrl(
+			@Parameter(description = "시험 ID") Long examId,
+			@Parameter(description = "답변 번호 (1번, 2번...)") Integer questionOrder,
+			@Parameter(hidden = true) UserDetails user
+	);
+
 	/**
 	 * 음성 답변 제출
 	 * - examId + answerId 검증은 service 내부에서 이미 수행(추가로 해도 됨)
 	 */
 	@Operation(
 			summary = "답변 제출",
-			description = "사용자의 음성 녹음 파일(mp3/m4a 등)을 서버로 업로드합니다."
+			description = "직접 업로드한 객체 키(objectKey)를 확인하거나, 음성 녹음 파일(mp3/m4a 등)을 서버로 업로드합니다."
 	)
 	@SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
 	ResponseEntity<Void> submitAnswer(
@@ -82,6 +100,24 @@ public interface ExamControllerDocs {
 			@Parameter(description = "실제 AI 쓸지말지", example = "false") boolean useRealAi
 	);
 
+	/**
+	 * 음성 답변 스트리밍 제출
+	 * - 서버에서 본문을 버퍼링하지 않고 읽는 즉시 스토리지로 병렬 업로드합니다.
+	 */
+	@Operation(
+			summary = "답변 제출 (스트리밍)",
+			description = "multipart 본문(file, sttText, duration)을 서버에 임시 저장하지 않고 스토리지로 바로 전달합니다. "
+					+ "file 파트는 audio/* 타입이어야 합니다."
+	)
+	@SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
+	ResponseEntity<Void> submitAnswerStream(
+			@Parameter(description = "시험 ID") Long examId,
+			@Parameter(description = "답변 번호 (1번, 2번...)") Integer questionOrder,
+			@Parameter(hidden = true) HttpServletRequest request,
+			@Parameter(hidden = true) UserDetails user,
+			@Parameter(description = "실제 AI 쓸지말지", example = "false") boolean useRealAi
+	);
+
 	@Operation(
 			summary = "AI 피드백 재요청 (재시도)",
 			description = "특정 문항에 대해 AI 피드백을 재요청합니다."
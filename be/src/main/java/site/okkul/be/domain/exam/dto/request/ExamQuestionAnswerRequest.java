@@ -6,9 +6,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 @Schema(description = "시험 문항 답변 저장 요청 객체")
 public record ExamQuestionAnswerRequest(
-		@Schema(description = "음성 파일")
-		@Parameter(required = true)
+		@Schema(description = "음성 파일 (objectKey 로 직접 업로드한 경우 생략)")
 		MultipartFile file,
+		@Schema(description = "Presigned URL 로 직접 업로드한 객체 키 (upload-url API 응답값)")
+		String objectKey,
 		@Schema(description = "STT 텍스트")
 		@Parameter(required = true)
 		String sttText,
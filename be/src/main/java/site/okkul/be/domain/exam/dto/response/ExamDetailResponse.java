@@ -11,6 +11,7 @@ import site.okkul.be.domain.exam.entity.Exam;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
 import site.okkul.be.domain.exam.entity.ExamStatus;
 import site.okkul.be.domain.question.dto.ExamQuestionResponse;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
 
 @Schema(description = "모의고사용 문제 정보")
@@ -28,7 +29,10 @@ public record ExamDetailResponse(
 		@Schema(description = "시험 상태")
 		ExamStatus examStatus
 ) {
-	public static ExamDetailResponse from(Exam exam) {
+	/**
+	 * @param mediaUrls 문제 음성 URL 을 미디어 프록시 URL 로 변환
+	 */
+	public static ExamDetailResponse from(Exam exam, MediaUrls mediaUrls) {
 		// ExamAnswer를 questionOrder 기준으로 Map으로 변환하여 조회 효율성 및 안전성 확보
 		Map<Integer, ExamAnswer> answerMap = exam.getExamAnswers().stream()
 				.collect(Collectors.toMap(
@@ -48,7 +52,8 @@ public record ExamDetailResponse(
 					ExamQuestionResponse.from(
 							exam.getQuestions().get(i),
 							status,
-							order
+							order,
+							mediaUrls
 					)
 			);
 		}
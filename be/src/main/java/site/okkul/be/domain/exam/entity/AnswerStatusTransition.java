@@ -0,0 +1,36 @@
+package site.okkul.be.domain.exam.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 모의고사 답변 상태 전이
+ * <p>
+ * 허용된 이전 상태(from)에서만 다음 상태(to)로 바뀝니다.
+ * {@code ExamAnswerJpaRepository#transition} 이 조건부 UPDATE 한 문장으로 적용하므로,
+ * 같은 답변에 AI 분석이 동시에 두 번 시작되지 않습니다.
+ */
+@Getter
+public enum AnswerStatusTransition {
+	/**
+	 * AI 분석 시작 (분석 중/완료 상태, 음성 업로드 전 선점(READY) 상태에서는 불가)
+	 */
+	ANALYZE(EnumSet.of(AnswerStatus.UPLOADED, AnswerStatus.STT_ONGOING, AnswerStatus.ANALYZING_FAILED), AnswerStatus.ANALYZING),
+	/**
+	 * 관리자 재분석 (분석 중, 음성 업로드 전 선점(READY) 상태에서는 불가)
+	 */
+	REANALYZE(EnumSet.of(AnswerStatus.UPLOADED, AnswerStatus.STT_ONGOING, AnswerStatus.COMPLETED, AnswerStatus.ANALYZING_FAILED), AnswerStatus.ANALYZING),
+	/**
+	 * AI 분석 실패
+	 */
+	FAIL(EnumSet.of(AnswerStatus.ANALYZING), AnswerStatus.ANALYZING_FAILED);
+
+	private final Set<AnswerStatus> from;
+	private final AnswerStatus to;
+
+	AnswerStatusTransition(Set<AnswerStatus> from, AnswerStatus to) {
+		this.from = from;
+		this.to = to;
+	}
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -56,6 +57,13 @@ public class Exam {
 	@Enumerated(EnumType.STRING)
 	private ExamStatus status;
 
+	/**
+	 * 낙관적 잠금 버전
+	 * <p>상태 전이(조건부 UPDATE)도 버전을 올리므로, 전이 이전에 읽은 엔티티의 변경은 충돌로 거절됩니다.</p>
+	 */
+	@Version
+	private Long version;
+
 	/**
 	 * 종료 시간
 	 * <p>Null 이면 시험 안끝남</p>
@@ -169,6 +177,16 @@ public class Exam {
 		}
 	}
 
+	/**
+	 * 음성 업로드까지 끝난 답변 (업로드 중인 선점 행은 제외)
+	 * - 선점 행은 READY 상태에 음성/STT 가 없으므로 리포트 집계에 넣으면 빈 답변으로 채점됩니다.
+	 */
+	public List<ExamAnswer> getSubmittedAnswers() {
+		return examAnswers.stream()
+				.filter(answer -> answer.getAudioUrl() != null)
+				.toList();
+	}
+
 	public void updateStatus(ExamStatus status) {
 		this.status = status;
 		this.updatedAt = Instant.now();
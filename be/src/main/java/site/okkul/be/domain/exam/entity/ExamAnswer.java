@@ -15,6 +15,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
@@ -70,6 +71,13 @@ public class ExamAnswer {
 	@Builder.Default
 	private AnswerStatus status = AnswerStatus.READY;
 
+	/**
+	 * 낙관적 잠금 버전
+	 * <p>상태 전이(조건부 UPDATE)도 버전을 올리므로, 전이 이전에 읽은 엔티티의 변경은 충돌로 거절됩니다.</p>
+	 */
+	@Version
+	private Long version;
+
 	// 답변 피드백 모음
 	/**
 	 * 논리성 피드백
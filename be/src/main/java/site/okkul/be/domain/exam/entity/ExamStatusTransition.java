@@ -0,0 +1,40 @@
+package site.okkul.be.domain.exam.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 모의고사 상태 전이
+ * <p>
+ * 허용된 이전 상태(from)에서만 다음 상태(to)로 바뀝니다.
+ * {@code ExamJpaRepository#transition} 이 조건부 UPDATE 한 문장으로 적용하므로,
+ * 같은 전이를 동시에 요청해도 하나만 성공합니다.
+ */
+@Getter
+public enum ExamStatusTransition {
+	/**
+	 * 첫 답변 제출 (시작 전 -> 진행중)
+	 */
+	START(EnumSet.of(ExamStatus.BEFORE_START), ExamStatus.IN_PROGRESS),
+	/**
+	 * 리포트 분석 시작 (분석 중/완료 상태에서는 불가)
+	 */
+	ANALYZE(EnumSet.of(ExamStatus.BEFORE_START, ExamStatus.IN_PROGRESS, ExamStatus.ANALYZING_FAILED), ExamStatus.ANALYZING),
+	/**
+	 * 관리자 리포트 재분석 (분석 중에는 불가)
+	 */
+	REANALYZE(EnumSet.of(ExamStatus.BEFORE_START, ExamStatus.IN_PROGRESS, ExamStatus.COMPLETED, ExamStatus.ANALYZING_FAILED), ExamStatus.ANALYZING),
+	/**
+	 * 리포트 분석 실패
+	 */
+	FAIL(EnumSet.of(ExamStatus.ANALYZING), ExamStatus.ANALYZING_FAILED);
+
+	private final Set<ExamStatus> from;
+	private final ExamStatus to;
+
+	ExamStatusTransition(Set<ExamStatus> from, ExamStatus to) {
+		this.from = from;
+		this.to = to;
+	}
+}
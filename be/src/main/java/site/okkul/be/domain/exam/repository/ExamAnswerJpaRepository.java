@@ -1,7 +1,15 @@
 package site.okkul.be.domain.exam.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.okkul.be.domain.exam.entity.AnswerStatus;
+import site.okkul.be.domain.exam.entity.AnswerStatusTransition;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
 
 /**
@@ -9,4 +17,143 @@ import site.okkul.be.domain.exam.entity.ExamAnswer;
  */
 public interface ExamAnswerJpaRepository extends JpaRepository<ExamAnswer, ExamAnswer.ExamAnswerId> {
 	List<ExamAnswer> findAllByExamId(Long examId);
+
+	/**
+	 * 답변 자리를 선점합니다. (READY, 음성 없음)
+	 * - 행이 없으면 새로 넣고, 이미 있으면 ON CONFLICT DO UPDATE 의 WHERE 를 만족할 때만 updated_at 을 갱신해 가져옵니다.
+	 *   (음성 업로드 전에 서버가 죽어 staleBefore 이전부터 남은 선점만 해당)
+	 * - WHERE 를 만족하지 않으면 아무 행도 반환하지 않습니다. (PK 충돌 예외 없음)
+	 * - 동시에 같은 문항을 선점하면 한쪽은 상대 트랜잭션이 끝날 때까지 기다린 뒤 WHERE 를 다시 평가하므로 하나만 성공합니다.
+	 *
+	 * @return 선점에 성공하면 문항 순서, 이미 제출된 답변이면 빈 값
+	 */
+	@Query(value = """
+			INSERT INTO exam_answer (exam_id, question_order, status, created_at, updated_at)
+			VALUES (:examId, :questionOrder, 'READY', :now, :now)
+			ON CONFLICT (exam_id, question_order) DO UPDATE
+			    SET updated_at = EXCLUDED.updated_at
+			    WHERE exam_answer.status = 'READY'
+			      AND exam_answer.audio_url IS NULL
+			      AND exam_answer.updated_at < :staleBefore
+			RETURNING question_order
+			""", nativeQuery = true)
+	Optional<Integer> claim(
+			@Param("examId") Long examId,
+			@Param("questionOrder") Integer questionOrder,
+			@Param("now") Instant now,
+			@Param("staleBefore") Instant staleBefore
+	);
+
+	/**
+	 * 선점한 답변에 업로드된 음성과 STT 결과를 채웁니다. (READY -> UPLOADED)
+	 *
+	 * @return 갱신된 행 수 (0이면 선점을 잃음)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE ExamAnswer a
+			SET a.audioUrl = :audioUrl,
+			    a.userAnswer = :sttText,
+			    a.status = site.okkul.be.domain.exam.entity.AnswerStatus.UPLOADED,
+			    a.updatedAt = :now,
+			    a.version = a.version + 1
+			WHERE a.id.examId = :examId
+			  AND a.id.questionOrder = :questionOrder
+			  AND a.status = site.okkul.be.domain.exam.entity.AnswerStatus.READY
+			  AND a.audioUrl IS NULL
+			""")
+	int attachAudio(
+			@Param("examId") Long examId,
+			@Param("questionOrder") Integer questionOrder,
+			@Param("sttText") String sttText,
+			@Param("audioUrl") String audioUrl,
+			@Param("now") Instant now
+	);
+
+	/**
+	 * 업로드 실패 시 음성이 붙지 않은 선점을 해제합니다.
+	 */
+	@Modifying
+	@Query("""
+			DELETE FROM ExamAnswer a
+			WHERE a.id.examId = :examId
+			  AND a.id.questionOrder = :questionOrder
+			  AND a.status = site.okkul.be.domain.exam.entity.AnswerStatus.READY
+			  AND a.audioUrl IS NULL
+			""")
+	int releaseClaim(@Param("examId") Long examId, @Param("questionOrder") Integer questionOrder);
+
+	/**
+	 * 상태 전이
+	 *
+	 * @return 전이에 성공하면 true, 답변이 없거나 허용되지 않은 상태면 false
+	 */
+	default boolean transition(ExamAnswer.ExamAnswerId id, AnswerStatusTransition transition) {
+		return updateStatus(id.getExamId(), id.getQuestionOrder(), transition.getFrom(), transition.getTo(), Instant.now()) == 1;
+	}
+
+	/**
+	 * 현재 상태가 from 중 하나일 때만 상태를 바꿉니다. (버전도 함께 올림)
+	 */
+	@Modifying
+	@Query("""
+			UPDATE ExamAnswer a
+			SET a.status = :to,
+			    a.updatedAt = :now,
+			    a.version = a.version + 1
+			WHERE a.id.examId = :examId
+			  AND a.id.questionOrder = :questionOrder
+			  AND a.status IN :from
+			""")
+	int updateStatus(
+			@Param("examId") Long examId,
+			@Param("questionOrder") Integer questionOrder,
+			@Param("from") Collection<AnswerStatus> from,
+			@Param("to") AnswerStatus to,
+			@Param("now") Instant now
+	);
+
+	/**
+	 * 분석 결과를 쓰기 전에 펜싱 토큰을 올립니다. (락을 잃은 작업의 늦은 쓰기 차단)
+	 *
+	 * @return 갱신된 행 수 (0이면 더 최근 락을 잡은 작업이 이미 결과를 씀)
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE exam_answer
+			SET fencing_token = :token
+			WHERE exam_id = :examId
+			  AND question_order = :questionOrder
+			  AND fencing_token < :token
+			""", nativeQuery = true)
+	int advanceFencingToken(
+			@Param("examId") Long examId,
+			@Param("questionOrder") Integer questionOrder,
+			@Param("token") long token
+	);
+
+	/**
+	 * staleBefore 이전부터 ANALYZING 에 멈춘 답변을 최대 limit 개까지 ANALYZING_FAILED 로 바꿉니다.
+	 * - 다른 인스턴스가 잠근 행은 건너뛰어(SKIP LOCKED) 여러 인스턴스가 동시에 돌아도 겹치지 않습니다.
+	 *
+	 * @return 실패 처리한 답변 수
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE exam_answer
+			SET status = 'ANALYZING_FAILED',
+			    updated_at = :now,
+			    version = version + 1
+			WHERE (exam_id, question_order) IN (
+			    SELECT exam_id, question_order
+			    FROM exam_answer
+			    WHERE status = 'ANALYZING'
+			      AND updated_at < :staleBefore
+			    ORDER BY updated_at
+			    LIMIT :limit
+			    FOR UPDATE SKIP LOCKED
+			)
+			  AND status = 'ANALYZING'
+			""", nativeQuery = true)
+	int failStuck(@Param("staleBefore") Instant staleBefore, @Param("now") Instant now, @Param("limit") int limit);
 }
@@ -1,12 +1,19 @@
 package site.okkul.be.domain.exam.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.okkul.be.domain.exam.entity.Exam;
+import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
 
 /**
  * 모의고사 리포지토리
@@ -17,4 +24,92 @@ public interface ExamJpaRepository extends JpaRepository<Exam, Long> {
 	Optional<Exam> findByIdAndUserId(Long id, Long userId);
 
 	Page<Exam> findByUserIdAndEndAtIsNotNull(Long userId, Pageable pageable);
+
+	/**
+	 * 상태 전이
+	 *
+	 * @return 전이에 성공하면 true, 시험이 없거나 허용되지 않은 상태면 false
+	 */
+	default boolean transition(Long id, ExamStatusTransition transition) {
+		return updateStatus(id, transition.getFrom(), transition.getTo(), Instant.now()) == 1;
+	}
+
+	/**
+	 * 현재 상태가 from 중 하나일 때만 상태를 바꿉니다. (버전도 함께 올림)
+	 */
+	@Modifying
+	@Query("""
+			UPDATE Exam e
+			SET e.status = :to,
+			    e.updatedAt = :now,
+			    e.version = e.version + 1
+			WHERE e.id = :id
+			  AND e.status IN :from
+			""")
+	int updateStatus(
+			@Param("id") Long id,
+			@Param("from") Collection<ExamStatus> from,
+			@Param("to") ExamStatus to,
+			@Param("now") Instant now
+	);
+
+	/**
+	 * 시험 종료 시각을 기록합니다. (이미 종료했거나 분석 중/완료된 시험은 제외)
+	 *
+	 * @return 갱신된 행 수 (0이면 시험이 없거나 이미 종료/분석 중/완료)
+	 */
+	@Modifying
+	@Query("""
+			UPDATE Exam e
+			SET e.endAt = :now,
+			    e.updatedAt = :now,
+			    e.version = e.version + 1
+			WHERE e.id = :id
+			  AND e.userId = :userId
+			  AND e.endAt IS NULL
+			  AND e.status NOT IN (
+			      site.okkul.be.domain.exam.entity.ExamStatus.ANALYZING,
+			      site.okkul.be.domain.exam.entity.ExamStatus.COMPLETED
+			  )
+			""")
+	int end(@Param("id") Long id, @Param("userId") Long userId, @Param("now") Instant now);
+
+	/**
+	 * 분석 결과를 쓰기 전에 펜싱 토큰을 올립니다. (락을 잃은 작업의 늦은 쓰기 차단)
+	 *
+	 * @return 갱신된 행 수 (0이면 더 최근 락을 잡은 작업이 이미 결과를 씀)
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE exam
+			SET fencing_token = :token
+			WHERE exam_id = :id
+			  AND fencing_token < :token
+			""", nativeQuery = true)
+	int advanceFencingToken(@Param("id") Long id, @Param("token") long token);
+
+	/**
+	 * staleBefore 이전부터 ANALYZING 에 멈춘 시험을 최대 limit 개까지 ANALYZING_FAILED 로 바꿉니다.
+	 * - 다른 인스턴스가 잠근 행은 건너뛰어(SKIP LOCKED) 여러 인스턴스가 동시에 돌아도 겹치지 않습니다.
+	 *
+	 * @return 실패 처리한 시험 수
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE exam
+			SET status = 'ANALYZING_FAILED',
+			    updated_at = :now,
+			    version = version + 1
+			WHERE exam_id IN (
+			    SELECT exam_id
+			    FROM exam
+			    WHERE status = 'ANALYZING'
+			      AND updated_at < :staleBefore
+			    ORDER BY updated_at
+			    LIMIT :limit
+			    FOR UPDATE SKIP LOCKED
+			)
+			  AND status = 'ANALYZING'
+			""", nativeQuery = true)
+	int failStuck(@Param("staleBefore") Instant staleBefore, @Param("now") Instant now, @Param("limit") int limit);
 }
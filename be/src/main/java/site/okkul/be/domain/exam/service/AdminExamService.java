@@ -6,27 +6,37 @@ import java.util.ArrayList;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import site.okkul.be.domain.exam.entity.AnswerStatus;
+import site.okkul.be.domain.exam.entity.AnswerStatusTransition;
 import site.okkul.be.domain.exam.entity.Exam;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
 import site.okkul.be.domain.exam.entity.ExamReport;
 import site.okkul.be.domain.exam.entity.ExamSentenceFeedback;
 import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
 import site.okkul.be.domain.exam.exception.ExamErrorCode;
 import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
 import site.okkul.be.domain.exam.repository.ExamJpaRepository;
 import site.okkul.be.domain.exam.repository.ExamReportJpaRepository;
+import site.okkul.be.domain.history.service.ExamHistoryViewService;
+import site.okkul.be.global.admission.AiJobDispatcher;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.GlobalErrorCode;
 import site.okkul.be.global.exception.SystemException;
 import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.ai.AiErrorCode;
+import site.okkul.be.infra.cache.CacheNames;
 import site.okkul.be.infra.ai.dto.exam.AnswerSummaryDto;
 import site.okkul.be.infra.ai.dto.exam.ExamTotalAnalysisResponse;
 import site.okkul.be.infra.ai.dto.exam.QuestionAnalysisRequest;
 import site.okkul.be.infra.ai.dto.exam.QuestionAnalysisResponse;
+import site.okkul.be.infra.lock.DistributedLock;
 
 @Slf4j
 @Service
@@ -37,15 +47,71 @@ public class AdminExamService {
 	private final ExamReportJpaRepository examReportJpaRepository;
 	private final AiClientProvider aiClientProvider;
 	private final ExamAnswerJpaRepository examAnswerRepository;
+	private final ExamHistoryViewService examHistoryViewService;
 
 	private final ExamService examService;
 	private final ExamAnswerService examAnswerService;
 
+	private final AiJobDispatcher aiJobDispatcher;
 
+	/**
+	 * 레플리카 간 리포트/답변 분석 중복 실행 방지 (사용자 요청과 같은 키 사용)
+	 */
+	private final DistributedLock distributedLock;
+
+	private AdminExamService self;
+
+	@Autowired
+	public void setSelf(@Lazy AdminExamService self) {
+		this.self = self;
+	}
+
+	/**
+	 * 리포트 재생성을 AI 작업 대기열에 넣습니다. (가장 낮은 우선순위)
+	 */
+	public void requestReportRecreate(Long examId, Long adminId) {
+		aiJobDispatcher.dispatch(AiWorkload.ADMIN, adminId, "adminExamReportRecreate", new Object[]{examId},
+				() -> {
+					boolean executed = distributedLock.runExclusively(ExamLocks.report(examId), ExamLocks.AI_ANALYSIS_LEASE,
+							lease -> self.adminExamReportRecreate(examId, lease.fencingToken()));
+					if (!executed) {
+						log.info("Exam report is already being generated. examId={}", examId);
+					}
+				});
+	}
+
+	/**
+	 * 문항 분석 재생성을 AI 작업 대기열에 넣습니다. (가장 낮은 우선순위)
+	 */
+	public void requestAnswerReportRecreate(Long examId, Integer questionOrder, Long adminId) {
+		aiJobDispatcher.dispatch(AiWorkload.ADMIN, adminId, "adminExamAnswerReportRecreate", new Object[]{examId, questionOrder},
+				() -> {
+					boolean executed = distributedLock.runExclusively(ExamLocks.answer(examId, questionOrder), ExamLocks.AI_ANALYSIS_LEASE,
+							lease -> self.adminExamAnswerReportRecreate(examId, questionOrder, lease.fencingToken()));
+					if (!executed) {
+						log.info("Exam answer is already being analyzed. examId={}, questionOrder={}", examId, questionOrder);
+					}
+				});
+	}
+
+	/**
+	 * 리포트 재생성 (시험별 분산 락 안에서 실행)
+	 * 성공 시(커밋 후) 히스토리 상세 캐시를 무효화합니다.
+	 *
+	 * @param fencingToken 락 펜싱 토큰 (더 최근 락의 결과가 이미 있으면 저장하지 않음)
+	 */
 	@Transactional
-	@Async
-	public void adminExamReportRecreate(Long examId) {
-		// 1. 시험 검색
+	@CacheEvict(cacheNames = CacheNames.EXAM_REPORT_DETAIL, key = "#examId")
+	public void adminExamReportRecreate(Long examId, long fencingToken) {
+		// 1. 재분석 시작 (이미 분석 중이면 거절)
+		if (!examService.transitionStatus(examId, ExamStatusTransition.REANALYZE)) {
+			if (!examRepository.existsById(examId)) {
+				throw new BusinessException(ExamErrorCode.EXAM_NOT_FOUND);
+			}
+			throw new BusinessException(ExamErrorCode.EXAM_REPORT_ANALYZING);
+		}
+
+		// 2. 시험 검색 (전이 이후에 읽어야 버전 충돌 없이 완료 상태를 기록할 수 있음)
 		Exam exam = examRepository.findById(examId).orElseThrow(
 				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
 		);
@@ -54,35 +120,48 @@ public class AdminExamService {
 		originReport.ifPresent(examReportJpaRepository::delete);
 
 		// 3. Ai 클라이언트를 가져와서 분석 진행하기
-		examService.updateExamStatus(examId, ExamStatus.ANALYZING);
-		for (int i = 0; i < 3; i++) {
-			ResponseEntity<ExamTotalAnalysisResponse> response = aiClientProvider
-					.getClient(true)
-					.analyzeTotalExam(
-							exam.getExamAnswers().stream().map(AnswerSummaryDto::from).toList()
-					);
+		try {
+			for (int i = 0; i < 3; i++) {
+				ResponseEntity<ExamTotalAnalysisResponse> response = aiClientProvider
+						.getClient(true)
+						.analyzeTotalExam(
+								exam.getSubmittedAnswers().stream().map(AnswerSummaryDto::from).toList()
+						);
 
-			if (response.getStatusCode().is2xxSuccessful()) {
-				// 4. 리포트 저장하기
-				log.info("{}", response.getBody());
-				examService.updateExamStatus(examId, ExamStatus.COMPLETED);
-				examReportJpaRepository.save(ExamReport.createReport(
-						exam,
-						BigDecimal.valueOf(response.getBody().averageGrammarScore()),
-						BigDecimal.valueOf(response.getBody().averageVocabScore()),
-						BigDecimal.valueOf(response.getBody().averageLogicScore()),
-						BigDecimal.valueOf(response.getBody().averageFluencyScore()),
-						BigDecimal.valueOf(response.getBody().averageRelevanceScore()),
-						BigDecimal.valueOf(response.getBody().totalScore()),
-						response.getBody().predictedLevel(),
-						response.getBody().strengths().toString(),
-						response.getBody().improvements().toString(),
-						""
-				));
-				return;
+				if (response.getStatusCode().is2xxSuccessful()) {
+					// 4. 락을 잃은 뒤 늦게 끝난 작업이면 결과를 버림
+					if (examRepository.advanceFencingToken(examId, fencingToken) == 0) {
+						throw new BusinessException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+					}
+					// 5. 리포트 저장하기
+					log.info("{}", response.getBody());
+					exam.updateStatus(ExamStatus.COMPLETED);
+					examReportJpaRepository.save(ExamReport.createReport(
+							exam,
+							BigDecimal.valueOf(response.getBody().averageGrammarScore()),
+							BigDecimal.valueOf(response.getBody().averageVocabScore()),
+							BigDecimal.valueOf(response.getBody().averageLogicScore()),
+							BigDecimal.valueOf(response.getBody().averageFluencyScore()),
+							BigDecimal.valueOf(response.getBody().averageRelevanceScore()),
+							BigDecimal.valueOf(response.getBody().totalScore()),
+							response.getBody().predictedLevel(),
+							response.getBody().strengths().toString(),
+							response.getBody().improvements().toString(),
+							""
+					));
+					// 6. 재생성된 리포트를 히스토리 조회 모델에 반영
+					examHistoryViewService.refresh(examId);
+					return;
+				}
+			}
+		} catch (RuntimeException e) {
+			// 연결 오류나 동시 요청 상한 초과로 호출이 실패하면 reaper 를 기다리지 않고 바로 실패 처리
+			if (AiErrorCode.isAiCallFailure(e)) {
+				examService.transitionStatus(examId, ExamStatusTransition.FAIL);
 			}
+			throw e;
 		}
-		examService.updateExamStatus(examId, ExamStatus.ANALYZING_FAILED);
+		examService.transitionStatus(examId, ExamStatusTransition.FAIL);
 		throw new SystemException(ExamErrorCode.AI_SERVER_ERROR,
 				"Exam Report 생성 실패",
 				"AI 서버 응답을 3회 모두 받지 못했습니다."
@@ -90,74 +169,84 @@ public class AdminExamService {
 	}
 
 
-	@Async
+	/**
+	 * 문항 분석 재생성 (답변별 분산 락 안에서 실행)
+	 * 성공 시(커밋 후) 문항 피드백 캐시를 무효화합니다.
+	 *
+	 * @param fencingToken 락 펜싱 토큰 (더 최근 락의 결과가 이미 있으면 저장하지 않음)
+	 */
 	@Transactional
-	public void adminExamAnswerReportRecreate(Long examId, Integer questionOrder) {
-		// 1. 시험 답변 가져오기
-		ExamAnswer examAnswer = examAnswerRepository.findById(
-				new ExamAnswer.ExamAnswerId(examId, questionOrder)
-		).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
+	@CacheEvict(cacheNames = CacheNames.EXAM_ANSWER_DETAIL, key = "#examId + ':' + #questionOrder")
+	public void adminExamAnswerReportRecreate(Long examId, Integer questionOrder, long fencingToken) {
+		ExamAnswer.ExamAnswerId answerId = new ExamAnswer.ExamAnswerId(examId, questionOrder);
 
+		// 1. 재분석 시작 (이미 분석 중이면 거절)
+		if (!examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.REANALYZE)) {
+			throw new BusinessException(examAnswerService.rejectedAnalysisError(answerId));
+		}
 
-		// 2. AI서버에서 답변 분석 진행하기
-		examAnswerService.updateExamAnswerStatus(
-				new ExamAnswer.ExamAnswerId(examId, questionOrder),
-				AnswerStatus.ANALYZING
+		// 2. 시험 답변 가져오기 (전이 이후에 읽어야 버전 충돌 없이 결과를 기록할 수 있음)
+		ExamAnswer examAnswer = examAnswerRepository.findById(answerId).orElseThrow(
+				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
 		);
+		String audioUrl = examAnswerService.analysisAudioUrlOf(examAnswer);
 
 		// 최대 3회 시도 하기
-		for (int i = 0; i < 3; i++) {
-			ResponseEntity<QuestionAnalysisResponse> questionAnalysisResponseTemp = aiClientProvider
-					.getClient(true)
-					.analyzeQuestion(
-							QuestionAnalysisRequest.from(
-									examAnswer.getExam().getQuestions().get(questionOrder - 1),
-									examAnswer
-							)
+		try {
+			for (int i = 0; i < 3; i++) {
+				ResponseEntity<QuestionAnalysisResponse> questionAnalysisResponseTemp = aiClientProvider
+						.getClient(true)
+						.analyzeQuestion(
+								QuestionAnalysisRequest.from(
+										examAnswer.getExam().getQuestions().get(questionOrder - 1),
+										examAnswer,
+										audioUrl
+								)
+						);
+				if (questionAnalysisResponseTemp.getStatusCode().is2xxSuccessful()) {
+					// 3. 락을 잃은 뒤 늦게 끝난 작업이면 결과를 버림
+					if (examAnswerRepository.advanceFencingToken(examId, questionOrder, fencingToken) == 0) {
+						throw new BusinessException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+					}
+					// 4. 분석결과 DB에 적용하기
+					log.info("{}", questionAnalysisResponseTemp.getBody());
+					QuestionAnalysisResponse questionAnalysisResponse = questionAnalysisResponseTemp.getBody();
+					examAnswer.updateFromAi(
+							questionAnalysisResponse.grammarScore(),
+							questionAnalysisResponse.vocabScore(),
+							questionAnalysisResponse.logicScore(),
+							questionAnalysisResponse.fluencyScore(),
+							questionAnalysisResponse.relevanceScore(),
+							questionAnalysisResponse.improvedAnswer(),
+							questionAnalysisResponse.logicFeedback(),
+							questionAnalysisResponse.fluencyFeedback(),
+							questionAnalysisResponse.relevanceFeedback(),
+							questionAnalysisResponse.sentenceFeedbacks() == null || questionAnalysisResponse.sentenceFeedbacks().isEmpty()
+									? new ArrayList<>()
+									: questionAnalysisResponse.sentenceFeedbacks().stream().map(
+									dto -> new ExamSentenceFeedback(
+											dto.targetSentence(),
+											dto.targetSegment(),
+											dto.correctedSegment(),
+											dto.comment(),
+											dto.sentenceOrder(),
+											Instant.now()
+									)).toList()
 					);
-			if (questionAnalysisResponseTemp.getStatusCode().is2xxSuccessful()) {
-				// 3. 분석결과 DB에 적용하기
-				log.info("{}", questionAnalysisResponseTemp.getBody());
-				QuestionAnalysisResponse questionAnalysisResponse = questionAnalysisResponseTemp.getBody();
-				examAnswer.updateFromAi(
-						questionAnalysisResponse.grammarScore(),
-						questionAnalysisResponse.vocabScore(),
-						questionAnalysisResponse.logicScore(),
-						questionAnalysisResponse.fluencyScore(),
-						questionAnalysisResponse.relevanceScore(),
-						questionAnalysisResponse.improvedAnswer(),
-						questionAnalysisResponse.logicFeedback(),
-						questionAnalysisResponse.fluencyFeedback(),
-						questionAnalysisResponse.relevanceFeedback(),
-						questionAnalysisResponse.sentenceFeedbacks() == null || questionAnalysisResponse.sentenceFeedbacks().isEmpty()
-								? new ArrayList<>()
-								: questionAnalysisResponse.sentenceFeedbacks().stream().map(
-								dto -> new ExamSentenceFeedback(
-										dto.targetSentence(),
-										dto.targetSegment(),
-										dto.correctedSegment(),
-										dto.comment(),
-										dto.sentenceOrder(),
-										Instant.now()
-								)).toList()
-				);
-				examAnswerService.updateExamAnswerStatus(
-						new ExamAnswer.ExamAnswerId(examId, questionOrder),
-						AnswerStatus.COMPLETED
-				);
-				return;
-			} else {
-				// Answer 분석 실패
-				log.error("Exam Answer 분석 생성 실패 - {}회 실패 재시도 합니다... ", i);
-				examAnswerService.updateExamAnswerStatus(
-						new ExamAnswer.ExamAnswerId(examId, questionOrder),
-						AnswerStatus.ANALYZING_FAILED
-				);
-
+					return;
+				} else {
+					// Answer 분석 실패
+					log.error("Exam Answer 분석 생성 실패 - {}회 실패 재시도 합니다... ", i);
+				}
+			}
+		} catch (RuntimeException e) {
+			// 연결 오류나 동시 요청 상한 초과로 호출이 실패하면 reaper 를 기다리지 않고 바로 실패 처리
+			if (AiErrorCode.isAiCallFailure(e)) {
+				examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL);
 			}
+			throw e;
 		}
+		examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL);
 		throw new SystemException(
 				ExamErrorCode.AI_SERVER_ERROR,
 				"문제 리포트 생성이 실패했습니다: AI 서버 응답을 3회 모두 받지 못했습니다.",
@@ -0,0 +1,66 @@
+package site.okkul.be.domain.exam.service;
+
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import site.okkul.be.domain.exam.entity.AnswerStatusTransition;
+import site.okkul.be.domain.exam.entity.ExamAnswer;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
+import site.okkul.be.global.admission.AiJobResumer;
+import site.okkul.be.global.admission.HandedOffJob;
+
+/**
+ * 다른 서버에서 넘겨받은 모의고사 AI 작업(답변 분석, 리포트 생성/재생성)을 다시 대기열에 넣습니다.
+ * - 실행 도중 넘겨받은 작업은 분석 중 상태를 실패로 되돌린 뒤 넣습니다. (실패 상태에서 다시 분석 시작 가능)
+ */
+@Component
+@RequiredArgsConstructor
+public class ExamAiJobResumer implements AiJobResumer {
+
+	private final ExamService examService;
+	private final ExamAnswerService examAnswerService;
+	private final AdminExamService adminExamService;
+
+	@Override
+	public Set<String> jobNames() {
+		return Set.of("feedbackAnswer", "examCreateReport", "adminExamReportRecreate", "adminExamAnswerReportRecreate");
+	}
+
+	@Override
+	public void resume(HandedOffJob job) {
+		Long examId = job.longParam(0);
+		switch (job.name()) {
+			case "feedbackAnswer" -> {
+				int questionOrder = job.intParam(1);
+				resetAnswer(job, examId, questionOrder);
+				examAnswerService.requestFeedback(examId, questionOrder, job.userId(), job.booleanParam(2), job.workload());
+			}
+			case "examCreateReport" -> {
+				resetReport(job, examId);
+				examService.requestReport(examId, job.userId(), job.booleanParam(1));
+			}
+			case "adminExamReportRecreate" -> {
+				resetReport(job, examId);
+				adminExamService.requestReportRecreate(examId, job.userId());
+			}
+			case "adminExamAnswerReportRecreate" -> {
+				int questionOrder = job.intParam(1);
+				resetAnswer(job, examId, questionOrder);
+				adminExamService.requestAnswerReportRecreate(examId, questionOrder, job.userId());
+			}
+			default -> throw new IllegalArgumentException("Unknown exam AI job: " + job.name());
+		}
+	}
+
+	private void resetReport(HandedOffJob job, Long examId) {
+		if (job.interrupted()) {
+			examService.transitionStatus(examId, ExamStatusTransition.FAIL);
+		}
+	}
+
+	private void resetAnswer(HandedOffJob job, Long examId, int questionOrder) {
+		if (job.interrupted()) {
+			examAnswerService.transitionAnswerStatus(new ExamAnswer.ExamAnswerId(examId, questionOrder), AnswerStatusTransition.FAIL);
+		}
+	}
+}
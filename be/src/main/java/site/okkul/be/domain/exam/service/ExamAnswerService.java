@@ -1,28 +1,32 @@
 package site.okkul.be.domain.exam.service;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import site.okkul.be.domain.exam.dto.request.ExamQuestionAnswerRequest;
 import site.okkul.be.domain.exam.entity.AnswerStatus;
+import site.okkul.be.domain.exam.entity.AnswerStatusTransition;
 import site.okkul.be.domain.exam.entity.Exam;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
 import site.okkul.be.domain.exam.entity.ExamSentenceFeedback;
-import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
 import site.okkul.be.domain.exam.exception.ExamErrorCode;
 import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
 import site.okkul.be.domain.exam.repository.ExamJpaRepository;
+import site.okkul.be.domain.question.entity.Question;
 import site.okkul.be.domain.question.entity.QuestionSet;
 import site.okkul.be.domain.question.entity.QuestionType;
 import site.okkul.be.domain.question.repository.QuestionSetRepository;
@@ -30,12 +34,23 @@ import site.okkul.be.domain.survey.entity.Survey;
 import site.okkul.be.domain.survey.repository.SurveyJpaRepository;
 import site.okkul.be.domain.topic.entity.Topic;
 import site.okkul.be.domain.topic.repository.TopicRepository;
+import site.okkul.be.global.admission.AiJobDispatcher;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.GlobalErrorCode;
 import site.okkul.be.global.exception.SystemException;
 import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.ai.AiErrorCode;
 import site.okkul.be.infra.ai.dto.exam.QuestionAnalysisRequest;
 import site.okkul.be.infra.ai.dto.exam.QuestionAnalysisResponse;
+import site.okkul.be.infra.lock.DistributedLock;
 import site.okkul.be.infra.storage.FileStorageService;
+import site.okkul.be.infra.storage.StorageErrorCode;
+import site.okkul.be.infra.storage.StreamingMultipartReceiver;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
+import site.okkul.be.infra.storage.dto.StreamedUpload;
+import site.okkul.be.infra.storage.media.MediaCache;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
 /**
  * 모의고사 비지니스 로직 서비스
@@ -81,11 +96,41 @@ public class ExamAnswerService {
 	 */
 	private final FileStorageService fileStorageService;
 
+	/**
+	 * 스트리밍 multipart 수신기 (본문을 메모리/임시 파일에 모으지 않고 바로 스토리지로 업로드)
+	 */
+	private final StreamingMultipartReceiver streamingMultipartReceiver;
+
+	/**
+	 * 문제 음성 로컬 캐시 (출제 직후 미리 받아 둠)
+	 */
+	private final MediaCache mediaCache;
+
+	/**
+	 * 답변 음성 URL -> 미디어 프록시 URL (AI 서버 전달용)
+	 */
+	private final MediaUrls mediaUrls;
+
 	/**
 	 * AI 서버용 기능
 	 */
 	private final AiClientProvider aiClientProvider;
 
+	/**
+	 * AI 작업 우선순위 대기열
+	 */
+	private final AiJobDispatcher aiJobDispatcher;
+
+	/**
+	 * 레플리카 간 답변 분석 중복 실행 방지
+	 */
+	private final DistributedLock distributedLock;
+
+
+	/**
+	 * 음성 업로드가 끝나지 않은 답변 선점의 유효 시간 (이후 같은 문항을 다시 제출할 수 있음)
+	 */
+	private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
 
 	private ExamAnswerService self;
 
@@ -143,13 +188,13 @@ public class ExamAnswerService {
 			Topic lastTopic = null;
 
 			if (questionType.equals(QuestionType.INTRODUCE)) {
-				questionSet = questionSetRepository.findIntroQuestion(QuestionType.INTRODUCE.getId());
+				questionSet = questionSetRepository.findCachedIntroQuestion();
 			} else {
 				Collections.shuffle(topics);
 				for (Topic topic : topics) {
 					lastTopic = topic;
 					triedTopics.add(topic);
-					questionSet = questionSetRepository.findRandomByLevelAndTopic(
+					questionSet = questionSetRepository.findCachedRandomByLevelAndTopic(
 							level,
 							topic.getId(),
 							questionType
@@ -178,6 +223,12 @@ public class ExamAnswerService {
 		log.info("문제 할당 완료. 신규 추가 문항 수: {}", newlyAddedQuestions.size());
 		examRepository.save(exam);
 
+		// 곧 재생될 문제 음성을 미리 캐시 (비동기)
+		mediaCache.prewarm(newlyAddedQuestions.stream()
+				.flatMap(qs -> qs.getQuestions().stream())
+				.map(Question::getAudioUrl)
+				.toList());
+
 		return newlyAddedQuestions;
 	}
 
@@ -211,12 +262,179 @@ public class ExamAnswerService {
 		return reuslt;
 	}
 
+	/**
+	 * 답변 음성 직접 업로드용 Presigned URL 발급
+	 * - 제출 가능한 문항인지 먼저 확인한 뒤, 해당 문항 전용 prefix 로 객체 키를 발급
+	 */
+	@Transactional(readOnly = true)
+	public PresignedUploadResponse issueAnswerUpload(Long examId, Integer questionOrder, Long userId) {
+		validateSubmittable(examId, questionOrder, userId);
+		return fileStorageService.issueUpload(answerKeyPrefix(examId, questionOrder));
+	}
+
 	/**
 	 * 답변 제출
 	 * - answerId(=ExamAnswer PK)로 문항을 식별
+	 * - 답변 자리 선점(INSERT ... ON CONFLICT, 한 문장) → 음성 파일 저장(트랜잭션 없음) → 음성 연결(짧은 쓰기 트랜잭션)
+	 *   순서로 처리해, 중복 제출은 업로드 전에 거절하고 스토리지 업로드 동안 DB 커넥션을 잡고 있지 않도록 합니다.
+	 * - 업로드가 실패하면 선점을 해제하고, 연결 단계가 실패하면 올려둔 음성 파일도 삭제합니다.
 	 */
-	@Transactional
 	public void submitAnswer(Long examId, Integer questionOrder, ExamQuestionAnswerRequest examQuestionAnswerRequest, Long userId) {
+		// 음성 파일 확인 (직접 업로드한 객체가 있으면 확인만 하고, 없으면 multipart 파일 업로드)
+		submitClaimed(examId, questionOrder, userId, () -> new StoredAnswer(
+				storeAudio(examId, questionOrder, examQuestionAnswerRequest),
+				examQuestionAnswerRequest.sttText()
+		));
+	}
+
+	/**
+	 * 스트리밍 답변 제출
+	 * - 요청 본문을 읽기 전에 답변 자리부터 선점하므로, 중복 제출은 업로드 없이 거절합니다.
+	 * - 파일 파트는 받는 대로 스토리지에 올리고, 선점 해제/음성 삭제 보상은 {@link #submitAnswer} 와 같습니다.
+	 *
+	 * @param request 아직 본문을 읽지 않은 multipart 요청 (file, sttText 파트)
+	 */
+	public void submitStreamedAnswer(Long examId, Integer questionOrder, HttpServletRequest request, Long userId) {
+		submitClaimed(examId, questionOrder, userId, () -> {
+			StreamedUpload upload = streamingMultipartReceiver.receive(request, "file", "exam/" + examId + "/answer");
+			if (upload.url() == null) {
+				throw new BusinessException(StorageErrorCode.FILE_REQUIRED);
+			}
+			return new StoredAnswer(upload.url(), upload.field("sttText"));
+		});
+	}
+
+	/**
+	 * 선점 → 음성 저장 → 음성 연결 순서로 제출을 처리합니다.
+	 *
+	 * @param store 음성을 스토리지에 저장하고 URL/STT 를 돌려주는 작업 (트랜잭션 밖에서 실행)
+	 */
+	private void submitClaimed(Long examId, Integer questionOrder, Long userId, Supplier<StoredAnswer> store) {
+		// 1. 시험/문항 검증 + 답변 자리 선점 (이미 제출된 답변이면 여기서 거절)
+		self.claimAnswer(examId, questionOrder, userId);
+
+		// 2. 음성 저장, 실패 시 선점 해제
+		StoredAnswer stored;
+		try {
+			stored = store.get();
+		} catch (RuntimeException e) {
+			releaseClaimQuietly(examId, questionOrder);
+			throw e;
+		}
+
+		// 3. 답변 저장, 실패 시 보상 처리
+		saveUploadedAnswer(examId, questionOrder, userId, stored.sttText(), stored.audioUrl());
+	}
+
+	/**
+	 * 이미 스토리지에 저장된 음성 파일을 선점한 답변에 연결합니다.
+	 * - 저장에 실패하면 음성 파일을 삭제하고 선점을 해제한 뒤 예외를 다시 던집니다.
+	 */
+	private void saveUploadedAnswer(Long examId, Integer questionOrder, Long userId, String sttText, String audioUrl) {
+		try {
+			self.saveAnswer(examId, questionOrder, userId, sttText, audioUrl);
+		} catch (RuntimeException e) {
+			discardAudio(audioUrl);
+			releaseClaimQuietly(examId, questionOrder);
+			throw e;
+		}
+	}
+
+	/**
+	 * 답변 자리 선점
+	 * - existsById + save 대신 INSERT ... ON CONFLICT DO UPDATE ... WHERE ... RETURNING 한 문장으로 중복을 판정하므로
+	 *   동시 제출이 PK 충돌(500)로 번지지 않고, 둘 중 하나만 행을 돌려받습니다.
+	 * - 이미 행이 있으면 음성 없이 CLAIM_TIMEOUT 보다 오래된 선점(업로드 중 서버가 죽은 경우)일 때만 가져오고,
+	 *   그 외(진행 중인 선점, 제출된 답변)는 EXAM_ANSWER_ALREADY_SUBMITTED 로 거절합니다.
+	 */
+	@Transactional
+	public void claimAnswer(Long examId, Integer questionOrder, Long userId) {
+		validateQuestion(examId, questionOrder, userId);
+
+		Instant now = Instant.now();
+		if (examAnswerRepository.claim(examId, questionOrder, now, now.minus(CLAIM_TIMEOUT)).isEmpty()) {
+			throw new BusinessException(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+		}
+	}
+
+	/**
+	 * 업로드 실패 시 음성이 연결되지 않은 선점을 해제합니다.
+	 */
+	@Transactional
+	public void releaseAnswerClaim(Long examId, Integer questionOrder) {
+		examAnswerRepository.releaseClaim(examId, questionOrder);
+	}
+
+	/**
+	 * 답변 저장 (선점한 답변에 음성/STT 연결)
+	 */
+	@Transactional
+	public void saveAnswer(Long examId, Integer questionOrder, Long userId, String sttText, String audioUrl) {
+		// 선점을 잃은 경우(선점 만료 후 다른 요청이 가져감)
+		if (examAnswerRepository.attachAudio(examId, questionOrder, sttText, audioUrl, Instant.now()) == 0) {
+			throw new BusinessException(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+		}
+
+		// 첫 답변이면 진행중으로 전이 (이미 진행중이면 아무것도 하지 않음)
+		examRepository.transition(examId, ExamStatusTransition.START);
+	}
+
+	private String storeAudio(Long examId, Integer questionOrder, ExamQuestionAnswerRequest request) {
+		if (request.objectKey() != null) {
+			return fileStorageService.confirmUpload(request.objectKey(), answerKeyPrefix(examId, questionOrder));
+		}
+		if (request.file() != null && !request.file().isEmpty()) {
+			return fileStorageService.upload(request.file(), "exam/" + examId + "/answer");
+		}
+		throw new BusinessException(StorageErrorCode.FILE_REQUIRED);
+	}
+
+	/**
+	 * 스토리지에 저장된 답변 음성과 함께 받은 STT 텍스트
+	 */
+	private record StoredAnswer(String audioUrl, String sttText) {
+	}
+
+	private void releaseClaimQuietly(Long examId, Integer questionOrder) {
+		try {
+			self.releaseAnswerClaim(examId, questionOrder);
+		} catch (Exception e) {
+			log.warn("답변 선점 해제에 실패했습니다. examId={}, questionOrder={}", examId, questionOrder, e);
+		}
+	}
+
+	/**
+	 * 저장 실패 시 고아 객체 정리 (실패해도 원래 예외를 그대로 전달)
+	 */
+	private void discardAudio(String url) {
+		try {
+			fileStorageService.delete(url);
+		} catch (Exception e) {
+			log.warn("답변 저장 실패 후 음성 파일 정리에 실패했습니다. url={}", url, e);
+		}
+	}
+
+	/**
+	 * 답변 제출 가능 여부 검증 (Presigned URL 발급 전 사전 확인용)
+	 *
+	 * @return 검증된 시험
+	 */
+	private Exam validateSubmittable(Long examId, Integer questionOrder, Long userId) {
+		Exam exam = validateQuestion(examId, questionOrder, userId);
+
+		// 4. 답변 중복 체크 (최종 판정은 claimAnswer 에서)
+		if (examAnswerRepository.existsById(new ExamAnswer.ExamAnswerId(examId, questionOrder))) {
+			throw new BusinessException(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+		}
+		return exam;
+	}
+
+	/**
+	 * 시험/문항 검증
+	 *
+	 * @return 검증된 시험
+	 */
+	private Exam validateQuestion(Long examId, Integer questionOrder, Long userId) {
 		// 1. 시험 존재 여부 체크
 		Exam exam = examRepository.findByIdAndUserId(examId, userId).orElseThrow(
 				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
@@ -230,28 +448,14 @@ public class ExamAnswerService {
 		if (exam.getQuestions().size() < questionOrder) {
 			throw new BusinessException(ExamErrorCode.QUESTION_NOT_FOUND);
 		}
+		return exam;
+	}
 
-		// 4. 답변 중복 체크
-		ExamAnswer.ExamAnswerId examAnswerId = new ExamAnswer.ExamAnswerId(examId, questionOrder);
-		if (examAnswerRepository.existsById(examAnswerId)) {
-			throw new BusinessException(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
-		}
-
-		// 5. 음성 파일 저장
-		String url = fileStorageService.upload(examQuestionAnswerRequest.file(), "exam/" + examId + "/answer");
-
-		// 6. 답변 저장
-		examAnswerRepository.save(ExamAnswer.builder()
-				.id(examAnswerId)
-				.audioUrl(url)
-				.exam(exam)
-				.userAnswer(examQuestionAnswerRequest.sttText())
-				.status(AnswerStatus.READY)
-				.createdAt(Instant.now())
-				.updatedAt(Instant.now())
-				.build());
-
-		exam.updateStatus(ExamStatus.IN_PROGRESS);
+	/**
+	 * 문항별 직접 업로드 객체 키 prefix (다른 문항/시험의 객체로 제출하지 못하도록 제한)
+	 */
+	private static String answerKeyPrefix(Long examId, Integer questionOrder) {
+		return "exam/" + examId + "/answer/" + questionOrder + "/";
 	}
 
 	/**
@@ -268,78 +472,95 @@ public class ExamAnswerService {
 		}
 	}
 
-	@Async
+	/**
+	 * 답변 분석을 AI 작업 대기열에 넣습니다.
+	 * - 응시 중 제출({@link AiWorkload#LIVE_EXAM_ANSWER})과 재요청({@link AiWorkload#REGENERATE})은 우선순위가 다릅니다.
+	 * - 실행 시 답변별 분산 락을 잡고, 다른 레플리카에서 분석/재분석 중이면 건너뜁니다.
+	 */
+	public void requestFeedback(Long examId, Integer questionOrder, Long userId, boolean useRealAi, AiWorkload workload) {
+		aiJobDispatcher.dispatch(workload, userId, "feedbackAnswer", new Object[]{examId, questionOrder, useRealAi},
+				() -> {
+					boolean executed = distributedLock.runExclusively(ExamLocks.answer(examId, questionOrder), ExamLocks.AI_ANALYSIS_LEASE,
+							lease -> self.feedbackAnswer(examId, questionOrder, useRealAi, lease.fencingToken()));
+					if (!executed) {
+						log.info("Exam answer is already being analyzed. examId={}, questionOrder={}", examId, questionOrder);
+					}
+				});
+	}
+
+	/**
+	 * 답변 분석 (AI 작업 실행기에서, 답변별 분산 락 안에서 실행)
+	 *
+	 * @param fencingToken 락 펜싱 토큰 (더 최근 락의 결과가 이미 있으면 저장하지 않음)
+	 */
 	@Transactional
-	public void feedbackAnswer(Long examId, Integer questionOrder, boolean useRealAi) {
-		// 1. 시험 답변 가져오기
-		ExamAnswer examAnswer = examAnswerRepository.findById(
-				new ExamAnswer.ExamAnswerId(examId, questionOrder)
-		).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
+	public void feedbackAnswer(Long examId, Integer questionOrder, boolean useRealAi, long fencingToken) {
+		ExamAnswer.ExamAnswerId answerId = new ExamAnswer.ExamAnswerId(examId, questionOrder);
 
-		// 진행중, 완료상태면 진행하면 안됨
-		if (examAnswer.getStatus().equals(AnswerStatus.ANALYZING)) {
-			throw new BusinessException(ExamErrorCode.ANALYZING_IN_PROGRESS);
-		}
-		if (examAnswer.getStatus().equals(AnswerStatus.COMPLETED)) {
-			throw new BusinessException(ExamErrorCode.ANALYZING_COMPLETED);
+		// 1. 분석 시작 (진행중, 완료상태면 진행하면 안됨 - 동시에 두 번 요청되어도 하나만 성공)
+		if (!self.transitionAnswerStatus(answerId, AnswerStatusTransition.ANALYZE)) {
+			throw new BusinessException(rejectedAnalysisError(answerId));
 		}
 
-		// 2. AI서버에서 답변 분석 진행하기
-		self.updateExamAnswerStatus(
-				new ExamAnswer.ExamAnswerId(examId, questionOrder),
-				AnswerStatus.ANALYZING
+		// 2. 시험 답변 가져오기 (전이 이후에 읽어야 버전 충돌 없이 결과를 기록할 수 있음)
+		ExamAnswer examAnswer = examAnswerRepository.findById(answerId).orElseThrow(
+				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
 		);
+		String audioUrl = analysisAudioUrlOf(examAnswer);
 
 		// 최대 3회 시도 하기
-		for (int i = 0; i < 3; i++) {
-			ResponseEntity<QuestionAnalysisResponse> questionAnalysisResponseTemp = aiClientProvider.getClient(useRealAi).analyzeQuestion(
-					QuestionAnalysisRequest.from(
-							examAnswer.getExam().getQuestions().get(questionOrder - 1),
-							examAnswer
-					)
-			);
-			if (questionAnalysisResponseTemp.getStatusCode().is2xxSuccessful()) {
-				// 3. 분석결과 DB에 적용하기
-				QuestionAnalysisResponse questionAnalysisResponse = questionAnalysisResponseTemp.getBody();
-				examAnswer.updateFromAi(
-						questionAnalysisResponse.grammarScore(),
-						questionAnalysisResponse.vocabScore(),
-						questionAnalysisResponse.logicScore(),
-						questionAnalysisResponse.fluencyScore(),
-						questionAnalysisResponse.relevanceScore(),
-						questionAnalysisResponse.improvedAnswer(),
-						questionAnalysisResponse.logicFeedback(),
-						questionAnalysisResponse.fluencyFeedback(),
-						questionAnalysisResponse.relevanceFeedback(),
-						questionAnalysisResponse.sentenceFeedbacks() == null || questionAnalysisResponse.sentenceFeedbacks().isEmpty()
-								? new ArrayList<>()
-								: questionAnalysisResponse.sentenceFeedbacks().stream().map(
-								dto -> new ExamSentenceFeedback(
-										dto.targetSentence(),
-										dto.targetSegment(),
-										dto.correctedSegment(),
-										dto.comment(),
-										dto.sentenceOrder(),
-										Instant.now()
-								)).toList()
+		try {
+			for (int i = 0; i < 3; i++) {
+				ResponseEntity<QuestionAnalysisResponse> questionAnalysisResponseTemp = aiClientProvider.getClient(useRealAi).analyzeQuestion(
+						QuestionAnalysisRequest.from(
+								examAnswer.getExam().getQuestions().get(questionOrder - 1),
+								examAnswer,
+								audioUrl
+						)
 				);
-				self.updateExamAnswerStatus(
-						new ExamAnswer.ExamAnswerId(examId, questionOrder),
-						AnswerStatus.COMPLETED
-				);
-				return;
-			} else {
-				// Answer 분석 실패
-				log.error("Exam Answer 분석 생성 실패 - {}회 실패 재시도 합니다... ", i);
-				self.updateExamAnswerStatus(
-						new ExamAnswer.ExamAnswerId(examId, questionOrder),
-						AnswerStatus.ANALYZING_FAILED
-				);
-
+				if (questionAnalysisResponseTemp.getStatusCode().is2xxSuccessful()) {
+					// 3. 락을 잃은 뒤 늦게 끝난 작업이면 결과를 버림
+					if (examAnswerRepository.advanceFencingToken(examId, questionOrder, fencingToken) == 0) {
+						throw new BusinessException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+					}
+					// 4. 분석결과 DB에 적용하기
+					QuestionAnalysisResponse questionAnalysisResponse = questionAnalysisResponseTemp.getBody();
+					examAnswer.updateFromAi(
+							questionAnalysisResponse.grammarScore(),
+							questionAnalysisResponse.vocabScore(),
+							questionAnalysisResponse.logicScore(),
+							questionAnalysisResponse.fluencyScore(),
+							questionAnalysisResponse.relevanceScore(),
+							questionAnalysisResponse.improvedAnswer(),
+							questionAnalysisResponse.logicFeedback(),
+							questionAnalysisResponse.fluencyFeedback(),
+							questionAnalysisResponse.relevanceFeedback(),
+							questionAnalysisResponse.sentenceFeedbacks() == null || questionAnalysisResponse.sentenceFeedbacks().isEmpty()
+									? new ArrayList<>()
+									: questionAnalysisResponse.sentenceFeedbacks().stream().map(
+									dto -> new ExamSentenceFeedback(
+											dto.targetSentence(),
+											dto.targetSegment(),
+											dto.correctedSegment(),
+											dto.comment(),
+											dto.sentenceOrder(),
+											Instant.now()
+									)).toList()
+					);
+					return;
+				} else {
+					// Answer 분석 실패
+					log.error("Exam Answer 분석 생성 실패 - {}회 실패 재시도 합니다... ", i);
+				}
+			}
+		} catch (RuntimeException e) {
+			// 연결 오류나 동시 요청 상한 초과로 호출이 실패하면 reaper 를 기다리지 않고 바로 실패 처리
+			if (AiErrorCode.isAiCallFailure(e)) {
+				self.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL);
 			}
+			throw e;
 		}
+		self.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL);
 		throw new SystemException(
 				ExamErrorCode.AI_SERVER_ERROR,
 				"문제 리포트 생성이 실패했습니다: AI 서버 응답을 3회 모두 받지 못했습니다.",
@@ -406,11 +627,43 @@ public class ExamAnswerService {
 		);
 	}
 
+	/**
+	 * 상태 전이를 별도 트랜잭션으로 즉시 커밋합니다. (분석 중 상태를 바로 조회할 수 있도록)
+	 * - 조건부 UPDATE 한 문장으로 처리하며, 엔티티를 읽지 않습니다.
+	 *
+	 * @return 전이에 성공하면 true
+	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void updateExamAnswerStatus(ExamAnswer.ExamAnswerId id, AnswerStatus status) {
-		ExamAnswer examAnswer = examAnswerRepository.findById(id).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
-		examAnswer.updateStatus(status);
+	public boolean transitionAnswerStatus(ExamAnswer.ExamAnswerId id, AnswerStatusTransition transition) {
+		return examAnswerRepository.transition(id, transition);
+	}
+
+	/**
+	 * AI 서버에 넘길 답변 음성 URL ({@code /media} 프록시 URL)
+	 * - AI 서버의 요청이 어느 레플리카로 가도 받을 수 있도록, 음성이 저장소에 반영된 뒤에 돌려줍니다.
+	 * - 반영되지 않으면 답변을 바로 분석 실패 상태로 바꿉니다.
+	 */
+	String analysisAudioUrlOf(ExamAnswer examAnswer) {
+		try {
+			fileStorageService.awaitStored(examAnswer.getAudioUrl());
+		} catch (RuntimeException e) {
+			self.transitionAnswerStatus(examAnswer.getId(), AnswerStatusTransition.FAIL);
+			throw e;
+		}
+		return mediaUrls.toMediaUrl(examAnswer.getAudioUrl());
+	}
+
+	/**
+	 * 분석 시작 전이가 거절된 이유 (음성 업로드 전 선점(READY)은 아직 답변이 없는 것으로 봄)
+	 */
+	ExamErrorCode rejectedAnalysisError(ExamAnswer.ExamAnswerId id) {
+		AnswerStatus status = examAnswerRepository.findById(id).map(ExamAnswer::getStatus).orElse(null);
+		if (status == null) {
+			return ExamErrorCode.EXAM_NOT_FOUND;
+		}
+		if (status == AnswerStatus.READY) {
+			return ExamErrorCode.EXAM_ANSWER_NOTFOUND;
+		}
+		return status == AnswerStatus.COMPLETED ? ExamErrorCode.ANALYZING_COMPLETED : ExamErrorCode.ANALYZING_IN_PROGRESS;
 	}
 }
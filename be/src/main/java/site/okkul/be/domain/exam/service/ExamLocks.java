@@ -0,0 +1,26 @@
+package site.okkul.be.domain.exam.service;
+
+import java.time.Duration;
+
+/**
+ * 모의고사 AI 분석 작업의 분산 락 키
+ * - 리포트 생성과 관리자 재생성, 답변 분석과 관리자 재분석은 같은 키를 써서 레플리카 전체에서 한 번에 하나만 실행됩니다.
+ */
+final class ExamLocks {
+
+	/**
+	 * 락 임대 시간 (AI 요청 3회 재시도를 넉넉히 덮는 시간, 넘으면 펜싱 토큰으로 늦은 결과를 거름)
+	 */
+	static final Duration AI_ANALYSIS_LEASE = Duration.ofMinutes(10);
+
+	private ExamLocks() {
+	}
+
+	static String report(Long examId) {
+		return "exam-report:" + examId;
+	}
+
+	static String answer(Long examId, Integer questionOrder) {
+		return "exam-answer:" + examId + ":" + questionOrder;
+	}
+}
@@ -1,12 +1,12 @@
 package site.okkul.be.domain.exam.service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,16 +14,24 @@ import site.okkul.be.domain.exam.dto.response.ExamDetailResponse;
 import site.okkul.be.domain.exam.entity.Exam;
 import site.okkul.be.domain.exam.entity.ExamReport;
 import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
 import site.okkul.be.domain.exam.exception.ExamErrorCode;
 import site.okkul.be.domain.exam.repository.ExamJpaRepository;
 import site.okkul.be.domain.exam.repository.ExamReportJpaRepository;
+import site.okkul.be.domain.history.service.ExamHistoryViewService;
 import site.okkul.be.domain.survey.entity.Survey;
 import site.okkul.be.domain.survey.repository.SurveyJpaRepository;
+import site.okkul.be.global.admission.AiJobDispatcher;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.GlobalErrorCode;
 import site.okkul.be.global.exception.SystemException;
 import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.ai.AiErrorCode;
 import site.okkul.be.infra.ai.dto.exam.AnswerSummaryDto;
 import site.okkul.be.infra.ai.dto.exam.ExamTotalAnalysisResponse;
+import site.okkul.be.infra.lock.DistributedLock;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
 /**
  * 모의고사 비지니스 로직 서비스
@@ -58,6 +66,26 @@ public class ExamService {
 
 	private final ExamReportJpaRepository examReportJpaRepository;
 
+	/**
+	 * 히스토리 조회 모델 갱신
+	 */
+	private final ExamHistoryViewService examHistoryViewService;
+
+	/**
+	 * AI 작업 우선순위 대기열
+	 */
+	private final AiJobDispatcher aiJobDispatcher;
+
+	/**
+	 * 레플리카 간 리포트 생성 중복 실행 방지
+	 */
+	private final DistributedLock distributedLock;
+
+	/**
+	 * 문제 음성 URL -> 미디어 프록시 URL
+	 */
+	private final MediaUrls mediaUrls;
+
 	private ExamService self;
 
 	@Autowired
@@ -84,7 +112,7 @@ public class ExamService {
 				)
 		);
 
-		return ExamDetailResponse.from(exam);
+		return ExamDetailResponse.from(exam, mediaUrls);
 	}
 
 	@Transactional(readOnly = true)
@@ -93,7 +121,7 @@ public class ExamService {
 				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
 		);
 
-		return ExamDetailResponse.from(exam);
+		return ExamDetailResponse.from(exam, mediaUrls);
 	}
 
 	/**
@@ -114,84 +142,122 @@ public class ExamService {
 			throw new BusinessException(ExamErrorCode.EXAM_ADJUSTED_DIFFICULTY_ALREADY_SET);
 		}
 		exam.updateAdjustedDifficulty(newLevel);
-		return ExamDetailResponse.from(exam);
+		return ExamDetailResponse.from(exam, mediaUrls);
 	}
 
 
+	/**
+	 * 시험 종료
+	 * - 분석 중/완료 여부 확인과 종료 시각 기록을 조건부 UPDATE 한 문장으로 처리합니다.
+	 * - 리포트 분석(ANALYZING 전이)은 examCreateReport 에서 시작합니다.
+	 */
 	@Transactional
 	public void completeExam(Long examId, Long userId) {
-		// 1. 시험 검색
-		Exam exam = examRepository.findByIdAndUserId(examId, userId).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
-		// 2. AI 피드백 중복 생성 방지
-		if (exam.getStatus() == ExamStatus.ANALYZING || exam.getStatus() == ExamStatus.COMPLETED) {
+		// 1. 종료 처리 (AI 피드백 중복 생성 방지)
+		if (examRepository.end(examId, userId, Instant.now()) == 0) {
+			if (examRepository.findByIdAndUserId(examId, userId).isEmpty()) {
+				throw new BusinessException(ExamErrorCode.EXAM_NOT_FOUND);
+			}
 			throw new BusinessException(ExamErrorCode.EXAM_ALREADY_ENDED);
 		}
-		// 3. 시험 분석 단계로 넘어감
-		self.updateExamStatus(examId, ExamStatus.ANALYZING);
-		exam.completeExam();
+		// 2. 히스토리 목록에 노출되도록 조회 모델 반영
+		examHistoryViewService.refresh(examId);
 	}
 
 
-	@Transactional
-	@Async
-	public void examCreateReport(Long examId, boolean useRealAi) {
-		// 1. 시험 검색
-		Exam exam = examRepository.findById(examId).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
+	/**
+	 * 리포트 생성을 AI 작업 대기열에 넣습니다.
+	 * - 실행 시 시험별 분산 락을 잡고, 다른 레플리카에서 생성/재생성 중이면 건너뜁니다.
+	 */
+	public void requestReport(Long examId, Long userId, boolean useRealAi) {
+		aiJobDispatcher.dispatch(AiWorkload.EXAM_REPORT, userId, "examCreateReport", new Object[]{examId, useRealAi},
+				() -> {
+					boolean executed = distributedLock.runExclusively(ExamLocks.report(examId), ExamLocks.AI_ANALYSIS_LEASE,
+							lease -> self.examCreateReport(examId, useRealAi, lease.fencingToken()));
+					if (!executed) {
+						log.info("Exam report is already being generated. examId={}", examId);
+					}
+				});
+	}
 
-		// 2. 이미 리포트가 생성되어 있다면 예외 발생
+	/**
+	 * 리포트 생성 (AI 작업 실행기에서, 시험별 분산 락 안에서 실행)
+	 *
+	 * @param fencingToken 락 펜싱 토큰 (더 최근 락의 결과가 이미 있으면 저장하지 않음)
+	 */
+	@Transactional
+	public void examCreateReport(Long examId, boolean useRealAi, long fencingToken) {
+		// 1. 이미 리포트가 생성되어 있다면 예외 발생
 		if (examReportJpaRepository.existsById(examId)) {
 			throw new BusinessException(ExamErrorCode.EXAM_REPORT_ALREADY_CREATED);
 		}
-		// 2. AI 피드백 중복 생성 방지
-		if (exam.getStatus() == ExamStatus.ANALYZING || exam.getStatus() == ExamStatus.COMPLETED) {
+		// 2. 분석 시작 (동시에 두 번 요청되어도 하나만 성공)
+		if (!self.transitionStatus(examId, ExamStatusTransition.ANALYZE)) {
+			if (!examRepository.existsById(examId)) {
+				throw new BusinessException(ExamErrorCode.EXAM_NOT_FOUND);
+			}
 			throw new BusinessException(ExamErrorCode.EXAM_REPORT_ANALYZING);
 		}
-
+		// 전이 이후에 읽어야 버전 충돌 없이 완료 상태를 기록할 수 있음
+		Exam exam = examRepository.findById(examId).orElseThrow(
+				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
+		);
 
 		// 3. Ai 클라이언트를 가져와서 분석 진행하기
-		self.updateExamStatus(examId, ExamStatus.ANALYZING);
-		for (int i = 0; i < 3; i++) {
-			ResponseEntity<ExamTotalAnalysisResponse> response = aiClientProvider
-					.getClient(useRealAi)
-					.analyzeTotalExam(
-							exam.getExamAnswers().stream().map(AnswerSummaryDto::from).toList()
-					);
-
-			if (response.getStatusCode().is2xxSuccessful()) {
-				// 4. 리포트 저장하기
-				self.updateExamStatus(examId, ExamStatus.COMPLETED);
-				examReportJpaRepository.save(ExamReport.createReport(
-						exam,
-						BigDecimal.valueOf(response.getBody().averageGrammarScore()),
-						BigDecimal.valueOf(response.getBody().averageVocabScore()),
-						BigDecimal.valueOf(response.getBody().averageLogicScore()),
-						BigDecimal.valueOf(response.getBody().averageFluencyScore()),
-						BigDecimal.valueOf(response.getBody().averageRelevanceScore()),
-						BigDecimal.valueOf(response.getBody().totalScore()),
-						response.getBody().predictedLevel(),
-						response.getBody().strengths().toString(),
-						response.getBody().improvements().toString(),
-						""
-				));
-				return;
+		try {
+			for (int i = 0; i < 3; i++) {
+				ResponseEntity<ExamTotalAnalysisResponse> response = aiClientProvider
+						.getClient(useRealAi)
+						.analyzeTotalExam(
+								exam.getSubmittedAnswers().stream().map(AnswerSummaryDto::from).toList()
+						);
+
+				if (response.getStatusCode().is2xxSuccessful()) {
+					// 4. 락을 잃은 뒤 늦게 끝난 작업이면 결과를 버림
+					if (examRepository.advanceFencingToken(examId, fencingToken) == 0) {
+						throw new BusinessException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+					}
+					// 5. 리포트 저장하기 (완료 상태는 리포트와 같은 트랜잭션에서 버전 검사와 함께 반영)
+					exam.updateStatus(ExamStatus.COMPLETED);
+					examReportJpaRepository.save(ExamReport.createReport(
+							exam,
+							BigDecimal.valueOf(response.getBody().averageGrammarScore()),
+							BigDecimal.valueOf(response.getBody().averageVocabScore()),
+							BigDecimal.valueOf(response.getBody().averageLogicScore()),
+							BigDecimal.valueOf(response.getBody().averageFluencyScore()),
+							BigDecimal.valueOf(response.getBody().averageRelevanceScore()),
+							BigDecimal.valueOf(response.getBody().totalScore()),
+							response.getBody().predictedLevel(),
+							response.getBody().strengths().toString(),
+							response.getBody().improvements().toString(),
+							""
+					));
+					examHistoryViewService.refresh(examId);
+					return;
+				}
 			}
+		} catch (RuntimeException e) {
+			// 연결 오류나 동시 요청 상한 초과로 호출이 실패하면 reaper 를 기다리지 않고 바로 실패 처리
+			if (AiErrorCode.isAiCallFailure(e)) {
+				self.transitionStatus(examId, ExamStatusTransition.FAIL);
+			}
+			throw e;
 		}
-		self.updateExamStatus(examId, ExamStatus.ANALYZING_FAILED);
+		self.transitionStatus(examId, ExamStatusTransition.FAIL);
 		throw new SystemException(ExamErrorCode.AI_SERVER_ERROR,
 				"Exam Report 생성 실패",
 				"AI 서버 응답을 3회 모두 받지 못했습니다."
 		);
 	}
 
+	/**
+	 * 상태 전이를 별도 트랜잭션으로 즉시 커밋합니다. (분석 중 상태를 바로 조회할 수 있도록)
+	 * - 조건부 UPDATE 한 문장으로 처리하며, 엔티티를 읽지 않습니다.
+	 *
+	 * @return 전이에 성공하면 true
+	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void updateExamStatus(Long examId, ExamStatus status) {
-		Exam exam = examRepository.findById(examId).orElseThrow(
-				() -> new BusinessException(ExamErrorCode.EXAM_NOT_FOUND)
-		);
-		exam.updateStatus(status);
+	public boolean transitionStatus(Long examId, ExamStatusTransition transition) {
+		return examRepository.transition(examId, transition);
 	}
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +16,8 @@ import site.okkul.be.domain.history.docs.HistoryControllerDocs;
 import site.okkul.be.domain.history.dto.*;
 import site.okkul.be.domain.history.service.HistoryService;
 
+import java.io.Serializable;
+
 @RestController
 @RequestMapping("/history")
 @RequiredArgsConstructor
@@ -41,14 +44,27 @@ public class HistoryController implements HistoryControllerDocs {
         );
     }
 
+    @Override
+    @GetMapping("/exams/cursor")
+    public ResponseEntity<CursorSlice<ExamHistorySummary>> getExamHistorySlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal UserDetails user
+    ) {
+        return ResponseEntity.ok(
+                historyService.getExamHistorySlice(Long.parseLong(user.getUsername()), cursor, size, includeTotal)
+        );
+    }
+
     @Override
     @GetMapping("/exams/{examId}")
     public ResponseEntity<ExamHistoryDetailResponse> getExamHistoryDetail(
             @PathVariable Long examId,
             @AuthenticationPrincipal UserDetails user
     ) {
-        ExamHistoryDetailResponse response = historyService.getExamHistoryDetail(Long.parseLong(user.getUsername()), examId);
-        return ResponseEntity.ok(response);
+        VersionedResponse<ExamHistoryDetailResponse> response = historyService.getExamHistoryDetail(Long.parseLong(user.getUsername()), examId);
+        return versioned(response);
     }
 
     @Override
@@ -58,8 +74,8 @@ public class HistoryController implements HistoryControllerDocs {
             @PathVariable Integer questionOrder,
             @AuthenticationPrincipal UserDetails user
     ) {
-        ExamAnswerResponse response = historyService.getExamAnswerDetail(Long.parseLong(user.getUsername()), examId, questionOrder);
-        return ResponseEntity.ok(response);
+        VersionedResponse<ExamAnswerResponse> response = historyService.getExamAnswerDetail(Long.parseLong(user.getUsername()), examId, questionOrder);
+        return versioned(response);
     }
 
     @Override
@@ -82,6 +98,19 @@ public class HistoryController implements HistoryControllerDocs {
         );
     }
 
+    @Override
+    @GetMapping("/practices/cursor")
+    public ResponseEntity<CursorSlice<PracticeHistorySummary>> getPracticeHistorySlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal UserDetails user
+    ) {
+        return ResponseEntity.ok(
+                historyService.getPracticeHistorySlice(Long.parseLong(user.getUsername()), cursor, size, includeTotal)
+        );
+    }
+
     @Override
     @GetMapping("/practices/{practiceId}")
     public ResponseEntity<PracticeHistoryDetailResponse> getPracticeHistoryDetail(
@@ -91,4 +120,15 @@ public class HistoryController implements HistoryControllerDocs {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * ETag 를 붙여 응답합니다. If-None-Match 가 일치하면 프레임워크가 본문 없이 304 로 응답합니다.
+     * 사용자별 데이터이므로 private, 매번 재검증(no-cache)하도록 합니다.
+     */
+    private static <T extends Serializable> ResponseEntity<T> versioned(VersionedResponse<T> response) {
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response.body());
+    }
 }
@@ -36,9 +36,21 @@ public interface HistoryControllerDocs {
             @Parameter(hidden = true) UserDetails user
     );
 
+    @Operation(
+            summary = "모의고사 히스토리 목록 커서 조회",
+            description = "종료 시각 최신순으로 모의고사 기록을 조회한다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다"
+    )
+    @SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
+    ResponseEntity<CursorSlice<ExamHistorySummary>> getExamHistorySlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(hidden = true) UserDetails user
+    );
+
     @Operation(
             summary = "모의고사 히스토리 상세 조회",
-            description = "특정 모의고사(examId)에 대한 상세 정보를 조회한다"
+            description = "특정 모의고사(examId)에 대한 상세 정보를 조회한다. ETag 를 응답하며 If-None-Match 가 일치하면 304 를 반환한다"
     )
     @SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
     ResponseEntity<ExamHistoryDetailResponse> getExamHistoryDetail(
@@ -48,7 +60,7 @@ public interface HistoryControllerDocs {
 
     @Operation(
             summary = "모의고사 문항(답변) 상세 조회",
-            description = "특정 모의고사(examId)의 특정 문항 순서(question_order)에 대한 상세 피드백을 조회한다"
+            description = "특정 모의고사(examId)의 특정 문항 순서(question_order)에 대한 상세 피드백을 조회한다. ETag 를 응답하며 If-None-Match 가 일치하면 304 를 반환한다"
     )
     @SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
     ResponseEntity<ExamAnswerResponse> getExamAnswerDetail(
@@ -74,6 +86,18 @@ public interface HistoryControllerDocs {
             @Parameter(hidden = true) UserDetails user
     );
 
+    @Operation(
+            summary = "유형별 연습 히스토리 목록 커서 조회",
+            description = "시작 시각 최신순으로 답변이 있는 연습 기록을 조회한다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다"
+    )
+    @SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
+    ResponseEntity<CursorSlice<PracticeHistorySummary>> getPracticeHistorySlice(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 개수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(hidden = true) UserDetails user
+    );
+
     @Operation(
             summary = "유형별 연습 히스토리 상세 조회",
             description = "특정 유형별 연습 세션(practiceId)의 모든 문단 사이클 데이터를 리스트로 반환한다. "
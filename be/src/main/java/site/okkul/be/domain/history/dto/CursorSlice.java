@@ -0,0 +1,21 @@
+package site.okkul.be.domain.history.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorSlice<T>(
+        @Schema(description = "현재 페이지 데이터")
+        List<T> content,
+
+        @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNC0wNS0yMVQxNDozMDowMFpfMTAx")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "전체 개수 (includeTotal=true 로 요청한 경우에만 포함)", example = "42")
+        Long totalCount
+) {
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
 import site.okkul.be.domain.exam.entity.ExamSentenceFeedback;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
 
@@ -16,7 +17,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "모의고사 문항(답변) 상세 피드백 응답")
-public class ExamAnswerResponse {
+public class ExamAnswerResponse implements Serializable {
 
     @Schema(description = "모의고사 ID", example = "12")
     private Long examId;
@@ -45,7 +46,7 @@ public class ExamAnswerResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "항목별 피드백")
-    public static class CategoryFeedback {
+    public static class CategoryFeedback implements Serializable {
 
         @Schema(description = "주제 적합성 피드백")
         private String relevanceFeedback;
@@ -62,7 +63,7 @@ public class ExamAnswerResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "문장 단위 교정 피드백")
-    public static class SentenceFeedback {
+    public static class SentenceFeedback implements Serializable {
 
         @Schema(description = "원본 문장")
         private String targetSentence;
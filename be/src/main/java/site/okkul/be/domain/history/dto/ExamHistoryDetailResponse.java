@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -15,7 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "모의고사 히스토리 상세 응답 데이터")
-public class ExamHistoryDetailResponse {
+public class ExamHistoryDetailResponse implements Serializable {
     private Long examId;
     private Instant createdAt;
     private Instant endAt;
@@ -28,7 +29,7 @@ public class ExamHistoryDetailResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "모의고사 총체 리포트")
-    public static class ExamReport {
+    public static class ExamReport implements Serializable {
         private BigDecimal totalScore;
         private String grade;
         private BigDecimal avgGrammar;
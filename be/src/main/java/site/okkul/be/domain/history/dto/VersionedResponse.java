@@ -0,0 +1,30 @@
+package site.okkul.be.domain.history.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 소유자/갱신 시각을 함께 담은 캐시용 응답 스냅샷
+ * <p>
+ * 캐시 키에는 사용자 ID 가 없으므로 꺼낸 뒤 {@link #isOwnedBy(Long)} 로 소유자를 확인합니다.
+ * ETag 는 updatedAt(마이크로초) 기준의 강한 ETag 입니다.
+ *
+ * @param ownerId   응답 소유 사용자 ID
+ * @param body      응답 본문
+ * @param updatedAt 원본 데이터의 마지막 갱신 시각
+ */
+public record VersionedResponse<T extends Serializable>(
+        Long ownerId,
+        T body,
+        Instant updatedAt
+) implements Serializable {
+
+    public boolean isOwnedBy(Long userId) {
+        return ownerId.equals(userId);
+    }
+
+    public String etag() {
+        return "\"" + Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt)) + "\"";
+    }
+}
@@ -0,0 +1,100 @@
+package site.okkul.be.domain.history.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 모의고사 히스토리 조회 전용 엔티티 (exam + exam_report 비정규화)
+ * <p>
+ * 연관관계 없이 한 행으로 펼쳐져 있으며, 쓰기는 {@code ExamHistoryViewJpaRepository} 의 UPSERT 로만 합니다.
+ * {@link Immutable} 이므로 조회 시 스냅샷/더티체킹 비용이 없습니다.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "exam_history_view")
+public class ExamHistoryView {
+
+    @Id
+    @Column(name = "exam_id")
+    private Long examId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "end_at")
+    private Instant endAt;
+
+    @Column(name = "initial_difficulty", nullable = false)
+    private Integer initialDifficulty;
+
+    @Column(name = "adjusted_difficulty")
+    private Integer adjustedDifficulty;
+
+    @Column(name = "grade")
+    private String grade;
+
+    @Column(name = "total_score", precision = 5, scale = 2)
+    private BigDecimal totalScore;
+
+    @Column(name = "avg_grammar", precision = 5, scale = 2)
+    private BigDecimal avgGrammar;
+
+    @Column(name = "avg_vocab", precision = 5, scale = 2)
+    private BigDecimal avgVocab;
+
+    @Column(name = "avg_logic", precision = 5, scale = 2)
+    private BigDecimal avgLogic;
+
+    @Column(name = "avg_fluency", precision = 5, scale = 2)
+    private BigDecimal avgFluency;
+
+    @Column(name = "avg_relevance", precision = 5, scale = 2)
+    private BigDecimal avgRelevance;
+
+    @Column(name = "comment", columnDefinition = "TEXT")
+    private String comment;
+
+    @Column(name = "strength_type", length = 100)
+    private String strengthType;
+
+    @Column(name = "weakness_type", length = 100)
+    private String weaknessType;
+
+    /**
+     * 리포트 생성 시간 (리포트가 없으면 null)
+     */
+    @JdbcTypeCode(SqlTypes.TIMESTAMP)
+    @Column(name = "report_created_at")
+    private Instant reportCreatedAt;
+
+    /**
+     * 리포트 마지막 갱신 시간 (리포트가 없으면 null)
+     */
+    @JdbcTypeCode(SqlTypes.TIMESTAMP)
+    @Column(name = "report_updated_at")
+    private Instant reportUpdatedAt;
+
+    @JdbcTypeCode(SqlTypes.TIMESTAMP)
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public boolean hasReport() {
+        return reportCreatedAt != null;
+    }
+}
@@ -13,7 +13,8 @@ public enum HistoryErrorCode implements ErrorCode {
 	EXAM_ANSWER_NOT_FOUND(HttpStatus.NOT_FOUND, "HISTORY_002", "해당 문항 답변이 존재하지 않습니다."),
 	AI_ANALYSIS_NOT_COMPLETED(HttpStatus.BAD_REQUEST, "HISTORY_003", "AI 분석이 완료되지 않았습니다."),
 	AI_IMPROVED_ANSWER_NOT_FOUND(HttpStatus.NOT_FOUND, "HISTORY_004", "AI 개선 답변이 존재하지 않습니다."),
-	PRACTICE_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "HISTORY_005", "해당 연습 기록을 찾을 수 없습니다.");
+	PRACTICE_HISTORY_NOT_FOUND(HttpStatus.NOT_FOUND, "HISTORY_005", "해당 연습 기록을 찾을 수 없습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "HISTORY_006", "유효하지 않은 페이지 커서입니다.");
 
 	private final HttpStatus status;
 	private final String code;
@@ -0,0 +1,108 @@
+package site.okkul.be.domain.history.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import site.okkul.be.domain.history.dto.ExamHistorySummary;
+import site.okkul.be.domain.history.entity.ExamHistoryView;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 모의고사 히스토리 조회 모델 리포지토리
+ * <p>
+ * 목록 조회는 생성자 프로젝션으로 {@link ExamHistorySummary} 를 바로 만들어
+ * (user_id, end_at, exam_id) 커버링 인덱스만으로 응답할 수 있도록 합니다.
+ */
+@Repository
+public interface ExamHistoryViewJpaRepository extends JpaRepository<ExamHistoryView, Long> {
+
+    Optional<ExamHistoryView> findByExamIdAndUserId(Long examId, Long userId);
+
+    @Query(value = """
+            SELECT new site.okkul.be.domain.history.dto.ExamHistorySummary(
+                v.examId, v.createdAt, v.endAt, v.initialDifficulty, v.adjustedDifficulty, v.grade)
+            FROM ExamHistoryView v
+            WHERE v.userId = :userId AND v.endAt IS NOT NULL
+            """,
+            countQuery = """
+            SELECT COUNT(v) FROM ExamHistoryView v
+            WHERE v.userId = :userId AND v.endAt IS NOT NULL
+            """)
+    Page<ExamHistorySummary> findSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    long countByUserIdAndEndAtIsNotNull(Long userId);
+
+    /**
+     * 히스토리 커서 페이지 - 첫 페이지 (end_at DESC, exam_id DESC)
+     */
+    @Query("""
+            SELECT new site.okkul.be.domain.history.dto.ExamHistorySummary(
+                v.examId, v.createdAt, v.endAt, v.initialDifficulty, v.adjustedDifficulty, v.grade)
+            FROM ExamHistoryView v
+            WHERE v.userId = :userId AND v.endAt IS NOT NULL
+            ORDER BY v.endAt DESC, v.examId DESC
+            """)
+    Slice<ExamHistorySummary> findSummarySlice(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 히스토리 커서 페이지 - 커서 이후 페이지
+     */
+    @Query("""
+            SELECT new site.okkul.be.domain.history.dto.ExamHistorySummary(
+                v.examId, v.createdAt, v.endAt, v.initialDifficulty, v.adjustedDifficulty, v.grade)
+            FROM ExamHistoryView v
+            WHERE v.userId = :userId AND v.endAt IS NOT NULL
+              AND v.endAt <= :endAt
+              AND (v.endAt < :endAt OR v.examId < :examId)
+            ORDER BY v.endAt DESC, v.examId DESC
+            """)
+    Slice<ExamHistorySummary> findSummarySliceAfter(
+            @Param("userId") Long userId,
+            @Param("endAt") Instant endAt,
+            @Param("examId") Long examId,
+            Pageable pageable
+    );
+
+    /**
+     * exam / exam_report 원본에서 한 행을 다시 읽어 UPSERT 합니다.
+     * <p>
+     * 같은 트랜잭션에서 저장한 Exam/ExamReport 변경분이 반영되도록 실행 전에 flush 합니다.
+     * 리포트가 아직 없으면 리포트 컬럼은 null 로 채워집니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO exam_history_view (exam_id, user_id, created_at, end_at, initial_difficulty, adjusted_difficulty,
+                                           grade, total_score, avg_grammar, avg_vocab, avg_logic, avg_fluency, avg_relevance,
+                                           comment, strength_type, weakness_type, report_created_at, report_updated_at, updated_at)
+            SELECT e.exam_id, e.user_id, e.created_at, e.end_at, e.initial_difficulty, e.adjusted_difficulty,
+                   r.grade, r.total_score, r.avg_grammar, r.avg_vocab, r.avg_logic, r.avg_fluency, r.avg_relevance,
+                   r.comment, r.strength_type, r.weakness_type, r.created_at, r.updated_at, now()
+            FROM exam e
+                     LEFT JOIN exam_report r ON r.exam_id = e.exam_id
+            WHERE e.exam_id = :examId
+            ON CONFLICT (exam_id) DO UPDATE SET
+                end_at              = EXCLUDED.end_at,
+                adjusted_difficulty = EXCLUDED.adjusted_difficulty,
+                grade               = EXCLUDED.grade,
+                total_score         = EXCLUDED.total_score,
+                avg_grammar         = EXCLUDED.avg_grammar,
+                avg_vocab           = EXCLUDED.avg_vocab,
+                avg_logic           = EXCLUDED.avg_logic,
+                avg_fluency         = EXCLUDED.avg_fluency,
+                avg_relevance       = EXCLUDED.avg_relevance,
+                comment             = EXCLUDED.comment,
+                strength_type       = EXCLUDED.strength_type,
+                weakness_type       = EXCLUDED.weakness_type,
+                report_created_at   = EXCLUDED.report_created_at,
+                report_updated_at   = EXCLUDED.report_updated_at,
+                updated_at          = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsertFromSource(@Param("examId") Long examId);
+}
@@ -0,0 +1,30 @@
+package site.okkul.be.domain.history.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import site.okkul.be.domain.history.repository.ExamHistoryViewJpaRepository;
+
+/**
+ * 모의고사 히스토리 조회 모델(exam_history_view) 갱신 서비스
+ * <p>
+ * 시험 종료, 리포트 생성/재생성 직후 호출해 원본과 같은 트랜잭션에서 한 행을 UPSERT 합니다.
+ * 원본 트랜잭션이 롤백되면 조회 모델도 같이 롤백됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamHistoryViewService {
+
+    private final ExamHistoryViewJpaRepository examHistoryViewRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Long examId) {
+        int updated = examHistoryViewRepository.upsertFromSource(examId);
+        if (updated == 0) {
+            log.warn("exam_history_view 갱신 대상 시험이 없습니다. examId={}", examId);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package site.okkul.be.domain.history.service;
+
+import site.okkul.be.domain.history.exception.HistoryErrorCode;
+import site.okkul.be.global.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 히스토리 커서 페이지네이션 키 (정렬 시각, ID)
+ * <p>
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩한 불투명 문자열로만 전달합니다.
+ * </p>
+ *
+ * @param sortKey 정렬 기준 시각 (모의고사: end_at, 연습: started_at)
+ * @param id      동일 시각 정렬용 PK
+ */
+public record HistoryCursor(Instant sortKey, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = sortKey.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 인코딩된 커서 (null/blank 면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     */
+    public static HistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BusinessException(HistoryErrorCode.INVALID_CURSOR);
+            }
+            return new HistoryCursor(
+                    Instant.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(HistoryErrorCode.INVALID_CURSOR);
+        }
+    }
+}
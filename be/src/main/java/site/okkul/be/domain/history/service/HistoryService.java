@@ -1,18 +1,24 @@
 package site.okkul.be.domain.history.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import site.okkul.be.domain.exam.entity.AnswerStatus;
 import site.okkul.be.domain.exam.entity.Exam;
 import site.okkul.be.domain.exam.entity.ExamAnswer;
-import site.okkul.be.domain.exam.entity.ExamReport;
 import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
 import site.okkul.be.domain.exam.repository.ExamJpaRepository;
-import site.okkul.be.domain.exam.repository.ExamReportJpaRepository;
+import site.okkul.be.domain.history.entity.ExamHistoryView;
 import site.okkul.be.domain.history.exception.HistoryErrorCode;
 import site.okkul.be.domain.history.dto.*;
+import site.okkul.be.domain.history.repository.ExamHistoryViewJpaRepository;
 import site.okkul.be.domain.practice.entity.Practice;
 import site.okkul.be.domain.practice.entity.PracticeAnswer;
 import site.okkul.be.domain.practice.entity.PracticeSentenceFeedback;
@@ -20,9 +26,11 @@ import site.okkul.be.domain.practice.mapper.PracticeMapper;
 import site.okkul.be.domain.practice.repository.PracticeAnswerJpaRepository;
 import site.okkul.be.domain.practice.repository.PracticeJpaRepository;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.cache.CacheNames;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
+import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -30,73 +38,140 @@ public class HistoryService {
 
     private final ExamJpaRepository examJpaRepository;
     private final ExamAnswerJpaRepository examAnswerJpaRepository;
-    private final ExamReportJpaRepository examReportJpaRepository;
+    private final ExamHistoryViewJpaRepository examHistoryViewRepository;
     private final PracticeJpaRepository practiceRepository;
     private final PracticeAnswerJpaRepository practiceAnswerRepository;
     private final PracticeMapper practiceMapper;
+    private final MediaUrls mediaUrls;
 
+    /**
+     * 커서 페이지 최대 크기
+     */
+    private static final int MAX_SLICE_SIZE = 50;
+
+    private HistoryService self;
+
+    @Autowired
+    public void setSelf(@Lazy HistoryService self) {
+        this.self = self;
+    }
+
+    /**
+     * 모의고사 히스토리 목록 조회
+     * exam_history_view 에서 요약 컬럼만 생성자 프로젝션으로 읽습니다. (엔티티/리포트 별도 조회 없음)
+     */
     public Page<ExamHistorySummary> getExamHistories(Long userId, Pageable pageable) {
+        return examHistoryViewRepository.findSummaries(userId, pageable);
+    }
 
-        // 1) 기준 페이지: Exam 목록
-        Page<Exam> page = examJpaRepository.findByUserIdAndEndAtIsNotNull(userId, pageable);
-        // 2) 현재 페이지 examId들 뽑기
-        List<Long> examIds = page.getContent().stream()
-                .map(Exam::getId)
-                .toList();
+    /**
+     * 모의고사 히스토리 커서 페이지 조회 (end_at DESC, exam_id DESC)
+     *
+     * @param cursor       이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size         페이지 크기
+     * @param includeTotal 전체 개수 포함 여부 (COUNT 쿼리는 필요할 때만 실행)
+     */
+    public CursorSlice<ExamHistorySummary> getExamHistorySlice(Long userId, String cursor, int size, boolean includeTotal) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, clampSize(size));
+
+        Slice<ExamHistorySummary> slice = (after == null)
+                ? examHistoryViewRepository.findSummarySlice(userId, limit)
+                : examHistoryViewRepository.findSummarySliceAfter(userId, after.sortKey(), after.id(), limit);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            ExamHistorySummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new HistoryCursor(last.getEndAt(), last.getExamId()).encode();
+        }
+
+        Long totalCount = includeTotal ? examHistoryViewRepository.countByUserIdAndEndAtIsNotNull(userId) : null;
+        return new CursorSlice<>(slice.getContent(), nextCursor, slice.hasNext(), totalCount);
+    }
 
-        // 3) 해당 examId들의 report를 한 번에 조회 (Page 필요 없음)
-        Map<Long, ExamReport> reportMap = examIds.isEmpty()
-                ? Collections.emptyMap()
-                : examReportJpaRepository.findByIdIn(examIds).stream()
-                .collect(Collectors.toMap(
-                        ExamReport::getId,   // examId
-                        r -> r
-                ));
-
-        // 4) Page.map으로 Summary로 변환하면서 report를 붙임
-        return page.map(exam -> {
-            ExamReport report = reportMap.get(exam.getId());
-            String grade = (report == null) ? null : report.getGrade();
-
-            return ExamHistorySummary.from(exam, grade);
-        });
+    /**
+     * 모의고사 히스토리 상세 조회
+     * 리포트가 생성된 뒤에는 관리자 재생성 전까지 바뀌지 않으므로 캐시된 스냅샷을 반환합니다.
+     */
+    public VersionedResponse<ExamHistoryDetailResponse> getExamHistoryDetail(Long userId, Long examId) {
+        VersionedResponse<ExamHistoryDetailResponse> response = self.loadExamHistoryDetail(userId, examId);
+        if (!response.isOwnedBy(userId)) {
+            throw new BusinessException(HistoryErrorCode.EXAM_HISTORY_NOT_FOUND);
+        }
+        return response;
     }
 
-    public ExamHistoryDetailResponse getExamHistoryDetail(Long userId, Long examId) {
+    /**
+     * 상세 스냅샷 로더 (캐시 키는 examId, 리포트가 없는 응답은 캐시하지 않음)
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EXAM_REPORT_DETAIL, key = "#examId",
+            unless = "#result.body().getExamReport() == null")
+    public VersionedResponse<ExamHistoryDetailResponse> loadExamHistoryDetail(Long userId, Long examId) {
+        Optional<ExamHistoryView> view = examHistoryViewRepository.findByExamIdAndUserId(examId, userId);
+        if (view.isPresent()) {
+            ExamHistoryView v = view.get();
+            Instant updatedAt = v.hasReport() ? v.getReportUpdatedAt() : v.getUpdatedAt();
+            return new VersionedResponse<>(userId, toDetailResponse(v), updatedAt);
+        }
 
+        // 조회 모델은 종료된 시험만 가지고 있으므로 진행 중인 시험은 원본에서 조회
         Exam exam = examJpaRepository.findByIdAndUserId(examId, userId)
                 .orElseThrow(() -> new BusinessException(HistoryErrorCode.EXAM_HISTORY_NOT_FOUND));
 
-        ExamReport report = examReportJpaRepository.findById(examId).orElse(null);
-
-        site.okkul.be.domain.exam.entity.ExamReport reportEntity =
-                examReportJpaRepository.findById(examId).orElse(null);
-
-        return ExamHistoryDetailResponse.builder()
+        ExamHistoryDetailResponse response = ExamHistoryDetailResponse.builder()
                 .examId(exam.getId())
                 .createdAt(exam.getCreatedAt())
                 .endAt(exam.getEndAt())
-                .examReport(reportEntity == null ? null : toReportDto(reportEntity))
+                .examReport(null)
                 .build();
+        return new VersionedResponse<>(userId, response, exam.getUpdatedAt());
     }
 
-    private ExamHistoryDetailResponse.ExamReport toReportDto(site.okkul.be.domain.exam.entity.ExamReport r) {
+    private ExamHistoryDetailResponse toDetailResponse(ExamHistoryView v) {
+        return ExamHistoryDetailResponse.builder()
+                .examId(v.getExamId())
+                .createdAt(v.getCreatedAt())
+                .endAt(v.getEndAt())
+                .examReport(v.hasReport() ? toReportDto(v) : null)
+                .build();
+    }
+
+    private ExamHistoryDetailResponse.ExamReport toReportDto(ExamHistoryView v) {
         return ExamHistoryDetailResponse.ExamReport.builder()
-                .totalScore(r.getTotalScore())
-                .grade(r.getGrade())
-                .avgGrammar(r.getAvgGrammar())
-                .avgVocab(r.getAvgVocab())
-                .avgLogic(r.getAvgLogic())
-                .avgFluency(r.getAvgFluency())
-                .avgRelevance(r.getAvgRelevance())
-                .comment(r.getComment())
-                .strengthTypes(r.getStrengthType() == null ? List.of() : List.of(r.getStrengthType()))
-                .weaknessTypes(r.getWeaknessType() == null ? List.of() : List.of(r.getWeaknessType()))
-                .createdAt(r.getCreatedAt())
+                .totalScore(v.getTotalScore())
+                .grade(v.getGrade())
+                .avgGrammar(v.getAvgGrammar())
+                .avgVocab(v.getAvgVocab())
+                .avgLogic(v.getAvgLogic())
+                .avgFluency(v.getAvgFluency())
+                .avgRelevance(v.getAvgRelevance())
+                .comment(v.getComment())
+                .strengthTypes(v.getStrengthType() == null ? List.of() : List.of(v.getStrengthType()))
+                .weaknessTypes(v.getWeaknessType() == null ? List.of() : List.of(v.getWeaknessType()))
+                .createdAt(v.getReportCreatedAt())
                 .build();
     }
 
-    public ExamAnswerResponse getExamAnswerDetail(Long userId, Long examId, Integer questionOrder) {
+    /**
+     * 모의고사 문항 피드백 조회
+     * 분석이 완료(COMPLETED)된 답변만 응답하므로, 관리자 재생성 전까지는 캐시된 스냅샷을 반환합니다.
+     */
+    public VersionedResponse<ExamAnswerResponse> getExamAnswerDetail(Long userId, Long examId, Integer questionOrder) {
+        VersionedResponse<ExamAnswerResponse> response = self.loadExamAnswerDetail(userId, examId, questionOrder);
+        if (!response.isOwnedBy(userId)) {
+            throw new BusinessException(HistoryErrorCode.EXAM_HISTORY_NOT_FOUND);
+        }
+        return response;
+    }
+
+    /**
+     * 문항 피드백 스냅샷 로더 (캐시 키는 examId:questionOrder)
+     * 분석 미완료 시 예외가 발생하므로 완료된 응답만 캐시됩니다.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.EXAM_ANSWER_DETAIL, key = "#examId + ':' + #questionOrder", sync = true)
+    public VersionedResponse<ExamAnswerResponse> loadExamAnswerDetail(Long userId, Long examId, Integer questionOrder) {
 
         examJpaRepository.findByIdAndUserId(examId, userId)
                 .orElseThrow(() -> new BusinessException(HistoryErrorCode.EXAM_HISTORY_NOT_FOUND));
@@ -112,7 +187,7 @@ public class HistoryService {
             throw new BusinessException(HistoryErrorCode.AI_IMPROVED_ANSWER_NOT_FOUND);
         }
 
-        return ExamAnswerResponse.from(answer);
+        return new VersionedResponse<>(userId, ExamAnswerResponse.from(answer), answer.getUpdatedAt());
     }
 
     public Page<PracticeHistorySummary> getPracticeHistories(Long userId, Pageable pageable) {
@@ -122,6 +197,31 @@ public class HistoryService {
         return practices.map(practiceMapper::toPracticeSummaryResponse);
     }
 
+    /**
+     * 유형별 연습 히스토리 커서 페이지 조회 (started_at DESC, practice_id DESC)
+     */
+    public CursorSlice<PracticeHistorySummary> getPracticeHistorySlice(Long userId, String cursor, int size, boolean includeTotal) {
+        HistoryCursor after = HistoryCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, clampSize(size));
+
+        Slice<Practice> slice = (after == null)
+                ? practiceRepository.findHistorySlice(userId, limit)
+                : practiceRepository.findHistorySliceAfter(userId, after.sortKey(), after.id(), limit);
+
+        List<PracticeHistorySummary> content = slice.getContent().stream()
+                .map(practiceMapper::toPracticeSummaryResponse)
+                .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Practice last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new HistoryCursor(last.getStartedAt(), last.getPracticeId()).encode();
+        }
+
+        Long totalCount = includeTotal ? practiceRepository.countByUserIdAndHasAnswers(userId) : null;
+        return new CursorSlice<>(content, nextCursor, slice.hasNext(), totalCount);
+    }
+
     public PracticeHistoryDetailResponse getPracticeHistoryDetail(Long userId, Long practiceId) {
         // 1. 연습 기록 조회
         Practice practice = practiceRepository.findByPracticeIdAndUserId(practiceId, userId)
@@ -189,6 +289,10 @@ public class HistoryService {
                 .build();
     }
 
+    private int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+
     // --- 내부 변환 메소드 ---
     private PracticeCycleDetail toPracticeCycleDetail(PracticeAnswer answer, int attemptOrder) {
 
@@ -211,7 +315,7 @@ public class HistoryService {
                 .userAnswer(site.okkul.be.domain.history.dto.PracticeAnswer.builder()
                         .koreanScript(answer.getKoreanScript())
                         .englishScript(answer.getEnglishScript())
-                        .recordUrl(answer.getEnglishRecordUrl())
+                        .recordUrl(mediaUrls.toMediaUrl(answer.getEnglishRecordUrl()))
                         .build())
 
                 .feedback(PracticeAiFeedback.builder()
@@ -12,7 +12,13 @@ import site.okkul.be.domain.practice.docs.PracticeControllerDocs;
 import site.okkul.be.domain.practice.dto.request.PracticeFeedbackRequest;
 import site.okkul.be.domain.practice.dto.response.*;
 import site.okkul.be.domain.practice.service.PracticeService;
+import site.okkul.be.global.admission.AdmissionControlled;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.global.idempotency.Idempotent;
+import site.okkul.be.global.ratelimit.RateLimitGroup;
+import site.okkul.be.global.ratelimit.RateLimited;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
 @RestController
 @RequiredArgsConstructor
@@ -46,17 +52,33 @@ public class PracticeController implements PracticeControllerDocs {
                 HttpStatus.OK);
     }
 
+    /**
+     * 답변 녹음 파일 직접 업로드용 Presigned URL 을 발급합니다.
+     */
+    @Override
+    @PostMapping("/{practiceId}/upload-url")
+    public ResponseEntity<PresignedUploadResponse> issueAnswerUploadUrl(
+            @PathVariable Long practiceId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(
+                practiceService.issueAnswerUpload(practiceId, Long.parseLong(userDetails.getUsername()))
+        );
+    }
+
     /**
      * 답변을 제출하고 AI 피드백을 비동기적으로 요청합니다.
      */
     @Override
+    @Idempotent
+    @RateLimited(RateLimitGroup.PRACTICE_FEEDBACK)
+    @AdmissionControlled(AiWorkload.PRACTICE_FEEDBACK)
     @PostMapping(
             value = "/{practiceId}/feedback",
             consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PracticeAnswerIdResponse> savePracticeSession(
             @PathVariable Long practiceId,
             @RequestPart("request") PracticeFeedbackRequest request,
-            @RequestPart("audio") MultipartFile audioFile,
+            @RequestPart(value = "audio", required = false) MultipartFile audioFile,
             @AuthenticationPrincipal UserDetails userDetails,
 			@RequestHeader(value = SwaggerConfig.REAL_AI_USE, defaultValue = "false") boolean useRealAi
 	) {
@@ -13,6 +13,7 @@ import org.springframework.web.multipart.MultipartFile;
 import site.okkul.be.domain.practice.dto.request.PracticeFeedbackRequest;
 import site.okkul.be.domain.practice.dto.response.*;
 import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
 @Tag(name = SwaggerConfig.PRACTICE, description = "유형별 연습 모드 기능 API")
 public interface PracticeControllerDocs {
@@ -42,6 +43,18 @@ public interface PracticeControllerDocs {
             @Parameter(hidden = true) UserDetails userDetails
     );
 
+    @Operation(summary = "유형별 연습 답변 녹음 업로드 URL 발급 API",
+            description =
+                    "녹음 파일을 스토리지에 직접 업로드할 수 있는 Presigned PUT URL과 객체 키를 발급합니다." +
+                    "업로드 시 Content-Type 헤더에 오디오 MIME 타입(audio/*)을 지정하고," +
+                    "피드백 생성 요청 시 request.objectKey 로 객체 키를 전달합니다."
+    )
+    @SecurityRequirement(name = SwaggerConfig.BEARER_AUTH)
+    ResponseEntity<PresignedUploadResponse> issueAnswerUploadUrl(
+            @Parameter(description = "유형연습 ID", required = true, example = "1") @PathVariable Long practiceId,
+            @Parameter(hidden = true) UserDetails userDetails
+    );
+
     @Operation(summary = "유형별 연습 피드백 생성 요청 API",
             description =
                     "유형 연습 모드에서 특정 문제에 대해서" +
@@ -53,7 +66,7 @@ public interface PracticeControllerDocs {
     ResponseEntity<PracticeAnswerIdResponse> savePracticeSession(
             @Parameter(description = "유형연습 ID", required = true, example = "1") @PathVariable Long practiceId,
             @Parameter(description = "스크립트 정보 (JSON)") @RequestPart("request") PracticeFeedbackRequest request,
-            @Parameter(description = "사용자 영어 녹음 파일") @RequestPart("audio") MultipartFile audioFile,
+            @Parameter(description = "사용자 영어 녹음 파일 (request.objectKey 로 직접 업로드한 경우 생략)") @RequestPart(value = "audio", required = false) MultipartFile audioFile,
             @Parameter(hidden = true) UserDetails userDetails,
             @Parameter(description = "실제 AI 쓸지말지", example = "false") boolean useRealAi
     );
@@ -4,8 +4,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "유형별 연습 피드백 요청 DTO")
 public class PracticeFeedbackRequest {
@@ -19,4 +21,11 @@ public class PracticeFeedbackRequest {
     @NotBlank
     @Schema(description = "사용자 영어 스크립트", example = "My favorite place to grab a drink is a cozy, neighborhood bar called \\\"The Hideout\\\" located just a few blocks from my house. The interior is dimly lit with vintage brick walls and comfortable leather booths, creating a very warm and inviting atmosphere. It’s the perfect spot to unwind because the music is always at a perfect volume, allowing for great conversations with friends. Would you like me to adjust the vocabulary level or add more specific details to make it sound more like your personal style?")
     private String englishScript;
+
+    @Schema(description = "Presigned URL 로 직접 업로드한 녹음 파일 객체 키 (audio 파트를 보내지 않을 때 사용)")
+    private String objectKey;
+
+    public PracticeFeedbackRequest(Long questionId, String koreanScript, String englishScript) {
+        this(questionId, koreanScript, englishScript, null);
+    }
 }
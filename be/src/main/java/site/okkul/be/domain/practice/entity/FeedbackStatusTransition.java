@@ -0,0 +1,36 @@
+package site.okkul.be.domain.practice.entity;
+
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 연습 답변 피드백 상태 전이
+ * <p>
+ * 허용된 이전 상태(from)에서만 다음 상태(to)로 바뀝니다. 상태가 비어 있는 답변은 PENDING 으로 봅니다.
+ * {@code PracticeAnswerJpaRepository#transition} 이 조건부 UPDATE 한 문장으로 적용합니다.
+ */
+@Getter
+public enum FeedbackStatusTransition {
+    /**
+     * AI 피드백 요청 시작 (처리 중/완료 상태에서는 불가)
+     */
+    PROCESS(EnumSet.of(FeedbackStatus.PENDING, FeedbackStatus.FAILED), FeedbackStatus.PROCESSING),
+    /**
+     * AI 피드백 완료 (처리 중일 때 한 번만 가능 - 결과가 두 번 적용되지 않도록)
+     */
+    COMPLETE(EnumSet.of(FeedbackStatus.PROCESSING), FeedbackStatus.COMPLETED),
+    /**
+     * AI 피드백 실패
+     */
+    FAIL(EnumSet.of(FeedbackStatus.PROCESSING), FeedbackStatus.FAILED);
+
+    private final Set<FeedbackStatus> from;
+    private final FeedbackStatus to;
+
+    FeedbackStatusTransition(Set<FeedbackStatus> from, FeedbackStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+}
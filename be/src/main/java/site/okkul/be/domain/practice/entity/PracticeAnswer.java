@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 import site.okkul.be.domain.question.entity.Question;
 import site.okkul.be.domain.question.entity.QuestionSet;
 
@@ -51,6 +52,13 @@ public class PracticeAnswer {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    /**
+     * 마지막 변경 시각 (처리 중에 멈춘 피드백 정리에 사용)
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @Column(name = "improved_answer", columnDefinition = "TEXT")
     private String improvedAnswer;
 
@@ -66,6 +74,12 @@ public class PracticeAnswer {
     @Enumerated(EnumType.STRING)
     private FeedbackStatus feedbackStatus;
 
+    /**
+     * 낙관적 잠금 버전 (상태 전이 UPDATE 도 버전을 올림)
+     */
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "practiceAnswer", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<PracticeSentenceFeedback> feedbacks = new ArrayList<>();
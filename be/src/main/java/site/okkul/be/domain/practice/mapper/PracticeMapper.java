@@ -1,6 +1,7 @@
 package site.okkul.be.domain.practice.mapper;
 
 import site.okkul.be.domain.history.dto.PracticeHistorySummary;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import site.okkul.be.domain.practice.dto.response.PracticeQuestionInfo;
 import site.okkul.be.domain.practice.dto.response.SentenceCorrection;
@@ -13,13 +14,17 @@ import site.okkul.be.domain.question.entity.QuestionType;
 import site.okkul.be.domain.topic.entity.Topic;
 import site.okkul.be.domain.user.entity.User;
 import site.okkul.be.infra.ai.dto.SentenceFeedbackResponse;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
 import java.time.Instant;
 import java.util.*;
 
 @Component
+@RequiredArgsConstructor
 public class PracticeMapper {
 
+    private final MediaUrls mediaUrls;
+
     /**
      * Topic, QuestionSet, QuestionType, User, PracticeQuestion (Entity) -> Practice (Entity)
      * @param topic
@@ -50,7 +55,7 @@ public class PracticeMapper {
                 .questionId(question.getId())
                 .questionOrder(question.getOrder())
                 .questionText(question.getQuestionText())
-                .audioUrl(question.getAudioUrl())
+                .audioUrl(mediaUrls.toMediaUrl(question.getAudioUrl()))
                 .build();
     }
 
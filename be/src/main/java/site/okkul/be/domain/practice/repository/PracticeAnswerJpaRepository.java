@@ -1,9 +1,15 @@
 package site.okkul.be.domain.practice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import site.okkul.be.domain.practice.entity.FeedbackStatus;
+import site.okkul.be.domain.practice.entity.FeedbackStatusTransition;
 import site.okkul.be.domain.practice.entity.PracticeAnswer;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +18,57 @@ public interface PracticeAnswerJpaRepository extends JpaRepository<PracticeAnswe
 
     @Query("SELECT pa FROM PracticeAnswer pa LEFT JOIN pa.feedbacks WHERE pa.practice.practiceId = :practiceId")
     List<PracticeAnswer> findAllByPracticeIdWithFeedbacks(Long practiceId);
+
+    /**
+     * 피드백 상태 전이
+     *
+     * @return 전이에 성공하면 true, 답변이 없거나 허용되지 않은 상태면 false
+     */
+    default boolean transition(Long practiceAnswerId, FeedbackStatusTransition transition) {
+        return updateFeedbackStatus(practiceAnswerId, transition.getFrom(), transition.getTo(), Instant.now()) == 1;
+    }
+
+    /**
+     * 현재 상태가 from 중 하나일 때만 상태를 바꿉니다. (상태가 비어 있으면 PENDING 으로 취급, 버전도 함께 올림)
+     */
+    @Modifying
+    @Query("""
+            UPDATE PracticeAnswer pa
+            SET pa.feedbackStatus = :to,
+                pa.updatedAt = :now,
+                pa.version = pa.version + 1
+            WHERE pa.practiceAnswerId = :practiceAnswerId
+              AND COALESCE(pa.feedbackStatus, site.okkul.be.domain.practice.entity.FeedbackStatus.PENDING) IN :from
+            """)
+    int updateFeedbackStatus(
+            @Param("practiceAnswerId") Long practiceAnswerId,
+            @Param("from") Collection<FeedbackStatus> from,
+            @Param("to") FeedbackStatus to,
+            @Param("now") Instant now
+    );
+
+    /**
+     * staleBefore 이전부터 PROCESSING 에 멈춘 답변을 최대 limit 개까지 FAILED 로 바꿉니다.
+     * - 다른 인스턴스가 잠근 행은 건너뛰어(SKIP LOCKED) 여러 인스턴스가 동시에 돌아도 겹치지 않습니다.
+     *
+     * @return 실패 처리한 답변 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE practice_answers
+            SET feedback_status = 'FAILED',
+                updated_at = :now,
+                version = version + 1
+            WHERE practice_answer_id IN (
+                SELECT practice_answer_id
+                FROM practice_answers
+                WHERE feedback_status = 'PROCESSING'
+                  AND updated_at < :staleBefore
+                ORDER BY updated_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+              AND feedback_status = 'PROCESSING'
+            """, nativeQuery = true)
+    int failStuck(@Param("staleBefore") Instant staleBefore, @Param("now") Instant now, @Param("limit") int limit);
 }
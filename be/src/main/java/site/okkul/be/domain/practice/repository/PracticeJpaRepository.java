@@ -2,12 +2,14 @@ package site.okkul.be.domain.practice.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.okkul.be.domain.practice.entity.Practice;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +23,43 @@ public interface PracticeJpaRepository extends JpaRepository<Practice, Long> {
 
     @Query("SELECT DISTINCT p FROM Practice p JOIN PracticeAnswer pa ON p.practiceId = pa.practice.practiceId WHERE p.user.id = :userId")
     Page<Practice> findAllByUserIdAndHasAnswers(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(p) FROM Practice p
+            WHERE p.user.id = :userId
+              AND EXISTS (SELECT 1 FROM PracticeAnswer pa WHERE pa.practice = p)
+            """)
+    long countByUserIdAndHasAnswers(@Param("userId") Long userId);
+
+    /**
+     * 답변이 있는 연습 기록 커서 페이지 - 첫 페이지 (started_at DESC, practice_id DESC)
+     * DISTINCT JOIN 대신 EXISTS 로 중복 없이 조회합니다.
+     */
+    @Query("""
+            SELECT p FROM Practice p
+            WHERE p.user.id = :userId
+              AND p.startedAt IS NOT NULL
+              AND EXISTS (SELECT 1 FROM PracticeAnswer pa WHERE pa.practice = p)
+            ORDER BY p.startedAt DESC, p.practiceId DESC
+            """)
+    Slice<Practice> findHistorySlice(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 답변이 있는 연습 기록 커서 페이지 - 커서 이후 페이지
+     */
+    @Query("""
+            SELECT p FROM Practice p
+            WHERE p.user.id = :userId
+              AND p.startedAt IS NOT NULL
+              AND p.startedAt <= :startedAt
+              AND (p.startedAt < :startedAt OR p.practiceId < :practiceId)
+              AND EXISTS (SELECT 1 FROM PracticeAnswer pa WHERE pa.practice = p)
+            ORDER BY p.startedAt DESC, p.practiceId DESC
+            """)
+    Slice<Practice> findHistorySliceAfter(
+            @Param("userId") Long userId,
+            @Param("startedAt") Instant startedAt,
+            @Param("practiceId") Long practiceId,
+            Pageable pageable
+    );
 }
@@ -5,11 +5,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import site.okkul.be.domain.practice.entity.FeedbackStatus;
+import site.okkul.be.domain.practice.entity.FeedbackStatusTransition;
 import site.okkul.be.domain.practice.entity.PracticeAnswer;
 import site.okkul.be.domain.practice.entity.PracticeSentenceFeedback;
 import site.okkul.be.domain.practice.exception.PracticeErrorCode;
@@ -40,15 +39,17 @@ public class AiFeedbackTrigger {
     }
 
     /**
-     * AI 피드백 요청을 비동기적으로 처리하는 메소드
+     * AI 피드백 요청을 처리하는 메소드 (AI 작업 실행기에서 실행)
      */
-    @Async
     @Transactional
     public void triggerAiFeedback(Long practiceAnswerId, boolean useRealAi) { // boolean 파라미터 추가
         log.info("비동기 피드백 처리 시작. PracticeAnswer ID: {}, useRealAi: {}", practiceAnswerId, useRealAi);
 
-        // Step 1: 상태 변경을 즉시 커밋
-        self.updateStatusToProcessing(practiceAnswerId);
+        // Step 1: 상태 변경을 즉시 커밋 (이미 처리 중/완료된 답변이면 중복 요청이므로 종료)
+        if (!self.updateStatusToProcessing(practiceAnswerId)) {
+            log.info("이미 처리 중이거나 완료된 피드백 요청입니다. PracticeAnswer ID: {}", practiceAnswerId);
+            return;
+        }
 
         // Step 2: 새 트랜잭션에서 데이터를 다시 로드하여 지연로딩 문제 해결
         PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId)
@@ -79,26 +80,50 @@ public class AiFeedbackTrigger {
         }
     }
 
+    /**
+     * 상태를 PROCESSING 으로 전이하고 즉시 커밋합니다. (조건부 UPDATE 한 문장)
+     *
+     * @return 전이에 성공하면 true, 이미 처리 중/완료 상태면 false
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateStatusToProcessing(Long practiceAnswerId) {
-        PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId)
-                .orElseThrow(() -> new BusinessException(PracticeErrorCode.PRACTICE_ANSWER_NOT_FOUND));
-        answer.updateStatus(FeedbackStatus.PROCESSING);
+    public boolean updateStatusToProcessing(Long practiceAnswerId) {
+        if (!practiceAnswerRepository.transition(practiceAnswerId, FeedbackStatusTransition.PROCESS)) {
+            if (!practiceAnswerRepository.existsById(practiceAnswerId)) {
+                throw new BusinessException(PracticeErrorCode.PRACTICE_ANSWER_NOT_FOUND);
+            }
+            return false;
+        }
         log.info("상태를 PROCESSING으로 변경. PracticeAnswer ID: {}", practiceAnswerId);
+        return true;
+    }
+
+    /**
+     * 처리 중에 멈춘 피드백을 실패 상태로 되돌립니다. (실패 상태에서 다시 요청 가능)
+     *
+     * @return 되돌렸으면 true, 처리 중 상태가 아니면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean resetProcessing(Long practiceAnswerId) {
+        return practiceAnswerRepository.transition(practiceAnswerId, FeedbackStatusTransition.FAIL);
     }
 
+    /**
+     * AI 응답을 답변에 적용합니다. (처리 중 상태일 때만)
+     * - 먼저 PROCESSING -> COMPLETED 조건부 UPDATE 로 행을 잡으므로, 같은 응답이 두 번 들어와도 한 번만 적용됩니다.
+     * - 그 사이 reaper 가 실패 처리했거나 다른 요청이 이미 완료했으면 적용하지 않습니다.
+     * - 적용 중 예외가 나면 롤백되고, 호출한 쪽에서 실패 상태로 바꿉니다.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleAiSuccess(Long practiceAnswerId, AiFeedbackResponse aiResponse) {
         log.info("AI 응답 성공. DB 업데이트 시작. PracticeAnswer ID: {}", practiceAnswerId);
-        try {
-            PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId)
-                    .orElseThrow(() -> new BusinessException(PracticeErrorCode.PRACTICE_ANSWER_NOT_FOUND));
-            // 피드백 적용
-            applyAiFeedbackToAnswer(answer, aiResponse);
-        } catch (Exception e) {
-            log.error("AI 응답 성공 후 DB 업데이트 중 예외 발생. PracticeAnswer ID: {}", practiceAnswerId, e);
-            self.handleAiFailure(practiceAnswerId, e);
+        if (!practiceAnswerRepository.transition(practiceAnswerId, FeedbackStatusTransition.COMPLETE)) {
+            log.warn("처리 중 상태가 아니어서 피드백을 적용하지 않았습니다. PracticeAnswer ID: {}", practiceAnswerId);
+            return;
         }
+        PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId)
+                .orElseThrow(() -> new BusinessException(PracticeErrorCode.PRACTICE_ANSWER_NOT_FOUND));
+        // 피드백 적용
+        applyAiFeedbackToAnswer(answer, aiResponse);
     }
 
     /**
@@ -120,9 +145,10 @@ public class AiFeedbackTrigger {
     public void handleAiFailure(Long practiceAnswerId, Throwable error) {
         log.error("AI 요청 처리 실패. DB 상태 변경. PracticeAnswer ID: {}", practiceAnswerId, error);
         try {
-            PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId)
-                    .orElseThrow(() -> new BusinessException(PracticeErrorCode.PRACTICE_ANSWER_NOT_FOUND));
-            answer.updateStatus(FeedbackStatus.FAILED);
+            // PROCESSING 일 때만 실패로 전이 (이미 완료된 결과는 덮어쓰지 않음)
+            if (!practiceAnswerRepository.transition(practiceAnswerId, FeedbackStatusTransition.FAIL)) {
+                log.warn("처리 중 상태가 아니어서 실패 상태로 바꾸지 않았습니다. PracticeAnswer ID: {}", practiceAnswerId);
+            }
         } catch (Exception e) {
             log.error("AI 실패 처리 중 DB 업데이트 실패. PracticeAnswer ID: {}", practiceAnswerId, e);
         }
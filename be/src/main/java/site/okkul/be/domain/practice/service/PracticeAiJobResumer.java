@@ -0,0 +1,34 @@
+package site.okkul.be.domain.practice.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import site.okkul.be.global.admission.AiJobResumer;
+import site.okkul.be.global.admission.HandedOffJob;
+
+import java.util.Set;
+
+/**
+ * 다른 서버에서 넘겨받은 연습 피드백 작업을 다시 대기열에 넣습니다.
+ * - 실행 도중 넘겨받은 작업은 PROCESSING 상태를 FAILED 로 되돌린 뒤 넣습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PracticeAiJobResumer implements AiJobResumer {
+
+    private final PracticeService practiceService;
+    private final AiFeedbackTrigger aiFeedbackTrigger;
+
+    @Override
+    public Set<String> jobNames() {
+        return Set.of("triggerAiFeedback");
+    }
+
+    @Override
+    public void resume(HandedOffJob job) {
+        Long practiceAnswerId = job.longParam(0);
+        if (job.interrupted()) {
+            aiFeedbackTrigger.resetProcessing(practiceAnswerId);
+        }
+        practiceService.requestAiFeedback(practiceAnswerId, job.userId(), job.booleanParam(1));
+    }
+}
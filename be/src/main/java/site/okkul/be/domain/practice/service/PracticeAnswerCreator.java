@@ -1,6 +1,7 @@
 package site.okkul.be.domain.practice.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +18,9 @@ import site.okkul.be.domain.question.exception.QuestionErrorCode;
 import site.okkul.be.domain.question.repository.QuestionRepository;
 import site.okkul.be.global.exception.BusinessException;
 import site.okkul.be.infra.storage.FileStorageService;
+import site.okkul.be.infra.storage.StorageErrorCode;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class PracticeAnswerCreator {
@@ -28,20 +31,65 @@ public class PracticeAnswerCreator {
     private final FileStorageService fileStorageService;
     private final PracticeAnswerMapper practiceAnswerMapper;
 
+    /**
+     * 업로드 전에 연습/문제 존재 여부를 확인한다.
+     */
+    @Transactional(readOnly = true)
+    public void validate(Long practiceId, PracticeFeedbackRequest request) {
+        if (!practiceJpaRepository.existsById(practiceId)) {
+            throw new BusinessException(PracticeErrorCode.PRACTICE_NOT_FOUND);
+        }
+        if (!questionRepository.existsById(request.getQuestionId())) {
+            throw new BusinessException(QuestionErrorCode.QUESTION_NOT_FOUND);
+        }
+    }
+
     /**
      * 답변을 생성하고 저장하는 책임을 가지며, 쓰기 가능한 새 트랜잭션에서 실행된다.
+     * 음성 파일은 트랜잭션 밖에서 미리 저장해 두고 URL 만 전달받는다.
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public Long createAndSaveAnswer(Long practiceId, PracticeFeedbackRequest request, MultipartFile audioFile) {
+    public Long createAndSaveAnswer(Long practiceId, PracticeFeedbackRequest request, String audioUrl) {
         Practice practice = practiceJpaRepository.findById(practiceId)
                 .orElseThrow(() -> new BusinessException(PracticeErrorCode.PRACTICE_NOT_FOUND));
         Question question = questionRepository.findById(request.getQuestionId())
                 .orElseThrow(() -> new BusinessException(QuestionErrorCode.QUESTION_NOT_FOUND));
-        String audioUrl = fileStorageService.upload(audioFile, "answer");
 
         PracticeAnswer practiceAnswer = practiceAnswerMapper.toEntity(request, audioUrl, practice, question);
 
         PracticeAnswer saved = practiceAnswerRepository.save(practiceAnswer);
         return saved.getPracticeAnswerId();
     }
+
+    /**
+     * 답변 저장 실패 시 미리 저장한 음성 파일을 정리한다. (실패해도 예외를 던지지 않음)
+     */
+    public void discardAudio(String audioUrl) {
+        try {
+            fileStorageService.delete(audioUrl);
+        } catch (Exception e) {
+            log.warn("연습 답변 저장 실패 후 음성 파일 정리에 실패했습니다. url={}", audioUrl, e);
+        }
+    }
+
+    /**
+     * 직접 업로드한 객체가 있으면 확인만 하고, 없으면 multipart 파일을 업로드한다.
+     * 트랜잭션 없이 호출해야 스토리지 업로드 동안 DB 커넥션을 점유하지 않는다.
+     */
+    public String storeAudio(Long practiceId, PracticeFeedbackRequest request, MultipartFile audioFile) {
+        if (request.getObjectKey() != null) {
+            return fileStorageService.confirmUpload(request.getObjectKey(), answerKeyPrefix(practiceId));
+        }
+        if (audioFile == null || audioFile.isEmpty()) {
+            throw new BusinessException(StorageErrorCode.FILE_REQUIRED);
+        }
+        return fileStorageService.upload(audioFile, "answer");
+    }
+
+    /**
+     * 연습별 직접 업로드 객체 키 prefix
+     */
+    static String answerKeyPrefix(Long practiceId) {
+        return "practice/" + practiceId + "/answer/";
+    }
 }
@@ -2,6 +2,7 @@ package site.okkul.be.domain.practice.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -34,8 +35,12 @@ import site.okkul.be.domain.topic.entity.Topic;
 import site.okkul.be.domain.topic.repository.TopicJpaRepository;
 import site.okkul.be.domain.user.entity.User;
 import site.okkul.be.domain.user.repository.UserJpaRepository;
+import site.okkul.be.global.admission.AiJobDispatcher;
+import site.okkul.be.global.admission.AiWorkload;
 import site.okkul.be.global.config.SwaggerConfig;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.storage.FileStorageService;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -58,6 +63,8 @@ public class PracticeService {
     private final PracticeMapper practiceMapper;
     private final PracticeAnswerCreator practiceAnswerCreator;
     private final AiFeedbackTrigger aiFeedbackTrigger;
+    private final FileStorageService fileStorageService;
+    private final AiJobDispatcher aiJobDispatcher;
 
     @Transactional
     public PracticeCreateResponse create(Long surveyId, Long topicId, Long typeId, Long userId) {
@@ -104,14 +111,45 @@ public class PracticeService {
                 .build();
     }
 
+    /**
+     * 연습 답변 녹음 파일을 스토리지에 직접 업로드할 수 있는 Presigned URL 을 발급한다.
+     */
+    public PresignedUploadResponse issueAnswerUpload(Long practiceId, Long userId) {
+        findPracticeByIdAndUserId(practiceId, userId);
+        return fileStorageService.issueUpload(PracticeAnswerCreator.answerKeyPrefix(practiceId));
+    }
+
+    /**
+     * 검증 → 음성 파일 저장 → 답변 저장(짧은 트랜잭션) 순서로 처리한 뒤 AI 피드백을 요청한다.
+     * 스토리지 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createAnswerAndRequestFeedbackAsync(Long practiceId, PracticeFeedbackRequest request, MultipartFile audioFile, Long userId, boolean useRealAi) {
-        Long practiceAnswerId = practiceAnswerCreator.createAndSaveAnswer(practiceId, request, audioFile);
+        practiceAnswerCreator.validate(practiceId, request);
 
-        aiFeedbackTrigger.triggerAiFeedback(practiceAnswerId, useRealAi);
+        String audioUrl = practiceAnswerCreator.storeAudio(practiceId, request, audioFile);
+
+        Long practiceAnswerId;
+        try {
+            practiceAnswerId = practiceAnswerCreator.createAndSaveAnswer(practiceId, request, audioUrl);
+        } catch (RuntimeException e) {
+            practiceAnswerCreator.discardAudio(audioUrl);
+            throw e;
+        }
+
+        requestAiFeedback(practiceAnswerId, userId, useRealAi);
 
         return practiceAnswerId;
     }
 
+    /**
+     * AI 피드백 요청을 AI 작업 대기열에 넣는다.
+     */
+    public void requestAiFeedback(Long practiceAnswerId, Long userId, boolean useRealAi) {
+        aiJobDispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, userId, "triggerAiFeedback", new Object[]{practiceAnswerId, useRealAi},
+                () -> aiFeedbackTrigger.triggerAiFeedback(practiceAnswerId, useRealAi));
+    }
+
     public PracticeAIFeedbackResult getFeedbackResult(Long practiceAnswerId, Long userId) {
         PracticeAnswer answer = findPracticeAnswerByIdAndUserId(practiceAnswerId, userId);
 
@@ -154,10 +192,10 @@ public class PracticeService {
 
     private QuestionSet findQuestionSetByType(Long typeId, Survey survey, Long topicId) {
         if (typeId.equals(QuestionType.INTRODUCE.getId())) {
-            return questionSetRepository.findIntroQuestion(typeId)
+            return questionSetRepository.findCachedIntroQuestion()
                     .orElseThrow(() -> new BusinessException(QuestionErrorCode.QUESTION_SET_NOT_FOUND));
         }
-        return questionSetRepository.findRandomByLevelAndTopicAndType(survey.getLevel(), topicId, typeId)
+        return questionSetRepository.findCachedRandomByLevelAndTopic(survey.getLevel(), topicId, QuestionType.fromId(typeId))
                 .orElseThrow(() -> new BusinessException(QuestionErrorCode.QUESTION_SET_NOT_FOUND));
     }
 
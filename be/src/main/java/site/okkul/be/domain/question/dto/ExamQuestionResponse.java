@@ -3,6 +3,7 @@ package site.okkul.be.domain.question.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import site.okkul.be.domain.exam.entity.AnswerStatus;
 import site.okkul.be.domain.question.entity.Question;
+import site.okkul.be.infra.storage.media.MediaUrls;
 
 /**
  * 유저가 사용할 퀘스트 반환형
@@ -33,11 +34,11 @@ public record ExamQuestionResponse(
 		Integer order,
 		AnswerStatus answerStatus
 ) {
-	public static ExamQuestionResponse from(Question question, AnswerStatus answerStatus, Integer order) {
+	public static ExamQuestionResponse from(Question question, AnswerStatus answerStatus, Integer order, MediaUrls mediaUrls) {
 		return new ExamQuestionResponse(
 				question.getId(),
 				question.getQuestionText(),
-				question.getAudioUrl(),
+				mediaUrls.toMediaUrl(question.getAudioUrl()),
 				order,
 				answerStatus
 		);
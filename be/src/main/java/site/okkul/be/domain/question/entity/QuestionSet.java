@@ -1,5 +1,6 @@
 package site.okkul.be.domain.question.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -20,6 +21,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -29,6 +32,8 @@ import site.okkul.be.domain.topic.entity.Topic;
 
 @Entity
 @Table(name = "question_set")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "question-set")
 @Getter
 @Builder
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
@@ -55,6 +60,7 @@ public class QuestionSet {
 	private QuestionType questionType;
 
 	@Builder.Default
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "question-set-questions")
 	@OneToMany(mappedBy = "questionSet", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
 	@OrderBy("order ASC")
 	private List<Question> questions = new ArrayList<>();
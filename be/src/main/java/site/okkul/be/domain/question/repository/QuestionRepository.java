@@ -1,6 +1,10 @@
 package site.okkul.be.domain.question.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import site.okkul.be.domain.question.entity.Question;
 
@@ -9,4 +13,13 @@ import site.okkul.be.domain.question.entity.Question;
  */
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+	/**
+	 * 연습 문제 조회용 ID 목록 조회 (쿼리 캐시 사용)
+	 * - 쿼리 캐시는 ID 목록 전체를 키로 결과 ID 를 저장하고, 적중하면 엔티티는 question 2차 캐시에서 꺼냅니다.
+	 * - 처음 보는 ID 조합이면 엔티티가 2차 캐시에 모두 있어도 DB 에 IN 쿼리를 보냅니다. (ID 별 2차 캐시 조회는 findById)
+	 */
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Question> findAllById(Iterable<Long> ids);
 }
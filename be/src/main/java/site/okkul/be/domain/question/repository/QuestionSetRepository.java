@@ -1,15 +1,20 @@
 package site.okkul.be.domain.question.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import site.okkul.be.domain.question.entity.QuestionSet;
 import site.okkul.be.domain.question.entity.QuestionType;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author 김남주
@@ -57,24 +62,49 @@ public interface QuestionSetRepository extends JpaRepository<QuestionSet, Long>
 
 	Page<QuestionSet> findByLevel(Integer level, Pageable pageable);
 
-    /**
-     * 난이도, 소재, 문제유형에 따른 세트문제 1개 랜덤 조회
-     * @param level    난이도
-     * @param topicId  토픽 ID
-     * @param typeId   문제 유형 ID
-     * @return QuestionSet (Optional)
-     *
-     * MySQL: RAND()
-     * PostgreSQL: RANDOM()
-     */
-    @Query(value = "SELECT * FROM question_set qs " +
-            "WHERE qs.level = :level " +
-            "AND qs.topic_id = :topicId " +
-            "AND qs.type_id = :typeId " +
-            "ORDER BY RANDOM() LIMIT 1", nativeQuery = true)
-    Optional<QuestionSet> findRandomByLevelAndTopicAndType(@Param("level") int level, @Param("topicId") long topicId, @Param("typeId") long typeId);
+	/**
+	 * 난이도, 소재, 문제유형에 해당하는 문제 세트 ID 후보 목록 (쿼리 캐시 사용)
+	 * <p>
+	 * ORDER BY RANDOM() 쿼리는 캐시할 수 없으므로 후보 ID 목록만 캐시하고,
+	 * 실제 엔티티는 2차 캐시에서 findById로 꺼내 씁니다.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	@Query("""
+			SELECT q.id FROM QuestionSet q
+			WHERE q.level = ?1 and
+					q.topic.id = ?2 and
+					q.questionType = ?3
+			ORDER BY q.id
+			""")
+	List<Long> findIdsByLevelAndTopic(Integer level, Long topicId, QuestionType questionType);
+
+	/**
+	 * 문제유형에 해당하는 문제 세트 ID 목록 (쿼리 캐시 사용)
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	@Query("SELECT q.id FROM QuestionSet q WHERE q.questionType = ?1 ORDER BY q.id")
+	List<Long> findIdsByQuestionType(QuestionType questionType);
+
+	/**
+	 * 캐시된 후보 ID 중 하나를 골라 문제 세트를 조회합니다.
+	 * 후보 목록과 엔티티가 모두 캐시에 있으면 DB 조회가 발생하지 않습니다.
+	 */
+	default Optional<QuestionSet> findCachedRandomByLevelAndTopic(Integer level, Long topicId, QuestionType questionType) {
+		List<Long> ids = findIdsByLevelAndTopic(level, topicId, questionType);
+		if (ids.isEmpty()) {
+			return Optional.empty();
+		}
+		return findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+	}
 
-	@Query(value = "SELECT * FROM question_set qs " +
-			"WHERE qs.type_id = :typeId LIMIT 1", nativeQuery = true)
-	Optional<QuestionSet> findIntroQuestion(@Param("typeId") long typeId);
+	/**
+	 * 자기소개 문제 세트 조회 (캐시된 ID 목록 중 첫 번째)
+	 */
+	default Optional<QuestionSet> findCachedIntroQuestion() {
+		List<Long> ids = findIdsByQuestionType(QuestionType.INTRODUCE);
+		if (ids.isEmpty()) {
+			return Optional.empty();
+		}
+		return findById(ids.get(0));
+	}
 }
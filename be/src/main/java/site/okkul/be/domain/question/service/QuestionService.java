@@ -1,8 +1,13 @@
 package site.okkul.be.domain.question.service;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import site.okkul.be.domain.question.dto.QuestionDetailResponse;
 import site.okkul.be.domain.question.dto.QuestionRequest;
 import site.okkul.be.domain.question.entity.Question;
@@ -20,6 +25,7 @@ import site.okkul.be.global.exception.BusinessException;
 public class QuestionService {
 	private final QuestionRepository questionRepository;
 	private final QuestionSetRepository questionSetRepository;
+	private final EntityManagerFactory entityManagerFactory;
 
 	@Transactional
 	public QuestionDetailResponse addQuestion(Long setId, QuestionRequest request) {
@@ -42,11 +48,30 @@ public class QuestionService {
 		Question question = questionRepository.findById(questionId)
 				.orElseThrow(() -> new BusinessException(QuestionErrorCode.QUESTION_NOT_FOUND));
 
+		boolean orderChanged = !Objects.equals(question.getOrder(), request.order());
+
 		// 더티 체킹을 통한 수정
 		question.update(request.questionText(), request.audioUrl(), request.order());
+		if (orderChanged) {
+			evictQuestionsAfterCommit(question.getQuestionSet().getId());
+		}
 		return QuestionDetailResponse.from(question);
 	}
 
+	/**
+	 * 순서가 바뀌면 정렬된 문제 목록 컬렉션 캐시(question-set-questions)를 커밋 후 무효화합니다.
+	 * - 컬렉션 캐시는 문제 엔티티 수정만으로는 무효화되지 않아, 이전 순서가 계속 조회됩니다.
+	 */
+	private void evictQuestionsAfterCommit(Long setId) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				entityManagerFactory.getCache().unwrap(Cache.class)
+						.evictCollectionData(QuestionSet.class.getName() + ".questions", setId);
+			}
+		});
+	}
+
 	@Transactional
 	public void deleteQuestion(Long questionId) {
 		questionRepository.deleteById(questionId);
@@ -4,10 +4,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Getter
 @AllArgsConstructor
 @Schema(description = "설문조사 생성 응답 DTO")
-public class SelectedTopic {
+public class SelectedTopic implements Serializable {
 
     @Schema(description = "토픽 ID", example = "101")
     private final Long topicId;
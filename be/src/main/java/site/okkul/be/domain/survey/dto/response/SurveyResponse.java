@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
 
@@ -12,7 +13,7 @@ import java.util.List;
  @Builder
  @AllArgsConstructor
  @Schema(description = "사용자 설문조사 결과 조회 응답 DTO")
-public class SurveyResponse {
+public class SurveyResponse implements Serializable {
 
     @Schema(description = "설문조사 ID", example = "1")
     private Long surveyId;
@@ -1,6 +1,8 @@
 package site.okkul.be.domain.survey.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.okkul.be.domain.survey.dto.request.SurveyCreateRequest;
@@ -13,6 +15,7 @@ import site.okkul.be.domain.topic.response.SelectedTopics;
 import site.okkul.be.domain.topic.response.TopicCategory;
 import site.okkul.be.domain.topic.service.TopicService;
 import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.cache.CacheNames;
 
 import java.util.*;
 import java.util.Collections;
@@ -28,6 +31,7 @@ public class SurveyService {
     private final SurveyMapper surveyMapper;
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.USER_SURVEYS, key = "#userId")
     public SurveyCreateResponse create(SurveyCreateRequest request, Long userId) {
         // 설문조사 생성 요청에 포함된 Topic ID 유효성 검사
         Set<Long> allTopicIds = new HashSet<>();
@@ -46,6 +50,7 @@ public class SurveyService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_SURVEYS, key = "#userId", sync = true)
     public SurveyListResponse findAllByUser(Long userId) {
         List<Survey> surveys = surveyJpaRepository.findTop3SurveyIdAndUserId(userId);
         Collections.reverse(surveys);
@@ -55,7 +60,11 @@ public class SurveyService {
         return new SurveyListResponse(summaryResponses);
     }
 
+    /**
+     * 설문조사는 생성 후 수정되지 않으므로 사용자+설문 단위로 캐시합니다.
+     */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.SURVEY_DETAIL, key = "#userId + ':' + #surveyId", sync = true)
     public SurveyResponse findById(Long surveyId, Long userId) {
         Survey survey = surveyJpaRepository.findBySurveyIdAndUserId(surveyId, userId)
                 .orElseThrow(() -> new BusinessException(SurveyErrorCode.SURVEY_NOT_FOUND));
@@ -1,5 +1,6 @@
 package site.okkul.be.domain.topic.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,9 +13,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 토픽은 Flyway 시드 데이터로만 관리되므로 2차 캐시를 읽기 전용으로 사용합니다.
+ */
 @Entity
 @Table(name = "Topic")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "topic")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package site.okkul.be.domain.topic.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,9 +14,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "topic_category")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "topic-category")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +37,7 @@ public class TopicCategory {
 	@Column(nullable = false, length = 50)
 	private String categoryName;
 
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "topic-category-topics")
 	@OneToMany(mappedBy = "category", cascade = CascadeType.ALL)
 	private List<Topic> topics;
 }
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
@@ -13,7 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(name = "카테고리 정보")
-public class CategoryInfo {
+public class CategoryInfo implements Serializable {
     @Schema(name = "카테고리 ID", example = "1")
     private Long id;
     @Schema(name = "카테고리 이름", example = "학생여부")
@@ -4,12 +4,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
 @AllArgsConstructor
 @Schema(description = "설문조사용 카테고리별 토픽 목록 응답 DTO")
-public class CategoryTopicResponse {
+public class CategoryTopicResponse implements Serializable {
     @Schema(description = "카테고리 목록")
     private List<CategoryInfo> categories;
 
@@ -5,10 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import site.okkul.be.domain.topic.entity.Topic;
 
+import java.io.Serializable;
+
 @Getter
 @AllArgsConstructor
 @Schema(description = "토픽 정보")
-public class TopicInfo {
+public class TopicInfo implements Serializable {
     @Schema(description = "토픽 ID", example = "101")
     private Long id;
     @Schema(description = "토픽 이름", example = "여행가기")
@@ -1,6 +1,7 @@
 package site.okkul.be.domain.topic.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.okkul.be.domain.topic.response.TopicCategory;
@@ -8,6 +9,7 @@ import site.okkul.be.domain.topic.response.CategoryInfo;
 import site.okkul.be.domain.topic.response.CategoryTopicResponse;
 import site.okkul.be.domain.topic.response.TopicInfo;
 import site.okkul.be.domain.topic.repository.TopicJpaRepository;
+import site.okkul.be.infra.cache.CacheNames;
 
 import java.util.*;
 
@@ -19,6 +21,10 @@ public class TopicService {
     private final TopicJpaRepository topicJpaRepository;
 
 
+    /**
+     * 설문조사용 카테고리별 토픽 목록 (토픽은 시드 데이터이므로 2단계 캐시 사용)
+     */
+    @Cacheable(cacheNames = CacheNames.SURVEY_TOPICS, key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public CategoryTopicResponse getSurveyTopics() {
         List<Long> categoryIds = Arrays.asList(1L, 2L, 3L, 4L);
@@ -0,0 +1,27 @@
+package site.okkul.be.global.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * AI 작업을 일으키는 컨트롤러 메서드
+ * <p>
+ * 핸들러 실행 전에 AI 대기열 상태를 확인해, 포화 상태면 critical 이 아닌 작업을
+ * 503 과 Retry-After 로 거절합니다. (사용자별 제한인 {@code @RateLimited} 와 달리 서버 전체 기준)
+ *
+ * @see AdmissionInterceptor
+ * @see AiAdmissionController
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionControlled {
+
+	/**
+	 * 작업 종류
+	 */
+	AiWorkload value();
+}
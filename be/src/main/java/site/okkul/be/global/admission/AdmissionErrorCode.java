@@ -0,0 +1,17 @@
+package site.okkul.be.global.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import site.okkul.be.global.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum AdmissionErrorCode implements ErrorCode {
+
+	AI_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "ADMISSION_001", "AI 분석 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+	private final HttpStatus status;
+	private final String code;
+	private final String message;
+}
@@ -0,0 +1,42 @@
+package site.okkul.be.global.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import site.okkul.be.global.exception.BusinessException;
+
+/**
+ * {@link AdmissionControlled} 핸들러의 AI 작업 수락 제어
+ * <p>
+ * 핸들러 실행(= 업로드, AI 트리거) 전에 AI 대기열 상태를 확인하고,
+ * 포화 상태면 Retry-After(초) 헤더와 함께 503 으로 거절합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+	private final AiAdmissionController admissionController;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		AdmissionControlled admissionControlled = handlerMethod.getMethodAnnotation(AdmissionControlled.class);
+		if (admissionControlled == null) {
+			return true;
+		}
+
+		AiAdmissionController.Admission admission = admissionController.admit(admissionControlled.value());
+		if (!admission.admitted()) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(admission.retryAfter().toSeconds()));
+			throw new BusinessException(AdmissionErrorCode.AI_OVERLOADED);
+		}
+		return true;
+	}
+}
@@ -0,0 +1,67 @@
+package site.okkul.be.global.admission;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 작업 수락 제어(AIMD) 설정
+ *
+ * <pre>
+ * app:
+ *   ai:
+ *     admission:
+ *       target-latency: 20s   # 작업 실행 시간(EWMA)이 이보다 길면 한도를 줄임
+ *       initial-limit: 32     # 대기열 한도 초깃값
+ *       min-limit: 4
+ *       max-limit: 200
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ai.admission")
+public class AdmissionProperties {
+
+	/**
+	 * false 면 모든 작업을 받음
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 목표 작업 실행 시간
+	 */
+	private Duration targetLatency = Duration.ofSeconds(20);
+
+	/**
+	 * 대기열 한도 (critical 이 아닌 작업은 대기열 길이가 한도 미만일 때만 받음)
+	 */
+	private int initialLimit = 32;
+	private int minLimit = 4;
+	private int maxLimit = 200;
+
+	/**
+	 * 지연이 목표 이내일 때 한도만큼 작업이 끝날 때마다 늘리는 양 (additive increase)
+	 */
+	private double additiveIncrease = 1.0;
+
+	/**
+	 * 지연이 목표를 넘었을 때 곱하는 비율 (multiplicative decrease)
+	 */
+	private double decreaseFactor = 0.7;
+
+	/**
+	 * 연속 감소 사이의 최소 간격 (한 번의 지연 급증으로 한도가 바닥까지 떨어지지 않도록)
+	 */
+	private Duration decreaseCooldown = Duration.ofSeconds(5);
+
+	/**
+	 * 지연 EWMA 가중치 (0~1, 클수록 최근 값 반영)
+	 */
+	private double latencySmoothing = 0.2;
+
+	/**
+	 * Retry-After 상한
+	 */
+	private Duration maxRetryAfter = Duration.ofSeconds(60);
+}
@@ -0,0 +1,152 @@
+package site.okkul.be.global.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import site.okkul.be.global.config.AsyncConfig;
+
+/**
+ * AI 작업 대기열({@link AiJobDispatcher})의 길이와 최근 작업 실행 시간으로 새 작업을 받을지 결정합니다.
+ * <p>
+ * 작업은 디스패처 대기열에 쌓이고 실행기({@link AsyncConfig#AI_TASK_EXECUTOR})에는 워커가 빌 때만 넘어가므로,
+ * 실행기 큐가 아니라 디스패처의 대기 작업 수를 대기열 길이로 봅니다.
+ * <p>
+ * 대기열 한도는 AIMD 로 조정합니다.
+ * - 작업 실행 시간 EWMA 가 목표 이내이고 대기열이 한도의 절반 이상 찼으면, 한도만큼 작업이 끝날 때마다 한도 + additive-increase
+ * - 목표를 넘으면 한도 x decrease-factor (decrease-cooldown 마다 최대 한 번)
+ * critical 작업은 한도와 상관없이 받고, 나머지는 대기열 길이가 한도 이상이면 거절합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiAdmissionController {
+
+	private final AdmissionProperties properties;
+	private final ObjectProvider<ThreadPoolTaskExecutor> executorProvider;
+	/**
+	 * 디스패처 -> 실행기 -> 데코레이터(이 클래스) 순으로 의존하므로 지연 조회
+	 */
+	private final ObjectProvider<AiJobDispatcher> dispatcherProvider;
+	private final MeterRegistry meterRegistry;
+
+	private final Object lock = new Object();
+	private double limit;
+	private double latencyMillis;
+	private long lastDecreaseNanos;
+
+	public AiAdmissionController(AdmissionProperties properties,
+								 @Qualifier(AsyncConfig.AI_TASK_EXECUTOR) ObjectProvider<ThreadPoolTaskExecutor> executorProvider,
+								 ObjectProvider<AiJobDispatcher> dispatcherProvider,
+								 MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.executorProvider = executorProvider;
+		this.dispatcherProvider = dispatcherProvider;
+		this.meterRegistry = meterRegistry;
+		this.limit = properties.getInitialLimit();
+		this.lastDecreaseNanos = System.nanoTime() - properties.getDecreaseCooldown().toNanos();
+
+		Gauge.builder("ai.admission.limit", this, AiAdmissionController::currentLimit)
+				.description("critical 이 아닌 AI 작업을 받는 대기열 길이 한도 (AIMD)")
+				.register(meterRegistry);
+		Gauge.builder("ai.admission.queue.depth", this, AiAdmissionController::queueDepth)
+				.description("AI 작업 대기열 길이")
+				.register(meterRegistry);
+		Gauge.builder("ai.admission.latency", this, AiAdmissionController::latencyMillis)
+				.description("AI 작업 실행 시간 EWMA")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 새 작업을 받을지 결정합니다.
+	 */
+	public Admission admit(AiWorkload workload) {
+		int depth = queueDepth();
+		boolean admitted = !properties.isEnabled() || workload.isCritical() || depth < currentLimit();
+		meterRegistry.counter("ai.admission.requests",
+				"workload", workload.name().toLowerCase(),
+				"result", admitted ? "admitted" : "shed").increment();
+		if (admitted) {
+			return new Admission(true, Duration.ZERO);
+		}
+		log.info("AI work shed. workload={}, queueDepth={}, limit={}", workload, depth, currentLimit());
+		return new Admission(false, retryAfter(depth));
+	}
+
+	/**
+	 * AI 작업 실행기에 거는 데코레이터 (작업 실행 시간을 한도 조정에 반영)
+	 */
+	public TaskDecorator taskDecorator() {
+		return task -> () -> {
+			long start = System.nanoTime();
+			try {
+				task.run();
+			} finally {
+				onTaskCompleted(System.nanoTime() - start);
+			}
+		};
+	}
+
+	void onTaskCompleted(long elapsedNanos) {
+		double elapsedMillis = elapsedNanos / 1_000_000.0;
+		int depth = queueDepth();
+		synchronized (lock) {
+			latencyMillis = latencyMillis == 0
+					? elapsedMillis
+					: latencyMillis + properties.getLatencySmoothing() * (elapsedMillis - latencyMillis);
+
+			long now = System.nanoTime();
+			if (latencyMillis > properties.getTargetLatency().toMillis()) {
+				if (now - lastDecreaseNanos >= properties.getDecreaseCooldown().toNanos()) {
+					limit = Math.max(properties.getMinLimit(), limit * properties.getDecreaseFactor());
+					lastDecreaseNanos = now;
+				}
+			} else if (depth >= limit / 2) {
+				// 한도가 실제로 쓰일 때만 늘림 (한가할 때 상한까지 부풀지 않도록)
+				limit = Math.min(properties.getMaxLimit(), limit + properties.getAdditiveIncrease() / limit);
+			}
+		}
+	}
+
+	/**
+	 * 대기열이 지금 속도로 비워지는 데 걸리는 시간 (1초 ~ max-retry-after)
+	 */
+	private Duration retryAfter(int depth) {
+		int workers = Math.max(1, executorProvider.getObject().getMaxPoolSize());
+		long estimateMillis = (long) (depth * latencyMillis() / workers);
+		long seconds = Math.max(1, (estimateMillis + 999) / 1000);
+		return Duration.ofSeconds(Math.min(seconds, properties.getMaxRetryAfter().toSeconds()));
+	}
+
+	private int queueDepth() {
+		AiJobDispatcher dispatcher = dispatcherProvider.getIfAvailable();
+		return dispatcher == null ? 0 : dispatcher.pending();
+	}
+
+	private int currentLimit() {
+		synchronized (lock) {
+			return (int) limit;
+		}
+	}
+
+	private double latencyMillis() {
+		synchronized (lock) {
+			return latencyMillis;
+		}
+	}
+
+	/**
+	 * 수락 결과
+	 *
+	 * @param admitted   받으면 true
+	 * @param retryAfter 거절 시 다시 시도할 때까지 기다릴 시간
+	 */
+	public record Admission(boolean admitted, Duration retryAfter) {
+	}
+}
@@ -0,0 +1,60 @@
+package site.okkul.be.global.admission;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 작업 우선순위 스케줄링 설정
+ *
+ * <pre>
+ * app:
+ *   ai:
+ *     dispatch:
+ *       queue-capacity: 1000   # 전체 대기 작업 상한
+ *       aging-period: 5s       # 이만큼 기다릴 때마다 가중치만큼 점수 증가
+ *       max-in-flight-per-user: 2
+ *       drain-timeout: 20s     # 종료 시 실행 중인 작업을 기다리는 최대 시간
+ *       weights:
+ *         live-exam-answer: 8
+ *         admin: 1
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ai.dispatch")
+public class AiDispatchProperties {
+
+	/**
+	 * 전체 대기 작업 상한 (넘으면 새 작업을 503 으로 거절)
+	 */
+	private int queueCapacity = 1000;
+
+	/**
+	 * 노화 주기 (점수 = 가중치 x (1 + 대기 시간 / aging-period))
+	 * - 낮은 가중치의 작업도 충분히 기다리면 새로 들어온 높은 가중치 작업보다 먼저 실행됩니다.
+	 */
+	private Duration agingPeriod = Duration.ofSeconds(5);
+
+	/**
+	 * 사용자당 동시에 실행할 수 있는 AI 작업 수 (한 사용자가 워커를 모두 차지하지 않도록)
+	 */
+	private int maxInFlightPerUser = 2;
+
+	/**
+	 * 종료 시 실행 중인 작업을 기다리는 최대 시간 (넘으면 다른 서버로 넘김)
+	 */
+	private Duration drainTimeout = Duration.ofSeconds(20);
+
+	/**
+	 * 작업 종류별 가중치 (설정이 없으면 기본값)
+	 */
+	private Map<AiWorkload, Integer> weights = new EnumMap<>(AiWorkload.class);
+
+	public int weightOf(AiWorkload workload) {
+		return Math.max(1, weights.getOrDefault(workload, workload.getDefaultWeight()));
+	}
+}
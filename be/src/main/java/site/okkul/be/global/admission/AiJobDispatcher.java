@@ -0,0 +1,427 @@
+package site.okkul.be.global.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import site.okkul.be.global.config.AsyncConfig;
+import site.okkul.be.global.exception.AsyncErrorReporter;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.lock.DistributedLock;
+
+/**
+ * AI 작업을 종류별, 사용자별 대기열에 넣고, 우선순위와 대기 시간, 사용자 공정성에 따라 실행 순서를 정합니다.
+ * <p>
+ * 작업을 넣을 때마다 AI 실행기에 "다음 작업 실행" 토큰을 하나 넣고,
+ * 토큰이 워커에서 실행되는 시점에 실행할 작업을 고릅니다.
+ * - 종류: 점수 = 가중치 x (1 + 대기 시간 / aging-period) 가 가장 높은 종류, 같으면 {@link AiWorkload} 선언 순서
+ * - 사용자: 같은 종류 안에서는 사용자별 대기열을 라운드 로빈으로 돌며, 사용자당 하나씩 꺼냄
+ * - 사용자당 동시 실행 상한(max-in-flight-per-user)에 걸린 사용자는 건너뜀
+ * 실행할 수 있는 작업이 없으면 토큰을 보류했다가, 작업이 끝나 상한이 풀릴 때 다시 실행기에 넣습니다.
+ * 관리자 일괄 재생성이나 한 사용자의 연속 요청이 쌓여도 다른 사용자의 대기 시간은 늘지 않습니다.
+ * </p>
+ * <p>
+ * 종료 시(HTTP 요청 정리 이후 단계)에는 새 작업과 아직 시작하지 않은 작업을 {@link AiJobHandoffStore} 로 넘겨
+ * 다른 서버가 이어서 실행하게 하고, 실행 중인 작업은 drain-timeout 까지 기다립니다.
+ * 그때까지 끝나지 않은 작업은 이 서버의 분산 락을 풀고 "실행 도중 멈춤"으로 넘겨, 받는 쪽에서 상태를 되돌린 뒤 다시 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiJobDispatcher implements SmartLifecycle {
+
+	/**
+	 * 종료 단계: 웹 서버의 graceful shutdown(진행 중인 HTTP 요청 정리) 다음, AI 실행기 정지 전
+	 */
+	public static final int SHUTDOWN_PHASE = SmartLifecycle.DEFAULT_PHASE - 1536;
+
+	private final ThreadPoolTaskExecutor executor;
+	private final AiDispatchProperties properties;
+	private final AsyncErrorReporter asyncErrorReporter;
+	private final AiJobHandoffStore handoffStore;
+	private final DistributedLock distributedLock;
+
+	private final Object lock = new Object();
+	private final Map<AiWorkload, WorkloadQueue> queues = new EnumMap<>(AiWorkload.class);
+	private final Map<Long, Integer> inFlightByUser = new HashMap<>();
+	private final Map<Long, Integer> pendingByUser = new HashMap<>();
+	private int pending;
+	/**
+	 * 실행할 작업이 없어(모두 동시 실행 상한) 보류한 토큰 수
+	 */
+	private int parkedTokens;
+	/**
+	 * 워커에서 실행 중인 작업
+	 */
+	private final Set<Job> runningJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+	/**
+	 * 종료 중이면 새 작업을 받지 않고 다른 서버로 넘김
+	 */
+	private boolean draining;
+	private volatile boolean running;
+
+	private final Map<AiWorkload, Timer> waitTimers = new EnumMap<>(AiWorkload.class);
+	private final Map<AiWorkload, Counter> rejectedCounters = new EnumMap<>(AiWorkload.class);
+	private final Counter handedOffCounter;
+	private final Counter interruptedCounter;
+
+	public AiJobDispatcher(@Qualifier(AsyncConfig.AI_TASK_EXECUTOR) ThreadPoolTaskExecutor executor,
+						   AiDispatchProperties properties,
+						   AsyncErrorReporter asyncErrorReporter,
+						   AiJobHandoffStore handoffStore,
+						   DistributedLock distributedLock,
+						   MeterRegistry meterRegistry) {
+		this.executor = executor;
+		this.properties = properties;
+		this.asyncErrorReporter = asyncErrorReporter;
+		this.handoffStore = handoffStore;
+		this.distributedLock = distributedLock;
+
+		for (AiWorkload workload : AiWorkload.values()) {
+			String tag = workload.name().toLowerCase();
+			queues.put(workload, new WorkloadQueue());
+			waitTimers.put(workload, Timer.builder("ai.job.wait")
+					.description("AI 작업 대기 시간 (대기열 진입 ~ 실행 시작)")
+					.tag("workload", tag)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+			rejectedCounters.put(workload, Counter.builder("ai.job.rejected")
+					.description("대기열 상한으로 거절된 AI 작업 수")
+					.tag("workload", tag)
+					.register(meterRegistry));
+			Gauge.builder("ai.job.pending", this, dispatcher -> dispatcher.pendingOf(workload))
+					.description("실행을 기다리는 AI 작업 수")
+					.tag("workload", tag)
+					.register(meterRegistry);
+		}
+		Gauge.builder("ai.job.throttled.users", this, AiJobDispatcher::throttledUsers)
+				.description("동시 실행 상한에 걸려 작업이 대기 중인 사용자 수")
+				.register(meterRegistry);
+		handedOffCounter = Counter.builder("ai.job.handoff")
+				.description("종료 시 다른 서버로 넘긴 AI 작업 수")
+				.tag("state", "pending")
+				.register(meterRegistry);
+		interruptedCounter = Counter.builder("ai.job.handoff")
+				.description("종료 시 다른 서버로 넘긴 AI 작업 수")
+				.tag("state", "interrupted")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * AI 작업을 대기열에 넣습니다. 작업은 AI 실행기 워커에서 실행되며, 예외는 호출자 대신 {@link AsyncErrorReporter} 가 받습니다.
+	 * 종료 중이면 실행하지 않고 다른 서버로 넘깁니다.
+	 *
+	 * @param workload 작업 종류 (우선순위)
+	 * @param userId   요청한 사용자 (사용자별 공정성, 동시 실행 상한 기준)
+	 * @param name     작업 이름 (오류 기록용)
+	 * @param params   작업 인자 (오류 기록용)
+	 * @param task     실행할 작업
+	 * @throws BusinessException 대기열이 가득 찬 경우 (503)
+	 */
+	public void dispatch(AiWorkload workload, Long userId, String name, Object[] params, Runnable task) {
+		Job job = new Job(workload, Objects.requireNonNull(userId, "userId"), name, params, task, System.nanoTime());
+		synchronized (lock) {
+			if (draining) {
+				handOff(List.of(job), false);
+				return;
+			}
+			if (pending >= properties.getQueueCapacity()) {
+				rejectedCounters.get(workload).increment();
+				log.warn("AI job queue is full. workload={}, userId={}, name={}, pending={}", workload, userId, name, pending);
+				throw new BusinessException(AdmissionErrorCode.AI_OVERLOADED);
+			}
+			queues.get(workload).add(job);
+			pendingByUser.merge(userId, 1, Integer::sum);
+			pending++;
+		}
+		try {
+			executor.execute(this::runNext);
+		} catch (TaskRejectedException e) {
+			// 실행기 종료 중: 넣은 작업을 되돌림 (다른 토큰이 이미 가져갔다면 그대로 실행됨)
+			synchronized (lock) {
+				if (queues.get(workload).remove(job)) {
+					pendingByUser.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+					pending--;
+				}
+			}
+			rejectedCounters.get(workload).increment();
+			throw new BusinessException(AdmissionErrorCode.AI_OVERLOADED);
+		}
+	}
+
+	/**
+	 * 토큰 하나당 작업 하나를 꺼내 실행합니다.
+	 */
+	private void runNext() {
+		Job job;
+		synchronized (lock) {
+			job = pollNext(System.nanoTime());
+			if (job == null) {
+				if (pending > 0) {
+					parkedTokens++;
+				}
+				return;
+			}
+			pending--;
+			pendingByUser.computeIfPresent(job.userId(), (key, count) -> count > 1 ? count - 1 : null);
+			inFlightByUser.merge(job.userId(), 1, Integer::sum);
+			runningJobs.add(job);
+		}
+		waitTimers.get(job.workload()).record(System.nanoTime() - job.enqueuedAt(), TimeUnit.NANOSECONDS);
+		try {
+			job.task().run();
+		} catch (RuntimeException e) {
+			asyncErrorReporter.report(job.name(), job.params(), e);
+		} finally {
+			onCompleted(job);
+		}
+	}
+
+	/**
+	 * 동시 실행 수를 돌려주고, 보류한 토큰이 있으면 하나를 다시 실행기에 넣습니다.
+	 */
+	private void onCompleted(Job job) {
+		synchronized (lock) {
+			inFlightByUser.computeIfPresent(job.userId(), (key, count) -> count > 1 ? count - 1 : null);
+			runningJobs.remove(job);
+			lock.notifyAll();
+			if (parkedTokens == 0) {
+				return;
+			}
+			parkedTokens--;
+		}
+		try {
+			executor.execute(this::runNext);
+		} catch (TaskRejectedException e) {
+			log.warn("AI executor rejected a resumed token. pending jobs remain queued.", e);
+		}
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	/**
+	 * 새 작업과 대기 중인 작업을 넘기고, 실행 중인 작업을 drain-timeout 까지 기다립니다.
+	 */
+	@Override
+	public void stop() {
+		List<Job> pendingJobs = new ArrayList<>();
+		synchronized (lock) {
+			draining = true;
+			for (WorkloadQueue queue : queues.values()) {
+				queue.drainTo(pendingJobs);
+			}
+			pending = 0;
+			pendingByUser.clear();
+		}
+		handOff(pendingJobs, false);
+
+		long deadline = System.nanoTime() + properties.getDrainTimeout().toNanos();
+		List<Job> interruptedJobs;
+		synchronized (lock) {
+			long remaining;
+			while (!runningJobs.isEmpty() && (remaining = deadline - System.nanoTime()) > 0) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			interruptedJobs = new ArrayList<>(runningJobs);
+		}
+		if (!interruptedJobs.isEmpty()) {
+			// 받는 쪽이 임대 시간이 지날 때까지 기다리지 않도록 락을 먼저 풂
+			distributedLock.releaseHeld();
+			handOff(interruptedJobs, true);
+		}
+		running = false;
+		log.info("AI job dispatcher stopped. handedOff={}, interrupted={}", pendingJobs.size(), interruptedJobs.size());
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return SHUTDOWN_PHASE;
+	}
+
+	/**
+	 * 작업을 다른 서버가 이어서 실행하도록 넘깁니다. (실패하면 기록만 남기고, 멈춘 상태는 StuckJobReaper 가 정리)
+	 */
+	private void handOff(List<Job> jobs, boolean interrupted) {
+		if (jobs.isEmpty()) {
+			return;
+		}
+		try {
+			handoffStore.push(jobs.stream()
+					.map(job -> new HandedOffJob(job.workload(), job.userId(), job.name(), Arrays.asList(job.params()), interrupted))
+					.toList());
+			(interrupted ? interruptedCounter : handedOffCounter).increment(jobs.size());
+		} catch (RuntimeException e) {
+			for (Job job : jobs) {
+				log.error("AI job handoff failed. workload={}, userId={}, name={}, params={}",
+						job.workload(), job.userId(), job.name(), Arrays.toString(job.params()), e);
+			}
+		}
+	}
+
+	/**
+	 * 점수가 가장 높은 종류에서, 라운드 로빈 순서상 다음 사용자의 작업 (lock 안에서 호출)
+	 */
+	private Job pollNext(long now) {
+		long agingNanos = Math.max(1, properties.getAgingPeriod().toNanos());
+		WorkloadQueue selected = null;
+		double selectedScore = -1;
+		for (AiWorkload workload : AiWorkload.values()) {
+			Job head = queues.get(workload).peekEligible();
+			if (head == null) {
+				continue;
+			}
+			double score = properties.weightOf(workload) * (1 + (double) (now - head.enqueuedAt()) / agingNanos);
+			if (score > selectedScore) {
+				selected = queues.get(workload);
+				selectedScore = score;
+			}
+		}
+		return selected == null ? null : selected.pollEligible();
+	}
+
+	private boolean isCapped(Long userId) {
+		return inFlightByUser.getOrDefault(userId, 0) >= properties.getMaxInFlightPerUser();
+	}
+
+	/**
+	 * 전체 대기 작업 수 (실행기에 넘기기 전, 동시 실행 상한으로 보류된 작업 포함)
+	 */
+	public int pending() {
+		synchronized (lock) {
+			return pending;
+		}
+	}
+
+	/**
+	 * 종류별 대기 작업 수
+	 */
+	public int pendingOf(AiWorkload workload) {
+		synchronized (lock) {
+			return queues.get(workload).size;
+		}
+	}
+
+	/**
+	 * 동시 실행 상한에 걸려 작업이 대기 중인 사용자 수
+	 */
+	public int throttledUsers() {
+		synchronized (lock) {
+			return (int) pendingByUser.keySet().stream().filter(this::isCapped).count();
+		}
+	}
+
+	/**
+	 * 한 종류의 사용자별 대기열 (lock 안에서만 사용)
+	 */
+	private final class WorkloadQueue {
+		private final Map<Long, Deque<Job>> byUser = new HashMap<>();
+		/**
+		 * 대기 작업이 있는 사용자 (라운드 로빈 순서)
+		 */
+		private final Deque<Long> ring = new ArrayDeque<>();
+		private int size;
+
+		void add(Job job) {
+			byUser.computeIfAbsent(job.userId(), key -> {
+				ring.addLast(key);
+				return new ArrayDeque<>();
+			}).addLast(job);
+			size++;
+		}
+
+		/**
+		 * 대기 작업을 모두 꺼냅니다. (종료 시)
+		 */
+		void drainTo(List<Job> target) {
+			byUser.values().forEach(target::addAll);
+			byUser.clear();
+			ring.clear();
+			size = 0;
+		}
+
+		boolean remove(Job job) {
+			Deque<Job> userQueue = byUser.get(job.userId());
+			if (userQueue == null || !userQueue.remove(job)) {
+				return false;
+			}
+			size--;
+			if (userQueue.isEmpty()) {
+				byUser.remove(job.userId());
+				ring.remove(job.userId());
+			}
+			return true;
+		}
+
+		/**
+		 * 라운드 로빈 순서상 상한에 걸리지 않은 첫 사용자의 맨 앞 작업
+		 */
+		Job peekEligible() {
+			for (Long userId : ring) {
+				if (!isCapped(userId)) {
+					return byUser.get(userId).peekFirst();
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * {@link #peekEligible()} 의 작업을 꺼내고, 그 사용자를 라운드 로빈 맨 뒤로 보냅니다.
+		 */
+		Job pollEligible() {
+			Iterator<Long> iterator = ring.iterator();
+			while (iterator.hasNext()) {
+				Long userId = iterator.next();
+				if (isCapped(userId)) {
+					continue;
+				}
+				iterator.remove();
+				Deque<Job> userQueue = byUser.get(userId);
+				Job job = userQueue.pollFirst();
+				if (userQueue.isEmpty()) {
+					byUser.remove(userId);
+				} else {
+					ring.addLast(userId);
+				}
+				size--;
+				return job;
+			}
+			return null;
+		}
+	}
+
+	private record Job(AiWorkload workload, Long userId, String name, Object[] params, Runnable task, long enqueuedAt) {
+	}
+}
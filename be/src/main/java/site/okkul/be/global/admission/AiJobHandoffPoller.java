@@ -0,0 +1,74 @@
+package site.okkul.be.global.admission;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.okkul.be.global.exception.AsyncErrorReporter;
+import site.okkul.be.global.exception.BusinessException;
+
+/**
+ * 다른 서버가 종료하면서 넘긴 AI 작업을 주기적으로 가져와 이 서버의 대기열에 넣습니다.
+ * <p>
+ * 롤링 배포에서는 새 서버가 먼저 떠 있는 상태에서 이전 서버가 작업을 넘기므로, 시작 시 한 번이 아니라 계속 확인합니다.
+ * 이 서버도 종료 중이면 가져오지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiJobHandoffPoller {
+
+	private final AiJobHandoffStore handoffStore;
+	private final AiJobDispatcher dispatcher;
+	private final AsyncErrorReporter asyncErrorReporter;
+	private final int batchSize;
+	private final Map<String, AiJobResumer> resumers = new HashMap<>();
+
+	public AiJobHandoffPoller(AiJobHandoffStore handoffStore,
+							  AiJobDispatcher dispatcher,
+							  AsyncErrorReporter asyncErrorReporter,
+							  List<AiJobResumer> resumers,
+							  @Value("${app.ai.handoff.batch-size:50}") int batchSize) {
+		this.handoffStore = handoffStore;
+		this.dispatcher = dispatcher;
+		this.asyncErrorReporter = asyncErrorReporter;
+		this.batchSize = batchSize;
+		for (AiJobResumer resumer : resumers) {
+			resumer.jobNames().forEach(name -> this.resumers.put(name, resumer));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.ai.handoff.poll-interval-ms:5000}")
+	public void poll() {
+		if (!dispatcher.isRunning()) {
+			return;
+		}
+		List<HandedOffJob> jobs = handoffStore.pop(batchSize);
+		for (int i = 0; i < jobs.size(); i++) {
+			HandedOffJob job = jobs.get(i);
+			AiJobResumer resumer = resumers.get(job.name());
+			if (resumer == null) {
+				log.error("No resumer for handed-off AI job. name={}, params={}", job.name(), job.params());
+				continue;
+			}
+			try {
+				resumer.resume(job);
+				log.info("Handed-off AI job resumed. name={}, params={}, interrupted={}", job.name(), job.params(), job.interrupted());
+			} catch (BusinessException e) {
+				if (e.getErrorCode() != AdmissionErrorCode.AI_OVERLOADED) {
+					asyncErrorReporter.report(job.name(), job.params().toArray(), e);
+					continue;
+				}
+				// 대기열이 가득 참: 남은 작업은 돌려놓고 다음 주기에 다시 시도
+				handoffStore.push(jobs.subList(i, jobs.size()));
+				log.warn("AI job queue is busy. {} handed-off jobs returned to the handoff queue.", jobs.size() - i);
+				return;
+			} catch (RuntimeException e) {
+				asyncErrorReporter.report(job.name(), job.params().toArray(), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package site.okkul.be.global.admission;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료하는 서버가 넘긴 AI 작업 대기열 (Redis List)
+ * <p>
+ * 작업은 JSON 으로 뒤에 넣고, 각 서버의 {@link AiJobHandoffPoller} 가 앞에서 꺼냅니다.
+ * LPOP 은 원자적이라 여러 서버가 동시에 꺼내도 한 작업은 한 서버만 가져갑니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiJobHandoffStore {
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String key;
+
+	public AiJobHandoffStore(StringRedisTemplate redisTemplate,
+							 ObjectMapper objectMapper,
+							 @Value("${app.ai.handoff.key:okkul:ai:handoff}") String key) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.key = key;
+	}
+
+	public void push(List<HandedOffJob> jobs) {
+		if (jobs.isEmpty()) {
+			return;
+		}
+		redisTemplate.opsForList().rightPushAll(key, jobs.stream().map(this::serialize).toList());
+	}
+
+	/**
+	 * 앞에서부터 최대 count 개를 꺼냅니다. (읽을 수 없는 항목은 버림)
+	 */
+	public List<HandedOffJob> pop(int count) {
+		List<String> values = redisTemplate.opsForList().leftPop(key, count);
+		if (values == null) {
+			return List.of();
+		}
+		List<HandedOffJob> jobs = new ArrayList<>(values.size());
+		for (String value : values) {
+			try {
+				jobs.add(objectMapper.readValue(value, HandedOffJob.class));
+			} catch (JsonProcessingException e) {
+				log.error("Handed-off AI job could not be read. value={}", value, e);
+			}
+		}
+		return jobs;
+	}
+
+	private String serialize(HandedOffJob job) {
+		try {
+			return objectMapper.writeValueAsString(job);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("AI 작업 직렬화 실패: " + job.name(), e);
+		}
+	}
+}
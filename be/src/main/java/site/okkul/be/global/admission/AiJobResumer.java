@@ -0,0 +1,22 @@
+package site.okkul.be.global.admission;
+
+import java.util.Set;
+
+/**
+ * 다른 서버에서 넘겨받은 AI 작업을 다시 대기열에 넣습니다. (도메인별 구현)
+ */
+public interface AiJobResumer {
+
+	/**
+	 * 처리할 작업 이름 ({@link AiJobDispatcher#dispatch} 의 name)
+	 */
+	Set<String> jobNames();
+
+	/**
+	 * 작업을 다시 대기열에 넣습니다.
+	 * - {@link HandedOffJob#interrupted()} 면 실행 도중 멈춘 작업이므로, 분석 중 상태를 실패로 되돌린 뒤 넣습니다.
+	 *
+	 * @throws site.okkul.be.global.exception.BusinessException 대기열이 가득 찬 경우 (나중에 다시 시도)
+	 */
+	void resume(HandedOffJob job);
+}
@@ -0,0 +1,48 @@
+package site.okkul.be.global.admission;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 작업 종류
+ * <p>
+ * critical 작업(응시 중인 모의고사)은 AI 대기열이 포화돼도 항상 받고,
+ * 나머지는 대기열이 적응형 한도를 넘으면 503 으로 거절합니다.
+ * 대기 중인 작업은 가중치가 높은 순서(응시 중 답변 > 리포트 > 연습/재요청 > 관리자)로 실행합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AiWorkload {
+
+	/**
+	 * 모의고사 답변 제출 (응시 중)
+	 */
+	LIVE_EXAM_ANSWER(true, 8),
+
+	/**
+	 * 모의고사 종료 후 리포트 생성
+	 */
+	EXAM_REPORT(true, 4),
+
+	/**
+	 * 유형별 연습 피드백
+	 */
+	PRACTICE_FEEDBACK(false, 2),
+
+	/**
+	 * 사용자의 답변 피드백 재요청
+	 */
+	REGENERATE(false, 2),
+
+	/**
+	 * 관리자의 리포트/피드백 재생성
+	 */
+	ADMIN(false, 1);
+
+	private final boolean critical;
+
+	/**
+	 * 우선순위 가중치 기본값 ({@code app.ai.dispatch.weights} 로 변경 가능)
+	 */
+	private final int defaultWeight;
+}
@@ -0,0 +1,27 @@
+package site.okkul.be.global.admission;
+
+import java.util.List;
+
+/**
+ * 종료하는 서버가 끝내지 못해 다른 서버에 넘긴 AI 작업
+ *
+ * @param workload    작업 종류
+ * @param userId      요청한 사용자
+ * @param name        작업 이름 ({@link AiJobDispatcher#dispatch} 의 name, 다시 넣을 {@link AiJobResumer} 를 고르는 기준)
+ * @param params      작업 인자 (JSON 으로 저장되므로 숫자는 {@link #longParam}, {@link #intParam} 으로 꺼냄)
+ * @param interrupted 실행 도중 넘긴 작업이면 true (분석 중 상태를 되돌린 뒤 다시 넣어야 함)
+ */
+public record HandedOffJob(AiWorkload workload, Long userId, String name, List<Object> params, boolean interrupted) {
+
+	public long longParam(int index) {
+		return ((Number) params.get(index)).longValue();
+	}
+
+	public int intParam(int index) {
+		return ((Number) params.get(index)).intValue();
+	}
+
+	public boolean booleanParam(int index) {
+		return (Boolean) params.get(index);
+	}
+}
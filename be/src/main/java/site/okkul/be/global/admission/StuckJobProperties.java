@@ -0,0 +1,44 @@
+package site.okkul.be.global.admission;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 분석/처리 중에 멈춘 AI 작업 정리 설정
+ *
+ * <pre>
+ * app:
+ *   ai:
+ *     reaper:
+ *       enabled: true
+ *       stale-after: 15m        # 이 시간 넘게 분석/처리 중이면 멈춘 것으로 판단
+ *       interval-ms: 60000
+ *       batch-size: 100
+ *       max-per-run: 1000
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ai.reaper")
+public class StuckJobProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 분석/처리 중 상태로 이 시간 넘게 바뀌지 않으면 멈춘 작업으로 보고 실패 처리
+	 * - AI 분석 락 임대 시간(10분)보다 길어야 살아 있는 작업을 실패 처리하지 않습니다.
+	 */
+	private Duration staleAfter = Duration.ofMinutes(15);
+
+	/**
+	 * 한 번에(한 트랜잭션에서) 실패 처리할 행 수
+	 */
+	private int batchSize = 100;
+
+	/**
+	 * 한 번 실행할 때 종류별로 실패 처리할 최대 행 수
+	 */
+	private int maxPerRun = 1000;
+}
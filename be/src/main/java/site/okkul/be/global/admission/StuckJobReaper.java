@@ -0,0 +1,143 @@
+package site.okkul.be.global.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
+import site.okkul.be.domain.exam.repository.ExamJpaRepository;
+import site.okkul.be.domain.practice.repository.PracticeAnswerJpaRepository;
+
+/**
+ * 분석/처리 중 상태에 멈춘 AI 작업 정리
+ * <p>
+ * 작업 도중 서버가 죽거나, 실패 처리 전에 예외가 빠져나가면 상태가 분석 중으로 남아
+ * 사용자는 결과를 계속 기다리고 재요청도 거절됩니다.
+ * 설정한 시간보다 오래 분석/처리 중인 행을 주기적으로 실패 상태로 바꿔, 기존 재요청 흐름으로 다시 분석할 수 있게 합니다.
+ * </p>
+ * <ul>
+ *     <li>리포트 분석 중인 시험: {@code ANALYZING -> ANALYZING_FAILED}</li>
+ *     <li>분석 중인 시험 답변: {@code ANALYZING -> ANALYZING_FAILED}</li>
+ *     <li>피드백 처리 중인 연습 답변: {@code PROCESSING -> FAILED}</li>
+ * </ul>
+ * 배치마다 부분 인덱스로 대상을 찾아 {@code FOR UPDATE SKIP LOCKED} 로 잠근 행만 한 문장으로 바꾸므로,
+ * 여러 인스턴스가 동시에 실행해도 같은 행을 두 번 처리하지 않습니다.
+ * 버전도 함께 올려, 늦게 끝난 원래 작업의 엔티티 저장은 낙관적 잠금으로 거절됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.ai.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class StuckJobReaper {
+
+	/**
+	 * 정리 대상 작업 종류
+	 */
+	public enum Kind {
+		EXAM_REPORT("exam-report"),
+		EXAM_ANSWER("exam-answer"),
+		PRACTICE_FEEDBACK("practice-feedback");
+
+		private final String tag;
+
+		Kind(String tag) {
+			this.tag = tag;
+		}
+	}
+
+	private final ExamJpaRepository examRepository;
+	private final ExamAnswerJpaRepository examAnswerRepository;
+	private final PracticeAnswerJpaRepository practiceAnswerRepository;
+	private final StuckJobProperties properties;
+
+	/**
+	 * 종류별 실패 처리 수 (0보다 크게 늘면 알람)
+	 */
+	private final Map<Kind, Counter> reapedCounters = new EnumMap<>(Kind.class);
+
+	private StuckJobReaper self;
+
+	public StuckJobReaper(
+			ExamJpaRepository examRepository,
+			ExamAnswerJpaRepository examAnswerRepository,
+			PracticeAnswerJpaRepository practiceAnswerRepository,
+			StuckJobProperties properties,
+			MeterRegistry meterRegistry
+	) {
+		this.examRepository = examRepository;
+		this.examAnswerRepository = examAnswerRepository;
+		this.practiceAnswerRepository = practiceAnswerRepository;
+		this.properties = properties;
+		for (Kind kind : Kind.values()) {
+			reapedCounters.put(kind, Counter.builder("ai.reaper.reaped")
+					.description("분석/처리 중에 멈춰 실패 처리한 AI 작업 수")
+					.tag("kind", kind.tag)
+					.register(meterRegistry));
+		}
+	}
+
+	@Autowired
+	public void setSelf(@Lazy StuckJobReaper self) {
+		this.self = self;
+	}
+
+	/**
+	 * 종류별로 멈춘 작업을 배치 단위로 실패 처리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${app.ai.reaper.interval-ms:60000}", initialDelayString = "${app.ai.reaper.interval-ms:60000}")
+	public void reap() {
+		Instant staleBefore = Instant.now().minus(properties.getStaleAfter());
+		for (Kind kind : Kind.values()) {
+			try {
+				int reaped = reap(kind, staleBefore);
+				if (reaped > 0) {
+					log.warn("Stuck AI jobs marked as failed. kind={}, count={}, staleBefore={}", kind.tag, reaped, staleBefore);
+				}
+			} catch (Exception e) {
+				log.error("Stuck AI job reaping failed. kind={}", kind.tag, e);
+			}
+		}
+	}
+
+	/**
+	 * 배치가 가득 차지 않을 때까지(또는 실행당 최대 수까지) 반복합니다.
+	 *
+	 * @return 실패 처리한 행 수
+	 */
+	int reap(Kind kind, Instant staleBefore) {
+		int batchSize = Math.max(1, properties.getBatchSize());
+		int total = 0;
+		while (total < properties.getMaxPerRun()) {
+			int limit = Math.min(batchSize, properties.getMaxPerRun() - total);
+			int reaped = self.failStuckBatch(kind, staleBefore, limit);
+			reapedCounters.get(kind).increment(reaped);
+			total += reaped;
+			if (reaped < limit) {
+				break;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * 한 배치를 실패 처리하고 바로 커밋합니다. (행 잠금을 오래 잡지 않도록)
+	 *
+	 * @return 실패 처리한 행 수
+	 */
+	@Transactional
+	public int failStuckBatch(Kind kind, Instant staleBefore, int limit) {
+		Instant now = Instant.now();
+		return switch (kind) {
+			case EXAM_REPORT -> examRepository.failStuck(staleBefore, now, limit);
+			case EXAM_ANSWER -> examAnswerRepository.failStuck(staleBefore, now, limit);
+			case PRACTICE_FEEDBACK -> practiceAnswerRepository.failStuck(staleBefore, now, limit);
+		};
+	}
+}
@@ -1,36 +1,58 @@
 package site.okkul.be.global.config;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import site.okkul.be.global.exception.BusinessException;
-import site.okkul.be.global.exception.SystemException;
-import site.okkul.be.infra.alarm.AlarmService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import site.okkul.be.global.admission.AdmissionProperties;
+import site.okkul.be.global.admission.AiAdmissionController;
+import site.okkul.be.global.admission.AiDispatchProperties;
+import site.okkul.be.global.admission.AiJobDispatcher;
+import site.okkul.be.global.admission.StuckJobProperties;
+import site.okkul.be.global.exception.AsyncErrorReporter;
 
-@Slf4j
 @EnableAsync
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties({AdmissionProperties.class, AiDispatchProperties.class, StuckJobProperties.class})
 public class AsyncConfig implements AsyncConfigurer {
-	private final AlarmService alarmService;
 
-	@Override
-	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
-		return (ex, method, params) -> {
-			log.error("Async Error in method: {}, params: {}", method.getName(), params);
+	/**
+	 * AI 분석 작업 전용 실행기 이름
+	 */
+	public static final String AI_TASK_EXECUTOR = "aiTaskExecutor";
+
+	private final AsyncErrorReporter asyncErrorReporter;
 
-			log.error("error", ex);
+	/**
+	 * AI 분석 작업 전용 실행기
+	 * - 알람, 캐시 예열 등 다른 비동기 작업과 대기열을 나눠, 대기열 길이를 AI 적체 지표로 쓸 수 있게 합니다.
+	 * - 작업은 {@code AiJobDispatcher} 를 통해서만 넣습니다. (대기열 상한과 실행 순서는 디스패처가 관리)
+	 * - 작업 실행 시간은 {@link AiAdmissionController} 가 수락 한도 조정에 사용합니다.
+	 * - 종료 시 디스패처가 남은 작업을 넘길 때까지 멈추지 않도록, 컨텍스트 종료 알림에 바로 닫지 않고 디스패처 다음 단계에서 멈춥니다.
+	 */
+	@Bean(name = AI_TASK_EXECUTOR)
+	public ThreadPoolTaskExecutor aiTaskExecutor(
+			AiAdmissionController admissionController,
+			@Value("${app.ai.executor.pool-size:8}") int poolSize
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("ai-");
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setTaskDecorator(admissionController.taskDecorator());
+		executor.setAcceptTasksAfterContextClose(true);
+		executor.setPhase(AiJobDispatcher.SHUTDOWN_PHASE - 1);
+		return executor;
+	}
 
-			// 여기서 알람 발송!
-			if (ex instanceof SystemException systemException) {
-				log.error("{}\n{}", systemException.getTitle(), systemException.getMessage());
-				alarmService.sendMessage("🚨 [비동기] 시스템 장애", systemException.getTitle(), systemException.getMessage());
-			} else if (ex instanceof BusinessException businessException) {
-				log.error("{} - {}", businessException.getErrorCode().getCode(), businessException.getErrorCode().getMessage());
-			}
-		};
+	@Override
+	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+		return (ex, method, params) -> asyncErrorReporter.report(method.getName(), params, ex);
 	}
 }
@@ -0,0 +1,83 @@
+package site.okkul.be.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import site.okkul.be.infra.cache.CacheInvalidationListener;
+import site.okkul.be.infra.cache.CacheInvalidationPublisher;
+import site.okkul.be.infra.cache.TwoLevelCacheManager;
+import site.okkul.be.infra.cache.TwoLevelCacheProperties;
+
+/**
+ * 2단계 캐시(Caffeine L1 + Redis L2) 설정
+ * <p>
+ * 서비스에서는 @Cacheable / @CacheEvict 와 {@link site.okkul.be.infra.cache.CacheNames} 를 사용합니다.
+ * 캐시 값은 Redis 에 JDK 직렬화로 저장되므로 캐시 대상 DTO 는 Serializable 이어야 합니다.
+ * </p>
+ */
+@EnableCaching
+@Configuration
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class CacheConfig {
+
+	@Bean
+	public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate redisTemplate,
+																 ObjectMapper objectMapper,
+																 TwoLevelCacheProperties properties) {
+		return new CacheInvalidationPublisher(redisTemplate, objectMapper, properties.getInvalidationTopic());
+	}
+
+	@Bean
+	public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+											 TwoLevelCacheProperties properties,
+											 CacheInvalidationPublisher publisher,
+											 MeterRegistry meterRegistry) {
+		RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+				.prefixCacheNameWith(properties.getKeyPrefix())
+				.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+						RedisSerializer.java(getClass().getClassLoader())
+				))
+				.entryTtl(properties.getDefaults().getTtl());
+
+		Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+		for (String cacheName : properties.getCaches().keySet()) {
+			cacheConfigurations.put(cacheName, defaults.entryTtl(properties.specOf(cacheName).getTtl()));
+		}
+
+		RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+				.cacheDefaults(defaults)
+				.withInitialCacheConfigurations(cacheConfigurations)
+				.enableStatistics()
+				.build();
+		redisCacheManager.afterPropertiesSet();
+
+		return new TwoLevelCacheManager(properties, redisCacheManager, publisher, meterRegistry);
+	}
+
+	@Bean
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+																			TwoLevelCacheManager cacheManager,
+																			ObjectMapper objectMapper,
+																			TwoLevelCacheProperties properties) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+				new CacheInvalidationListener(cacheManager, objectMapper),
+				new ChannelTopic(properties.getInvalidationTopic())
+		);
+		return container;
+	}
+}
@@ -0,0 +1,12 @@
+package site.okkul.be.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 주기 작업(@Scheduled) 활성화
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
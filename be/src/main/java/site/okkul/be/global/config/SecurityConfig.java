@@ -55,6 +55,8 @@ public class SecurityConfig {
 						.requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
 						.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
 						.requestMatchers("/auth/**", "/login/**", "/oauth2/**").permitAll() // ★ /login과 /oauth2 관련 경로 허용
+						// 로컬 스토리지 직접 업로드 (URL 의 HMAC 서명으로 인증)
+						.requestMatchers(HttpMethod.PUT, "/files/**").permitAll()
 						// 특정 도메인은 GET 다 걸려야 함
 						.requestMatchers(HttpMethod.GET, "/exam/**", "/practices/**", "/history/**", "/surveys/**", "/users/**").authenticated()
 						// 2. 모든 GET 요청 허용 (상단에 위치할수록 우선순위가 높음)
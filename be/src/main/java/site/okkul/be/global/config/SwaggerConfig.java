@@ -3,6 +3,7 @@ package site.okkul.be.global.config;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import java.util.List;
@@ -10,6 +11,7 @@ import org.springdoc.core.customizers.OperationCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import site.okkul.be.global.idempotency.Idempotent;
 
 @Configuration
 public class SwaggerConfig {
@@ -19,6 +21,7 @@ public class SwaggerConfig {
 
 	// 헤더
 	public static final String REAL_AI_USE = "X-Use-Real-AI";
+	public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
 	// 태그 이름들
 	public static final String AUTH = "Auth";
@@ -43,6 +46,23 @@ public class SwaggerConfig {
 				.info(apiInfo());
 	}
 
+	/**
+	 * {@link Idempotent} 핸들러에 Idempotency-Key 헤더 문서를 추가
+	 */
+	@Bean
+	public OperationCustomizer idempotencyKeyCustomizer() {
+		return (operation, handlerMethod) -> {
+			if (handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+				operation.addParametersItem(new HeaderParameter()
+						.name(IDEMPOTENCY_KEY)
+						.required(false)
+						.description("재시도 시 같은 값을 보내면 업로드/AI 요청 없이 처음 응답을 그대로 돌려줍니다. (사용자별 24시간 유지, 최대 128자)")
+						.schema(new StringSchema()));
+			}
+			return operation;
+		};
+	}
+
 	private Info apiInfo() {
 		return new Info()
 				.title("Swagger API Specifications")
@@ -2,23 +2,42 @@ package site.okkul.be.global.config;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import site.okkul.be.domain.auth.service.JwtUserDetailsArgumentResolver;
+import site.okkul.be.global.admission.AdmissionInterceptor;
+import site.okkul.be.global.idempotency.IdempotencyInterceptor;
+import site.okkul.be.global.ratelimit.RateLimitInterceptor;
+import site.okkul.be.global.ratelimit.RateLimitProperties;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebMvcConfig implements WebMvcConfigurer {
 
 	private final JwtUserDetailsArgumentResolver jwtUserDetailsArgumentResolver;
+	private final IdempotencyInterceptor idempotencyInterceptor;
+	private final RateLimitInterceptor rateLimitInterceptor;
+	private final AdmissionInterceptor admissionInterceptor;
 
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 		resolvers.add(jwtUserDetailsArgumentResolver);
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// 재생(replay)된 요청은 토큰을 쓰지 않도록 Idempotency 처리 후에 제한
+		registry.addInterceptor(idempotencyInterceptor);
+		registry.addInterceptor(rateLimitInterceptor);
+		// 사용자별 제한을 통과한 요청만 서버 전체 AI 대기열 기준으로 수락 여부 판단
+		registry.addInterceptor(admissionInterceptor);
+	}
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/**")
@@ -0,0 +1,37 @@
+package site.okkul.be.global.exception;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import site.okkul.be.infra.alarm.AlarmService;
+
+/**
+ * 호출자에게 돌려줄 수 없는 비동기 작업 예외를 기록하고, 시스템 장애면 알람을 보냅니다.
+ * - {@code @Async} 메서드와 AI 작업 디스패처가 함께 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncErrorReporter {
+
+	private final AlarmService alarmService;
+
+	/**
+	 * @param task   작업 이름 (메서드 이름 등)
+	 * @param params 작업 인자
+	 * @param ex     발생한 예외
+	 */
+	public void report(String task, Object[] params, Throwable ex) {
+		log.error("Async Error in method: {}, params: {}", task, params);
+
+		log.error("error", ex);
+
+		// 여기서 알람 발송!
+		if (ex instanceof SystemException systemException) {
+			log.error("{}\n{}", systemException.getTitle(), systemException.getMessage());
+			alarmService.sendMessage("🚨 [비동기] 시스템 장애", systemException.getTitle(), systemException.getMessage());
+		} else if (ex instanceof BusinessException businessException) {
+			log.error("{} - {}", businessException.getErrorCode().getCode(), businessException.getErrorCode().getMessage());
+		}
+	}
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +38,13 @@ public class GlobalExceptionHandler {
 	}
 
 	// 비즈니스 로직 상 잘못된 요청일 때 (400)
+	// 다른 요청이 먼저 같은 엔티티를 변경함 (낙관적 잠금 충돌)
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+		log.warn("Optimistic lock conflict: {}", e.getMessage());
+		return ErrorResponse.toResponseEntity(GlobalErrorCode.CONCURRENT_MODIFICATION);
+	}
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
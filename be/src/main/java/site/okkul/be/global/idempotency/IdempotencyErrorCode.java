@@ -0,0 +1,18 @@
+package site.okkul.be.global.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import site.okkul.be.global.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "IDEMPOTENCY_001", "Idempotency-Key 형식이 올바르지 않습니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_002", "다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+	REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY_003", "같은 Idempotency-Key 의 요청이 아직 처리 중입니다.");
+
+	private final HttpStatus status;
+	private final String code;
+	private final String message;
+}
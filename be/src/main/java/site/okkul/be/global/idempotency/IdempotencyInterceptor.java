@@ -0,0 +1,167 @@
+package site.okkul.be.global.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.global.exception.BusinessException;
+
+/**
+ * {@link Idempotent} 핸들러의 Idempotency-Key 처리
+ * <p>
+ * 핸들러 실행(= multipart 파싱, 업로드, AI 트리거) 전에 키를 선점합니다.
+ * - 이미 완료된 키: 저장된 응답을 재생하고 핸들러를 건너뜀
+ * - 처리 중인 키: 완료될 때까지 기다렸다가 재생 (같은 키의 동시 요청 직렬화, wait-timeout 초과 시 409)
+ * - 다른 경로에 쓰인 키: 422
+ * 2xx 로 끝난 응답만 저장하고, 실패하면 선점을 풀어 같은 키로 재시도할 수 있게 합니다.
+ * Redis 장애 시에는 키 없이 처리합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	static final String OWNER_ATTR = IdempotencyInterceptor.class.getName() + ".owner";
+	static final String BODY_ATTR = IdempotencyInterceptor.class.getName() + ".body";
+	private static final String KEY_ATTR = IdempotencyInterceptor.class.getName() + ".key";
+	private static final String FINGERPRINT_ATTR = IdempotencyInterceptor.class.getName() + ".fingerprint";
+
+	private static final int MAX_KEY_LENGTH = 128;
+
+	private final IdempotencyStore idempotencyStore;
+	private final Duration ttl;
+	private final Duration processingTtl;
+	private final Duration waitTimeout;
+	private final Duration pollInterval;
+
+	public IdempotencyInterceptor(IdempotencyStore idempotencyStore,
+								  @Value("${app.idempotency.ttl:24h}") Duration ttl,
+								  @Value("${app.idempotency.processing-ttl:10m}") Duration processingTtl,
+								  @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout,
+								  @Value("${app.idempotency.poll-interval:200ms}") Duration pollInterval) {
+		this.idempotencyStore = idempotencyStore;
+		this.ttl = ttl;
+		this.processingTtl = processingTtl;
+		this.waitTimeout = waitTimeout;
+		this.pollInterval = pollInterval;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws Exception {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+			return true;
+		}
+		String idempotencyKey = request.getHeader(SwaggerConfig.IDEMPOTENCY_KEY);
+		if (idempotencyKey == null) {
+			return true;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BusinessException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+		}
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return true;
+		}
+
+		// 키는 사용자별로 분리
+		String key = authentication.getName() + ":" + idempotencyKey;
+		String fingerprint = fingerprintOf(request);
+		String owner = UUID.randomUUID().toString();
+
+		try {
+			long deadline = System.nanoTime() + waitTimeout.toNanos();
+			while (true) {
+				// 1. 선점 성공: 핸들러 실행
+				if (idempotencyStore.tryAcquire(key, IdempotencyRecord.processing(owner, fingerprint), processingTtl)) {
+					request.setAttribute(OWNER_ATTR, owner);
+					request.setAttribute(KEY_ATTR, key);
+					request.setAttribute(FINGERPRINT_ATTR, fingerprint);
+					return true;
+				}
+
+				// 2. 이미 있는 키: 완료됐으면 재생, 처리 중이면 대기
+				Optional<IdempotencyRecord> existing = idempotencyStore.find(key);
+				if (existing.isPresent()) {
+					if (!fingerprint.equals(existing.get().fingerprint())) {
+						throw new BusinessException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+					}
+					if (existing.get().isCompleted()) {
+						replay(response, existing.get());
+						return false;
+					}
+				}
+				if (System.nanoTime() > deadline) {
+					throw new BusinessException(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+				}
+				Thread.sleep(pollInterval.toMillis());
+			}
+		} catch (DataAccessException e) {
+			log.warn("Idempotency store unavailable. Processing without key. key={}", key, e);
+			return true;
+		}
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+								Exception ex) {
+		String owner = (String) request.getAttribute(OWNER_ATTR);
+		if (owner == null) {
+			return;
+		}
+		String key = (String) request.getAttribute(KEY_ATTR);
+		try {
+			if (ex == null && HttpStatus.valueOf(response.getStatus()).is2xxSuccessful()) {
+				idempotencyStore.complete(key, owner, IdempotencyRecord.completed(
+						(String) request.getAttribute(FINGERPRINT_ATTR),
+						response.getStatus(),
+						response.getContentType(),
+						(String) request.getAttribute(BODY_ATTR)
+				), ttl);
+			} else {
+				idempotencyStore.release(key, owner);
+			}
+		} catch (DataAccessException e) {
+			// 선점 키는 processing-ttl 후 만료됨
+			log.warn("Idempotency record update failed. key={}", key, e);
+		}
+	}
+
+	/**
+	 * 요청 지문: 메서드 + 경로 + Content-Length + 실제 AI 사용 여부
+	 * <p>
+	 * 본문은 핸들러 실행 전이라 읽지 않으므로, 길이가 같은 다른 본문은 구분하지 못합니다. ({@link Idempotent} 참고)
+	 */
+	static String fingerprintOf(HttpServletRequest request) {
+		return request.getMethod() + " " + request.getRequestURI()
+				+ " length=" + request.getContentLengthLong()
+				+ " realAi=" + Boolean.parseBoolean(request.getHeader(SwaggerConfig.REAL_AI_USE));
+	}
+
+	private static void replay(HttpServletResponse response, IdempotencyRecord record) throws Exception {
+		response.setStatus(record.status());
+		response.setHeader(REPLAYED_HEADER, "true");
+		if (record.body() != null) {
+			response.setContentType(record.contentType() != null
+					? record.contentType()
+					: MediaType.APPLICATION_JSON_VALUE);
+			response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+			response.getWriter().write(record.body());
+		}
+	}
+}
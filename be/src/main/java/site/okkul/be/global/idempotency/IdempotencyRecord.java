@@ -0,0 +1,34 @@
+package site.okkul.be.global.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Redis 에 저장되는 Idempotency-Key 상태
+ *
+ * @param owner       처리 중인 요청의 토큰 (완료 후에는 null)
+ * @param fingerprint 요청 지문 (HTTP 메서드 + 경로)
+ * @param status      완료된 응답 상태 코드 (처리 중이면 0)
+ * @param contentType 완료된 응답 Content-Type
+ * @param body        완료된 응답 본문 (없으면 null)
+ */
+public record IdempotencyRecord(
+		String owner,
+		String fingerprint,
+		int status,
+		String contentType,
+		String body
+) {
+
+	public static IdempotencyRecord processing(String owner, String fingerprint) {
+		return new IdempotencyRecord(owner, fingerprint, 0, null, null);
+	}
+
+	public static IdempotencyRecord completed(String fingerprint, int status, String contentType, String body) {
+		return new IdempotencyRecord(null, fingerprint, status, contentType, body);
+	}
+
+	@JsonIgnore
+	public boolean isCompleted() {
+		return status != 0;
+	}
+}
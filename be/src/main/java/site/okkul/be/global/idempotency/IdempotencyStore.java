@@ -0,0 +1,103 @@
+package site.okkul.be.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis)
+ * <p>
+ * 처리 시작 시 SET NX 로 키를 선점하고, 완료되면 응답으로 덮어씁니다.
+ * 완료/해제는 선점한 요청(owner)만 할 수 있도록 Lua 스크립트로 비교 후 변경합니다.
+ * </p>
+ */
+@Component
+public class IdempotencyStore {
+
+	/**
+	 * owner 가 일치할 때만 완료 응답으로 교체
+	 */
+	private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+			local current = redis.call('GET', KEYS[1])
+			if current and cjson.decode(current).owner == ARGV[1] then
+				redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+				return 1
+			end
+			return 0
+			""", Long.class);
+
+	/**
+	 * owner 가 일치할 때만 삭제 (실패한 요청의 선점 해제)
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+			local current = redis.call('GET', KEYS[1])
+			if current and cjson.decode(current).owner == ARGV[1] then
+				return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String keyPrefix;
+
+	public IdempotencyStore(StringRedisTemplate redisTemplate,
+							ObjectMapper objectMapper,
+							@Value("${app.idempotency.key-prefix:okkul:idempotency:}") String keyPrefix) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.keyPrefix = keyPrefix;
+	}
+
+	/**
+	 * 키를 선점합니다.
+	 *
+	 * @return 선점 성공 여부 (이미 처리 중이거나 완료된 키면 false)
+	 */
+	public boolean tryAcquire(String key, IdempotencyRecord processing, Duration ttl) {
+		return Boolean.TRUE.equals(
+				redisTemplate.opsForValue().setIfAbsent(keyPrefix + key, serialize(processing), ttl)
+		);
+	}
+
+	public Optional<IdempotencyRecord> find(String key) {
+		String value = redisTemplate.opsForValue().get(keyPrefix + key);
+		if (value == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(objectMapper.readValue(value, IdempotencyRecord.class));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Idempotency record 역직렬화 실패: " + key, e);
+		}
+	}
+
+	/**
+	 * 선점한 키를 완료 응답으로 교체합니다.
+	 */
+	public void complete(String key, String owner, IdempotencyRecord completed, Duration ttl) {
+		redisTemplate.execute(COMPLETE_SCRIPT, List.of(keyPrefix + key),
+				owner, serialize(completed), Long.toString(ttl.toMillis()));
+	}
+
+	/**
+	 * 선점한 키를 해제해 같은 키로 다시 시도할 수 있게 합니다.
+	 */
+	public void release(String key, String owner) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + key), owner);
+	}
+
+	private String serialize(IdempotencyRecord record) {
+		try {
+			return objectMapper.writeValueAsString(record);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Idempotency record 직렬화 실패", e);
+		}
+	}
+}
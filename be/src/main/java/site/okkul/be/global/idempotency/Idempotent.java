@@ -0,0 +1,26 @@
+package site.okkul.be.global.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 컨트롤러 메서드
+ * <p>
+ * 같은 사용자가 같은 키로 다시 요청하면 핸들러(업로드, AI 트리거 포함)를 실행하지 않고
+ * 처음 성공한 응답(상태 코드 + 본문)을 그대로 돌려줍니다. 헤더가 없으면 평소처럼 처리합니다.
+ * <p>
+ * 같은 키의 요청이 같은 요청인지는 메서드, 경로, Content-Length, {@code X-Use-Real-AI} 헤더로만 판단합니다.
+ * 본문 내용은 비교하지 않으므로, 같은 키로 길이만 같은 다른 본문을 보내면 처음 응답이 재생됩니다.
+ * 반대로 multipart 경계 문자열 길이가 달라지는 재시도(다시 인코딩한 경우)나 chunked 요청과 Content-Length 요청을 섞으면
+ * 다른 요청으로 보고 422 로 거부합니다. 클라이언트는 재시도 시 처음 만든 요청을 그대로 다시 보내야 합니다.
+ *
+ * @see IdempotencyInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
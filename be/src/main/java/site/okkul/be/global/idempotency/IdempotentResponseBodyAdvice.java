@@ -0,0 +1,46 @@
+package site.okkul.be.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link Idempotent} 핸들러의 응답 본문을 재생용으로 보관합니다. (저장은 {@link IdempotencyInterceptor#afterCompletion})
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotentResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return returnType.hasMethodAnnotation(Idempotent.class);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+		if (body != null
+				&& request instanceof ServletServerHttpRequest servletRequest
+				&& servletRequest.getServletRequest().getAttribute(IdempotencyInterceptor.OWNER_ATTR) != null) {
+			try {
+				servletRequest.getServletRequest().setAttribute(
+						IdempotencyInterceptor.BODY_ATTR, objectMapper.writeValueAsString(body)
+				);
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("Idempotent 응답 직렬화 실패", e);
+			}
+		}
+		return body;
+	}
+}
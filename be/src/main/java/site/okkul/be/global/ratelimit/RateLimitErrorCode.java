@@ -0,0 +1,17 @@
+package site.okkul.be.global.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import site.okkul.be.global.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitErrorCode implements ErrorCode {
+
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMIT_001", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+	private final HttpStatus status;
+	private final String code;
+	private final String message;
+}
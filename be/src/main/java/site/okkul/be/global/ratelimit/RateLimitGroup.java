@@ -0,0 +1,23 @@
+package site.okkul.be.global.ratelimit;
+
+/**
+ * 요청 제한 버킷 그룹 (AI 작업을 일으키는 엔드포인트 단위)
+ */
+public enum RateLimitGroup {
+	/**
+	 * 모의고사 답변 제출 (문항 분석)
+	 */
+	EXAM_ANSWER,
+	/**
+	 * 모의고사 문항 분석 재요청
+	 */
+	EXAM_AI_RETRY,
+	/**
+	 * 모의고사 종료 (리포트 분석)
+	 */
+	EXAM_REPORT,
+	/**
+	 * 유형별 연습 답변 저장 (피드백 분석)
+	 */
+	PRACTICE_FEEDBACK
+}
@@ -0,0 +1,100 @@
+package site.okkul.be.global.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import site.okkul.be.domain.user.entity.UserRole;
+import site.okkul.be.global.exception.BusinessException;
+
+/**
+ * {@link RateLimited} 핸들러의 사용자별 요청 제한
+ * <p>
+ * 핸들러 실행(= 업로드, AI 트리거) 전에 사용자/그룹 버킷에서 토큰을 차감합니다.
+ * - 허용: X-RateLimit-Remaining 헤더와 함께 진행
+ * - 거절: Retry-After(초) 헤더와 함께 429
+ * Redis 장애 시에는 제한 없이 처리합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	private final RateLimiter rateLimiter;
+	private final RateLimitProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+		if (rateLimited == null) {
+			return true;
+		}
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return true;
+		}
+
+		RateLimitGroup group = rateLimited.value();
+		String key = properties.getKeyPrefix() + group.name().toLowerCase() + ":" + authentication.getName();
+		RateLimiter.Decision decision;
+		try {
+			decision = rateLimiter.tryConsume(key, properties.limitOf(group, rolesOf(authentication)));
+		} catch (DataAccessException e) {
+			log.warn("Rate limiter unavailable. Processing without limit. key={}", key, e);
+			count(group, "error");
+			return true;
+		}
+
+		if (!decision.allowed()) {
+			count(group, "throttled");
+			// 초 단위 올림 (최소 1초)
+			long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+			response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+			response.setHeader(REMAINING_HEADER, "0");
+			throw new BusinessException(RateLimitErrorCode.TOO_MANY_REQUESTS);
+		}
+		count(group, "allowed");
+		response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+		return true;
+	}
+
+	private static Set<UserRole> rolesOf(Authentication authentication) {
+		Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			String name = authority.getAuthority();
+			if (name == null || !name.startsWith(ROLE_PREFIX)) {
+				continue;
+			}
+			for (UserRole role : UserRole.values()) {
+				if (role.name().equals(name.substring(ROLE_PREFIX.length()))) {
+					roles.add(role);
+				}
+			}
+		}
+		return roles;
+	}
+
+	private void count(RateLimitGroup group, String result) {
+		meterRegistry.counter("ratelimit.requests", "group", group.name().toLowerCase(), "result", result).increment();
+	}
+}
@@ -0,0 +1,80 @@
+package site.okkul.be.global.ratelimit;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import site.okkul.be.domain.user.entity.UserRole;
+
+/**
+ * 요청 제한(토큰 버킷) 설정
+ *
+ * <pre>
+ * app:
+ *   rate-limit:
+ *     defaults:
+ *       capacity: 10           # 버킷 크기 (연속 허용 요청 수)
+ *       refill-per-minute: 5   # 분당 충전 토큰 수
+ *     limits:
+ *       exam-answer:
+ *         user:
+ *           capacity: 20
+ *           refill-per-minute: 10
+ *         admin:
+ *           capacity: 100
+ *           refill-per-minute: 100
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+	/**
+	 * false 면 제한하지 않음
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Redis 키 접두사 (최종 키: {keyPrefix}{group}:{userId})
+	 */
+	private String keyPrefix = "okkul:rate-limit:";
+
+	/**
+	 * 그룹/권한별 설정이 없을 때 사용하는 기본값
+	 */
+	private Limit defaults = new Limit(10, 5);
+
+	/**
+	 * 그룹별, 권한별 설정
+	 */
+	private Map<RateLimitGroup, Map<UserRole, Limit>> limits = new EnumMap<>(RateLimitGroup.class);
+
+	/**
+	 * 사용자 권한 중 가장 높은 권한(ADMIN > USER)의 설정을 사용합니다.
+	 */
+	public Limit limitOf(RateLimitGroup group, Set<UserRole> roles) {
+		Map<UserRole, Limit> byRole = limits.getOrDefault(group, Map.of());
+		if (roles.contains(UserRole.ADMIN) && byRole.containsKey(UserRole.ADMIN)) {
+			return byRole.get(UserRole.ADMIN);
+		}
+		return byRole.getOrDefault(UserRole.USER, defaults);
+	}
+
+	@Getter
+	@Setter
+	public static class Limit {
+		private int capacity;
+		private double refillPerMinute;
+
+		public Limit() {
+		}
+
+		public Limit(int capacity, double refillPerMinute) {
+			this.capacity = capacity;
+			this.refillPerMinute = refillPerMinute;
+		}
+	}
+}
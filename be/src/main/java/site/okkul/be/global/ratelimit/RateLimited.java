@@ -0,0 +1,27 @@
+package site.okkul.be.global.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자별 요청 수를 제한하는 컨트롤러 메서드
+ * <p>
+ * 같은 그룹의 엔드포인트는 사용자마다 하나의 토큰 버킷(Redis)을 공유하며,
+ * 버킷이 비면 핸들러를 실행하지 않고 429 와 Retry-After 를 응답합니다.
+ * 그룹/권한별 용량과 충전 속도는 {@code app.rate-limit.limits} 에서 설정합니다.
+ *
+ * @see RateLimitInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+	/**
+	 * 버킷 그룹
+	 */
+	RateLimitGroup value();
+}
@@ -0,0 +1,76 @@
+package site.okkul.be.global.ratelimit;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 토큰 버킷
+ * <p>
+ * 충전 계산과 차감을 Lua 스크립트 하나로 처리하고, 시각은 Redis TIME 을 사용하므로
+ * 여러 노드가 같은 버킷을 공유해도 노드 간 시계 차이의 영향을 받지 않습니다.
+ * 버킷은 가득 찰 때까지 걸리는 시간 동안만 유지됩니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+	/**
+	 * 반환: {허용 여부(1/0), 재시도까지 남은 시간(ms), 남은 토큰 수}
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of("""
+			local capacity = tonumber(ARGV[1])
+			local refill_per_ms = tonumber(ARGV[2])
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+			local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+			local tokens = tonumber(bucket[1]) or capacity
+			local ts = tonumber(bucket[2]) or now
+			tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+			local allowed = 0
+			local retry_after = 0
+			if tokens >= 1 then
+				tokens = tokens - 1
+				allowed = 1
+			else
+				retry_after = math.ceil((1 - tokens) / refill_per_ms)
+			end
+			redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+			redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms))
+			return {allowed, retry_after, math.floor(tokens)}
+			""", List.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 토큰 하나를 차감합니다.
+	 *
+	 * @param key   버킷 키
+	 * @param limit 버킷 용량/충전 속도
+	 */
+	public Decision tryConsume(String key, RateLimitProperties.Limit limit) {
+		double refillPerMillis = limit.getRefillPerMinute() / 60_000d;
+		List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+				Integer.toString(limit.getCapacity()), Double.toString(refillPerMillis));
+		if (result == null || result.size() < 3) {
+			throw new IllegalStateException("Unexpected rate limit script result: " + result);
+		}
+		return new Decision(
+				((Number) result.get(0)).longValue() == 1,
+				((Number) result.get(1)).longValue(),
+				((Number) result.get(2)).longValue()
+		);
+	}
+
+	/**
+	 * @param allowed          허용 여부
+	 * @param retryAfterMillis 다음 토큰까지 남은 시간 (거절 시)
+	 * @param remaining        남은 토큰 수
+	 */
+	public record Decision(boolean allowed, long retryAfterMillis, long remaining) {
+	}
+}
@@ -1,6 +1,7 @@
 package site.okkul.be.infra.ai;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
@@ -10,17 +11,20 @@ import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
 @Configuration
+@EnableConfigurationProperties(AiConcurrencyProperties.class)
 public class AiClientConfig {
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
     @Bean
-    public AiClient realAiClient() {
+    public AiClient realAiClient(AiConcurrencyLimiter aiConcurrencyLimiter) {
         // 1. RestClient 생성 (Spring MVC의 현대적인 HTTP 클라이언트)
         RestClient restClient = RestClient.builder()
 				.baseUrl(aiServerUrl)
 				.requestFactory(new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
+				// 동시 요청 제한이 가장 바깥 (RTT 에 로깅 시간 포함, 한도 대기 시간 제외)
+				.requestInterceptor(new AiConcurrencyLimitInterceptor(aiConcurrencyLimiter))
 				.requestInterceptor(new LoggingInterceptor())
                 .build();
 
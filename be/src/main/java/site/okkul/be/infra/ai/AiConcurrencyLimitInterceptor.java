@@ -0,0 +1,34 @@
+package site.okkul.be.infra.ai;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 실제 AI 서버 요청을 {@link AiConcurrencyLimiter} 허가 안에서 보내고, 결과(RTT, 과부하 여부)를 돌려줍니다.
+ * - 연결/읽기 실패(타임아웃 포함), 5xx, 429 는 과부하 신호(drop)로 봅니다.
+ */
+@RequiredArgsConstructor
+public class AiConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+
+	private final AiConcurrencyLimiter limiter;
+
+	@Override
+	public @NonNull ClientHttpResponse intercept(HttpRequest request, byte @NonNull [] body, ClientHttpRequestExecution execution) throws IOException {
+		AiConcurrencyLimiter.Permit permit = limiter.acquire();
+		boolean dropped = true;
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			dropped = response.getStatusCode().is5xxServerError()
+					|| response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+			return response;
+		} finally {
+			limiter.release(permit, dropped);
+		}
+	}
+}
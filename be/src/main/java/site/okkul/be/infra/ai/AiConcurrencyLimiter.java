@@ -0,0 +1,218 @@
+package site.okkul.be.infra.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import site.okkul.be.global.exception.BusinessException;
+
+/**
+ * AI 서버로 보내는 동시 요청 수를 RTT 로 조정하는 제한기 (TCP Vegas 방식)
+ * <p>
+ * 최소 RTT(rtt_noload)를 부하 없는 지연으로 보고, 요청마다 AI 서버에 쌓인 대기열 크기를 추정합니다.
+ * queue = limit x (1 - rtt_noload / rtt)
+ * - queue 가 log10(limit) 이하: limit + beta (빠르게 늘림)
+ * - queue 가 alpha 미만: limit + log10(limit)
+ * - queue 가 beta 초과: limit - log10(limit)
+ * - 타임아웃, 5xx, 429, 연결 오류 (drop): limit - log10(limit), 이 RTT 는 rtt_noload 에 쓰지 않음
+ * (alpha = 3 x log10(limit), beta = 6 x log10(limit))
+ * 한도를 넘는 요청은 max-wait 동안 빈자리를 기다리고, 그래도 없으면 거절합니다.
+ * 한도의 절반도 쓰지 않는 동안에는 늘리지 않습니다. (요청이 적어 생긴 낮은 지연으로 한도가 부풀지 않도록)
+ * </p>
+ */
+@Slf4j
+@Component
+public class AiConcurrencyLimiter {
+
+	private final AiConcurrencyProperties properties;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private double limit;
+	private int inFlight;
+	private long rttNoLoadNanos;
+	private int samplesUntilProbe;
+
+	private final Timer rttTimer;
+	private final Counter rejectedCounter;
+	private final Counter dropCounter;
+
+	public AiConcurrencyLimiter(AiConcurrencyProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.limit = properties.getInitialLimit();
+		this.samplesUntilProbe = nextProbeInterval();
+
+		Gauge.builder("ai.concurrency.limit", this, AiConcurrencyLimiter::currentLimit)
+				.description("AI 서버 동시 요청 한도 (Vegas)")
+				.register(meterRegistry);
+		Gauge.builder("ai.concurrency.inflight", this, AiConcurrencyLimiter::inFlight)
+				.description("AI 서버로 보낸 응답 대기 중인 요청 수")
+				.register(meterRegistry);
+		Gauge.builder("ai.concurrency.rtt.noload", this, limiter -> limiter.rttNoLoadNanos() / 1_000_000.0)
+				.description("부하 없는 AI 서버 RTT 추정값 (관측한 최소 RTT)")
+				.baseUnit("milliseconds")
+				.register(meterRegistry);
+		this.rttTimer = Timer.builder("ai.concurrency.rtt")
+				.description("AI 서버 요청 RTT")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("ai.concurrency.rejected")
+				.description("한도가 차서 거절한 AI 요청 수")
+				.register(meterRegistry);
+		this.dropCounter = Counter.builder("ai.concurrency.drops")
+				.description("타임아웃/과부하 응답으로 한도를 줄인 AI 요청 수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 빈자리를 얻습니다. (최대 max-wait 대기)
+	 *
+	 * @return 요청이 끝나면 {@link #release(Permit, boolean)} 로 돌려줘야 하는 허가
+	 * @throws BusinessException 기다려도 빈자리가 없는 경우 (503)
+	 */
+	public Permit acquire() {
+		if (!properties.isEnabled()) {
+			return new Permit(System.nanoTime(), 0, false);
+		}
+		long remainingNanos = properties.getMaxWait().toNanos();
+		lock.lock();
+		try {
+			while (inFlight >= (int) limit) {
+				if (remainingNanos <= 0) {
+					rejectedCounter.increment();
+					log.warn("AI concurrency limit reached. limit={}, inFlight={}", (int) limit, inFlight);
+					throw new BusinessException(AiErrorCode.AI_CONCURRENCY_LIMITED);
+				}
+				remainingNanos = released.awaitNanos(remainingNanos);
+			}
+			inFlight++;
+			return new Permit(System.nanoTime(), inFlight, true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(AiErrorCode.AI_CONCURRENCY_LIMITED);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 허가를 돌려줍니다.
+	 *
+	 * @param permit  {@link #acquire()} 로 얻은 허가
+	 * @param dropped 타임아웃이나 과부하 응답(5xx, 429)이면 true
+	 */
+	public void release(Permit permit, boolean dropped) {
+		if (permit.limited()) {
+			onComplete(permit, dropped);
+		}
+	}
+
+	/**
+	 * 요청 결과를 한도에 반영하고 자리를 돌려줍니다.
+	 */
+	private void onComplete(Permit permit, boolean dropped) {
+		long rttNanos = System.nanoTime() - permit.startNanos();
+		rttTimer.record(rttNanos, TimeUnit.NANOSECONDS);
+		if (dropped) {
+			dropCounter.increment();
+		}
+		lock.lock();
+		try {
+			inFlight--;
+			update(rttNanos, permit.inFlightAtStart(), dropped);
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Vegas 한도 계산 (lock 안에서 호출)
+	 */
+	void update(long rttNanos, int inFlightAtStart, boolean dropped) {
+		double log = Math.max(1, Math.log10(limit));
+		double newLimit;
+		if (dropped) {
+			// 실패한 요청의 RTT(바로 거절된 연결 등)는 기준 지연으로 쓰지 않음
+			newLimit = limit - log;
+		} else {
+			updateRttNoLoad(rttNanos);
+			if (inFlightAtStart * 2 < limit) {
+				// 한도를 다 쓰지 않고 있어 지연 정보가 한도에 대해 말해주는 게 없음
+				return;
+			}
+			double queue = Math.ceil(limit * (1 - (double) rttNoLoadNanos / rttNanos));
+			if (queue <= log) {
+				newLimit = limit + 6 * log;
+			} else if (queue < 3 * log) {
+				newLimit = limit + log;
+			} else if (queue > 6 * log) {
+				newLimit = limit - log;
+			} else {
+				return;
+			}
+		}
+		newLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+		limit = (1 - properties.getSmoothing()) * limit + properties.getSmoothing() * newLimit;
+	}
+
+	/**
+	 * 성공한 요청의 RTT 로 기준 지연을 갱신합니다. (lock 안에서 호출)
+	 * - probe 주기마다 이번 RTT 로 다시 잡아, 예전 최소값에 계속 묶이지 않도록 합니다.
+	 */
+	private void updateRttNoLoad(long rttNanos) {
+		if (--samplesUntilProbe <= 0) {
+			// 기준 지연 재측정: 이번 RTT 를 새 최소값 후보로 삼음
+			rttNoLoadNanos = rttNanos;
+			samplesUntilProbe = nextProbeInterval();
+		} else if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+			rttNoLoadNanos = rttNanos;
+		}
+	}
+
+	private int nextProbeInterval() {
+		return Math.max(1, properties.getProbeMultiplier() * (int) Math.max(1, limit));
+	}
+
+	public int currentLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int inFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private long rttNoLoadNanos() {
+		lock.lock();
+		try {
+			return rttNoLoadNanos;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 동시 요청 허가
+	 *
+	 * @param startNanos      요청 시작 시각
+	 * @param inFlightAtStart 요청 시작 시점의 동시 요청 수 (이 요청 포함)
+	 * @param limited         제한기가 켜져 있을 때 얻은 허가인지
+	 */
+	public record Permit(long startNanos, int inFlightAtStart, boolean limited) {
+	}
+}
@@ -0,0 +1,48 @@
+package site.okkul.be.infra.ai;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 서버 동시 요청 수 제한(Vegas) 설정
+ *
+ * <pre>
+ * ai:
+ *   concurrency:
+ *     initial-limit: 8
+ *     min-limit: 1
+ *     max-limit: 64
+ *     max-wait: 30s   # 한도가 찰 때 빈자리를 기다리는 최대 시간 (넘으면 거절)
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.concurrency")
+public class AiConcurrencyProperties {
+
+	/**
+	 * false 면 제한 없이 요청
+	 */
+	private boolean enabled = true;
+
+	private int initialLimit = 8;
+	private int minLimit = 1;
+	private int maxLimit = 64;
+
+	/**
+	 * 한도가 찼을 때 빈자리를 기다리는 최대 시간
+	 */
+	private Duration maxWait = Duration.ofSeconds(30);
+
+	/**
+	 * 새 한도 반영 비율 (0~1, 1 이면 계산한 값을 그대로 사용)
+	 */
+	private double smoothing = 1.0;
+
+	/**
+	 * 한도 x probe-multiplier 번 요청마다 최소 RTT 를 다시 잽니다. (AI 서버 모델/장비 변경으로 기준 지연이 바뀌는 경우 대비)
+	 */
+	private int probeMultiplier = 30;
+}
@@ -0,0 +1,28 @@
+package site.okkul.be.infra.ai;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestClientException;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum AiErrorCode implements ErrorCode {
+
+	AI_CONCURRENCY_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "AI_001", "AI 서버가 처리할 수 있는 요청 수를 넘었습니다. 잠시 후 다시 시도해주세요.");
+
+	private final HttpStatus status;
+	private final String code;
+	private final String message;
+
+	/**
+	 * AI 호출 자체가 실패한 예외인지 확인 (연결 오류/타임아웃/오류 응답, 동시 요청 상한 초과)
+	 * 분석 상태를 바로 실패로 돌려야 하는 경우이며, 펜싱 충돌 같은 다른 예외는 제외합니다.
+	 */
+	public static boolean isAiCallFailure(Throwable e) {
+		return e instanceof RestClientException
+				|| e instanceof BusinessException be && be.getErrorCode() == AI_CONCURRENCY_LIMITED;
+	}
+}
@@ -15,7 +15,7 @@ public record ExamTotalRequest(
 	public static ExamTotalRequest from(Exam exam) {
 		return new ExamTotalRequest(
 				exam.getId(),
-				exam.getExamAnswers().stream().map(AnswerSummaryDto::from).toList()
+				exam.getSubmittedAnswers().stream().map(AnswerSummaryDto::from).toList()
 		);
 	}
 
@@ -18,7 +18,7 @@ public record QuestionAnalysisRequest(
 
 		// 3. (선택사항) 발음/유창성 분석용
 		@JsonProperty("audio_url")
-		String audioUrl,         // S3에 저장된 음성 파일 URL (ExamAnswer.audio_url)
+		String audioUrl,         // 음성 파일 URL (ExamAnswer.audio_url 의 /media 프록시 URL)
 
 		// 4. 추가 컨텍스트
 		@JsonProperty("question_type")
@@ -31,11 +31,14 @@ public record QuestionAnalysisRequest(
 		@JsonProperty("question_order")
 		Integer questionOrder
 ) {
-	public static QuestionAnalysisRequest from(Question question, ExamAnswer answer) {
+	/**
+	 * @param audioUrl AI 서버가 내려받을 음성 URL (스풀에서 아직 MinIO 에 올라가지 않은 객체도 받을 수 있도록 /media 프록시 URL)
+	 */
+	public static QuestionAnalysisRequest from(Question question, ExamAnswer answer, String audioUrl) {
 		return new QuestionAnalysisRequest(
 				answer.getUserAnswer(),
 				question.getQuestionText(),
-				answer.getAudioUrl(),
+				audioUrl,
 				question.getQuestionSet().getQuestionType().getTypeCode(),
 				question.getQuestionSet().getLevel(),
 				answer.getId().getQuestionOrder()
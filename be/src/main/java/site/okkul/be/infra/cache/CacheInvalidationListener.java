@@ -0,0 +1,33 @@
+package site.okkul.be.infra.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * 다른 노드에서 발행한 무효화 메시지를 받아 현재 노드의 L1 캐시를 비웁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+	private final TwoLevelCacheManager cacheManager;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			CacheInvalidationMessage invalidation = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8),
+					CacheInvalidationMessage.class
+			);
+			cacheManager.evictLocal(invalidation);
+		} catch (IOException e) {
+			log.warn("캐시 무효화 메시지 파싱 실패", e);
+		}
+	}
+}
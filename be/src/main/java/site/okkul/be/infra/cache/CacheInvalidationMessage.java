@@ -0,0 +1,18 @@
+package site.okkul.be.infra.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * @param nodeId    메시지를 발행한 노드 (자기 자신이 보낸 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null 이면 캐시 전체 비우기)
+ */
+public record CacheInvalidationMessage(
+		String nodeId,
+		String cacheName,
+		String key
+) {
+	public boolean isClear() {
+		return key == null;
+	}
+}
@@ -0,0 +1,50 @@
+package site.okkul.be.infra.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * L1 캐시 무효화 메시지를 Redis pub/sub 으로 발행
+ * <p>
+ * 발행 실패는 로그만 남깁니다. 다른 노드의 L1 은 local-ttl 이 지나면 자연스럽게 갱신됩니다.
+ * </p>
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+	/**
+	 * 현재 노드 식별자 (자기 자신이 발행한 메시지를 걸러내기 위해 사용)
+	 */
+	@Getter
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String topic;
+
+	public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String topic) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.topic = topic;
+	}
+
+	public void publishEvict(String cacheName, String key) {
+		publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+	}
+
+	public void publishClear(String cacheName) {
+		publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+	}
+
+	private void publish(CacheInvalidationMessage message) {
+		try {
+			redisTemplate.convertAndSend(topic, objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", message.cacheName(), message.key(), e);
+		}
+	}
+}
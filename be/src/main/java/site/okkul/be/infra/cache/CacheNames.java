@@ -0,0 +1,38 @@
+package site.okkul.be.infra.cache;
+
+/**
+ * 2단계 캐시 이름 모음
+ * <p>
+ * 캐시별 TTL/크기는 application.yml 의 app.cache.caches.{이름} 으로 설정합니다.
+ * </p>
+ */
+public final class CacheNames {
+
+	/**
+	 * 설문조사용 카테고리별 토픽 목록
+	 */
+	public static final String SURVEY_TOPICS = "survey-topics";
+
+	/**
+	 * 사용자별 최근 설문조사 목록
+	 */
+	public static final String USER_SURVEYS = "user-surveys";
+
+	/**
+	 * 설문조사 상세
+	 */
+	public static final String SURVEY_DETAIL = "survey-detail";
+
+	/**
+	 * 분석 완료된 모의고사 문항 피드백 (examId:questionOrder)
+	 */
+	public static final String EXAM_ANSWER_DETAIL = "exam-answer-detail";
+
+	/**
+	 * 리포트가 생성된 모의고사 히스토리 상세 (examId)
+	 */
+	public static final String EXAM_REPORT_DETAIL = "exam-report-detail";
+
+	private CacheNames() {
+	}
+}
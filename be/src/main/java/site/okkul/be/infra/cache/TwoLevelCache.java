@@ -0,0 +1,186 @@
+package site.okkul.be.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시
+ * <p>
+ * 조회: L1 → L2 → 원본 순서로 찾고, 하위 계층에서 찾은 값은 상위 계층에 채워 넣습니다.
+ * 같은 키에 대한 동시 적재(@Cacheable(sync = true))는 Caffeine 의 키 단위 잠금으로 한 번만 수행됩니다.
+ * 변경/삭제 시에는 Redis pub/sub 으로 다른 노드의 L1 을 무효화합니다.
+ * </p>
+ * Redis 장애 시에는 L1 과 원본 조회만으로 동작하도록 L2 예외는 로그만 남기고 무시합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+	private final Cache<String, Object> local;
+	private final org.springframework.cache.Cache remote;
+	private final CacheInvalidationPublisher publisher;
+
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+	private final Counter remoteErrors;
+	private final Counter invalidations;
+
+	public TwoLevelCache(String name,
+						 Cache<String, Object> local,
+						 org.springframework.cache.Cache remote,
+						 CacheInvalidationPublisher publisher,
+						 MeterRegistry meterRegistry) {
+		super(true);
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.publisher = publisher;
+
+		CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "local");
+		this.remoteHits = Counter.builder("cache.gets")
+				.tags("cache", name, "tier", "remote", "result", "hit")
+				.register(meterRegistry);
+		this.remoteMisses = Counter.builder("cache.gets")
+				.tags("cache", name, "tier", "remote", "result", "miss")
+				.register(meterRegistry);
+		this.remoteErrors = Counter.builder("cache.remote.errors")
+				.tag("cache", name)
+				.register(meterRegistry);
+		this.invalidations = Counter.builder("cache.invalidations")
+				.tag("cache", name)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return local;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		String cacheKey = toCacheKey(key);
+		Object value = local.getIfPresent(cacheKey);
+		if (value != null) {
+			return value;
+		}
+
+		ValueWrapper remoteValue = remoteGet(cacheKey);
+		if (remoteValue == null) {
+			return null;
+		}
+		Object storeValue = toStoreValue(remoteValue.get());
+		local.put(cacheKey, storeValue);
+		return storeValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String cacheKey = toCacheKey(key);
+		// 같은 키로 동시에 들어온 요청은 여기서 하나만 적재하고 나머지는 결과를 기다립니다.
+		Object storeValue = local.get(cacheKey, k -> {
+			ValueWrapper remoteValue = remoteGet(k);
+			if (remoteValue != null) {
+				return toStoreValue(remoteValue.get());
+			}
+
+			T value;
+			try {
+				value = valueLoader.call();
+			} catch (Exception ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+			remotePut(k, value);
+			return toStoreValue(value);
+		});
+		return (T) fromStoreValue(storeValue);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		String cacheKey = toCacheKey(key);
+		local.put(cacheKey, toStoreValue(value));
+		remotePut(cacheKey, value);
+		publisher.publishEvict(name, cacheKey);
+	}
+
+	@Override
+	public void evict(Object key) {
+		String cacheKey = toCacheKey(key);
+		local.invalidate(cacheKey);
+		try {
+			remote.evict(cacheKey);
+		} catch (RuntimeException e) {
+			remoteErrors.increment();
+			log.warn("L2 캐시 삭제 실패 - cache: {}, key: {}", name, cacheKey, e);
+		}
+		invalidations.increment();
+		publisher.publishEvict(name, cacheKey);
+	}
+
+	@Override
+	public void clear() {
+		local.invalidateAll();
+		try {
+			remote.clear();
+		} catch (RuntimeException e) {
+			remoteErrors.increment();
+			log.warn("L2 캐시 전체 삭제 실패 - cache: {}", name, e);
+		}
+		invalidations.increment();
+		publisher.publishClear(name);
+	}
+
+	/**
+	 * 다른 노드의 변경 알림을 받았을 때 L1 만 비웁니다. (L2 는 이미 갱신된 상태)
+	 */
+	void evictLocal(String cacheKey) {
+		if (cacheKey == null) {
+			local.invalidateAll();
+		} else {
+			local.invalidate(cacheKey);
+		}
+	}
+
+	private ValueWrapper remoteGet(String cacheKey) {
+		try {
+			ValueWrapper value = remote.get(cacheKey);
+			if (value == null) {
+				remoteMisses.increment();
+			} else {
+				remoteHits.increment();
+			}
+			return value;
+		} catch (RuntimeException e) {
+			remoteErrors.increment();
+			log.warn("L2 캐시 조회 실패 - cache: {}, key: {}", name, cacheKey, e);
+			return null;
+		}
+	}
+
+	private void remotePut(String cacheKey, Object value) {
+		try {
+			remote.put(cacheKey, value);
+		} catch (RuntimeException e) {
+			remoteErrors.increment();
+			log.warn("L2 캐시 저장 실패 - cache: {}, key: {}", name, cacheKey, e);
+		}
+	}
+
+	/**
+	 * 노드 간 무효화 메시지로 키를 주고받기 위해 L1/L2 모두 문자열 키를 사용합니다.
+	 */
+	private static String toCacheKey(Object key) {
+		return key instanceof String s ? s : String.valueOf(key);
+	}
+}
@@ -0,0 +1,79 @@
+package site.okkul.be.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+/**
+ * 2단계 캐시 매니저
+ * <p>
+ * 트랜잭션 안에서 발생한 put/evict 는 커밋 이후에 반영됩니다. (커밋 전 값이 다른 요청에 노출되지 않도록)
+ * </p>
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+	private final TwoLevelCacheProperties properties;
+	private final RedisCacheManager redisCacheManager;
+	private final CacheInvalidationPublisher publisher;
+	private final MeterRegistry meterRegistry;
+
+	private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+	public TwoLevelCacheManager(TwoLevelCacheProperties properties,
+								RedisCacheManager redisCacheManager,
+								CacheInvalidationPublisher publisher,
+								MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.redisCacheManager = redisCacheManager;
+		this.publisher = publisher;
+		this.meterRegistry = meterRegistry;
+		setTransactionAware(true);
+	}
+
+	@Override
+	protected Collection<? extends Cache> loadCaches() {
+		return properties.getCaches().keySet().stream()
+				.map(this::createCache)
+				.toList();
+	}
+
+	@Override
+	protected Cache getMissingCache(String name) {
+		return createCache(name);
+	}
+
+	/**
+	 * 다른 노드에서 발행한 무효화 메시지 반영 (자기 자신이 발행한 메시지는 무시)
+	 */
+	public void evictLocal(CacheInvalidationMessage message) {
+		if (publisher.getNodeId().equals(message.nodeId())) {
+			return;
+		}
+		TwoLevelCache cache = twoLevelCaches.get(message.cacheName());
+		if (cache != null) {
+			cache.evictLocal(message.key());
+		}
+	}
+
+	private TwoLevelCache createCache(String name) {
+		return twoLevelCaches.computeIfAbsent(name, cacheName -> {
+			TwoLevelCacheProperties.Spec spec = properties.specOf(cacheName);
+			return new TwoLevelCache(
+					cacheName,
+					Caffeine.newBuilder()
+							.maximumSize(spec.getMaximumSize())
+							.expireAfterWrite(spec.getLocalTtl())
+							.recordStats()
+							.build(),
+					redisCacheManager.getCache(cacheName),
+					publisher,
+					meterRegistry
+			);
+		});
+	}
+}
@@ -0,0 +1,78 @@
+package site.okkul.be.infra.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 2단계 캐시(Caffeine L1 + Redis L2) 설정
+ *
+ * <pre>
+ * app:
+ *   cache:
+ *     defaults:
+ *       ttl: 10m          # Redis(L2) 만료 시간
+ *       local-ttl: 1m     # Caffeine(L1) 만료 시간
+ *       maximum-size: 1000 # Caffeine(L1) 최대 엔트리 수
+ *     caches:
+ *       survey-topics:
+ *         ttl: 1h
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoLevelCacheProperties {
+
+	/**
+	 * 노드 간 L1 무효화 메시지를 주고받는 Redis 채널
+	 */
+	private String invalidationTopic = "okkul:cache:invalidation";
+
+	/**
+	 * Redis 키 접두사 (최종 키: {keyPrefix}{cacheName}::{key})
+	 */
+	private String keyPrefix = "okkul:cache:";
+
+	/**
+	 * 캐시별 설정이 없을 때 사용하는 기본값
+	 */
+	private Spec defaults = new Spec(Duration.ofMinutes(10), Duration.ofMinutes(1), 1000L);
+
+	/**
+	 * 캐시별 설정 (비어있는 항목은 defaults 값을 사용)
+	 */
+	private Map<String, Spec> caches = new HashMap<>();
+
+	public Spec specOf(String cacheName) {
+		Spec spec = caches.get(cacheName);
+		if (spec == null) {
+			return defaults;
+		}
+		return new Spec(
+				spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+				spec.getLocalTtl() != null ? spec.getLocalTtl() : defaults.getLocalTtl(),
+				spec.getMaximumSize() != null ? spec.getMaximumSize() : defaults.getMaximumSize()
+		);
+	}
+
+	@Getter
+	@Setter
+	public static class Spec {
+		private Duration ttl;
+		private Duration localTtl;
+		private Long maximumSize;
+
+		public Spec() {
+		}
+
+		public Spec(Duration ttl, Duration localTtl, Long maximumSize) {
+			this.ttl = ttl;
+			this.localTtl = localTtl;
+			this.maximumSize = maximumSize;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package site.okkul.be.infra.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 여러 서버(레플리카)에 걸친 임대(lease) 기반 락
+ * <p>
+ * 같은 키의 작업이 동시에 한 곳에서만 실행되도록 합니다.
+ * 락은 임대 시간이 지나면 저절로 풀리므로(서버가 죽어도 영원히 잠기지 않음),
+ * 임대 시간보다 오래 걸린 작업의 결과는 {@link LockLease#fencingToken()} 으로 걸러야 합니다.
+ * </p>
+ */
+public interface DistributedLock {
+
+	/**
+	 * 락을 획득합니다. (기다리지 않음)
+	 *
+	 * @return 획득하면 임대 정보, 다른 곳에서 잡고 있으면 빈 값
+	 */
+	Optional<LockLease> tryAcquire(String key, Duration leaseTime);
+
+	/**
+	 * 아직 내 락이면 해제합니다.
+	 *
+	 * @return 해제했으면 true, 이미 만료되어 다른 곳이 가져갔으면 false
+	 */
+	boolean release(LockLease lease);
+
+	/**
+	 * 이 서버가 잡고 있는 락을 모두 해제합니다.
+	 * - 종료 시 끝나지 않은 작업을 다른 서버에 넘길 때, 임대 시간이 지날 때까지 기다리지 않도록 합니다.
+	 * - 아직 실행 중인 작업의 늦은 쓰기는 펜싱 토큰으로 걸러집니다.
+	 */
+	void releaseHeld();
+
+	/**
+	 * 락을 잡고 작업을 실행한 뒤 해제합니다.
+	 * - 트랜잭션 메서드를 호출하면 커밋까지 끝난 뒤에 해제됩니다.
+	 *
+	 * @return 실행했으면 true, 다른 곳에서 실행 중이라 건너뛰었으면 false
+	 */
+	default boolean runExclusively(String key, Duration leaseTime, Consumer<LockLease> action) {
+		Optional<LockLease> lease = tryAcquire(key, leaseTime);
+		if (lease.isEmpty()) {
+			return false;
+		}
+		try {
+			action.accept(lease.get());
+			return true;
+		} finally {
+			release(lease.get());
+		}
+	}
+}
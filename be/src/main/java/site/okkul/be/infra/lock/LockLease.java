@@ -0,0 +1,12 @@
+package site.okkul.be.infra.lock;
+
+/**
+ * 획득한 분산 락
+ *
+ * @param key          락 키
+ * @param owner        획득한 쪽 식별자 (해제 시 비교)
+ * @param fencingToken 획득할 때마다 커지는 번호
+ *                     - 임대 시간이 지나 락을 잃은 쪽의 늦은 쓰기를 막기 위해, 결과를 쓰는 곳에서 이전에 쓴 번호보다 큰지 확인합니다.
+ */
+public record LockLease(String key, String owner, long fencingToken) {
+}
@@ -0,0 +1,108 @@
+package site.okkul.be.infra.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 분산 락
+ * <p>
+ * 락 키 값은 획득한 쪽의 owner(UUID)이며, SET PX 로 임대 시간을 둡니다.
+ * 해제는 owner 가 일치할 때만 Lua 스크립트로 처리합니다.
+ * 펜싱 토큰은 전체 키가 공유하는 카운터로 발급하고, Redis TIME(마이크로초)보다 작아지지 않게 맞춰,
+ * Redis 데이터가 초기화되어도 이전에 발급한 번호보다 작아지지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RedisDistributedLock implements DistributedLock {
+
+	/**
+	 * 비어 있으면 펜싱 토큰을 발급하고 락을 잡음 (이미 잡혀 있으면 0)
+	 */
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of("""
+			if redis.call('EXISTS', KEYS[1]) == 1 then
+				return 0
+			end
+			local time = redis.call('TIME')
+			local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+			local token = redis.call('INCR', KEYS[2])
+			if token < now then
+				token = now
+				redis.call('SET', KEYS[2], string.format('%.0f', token))
+			end
+			redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+			return token
+			""", Long.class);
+
+	/**
+	 * owner 가 일치할 때만 삭제
+	 */
+	private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+				return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final String keyPrefix;
+
+	/**
+	 * 이 서버가 획득하고 아직 해제하지 않은 락
+	 */
+	private final Set<LockLease> held = ConcurrentHashMap.newKeySet();
+
+	public RedisDistributedLock(StringRedisTemplate redisTemplate,
+								@Value("${app.lock.key-prefix:okkul:lock:}") String keyPrefix) {
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = keyPrefix;
+	}
+
+	@Override
+	public Optional<LockLease> tryAcquire(String key, Duration leaseTime) {
+		String owner = UUID.randomUUID().toString();
+		Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+				List.of(keyPrefix + key, keyPrefix + "fencing-token"),
+				owner, Long.toString(leaseTime.toMillis()));
+		if (token == null || token == 0) {
+			return Optional.empty();
+		}
+		LockLease lease = new LockLease(key, owner, token);
+		held.add(lease);
+		return Optional.of(lease);
+	}
+
+	@Override
+	public boolean release(LockLease lease) {
+		if (!held.remove(lease)) {
+			return false;
+		}
+		try {
+			Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(keyPrefix + lease.key()), lease.owner());
+			return released != null && released == 1;
+		} catch (DataAccessException e) {
+			// 임대 시간이 지나면 저절로 풀림
+			log.warn("Lock release failed. key={}", lease.key(), e);
+			return false;
+		}
+	}
+
+	@Override
+	public void releaseHeld() {
+		for (LockLease lease : List.copyOf(held)) {
+			if (release(lease)) {
+				log.info("Lock released for handoff. key={}", lease.key());
+			}
+		}
+	}
+}
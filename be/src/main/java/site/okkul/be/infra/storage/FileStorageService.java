@@ -1,6 +1,10 @@
 package site.okkul.be.infra.storage;
 
 import org.springframework.web.multipart.MultipartFile;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 public interface FileStorageService {
 
@@ -13,6 +17,45 @@ public interface FileStorageService {
      */
     String upload(MultipartFile file, String domain);
 
+    /**
+     * 크기를 모르는 입력 스트림을 버퍼링 없이 업로드하고 접근 가능한 URL을 반환합니다.
+     *
+     * @param in          업로드할 본문 스트림 (끝까지 읽습니다)
+     * @param filename    원본 파일명 (확장자 추출용, null 가능)
+     * @param contentType 본문 Content-Type
+     * @param domain      파일이 속할 도메인 (폴더처럼 사용됩니다)
+     * @return 접근 가능한 전체 파일 URL
+     * @throws IOException 입력 스트림 읽기 실패 (클라이언트 중단, 크기 초과 등)
+     */
+    String uploadStream(InputStream in, String filename, String contentType, String domain) throws IOException;
+
+    /**
+     * 클라이언트가 스토리지에 직접 업로드할 수 있는 Presigned PUT URL을 발급합니다.
+     *
+     * @param keyPrefix 객체 키 prefix (예: "exam/12/answer/3/"). 고유 파일명은 내부에서 붙입니다.
+     * @return 객체 키, 업로드 URL, 만료 시각
+     */
+    PresignedUploadResponse issueUpload(String keyPrefix);
+
+    /**
+     * 클라이언트가 직접 업로드한 객체를 확인하고 접근 가능한 URL을 반환합니다.
+     * 객체 키가 prefix 에 속하는지, 크기와 Content-Type 이 허용 범위인지 검사합니다.
+     *
+     * @param objectKey 발급받았던 객체 키
+     * @param keyPrefix 이 요청에서 허용되는 객체 키 prefix
+     * @return 접근 가능한 전체 파일 URL
+     */
+    String confirmUpload(String objectKey, String keyPrefix);
+
+    /**
+     * 업로드한 파일이 모든 서버에서 읽히는 저장소에 반영될 때까지 기다립니다.
+     * 다른 서버나 AI 서버에 URL 을 넘기기 전에 호출합니다. 업로드 시점에 바로 저장하는 구현은 아무것도 하지 않습니다.
+     *
+     * @param fileUrl 업로드 시 반환된 파일 URL
+     */
+    default void awaitStored(String fileUrl) {
+    }
+
     /**
      * 파일 URL을 기반으로 스토리지에서 파일을 삭제합니다.
      *
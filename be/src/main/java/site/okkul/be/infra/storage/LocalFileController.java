@@ -0,0 +1,73 @@
+package site.okkul.be.infra.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * {@link LocalFileStorageService} 에 저장된 파일을 제공합니다.
+ * 객체 키는 UUID 기반이라 내용이 바뀌지 않으므로 immutable 로 캐시합니다.
+ */
+@RestController
+@Profile(LocalFileStorageService.PROFILE)
+@RequiredArgsConstructor
+public class LocalFileController implements LocalFileControllerDocs {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final LocalFileStorageService localFileStorageService;
+    private final RangeFileResponder rangeFileResponder;
+
+    @Override
+    @GetMapping(LocalFileStorageService.FILES_PATH + "**")
+    public void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String objectKey = objectKeyOf(request);
+        rangeFileResponder.respond(
+                request,
+                response,
+                localFileStorageService.locate(objectKey),
+                localFileStorageService.contentTypeOf(objectKey).orElse(null),
+                IMMUTABLE
+        );
+    }
+
+    @Override
+    @PutMapping(LocalFileStorageService.FILES_PATH + "**")
+    public ResponseEntity<Void> upload(
+            @RequestParam long expires,
+            @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        localFileStorageService.receiveSignedUpload(
+                objectKeyOf(request),
+                expires,
+                signature,
+                request.getInputStream(),
+                contentType,
+                request.getContentLengthLong()
+        );
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * /files/exam/1/answer/3/uuid -> exam/1/answer/3/uuid
+     */
+    private static String objectKeyOf(HttpServletRequest request) {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        return path.substring(LocalFileStorageService.FILES_PATH.length());
+    }
+}
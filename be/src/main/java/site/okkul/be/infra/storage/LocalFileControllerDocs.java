@@ -0,0 +1,45 @@
+package site.okkul.be.infra.storage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+
+@Tag(name = "로컬 파일", description = "local-storage 프로필에서 업로드 파일을 제공하는 API")
+public interface LocalFileControllerDocs {
+
+    @Operation(
+            summary = "파일 다운로드",
+            description = "객체 키에 해당하는 파일을 반환합니다. Range 요청(단일 구간)을 지원하며 206 Partial Content 로 응답합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "전체 파일"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
+            @ApiResponse(responseCode = "404", description = "파일 없음"),
+            @ApiResponse(responseCode = "416", description = "만족할 수 없는 Range")
+    })
+    void download(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    @Operation(
+            summary = "서명된 URL 로 파일 업로드",
+            description = "upload-url API 가 발급한 URL 로 본문을 그대로 PUT 합니다. (MinIO Presigned PUT 과 동일한 사용법)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업로드 성공"),
+            @ApiResponse(responseCode = "400", description = "파일 크기 초과 / 유효하지 않은 객체 키"),
+            @ApiResponse(responseCode = "403", description = "만료되었거나 서명이 맞지 않는 URL")
+    })
+    ResponseEntity<Void> upload(
+            @Parameter(description = "만료 시각 (epoch seconds)") long expires,
+            @Parameter(description = "업로드 URL 서명") String signature,
+            @Parameter(hidden = true) String contentType,
+            HttpServletRequest request
+    ) throws IOException;
+}
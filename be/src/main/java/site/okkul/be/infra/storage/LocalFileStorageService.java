@@ -0,0 +1,326 @@
+package site.okkul.be.infra.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.SystemException;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로컬 파일시스템 스토리지 (자가 호스팅 / 단일 머신 테스트용)
+ * <p>
+ * 객체 키는 MinIO 와 같은 {@code {domain}/{uuid}.{ext}} 구조를 그대로 파일 경로로 사용하므로,
+ * 루트 디렉터리를 버킷에 그대로 복사(mc mirror 등)하면 마이그레이션됩니다.
+ * Content-Type 은 루트 아래 {@code .meta/} 에 객체 키와 같은 경로로 따로 보관합니다.
+ * <p>
+ * 파일은 {@link FileChannel#transferFrom} 으로 임시 파일에 쓴 뒤 원자적으로 이동하므로,
+ * 읽는 쪽에서 쓰다 만 파일을 보지 않습니다. 다운로드는 {@link LocalFileController} 가 제공합니다.
+ */
+@Slf4j
+@Service
+@Profile(LocalFileStorageService.PROFILE)
+public class LocalFileStorageService implements FileStorageService {
+
+    public static final String PROFILE = "local-storage";
+
+    /**
+     * 파일 다운로드/직접 업로드 엔드포인트 경로
+     */
+    static final String FILES_PATH = "/files/";
+
+    private static final String META_DIR = ".meta";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final Path root;
+    private final Path metaRoot;
+    private final String publicBaseUrl;
+    private final Duration presignExpiry;
+    private final DataSize maxObjectSize;
+    private final SecretKeySpec signingKey;
+
+    public LocalFileStorageService(
+            @Value("${storage.local.root}") Path root,
+            @Value("${storage.local.public-base-url}") String publicBaseUrl,
+            @Value("${storage.local.signing-secret:}") String signingSecret,
+            @Value("${minio.presign-expiry:10m}") Duration presignExpiry,
+            @Value("${minio.max-object-size:25MB}") DataSize maxObjectSize
+    ) throws IOException {
+        this.root = Files.createDirectories(root.toAbsolutePath().normalize());
+        this.metaRoot = Files.createDirectories(this.root.resolve(META_DIR));
+        this.publicBaseUrl = StringUtils.trimTrailingCharacter(publicBaseUrl, '/');
+        this.presignExpiry = presignExpiry;
+        this.maxObjectSize = maxObjectSize;
+
+        // 시크릿이 없으면 기동마다 새로 생성 (재시작 전에 발급된 업로드 URL 은 무효)
+        byte[] secret;
+        if (StringUtils.hasText(signingSecret)) {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        } else {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        }
+        this.signingKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        log.info("Local file storage enabled. root={}", this.root);
+    }
+
+    @Override
+    public String upload(MultipartFile file, String domain) {
+        String objectName = domain + "/" + UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            write(objectName, in, file.getContentType(), Long.MAX_VALUE);
+            return toUrl(objectName);
+        } catch (IOException e) {
+            log.error("Local file upload error", e);
+            throw new SystemException(StorageErrorCode.UPLOAD_FAILED,
+                    "로컬 파일 저장 실패",
+                    "objectName=" + objectName + ", reason=" + e.getMessage());
+        }
+    }
+
+    @Override
+    public String uploadStream(InputStream in, String filename, String contentType, String domain) throws IOException {
+        String objectName = domain + "/" + UUID.randomUUID() + extensionOf(filename);
+        write(objectName, in, contentType, Long.MAX_VALUE);
+        return toUrl(objectName);
+    }
+
+    /**
+     * MinIO Presigned PUT 과 같은 방식으로, 만료 시각과 HMAC 서명을 붙인 백엔드 업로드 URL 을 발급합니다.
+     */
+    @Override
+    public PresignedUploadResponse issueUpload(String keyPrefix) {
+        String objectName = keyPrefix + UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(presignExpiry);
+        String uploadUrl = toUrl(objectName)
+                + "?expires=" + expiresAt.getEpochSecond()
+                + "&signature=" + sign(objectName, expiresAt.getEpochSecond());
+        return new PresignedUploadResponse(objectName, uploadUrl, expiresAt);
+    }
+
+    /**
+     * 서명된 업로드 URL 로 들어온 본문을 저장합니다.
+     *
+     * @param objectKey     업로드 URL 의 객체 키
+     * @param expires       업로드 URL 만료 시각 (epoch seconds)
+     * @param signature     업로드 URL 서명
+     * @param in            요청 본문
+     * @param contentType   요청 Content-Type
+     * @param contentLength 요청 Content-Length (모르면 -1)
+     */
+    public void receiveSignedUpload(String objectKey, long expires, String signature,
+                                    InputStream in, String contentType, long contentLength) {
+        // 1. 만료 / 서명 검사
+        if (Instant.now().getEpochSecond() > expires
+                || signature == null
+                || !MessageDigest.isEqual(
+                sign(objectKey, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new BusinessException(StorageErrorCode.INVALID_UPLOAD_SIGNATURE);
+        }
+        if (contentLength > maxObjectSize.toBytes()) {
+            throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+        }
+
+        // 2. 저장 (Content-Length 가 없는 chunked 요청도 있으므로 받은 바이트 수로 한 번 더 제한)
+        try {
+            write(objectKey, in, contentType, maxObjectSize.toBytes());
+        } catch (IOException e) {
+            log.error("Local signed upload error", e);
+            throw new SystemException(StorageErrorCode.UPLOAD_FAILED,
+                    "로컬 파일 저장 실패",
+                    "objectName=" + objectKey + ", reason=" + e.getMessage());
+        }
+    }
+
+    @Override
+    public String confirmUpload(String objectKey, String keyPrefix) {
+        // 1. 다른 답변/사용자의 객체를 가리키지 못하도록 prefix 검사
+        if (objectKey == null || !objectKey.startsWith(keyPrefix) || objectKey.contains("..")) {
+            throw new BusinessException(StorageErrorCode.INVALID_OBJECT_KEY);
+        }
+
+        // 2. 실제 업로드 여부 확인
+        Path file = resolve(objectKey);
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new BusinessException(StorageErrorCode.UPLOADED_OBJECT_NOT_FOUND);
+        }
+
+        // 3. 크기 / 형식 검사 (통과하지 못한 객체는 바로 정리)
+        if (size > maxObjectSize.toBytes()) {
+            removeQuietly(objectKey);
+            throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+        }
+        String contentType = contentTypeOf(objectKey).orElse(null);
+        if (contentType == null || !contentType.startsWith("audio/")) {
+            removeQuietly(objectKey);
+            throw new BusinessException(StorageErrorCode.INVALID_CONTENT_TYPE);
+        }
+
+        return toUrl(objectKey);
+    }
+
+    @Override
+    public void delete(String fileUrl) {
+        // 예: http://localhost:8080/files/profiles/image.jpg -> profiles/image.jpg
+        String objectName = fileUrl.substring(fileUrl.indexOf(FILES_PATH) + FILES_PATH.length());
+        try {
+            Files.deleteIfExists(resolve(objectName));
+            Files.deleteIfExists(metaPathOf(objectName));
+        } catch (IOException e) {
+            log.error("Local file delete error", e);
+            throw new SystemException(StorageErrorCode.DELETE_FAILED,
+                    "로컬 파일 삭제 실패",
+                    "objectName=" + objectName + ", reason=" + e.getMessage());
+        }
+    }
+
+    /**
+     * 다운로드할 파일 경로를 찾습니다.
+     *
+     * @param objectKey 객체 키
+     * @return 존재하는 일반 파일 경로
+     */
+    public Path locate(String objectKey) {
+        Path file = resolve(objectKey);
+        if (!Files.isRegularFile(file)) {
+            throw new BusinessException(StorageErrorCode.FILE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    /**
+     * 업로드 시 저장한 Content-Type 을 조회합니다.
+     */
+    public Optional<String> contentTypeOf(String objectKey) {
+        try {
+            return Optional.of(Files.readString(metaPathOf(objectKey), StandardCharsets.UTF_8))
+                    .filter(StringUtils::hasText);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 임시 파일에 끝까지 쓴 뒤 최종 경로로 원자적으로 이동합니다.
+     *
+     * @param maxBytes 허용하는 최대 크기. 넘으면 {@link StorageErrorCode#FILE_TOO_LARGE} 로 중단하고 임시 파일을 지웁니다.
+     */
+    private void write(String objectName, InputStream in, String contentType, long maxBytes) throws IOException {
+        Path target = resolve(objectName);
+        Path dir = Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(dir, ".upload-", ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel src = Channels.newChannel(in)) {
+                long position = 0;
+                long transferred;
+                // 원본 채널이 EOF 에 도달하면 0 을 반환. 한도를 1바이트 넘겨 읽히면 초과로 판단
+                // (남은 한도에 1을 더하는 것은 청크보다 작을 때만 - maxBytes 가 Long.MAX_VALUE 여도 넘치지 않도록)
+                while ((transferred = out.transferFrom(src, position, nextTransferSize(position, maxBytes))) > 0) {
+                    position += transferred;
+                    if (position > maxBytes) {
+                        throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+                    }
+                }
+            }
+            if (StringUtils.hasText(contentType)) {
+                Path meta = metaPathOf(objectName);
+                Files.createDirectories(meta.getParent());
+                Files.writeString(meta, contentType, StandardCharsets.UTF_8);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 이번에 옮길 바이트 수 (청크 크기, 또는 남은 한도 + 1 중 작은 값)
+     */
+    private static long nextTransferSize(long position, long maxBytes) {
+        long remaining = maxBytes - position;
+        return remaining < TRANSFER_CHUNK ? remaining + 1 : TRANSFER_CHUNK;
+    }
+
+    /**
+     * 객체 키를 루트 아래 경로로 변환합니다. 루트 밖이나 메타 디렉터리를 가리키는 키는 거부합니다.
+     */
+    private Path resolve(String objectKey) {
+        if (!StringUtils.hasText(objectKey)) {
+            throw new BusinessException(StorageErrorCode.INVALID_OBJECT_KEY);
+        }
+        Path path = root.resolve(objectKey).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(metaRoot)) {
+            throw new BusinessException(StorageErrorCode.INVALID_OBJECT_KEY);
+        }
+        return path;
+    }
+
+    private Path metaPathOf(String objectKey) {
+        return metaRoot.resolve(root.relativize(resolve(objectKey)));
+    }
+
+    private String toUrl(String objectName) {
+        return publicBaseUrl + FILES_PATH + objectName;
+    }
+
+    private String sign(String objectName, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal((objectName + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new SystemException(StorageErrorCode.PRESIGN_FAILED,
+                    "업로드 URL 서명 실패",
+                    "objectName=" + objectName + ", reason=" + e.getMessage());
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        return filename.substring(filename.lastIndexOf('.'));
+    }
+
+    private void removeQuietly(String objectName) {
+        try {
+            Files.deleteIfExists(resolve(objectName));
+            Files.deleteIfExists(metaPathOf(objectName));
+        } catch (IOException e) {
+            log.warn("Local object cleanup failed. objectName={}", objectName, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package site.okkul.be.infra.storage;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -24,4 +25,17 @@ public class MinioConfig {
                 .credentials(accessKey, secretKey)
                 .build();
     }
+
+    /**
+     * 병렬 파트 업로드(ParallelPartUploader)용 multipart API 클라이언트
+     */
+    @Bean
+    public MultipartMinioClient multipartMinioClient() {
+        return new MultipartMinioClient(
+                MinioAsyncClient.builder()
+                        .endpoint(endpoint)
+                        .credentials(accessKey, secretKey)
+                        .build()
+        );
+    }
 }
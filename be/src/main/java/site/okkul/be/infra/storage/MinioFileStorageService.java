@@ -1,23 +1,41 @@
 package site.okkul.be.infra.storage;
 
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.SystemException;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
+@Profile("!" + LocalFileStorageService.PROFILE)
 @RequiredArgsConstructor
 public class MinioFileStorageService implements FileStorageService {
 
     private final MinioClient minioClient;
+    private final ParallelPartUploader parallelPartUploader;
 
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -25,6 +43,18 @@ public class MinioFileStorageService implements FileStorageService {
     @Value("${minio.endpoint}")
     private String endpoint;
 
+    /**
+     * Presigned 업로드 URL 유효 시간
+     */
+    @Value("${minio.presign-expiry:10m}")
+    private Duration presignExpiry;
+
+    /**
+     * 직접 업로드 허용 최대 크기 (기존 multipart 제한과 동일)
+     */
+    @Value("${minio.max-object-size:25MB}")
+    private DataSize maxObjectSize;
+
     @Override
     public String upload(MultipartFile file, String domain) {
         try {
@@ -49,7 +79,7 @@ public class MinioFileStorageService implements FileStorageService {
             // 3. 업로드된 파일의 URL 반환
             // MinIO의 경우 endpoint/bucketName/objectName 형태의 URL을 직접 조합합니다.
             // SSL/TLS 및 포트 설정에 따라 URL 구조가 달라질 수 있습니다.
-            return endpoint + "/" + bucketName + "/" + objectName;
+            return toUrl(objectName);
 
         } catch (Exception e) {
             log.error("MinIO file upload error", e);
@@ -58,12 +88,142 @@ public class MinioFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public String uploadStream(InputStream in, String filename, String contentType, String domain) throws IOException {
+        String objectName = domain + "/" + UUID.randomUUID() + extensionOf(filename);
+        parallelPartUploader.upload(in, objectName, contentType);
+        return toUrl(objectName);
+    }
+
+    /**
+     * 로컬 파일을 지정한 객체 키로 업로드합니다. (스풀 flush 용)
+     *
+     * @param file        업로드할 파일
+     * @param objectName  객체 키
+     * @param contentType Content-Type
+     * @throws IOException MinIO 업로드 실패
+     */
+    public void putFile(Path file, String objectName, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(in, Files.size(file), -1)
+                            .contentType(contentType != null ? contentType : "application/octet-stream")
+                            .build()
+            );
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("MinIO put failed: " + objectName, e);
+        }
+    }
+
+    /**
+     * 객체가 버킷에 있는지 확인합니다. (조회 실패도 없는 것으로 봄)
+     */
+    public boolean exists(String objectName) {
+        try {
+            minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+            return true;
+        } catch (ErrorResponseException e) {
+            if (!"NoSuchKey".equals(e.errorResponse().code())) {
+                log.warn("MinIO stat object error. objectName={}", objectName, e);
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("MinIO stat object error. objectName={}", objectName, e);
+            return false;
+        }
+    }
+
+    /**
+     * 객체 키에 해당하는 접근 URL (업로드 전에도 계산 가능)
+     */
+    public String objectUrl(String objectName) {
+        return toUrl(objectName);
+    }
+
+    /**
+     * 접근 URL 에서 객체 키를 꺼냅니다.
+     */
+    public String objectNameOf(String fileUrl) {
+        return fileUrl.substring(fileUrl.indexOf(bucketName) + bucketName.length() + 1);
+    }
+
+    @Override
+    public PresignedUploadResponse issueUpload(String keyPrefix) {
+        String objectName = keyPrefix + UUID.randomUUID();
+        try {
+            String uploadUrl = minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.PUT)
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .expiry((int) presignExpiry.toSeconds(), TimeUnit.SECONDS)
+                            .build()
+            );
+            return new PresignedUploadResponse(objectName, uploadUrl, Instant.now().plus(presignExpiry));
+        } catch (Exception e) {
+            log.error("MinIO presigned url error", e);
+            throw new SystemException(StorageErrorCode.PRESIGN_FAILED,
+                    "Presigned URL 발급 실패",
+                    "objectName=" + objectName + ", reason=" + e.getMessage());
+        }
+    }
+
+    @Override
+    public String confirmUpload(String objectKey, String keyPrefix) {
+        // 1. 다른 답변/사용자의 객체를 가리키지 못하도록 prefix 검사
+        if (objectKey == null || !objectKey.startsWith(keyPrefix) || objectKey.contains("..")) {
+            throw new BusinessException(StorageErrorCode.INVALID_OBJECT_KEY);
+        }
+
+        // 2. 실제 업로드 여부 확인
+        StatObjectResponse stat;
+        try {
+            stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .build()
+            );
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new BusinessException(StorageErrorCode.UPLOADED_OBJECT_NOT_FOUND);
+            }
+            log.error("MinIO stat object error", e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        } catch (Exception e) {
+            log.error("MinIO stat object error", e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+
+        // 3. 크기 / 형식 검사 (통과하지 못한 객체는 바로 정리)
+        if (stat.size() > maxObjectSize.toBytes()) {
+            removeQuietly(objectKey);
+            throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+        }
+        if (stat.contentType() == null || !stat.contentType().startsWith("audio/")) {
+            removeQuietly(objectKey);
+            throw new BusinessException(StorageErrorCode.INVALID_CONTENT_TYPE);
+        }
+
+        return toUrl(objectKey);
+    }
+
     @Override
     public void delete(String fileUrl) {
         try {
             // 1. URL에서 객체 이름 파싱
             // 예: http://localhost:9000/my-bucket/profiles/image.jpg -> profiles/image.jpg
-            String objectName = fileUrl.substring(fileUrl.indexOf(bucketName) + bucketName.length() + 1);
+            String objectName = objectNameOf(fileUrl);
 
             // 2. 파일 삭제
             minioClient.removeObject(
@@ -78,4 +238,31 @@ public class MinioFileStorageService implements FileStorageService {
             throw new RuntimeException("파일 삭제에 실패했습니다.");
         }
     }
+
+    /**
+     * MinIO의 경우 endpoint/bucketName/objectName 형태의 URL을 직접 조합합니다.
+     */
+    private String toUrl(String objectName) {
+        return endpoint + "/" + bucketName + "/" + objectName;
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        return filename.substring(filename.lastIndexOf('.'));
+    }
+
+    private void removeQuietly(String objectName) {
+        try {
+            minioClient.removeObject(
+                    RemoveObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.warn("MinIO object cleanup failed. objectName={}", objectName, e);
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package site.okkul.be.infra.storage;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.MinioAsyncClient;
+import io.minio.messages.Part;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * S3 multipart upload API(CreateMultipartUpload, UploadPart, CompleteMultipartUpload, AbortMultipartUpload)를
+ * 직접 호출하기 위한 얇은 MinIO 클라이언트
+ * <p>
+ * MinioClient.putObject 는 파트를 순서대로만 올리므로, 파트를 병렬로 올리려면 하위 API 를 직접 써야 합니다.
+ * 비동기 API 를 호출하고 결과를 기다려 돌려줍니다. (호출 스레드가 파트 업로드 스레드)
+ */
+public class MultipartMinioClient extends MinioAsyncClient {
+
+    public MultipartMinioClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    /**
+     * multipart 업로드를 시작합니다.
+     *
+     * @return upload ID
+     */
+    public String createMultipartUpload(String bucketName, String objectName, String contentType) throws Exception {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("Content-Type", contentType);
+        return createMultipartUploadAsync(bucketName, null, objectName, headers, null)
+                .get()
+                .result()
+                .uploadId();
+    }
+
+    /**
+     * 파트 하나를 올립니다.
+     *
+     * @param partNumber 1부터 시작하는 파트 번호
+     * @return 완료 요청에 넣을 파트 정보 (ETag)
+     */
+    public Part uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+                           byte[] data, int length) throws Exception {
+        byte[] body = length == data.length ? data : Arrays.copyOf(data, length);
+        String etag = uploadPartAsync(bucketName, null, objectName, body, length, uploadId, partNumber, null, null)
+                .get()
+                .etag();
+        return new Part(partNumber, etag);
+    }
+
+    /**
+     * 올린 파트를 번호 순서대로 합쳐 객체를 만듭니다. (서버에서 파트를 이어 붙이며, 데이터를 다시 쓰지 않음)
+     */
+    public void completeMultipartUpload(String bucketName, String objectName, String uploadId,
+                                        List<Part> parts) throws Exception {
+        completeMultipartUploadAsync(bucketName, null, objectName, uploadId, parts.toArray(Part[]::new), null, null)
+                .get();
+    }
+
+    /**
+     * 업로드를 취소하고 올린 파트를 버립니다.
+     */
+    public void abortMultipartUpload(String bucketName, String objectName, String uploadId) throws Exception {
+        abortMultipartUploadAsync(bucketName, null, objectName, uploadId, null, null)
+                .get();
+    }
+}
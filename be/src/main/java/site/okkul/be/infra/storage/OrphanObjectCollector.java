@@ -0,0 +1,275 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DB 에서 참조하지 않는 업로드 객체(고아 객체)를 주기적으로 정리합니다.
+ * <p>
+ * 제출 실패, 중복 답변 거절, 프로필 이미지 교체 등으로 남은 객체를 대상으로 합니다.
+ * prefix 별로 객체 목록을 스트리밍하면서 grace 기간이 지난 객체만 모아,
+ * {@code exam_answer.audio_url}, {@code practice_answers.english_record_url}, {@code users.profile_image_url}
+ * 을 한 번의 조회로 확인하고, 참조되지 않는 객체를 {@code removeObjects} 로 묶어서 지웁니다.
+ * <p>
+ * 참조 여부는 전체 URL 이 아니라 객체 키로 비교합니다. (저장된 URL 이 {@code /{objectKey}} 로 끝나는지)
+ * 이전 endpoint(스킴/호스트)로 저장된 URL, 로컬 스토리지의 /files URL 도 같은 객체를 참조하는 것으로 봅니다.
+ * <p>
+ * grace 기간은 업로드 후 DB 커밋 전인 객체, 발급만 되고 아직 확정되지 않은 Presigned 업로드를 보호합니다.
+ * {@code dry-run} 이면 삭제하지 않고 로그만 남기며, 배치 사이 휴지 시간과 실행당 최대 삭제 수로 속도를 제한합니다.
+ */
+@Slf4j
+@Component
+@Profile("!" + LocalFileStorageService.PROFILE)
+@ConditionalOnProperty(name = "storage.gc.enabled", havingValue = "true")
+public class OrphanObjectCollector {
+
+    /**
+     * 후보 객체 키 중 어느 URL 컬럼에서든 참조되는 키만 돌려줍니다.
+     * - URL 의 마지막 경로 조각(UUID 가 들어간 파일 이름)의 표현식 인덱스로 좁힌 뒤, URL 이 {@code /{key}} 로 끝나는지 확인합니다.
+     */
+    private static final String REFERENCED_KEYS_SQL = """
+            SELECT u.object_key
+            FROM unnest(?::text[]) AS u(object_key)
+            WHERE EXISTS (SELECT 1 FROM exam_answer ea
+                          WHERE ea.audio_url IS NOT NULL
+                            AND substring(ea.audio_url FROM '[^/]+$') = substring(u.object_key FROM '[^/]+$')
+                            AND right(ea.audio_url, length(u.object_key) + 1) = '/' || u.object_key)
+               OR EXISTS (SELECT 1 FROM practice_answers pa
+                          WHERE pa.english_record_url IS NOT NULL
+                            AND substring(pa.english_record_url FROM '[^/]+$') = substring(u.object_key FROM '[^/]+$')
+                            AND right(pa.english_record_url, length(u.object_key) + 1) = '/' || u.object_key)
+               OR EXISTS (SELECT 1 FROM users us
+                          WHERE us.profile_image_url IS NOT NULL
+                            AND substring(us.profile_image_url FROM '[^/]+$') = substring(u.object_key FROM '[^/]+$')
+                            AND right(us.profile_image_url, length(u.object_key) + 1) = '/' || u.object_key)
+            """;
+
+    private final MinioClient minioClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String bucketName;
+    private final List<String> prefixes;
+    private final Duration gracePeriod;
+    private final int lookupBatchSize;
+    private final int deleteBatchSize;
+    private final Duration batchPause;
+    private final int maxDeletesPerRun;
+    private final boolean dryRun;
+
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+    private final Counter deletedCounter;
+
+    public OrphanObjectCollector(
+            MinioClient minioClient,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${minio.bucket-name}") String bucketName,
+            @Value("${storage.gc.prefixes:exam/,answer/,practice/,profile/}") List<String> prefixes,
+            @Value("${storage.gc.grace-period:24h}") Duration gracePeriod,
+            @Value("${storage.gc.lookup-batch-size:1000}") int lookupBatchSize,
+            @Value("${storage.gc.delete-batch-size:500}") int deleteBatchSize,
+            @Value("${storage.gc.batch-pause:500ms}") Duration batchPause,
+            @Value("${storage.gc.max-deletes-per-run:10000}") int maxDeletesPerRun,
+            @Value("${storage.gc.dry-run:true}") boolean dryRun
+    ) {
+        this.minioClient = minioClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bucketName = bucketName;
+        this.prefixes = prefixes;
+        this.gracePeriod = gracePeriod;
+        this.lookupBatchSize = lookupBatchSize;
+        this.deleteBatchSize = deleteBatchSize;
+        this.batchPause = batchPause;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+        this.dryRun = dryRun;
+
+        this.scannedCounter = Counter.builder("storage.gc.objects")
+                .description("고아 객체 정리 작업 처리 수")
+                .tag("result", "scanned")
+                .register(meterRegistry);
+        this.orphanCounter = Counter.builder("storage.gc.objects")
+                .description("고아 객체 정리 작업 처리 수")
+                .tag("result", "orphan")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("storage.gc.objects")
+                .description("고아 객체 정리 작업 처리 수")
+                .tag("result", "deleted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설정한 prefix 를 차례로 정리합니다.
+     */
+    @Scheduled(cron = "${storage.gc.cron:0 30 4 * * *}")
+    public void collect() {
+        Run run = new Run(Instant.now().minus(gracePeriod));
+        log.info("Orphan object collection started. prefixes={}, cutoff={}, dryRun={}", prefixes, run.cutoff, dryRun);
+        try {
+            for (String prefix : prefixes) {
+                if (run.exhausted()) {
+                    break;
+                }
+                collectPrefix(prefix, run);
+            }
+            flushDeletes(run);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Orphan object collection interrupted.");
+        } catch (Exception e) {
+            log.error("Orphan object collection failed.", e);
+        }
+        log.info("Orphan object collection finished. scanned={}, orphans={}, deleted={}, dryRun={}",
+                run.scanned, run.orphans, run.deleted, dryRun);
+    }
+
+    private void collectPrefix(String prefix, Run run) throws Exception {
+        Iterable<Result<Item>> listing = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .recursive(true)
+                        .build()
+        );
+
+        List<String> candidates = new ArrayList<>(lookupBatchSize);
+        for (Result<Item> result : listing) {
+            Item item = result.get();
+            if (item.isDir()) {
+                continue;
+            }
+            run.scanned++;
+            scannedCounter.increment();
+            if (item.lastModified() == null || item.lastModified().toInstant().isAfter(run.cutoff)) {
+                continue;
+            }
+            candidates.add(item.objectName());
+            if (candidates.size() >= lookupBatchSize) {
+                collectOrphans(candidates, run);
+                candidates.clear();
+                if (run.exhausted()) {
+                    return;
+                }
+            }
+        }
+        collectOrphans(candidates, run);
+    }
+
+    /**
+     * 후보 객체 중 DB 에서 참조하지 않는 객체를 삭제 대기열에 넣습니다.
+     */
+    private void collectOrphans(List<String> objectNames, Run run) throws InterruptedException {
+        if (objectNames.isEmpty()) {
+            return;
+        }
+        Set<String> referenced = referencedKeys(objectNames);
+
+        for (int i = 0; i < objectNames.size() && !run.exhausted(); i++) {
+            String objectName = objectNames.get(i);
+            if (referenced.contains(objectName)) {
+                continue;
+            }
+            run.orphans++;
+            orphanCounter.increment();
+            if (dryRun) {
+                log.info("[dry-run] orphan object: {}", objectName);
+                continue;
+            }
+            run.pendingDeletes.add(new DeleteObject(objectName));
+            if (run.pendingDeletes.size() >= deleteBatchSize) {
+                flushDeletes(run);
+            }
+        }
+    }
+
+    /**
+     * 객체 키 중 DB 의 URL 컬럼에서 참조하는 키를 돌려줍니다.
+     */
+    Set<String> referencedKeys(List<String> objectNames) {
+        return new HashSet<>(jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(REFERENCED_KEYS_SQL);
+                    statement.setArray(1, connection.createArrayOf("text", objectNames.toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getString(1)
+        ));
+    }
+
+    /**
+     * 삭제 대기열을 한 번의 removeObjects 로 지우고 잠시 쉽니다. (MinIO 부하 제한)
+     */
+    private void flushDeletes(Run run) throws InterruptedException {
+        if (run.pendingDeletes.isEmpty()) {
+            return;
+        }
+        int failed = 0;
+        // removeObjects 는 결과를 순회해야 실제로 요청이 전송됨
+        for (Result<DeleteError> result : minioClient.removeObjects(
+                RemoveObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .objects(run.pendingDeletes)
+                        .build()
+        )) {
+            failed++;
+            try {
+                DeleteError error = result.get();
+                log.warn("Orphan object delete failed. objectName={}, code={}", error.objectName(), error.code());
+            } catch (Exception e) {
+                log.warn("Orphan object delete failed.", e);
+            }
+        }
+        int deleted = run.pendingDeletes.size() - failed;
+        run.deleted += deleted;
+        deletedCounter.increment(deleted);
+        run.pendingDeletes.clear();
+
+        if (!batchPause.isZero()) {
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    /**
+     * 한 번의 실행 상태
+     */
+    private final class Run {
+        private final Instant cutoff;
+        private final List<DeleteObject> pendingDeletes = new ArrayList<>();
+        private long scanned;
+        private long orphans;
+        private long deleted;
+
+        private Run(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        /**
+         * 실행당 최대 삭제(dry-run 이면 발견) 수에 도달했는지
+         */
+        private boolean exhausted() {
+            return orphans >= maxDeletesPerRun;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.messages.Part;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import site.okkul.be.global.exception.BusinessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 입력 스트림을 고정 크기 파트로 잘라 MinIO 에 병렬 업로드합니다.
+ * <p>
+ * 요청 스레드가 파트 하나를 다 읽으면 S3 multipart upload 를 시작하고, 파트 슬롯을 하나 얻어 별도 스레드에서 UploadPart 로 올립니다.
+ * 모든 파트가 올라가면 CompleteMultipartUpload 로 객체를 완성하고, 실패하면 AbortMultipartUpload 로 올린 파트를 버립니다.
+ * 파트는 한 번만 전송되며 서버 측 복사가 없습니다.
+ * 본문 전체를 메모리나 임시 파일에 담지 않습니다.
+ * <p>
+ * 파트를 읽는 동안에는 받은 만큼만 메모리를 쓰고 공유 자원을 잡지 않으므로, 느린 클라이언트가 다른 업로드를 막지 않습니다.
+ * 슬롯은 다 읽은 파트를 MinIO 로 보내는 동안에만 잡으며, 전송 대기/진행 중인 파트의 힙 사용량을 (슬롯 수 × 파트 크기)로 제한합니다.
+ * <p>
+ * 파트 하나로 끝나는 작은 파일은 multipart 없이 바로 업로드합니다.
+ */
+@Slf4j
+@Component
+@Profile("!" + LocalFileStorageService.PROFILE)
+public class ParallelPartUploader {
+
+    /**
+     * S3 multipart 최소 파트 크기 (마지막 파트 제외)
+     */
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final MinioClient minioClient;
+    private final MultipartMinioClient multipartClient;
+    private final String bucketName;
+    private final int partSize;
+    private final Semaphore partSlots;
+    private final Duration partWaitTimeout;
+    private final ExecutorService executor;
+
+    private final Timer uploadTimer;
+    private final DistributionSummary uploadBytes;
+
+    public ParallelPartUploader(
+            MinioClient minioClient,
+            MultipartMinioClient multipartClient,
+            MeterRegistry meterRegistry,
+            @Value("${minio.bucket-name}") String bucketName,
+            @Value("${minio.upload.part-size:8MB}") DataSize partSize,
+            @Value("${minio.upload.max-in-flight-parts:8}") int maxInFlightParts,
+            @Value("${minio.upload.parallelism:4}") int parallelism,
+            @Value("${minio.upload.part-wait-timeout:5s}") Duration partWaitTimeout
+    ) {
+        if (partSize.toBytes() < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("minio.upload.part-size 는 5MB 이상이어야 합니다.");
+        }
+        this.minioClient = minioClient;
+        this.multipartClient = multipartClient;
+        this.bucketName = bucketName;
+        this.partSize = (int) partSize.toBytes();
+        this.partSlots = new Semaphore(maxInFlightParts);
+        this.partWaitTimeout = partWaitTimeout;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "minio-part-upload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.uploadTimer = Timer.builder("storage.upload.stream")
+                .description("스트리밍 업로드 소요 시간")
+                .register(meterRegistry);
+        this.uploadBytes = DistributionSummary.builder("storage.upload.stream.bytes")
+                .description("스트리밍 업로드 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("storage.upload.parts.available", partSlots, Semaphore::availablePermits)
+                .description("사용 가능한 업로드 파트 슬롯 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 objectName 으로 업로드합니다.
+     *
+     * @return 업로드한 바이트 수
+     * @throws IOException 입력 스트림 읽기 실패 (클라이언트 중단, 크기 초과 등). 진행 중인 multipart 업로드는 취소됩니다.
+     */
+    public long upload(InputStream in, String objectName, String contentType) throws IOException {
+        String type = contentType == null ? DEFAULT_CONTENT_TYPE : contentType;
+        Timer.Sample sample = Timer.start();
+        List<Future<Part>> futures = new ArrayList<>();
+        String uploadId = null;
+        long total = 0;
+        boolean completed = false;
+        try {
+            while (true) {
+                // 받은 만큼만 할당 (느린 클라이언트가 파트 크기만큼의 버퍼를 미리 잡지 않음)
+                byte[] part = in.readNBytes(partSize);
+                total += part.length;
+                boolean last = part.length < partSize;
+
+                // 파트 하나로 끝나는 작은 파일은 multipart 없이 바로 업로드
+                if (uploadId == null && last) {
+                    putObject(objectName, part, type);
+                    completed = true;
+                    return total;
+                }
+                // 직전 파트에서 정확히 끝난 경우
+                if (part.length == 0) {
+                    break;
+                }
+
+                if (uploadId == null) {
+                    uploadId = createMultipartUpload(objectName, type);
+                }
+                acquirePartSlot();
+                String currentUploadId = uploadId;
+                int partNumber = futures.size() + 1;
+                futures.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(objectName, currentUploadId, partNumber, part);
+                    } finally {
+                        partSlots.release();
+                    }
+                }));
+                if (last) {
+                    break;
+                }
+            }
+
+            List<Part> parts = awaitAll(futures);
+            completeMultipartUpload(objectName, uploadId, parts);
+            completed = true;
+            return total;
+        } finally {
+            if (!completed) {
+                // 실패 시 진행 중인 파트가 끝날 때까지 기다린 뒤 업로드 취소
+                awaitQuietly(futures);
+                if (uploadId != null) {
+                    abortMultipartUpload(objectName, uploadId);
+                }
+            }
+            if (completed) {
+                sample.stop(uploadTimer);
+                uploadBytes.record(total);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 다 읽은 파트를 보낼 슬롯을 얻습니다. partWaitTimeout 동안 비지 않으면 요청 스레드를 붙잡지 않고 503 으로 거절합니다.
+     */
+    private void acquirePartSlot() {
+        try {
+            if (!partSlots.tryAcquire(partWaitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Upload part slots exhausted. waited={}", partWaitTimeout);
+                throw new BusinessException(StorageErrorCode.UPLOAD_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private void putObject(String objectName, byte[] body, String contentType) {
+        try {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(new ByteArrayInputStream(body), body.length, -1)
+                            .contentType(contentType)
+                            .build()
+            );
+        } catch (Exception e) {
+            log.error("MinIO part upload error. objectName={}", objectName, e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private String createMultipartUpload(String objectName, String contentType) {
+        try {
+            return multipartClient.createMultipartUpload(bucketName, objectName, contentType);
+        } catch (Exception e) {
+            log.error("MinIO multipart upload start error. objectName={}", objectName, e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private Part uploadPart(String objectName, String uploadId, int partNumber, byte[] part) {
+        try {
+            return multipartClient.uploadPart(bucketName, objectName, uploadId, partNumber, part, part.length);
+        } catch (Exception e) {
+            log.error("MinIO part upload error. objectName={}, partNumber={}", objectName, partNumber, e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private void completeMultipartUpload(String objectName, String uploadId, List<Part> parts) {
+        try {
+            multipartClient.completeMultipartUpload(bucketName, objectName, uploadId, parts);
+        } catch (Exception e) {
+            log.error("MinIO multipart upload complete error. objectName={}, parts={}", objectName, parts.size(), e);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        }
+    }
+
+    private void abortMultipartUpload(String objectName, String uploadId) {
+        try {
+            multipartClient.abortMultipartUpload(bucketName, objectName, uploadId);
+        } catch (Exception e) {
+            // 버킷의 미완료 multipart 정리 규칙(lifecycle)이 남은 파트를 지움
+            log.warn("MinIO multipart upload abort failed. objectName={}, uploadId={}", objectName, uploadId, e);
+        }
+    }
+
+    private List<Part> awaitAll(List<Future<Part>> futures) {
+        List<Part> parts = new ArrayList<>(futures.size());
+        for (Future<Part> future : futures) {
+            try {
+                parts.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof BusinessException be) {
+                    throw be;
+                }
+                throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+            }
+        }
+        return parts;
+    }
+
+    private void awaitQuietly(List<Future<Part>> futures) {
+        for (Future<Part> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ignored) {
+                // 원래 예외를 우선 전달
+            }
+        }
+    }
+}
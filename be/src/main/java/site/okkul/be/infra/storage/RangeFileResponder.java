@@ -0,0 +1,157 @@
+package site.okkul.be.infra.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 로컬 파일(또는 임의의 본문)을 HTTP Range 를 지원하며 응답합니다.
+ * <p>
+ * Tomcat 커넥터가 sendfile 을 지원하면 요청 속성으로 파일 구간만 넘겨 커널이 소켓으로 직접 보내게 하고,
+ * 지원하지 않으면 {@link FileChannel#transferTo} 로 응답 스트림에 씁니다.
+ * 단일 구간 Range 만 206 으로 응답하며, 여러 구간을 요청하면 전체 파일(200)로 응답합니다.
+ */
+@Component
+public class RangeFileResponder {
+
+    static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * 파일을 응답합니다.
+     *
+     * @param request      요청 (Range / If-None-Match / If-Range 확인)
+     * @param response     응답
+     * @param file         보낼 파일
+     * @param contentType  Content-Type (null 이면 application/octet-stream)
+     * @param cacheControl Cache-Control 헤더
+     */
+    public void respond(HttpServletRequest request, HttpServletResponse response,
+                        Path file, String contentType, CacheControl cacheControl) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        respond(request, response, attributes.size(), etagOf(attributes), attributes.lastModifiedTime().toMillis(),
+                contentType, cacheControl, (start, count) -> sendFile(request, response, file, start, count));
+    }
+
+    /**
+     * 임의의 본문을 Range 를 반영해 응답합니다. (헤더 / 조건부 요청 / 구간 계산만 담당)
+     *
+     * @param request      요청 (Range / If-None-Match / If-Range 확인)
+     * @param response     응답
+     * @param length       전체 본문 길이
+     * @param etag         강한 ETag (따옴표 포함)
+     * @param lastModified 마지막 수정 시각 (epoch millis)
+     * @param contentType  Content-Type (null 이면 application/octet-stream)
+     * @param cacheControl Cache-Control 헤더
+     * @param body         확정된 구간의 본문을 쓰는 콜백
+     */
+    public void respond(HttpServletRequest request, HttpServletResponse response,
+                        long length, String etag, long lastModified, String contentType,
+                        CacheControl cacheControl, BodyWriter body) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+
+        // 1. 조건부 요청: 같은 본문이면 304
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 2. Range 해석 (If-Range 가 현재 ETag 와 다르면 전체 응답)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || etag.equals(ifRange))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (ranges.size() == 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE);
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // 3. 본문 전송
+        body.write(start, count);
+    }
+
+    /**
+     * sendfile 을 지원하면 구간만 넘기고, 아니면 transferTo 로 응답 스트림에 씁니다.
+     */
+    private static void sendFile(HttpServletRequest request, HttpServletResponse response,
+                                 Path file, long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // Tomcat 이 응답을 마무리하면서 sendfile(2) 로 구간을 보냄 (end 는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 크기와 수정 시각으로 만든 강한 ETag. 같은 키의 파일이 덮어써지면 값이 바뀝니다.
+     */
+    static String etagOf(BasicFileAttributes attributes) {
+        return "\"" + Long.toHexString(attributes.size())
+                + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    /**
+     * 확정된 구간 [start, start + count) 의 본문을 응답에 씁니다.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(long start, long count) throws IOException;
+    }
+}
@@ -0,0 +1,485 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import site.okkul.be.global.exception.SystemException;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 스풀 + MinIO write-behind 스토리지 ({@code storage.spool.enabled=true} 일 때 기본 구현)
+ * <p>
+ * 업로드는 스풀 디렉터리에 fsync 까지 마친 뒤 바로 최종 MinIO URL 을 반환하고,
+ * {@link #flush()} 가 주기적으로 MinIO 에 올린 뒤 스풀 파일을 지웁니다. (실패 시 지수 백오프로 무기한 재시도)
+ * 반환한 URL 은 클라이언트/AI 서버에 {@code /media} 프록시 URL 로 바뀌어 전달되고,
+ * 프록시는 {@link #findSpooled} 로 아직 MinIO 에 없는 객체를 스풀 파일에서 바로 내려줍니다.
+ * <p>
+ * 스풀은 업로드를 받은 서버의 로컬 디스크에만 있습니다. (레플리카 간 공유 없음)
+ * - 클라이언트: flush 전에 다른 레플리카로 라우팅된 {@code /media} 요청은 MinIO 에서 찾지 못해 404 가 납니다.
+ *   업로드 직후 재생은 업로드한 서버로 라우팅(sticky)되거나, 최대 flush 주기만큼 늦어질 수 있다고 가정합니다.
+ * - AI 서버: 어느 레플리카로 가도 받을 수 있도록, URL 을 넘기기 전에 {@link #awaitStored} 로 MinIO 반영을 보장합니다.
+ * 스풀 항목은 본문({@code .data})과 메타데이터({@code .properties})로 저장되며, 메타데이터 rename 이 커밋 시점입니다.
+ * 재시작하면 디스크에 남은 항목을 다시 읽어 이어서 올립니다.
+ * <p>
+ * 스풀 사용량이 {@code max-size} 를 넘으면 스풀하지 않고 MinIO 에 바로 업로드합니다. (배압)
+ * 직접 업로드(Presigned) 흐름은 MinIO 구현에 그대로 위임합니다.
+ */
+@Slf4j
+@Primary
+@Service
+@Profile("!" + LocalFileStorageService.PROFILE)
+@ConditionalOnProperty(name = "storage.spool.enabled", havingValue = "true")
+public class SpoolingFileStorageService implements FileStorageService {
+
+    private static final String DATA_SUFFIX = ".data";
+    private static final String META_SUFFIX = ".properties";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final MinioFileStorageService minioFileStorageService;
+    private final Path dir;
+    private final long maxBytes;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration flushInterval;
+    private final Duration awaitTimeout;
+
+    /**
+     * 스풀 ID -> 항목
+     */
+    private final Map<String, SpoolEntry> entries = new ConcurrentHashMap<>();
+    /**
+     * 객체 키 -> 스풀 ID (flush 전 삭제 요청 처리용)
+     */
+    private final Map<String, String> idsByObjectName = new ConcurrentHashMap<>();
+    private final AtomicLong spooledBytes = new AtomicLong();
+
+    private final Counter spooledCounter;
+    private final Counter bypassCounter;
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushLagTimer;
+
+    public SpoolingFileStorageService(
+            MinioFileStorageService minioFileStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${storage.spool.dir}") Path dir,
+            @Value("${storage.spool.max-size:1GB}") DataSize maxSize,
+            @Value("${storage.spool.batch-size:20}") int batchSize,
+            @Value("${storage.spool.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${storage.spool.max-backoff:5m}") Duration maxBackoff,
+            @Value("${storage.spool.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${storage.spool.await-timeout:10s}") Duration awaitTimeout
+    ) throws IOException {
+        this.minioFileStorageService = minioFileStorageService;
+        this.dir = Files.createDirectories(dir.toAbsolutePath().normalize());
+        this.maxBytes = maxSize.toBytes();
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.flushInterval = Duration.ofMillis(flushIntervalMs);
+        this.awaitTimeout = awaitTimeout;
+
+        this.spooledCounter = Counter.builder("storage.spool.uploads")
+                .description("스풀에 적재된 업로드 수")
+                .tag("result", "spooled")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder("storage.spool.uploads")
+                .description("스풀에 적재된 업로드 수")
+                .tag("result", "bypassed")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("storage.spool.flush")
+                .description("스풀 flush 결과")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("storage.spool.flush")
+                .description("스풀 flush 결과")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder("storage.spool.lag")
+                .description("스풀 적재부터 MinIO 반영까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("storage.spool.pending", entries, Map::size)
+                .description("MinIO 반영 대기 중인 스풀 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("storage.spool.size", spooledBytes, AtomicLong::get)
+                .description("스풀 디스크 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        recover();
+    }
+
+    @Override
+    public String upload(MultipartFile file, String domain) {
+        if (spooledBytes.get() + file.getSize() > maxBytes) {
+            bypassCounter.increment();
+            return minioFileStorageService.upload(file, domain);
+        }
+        String objectName = domain + "/" + UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            spool(in, objectName, file.getContentType());
+            return minioFileStorageService.objectUrl(objectName);
+        } catch (IOException e) {
+            log.error("Spool write error", e);
+            throw new SystemException(StorageErrorCode.UPLOAD_FAILED,
+                    "스풀 저장 실패",
+                    "objectName=" + objectName + ", reason=" + e.getMessage());
+        }
+    }
+
+    @Override
+    public String uploadStream(InputStream in, String filename, String contentType, String domain) throws IOException {
+        // 크기를 모르므로 현재 사용량만 확인 (최대 한 파일만큼 초과 가능)
+        if (spooledBytes.get() >= maxBytes) {
+            bypassCounter.increment();
+            return minioFileStorageService.uploadStream(in, filename, contentType, domain);
+        }
+        String objectName = domain + "/" + UUID.randomUUID() + extensionOf(filename);
+        spool(in, objectName, contentType);
+        return minioFileStorageService.objectUrl(objectName);
+    }
+
+    @Override
+    public PresignedUploadResponse issueUpload(String keyPrefix) {
+        return minioFileStorageService.issueUpload(keyPrefix);
+    }
+
+    @Override
+    public String confirmUpload(String objectKey, String keyPrefix) {
+        return minioFileStorageService.confirmUpload(objectKey, keyPrefix);
+    }
+
+    /**
+     * 아직 스풀에 있으면 스풀 항목을 지우고, MinIO 에도 삭제를 요청합니다. (flush 와 경합해도 객체가 남지 않도록)
+     */
+    @Override
+    public void delete(String fileUrl) {
+        String id = idsByObjectName.get(minioFileStorageService.objectNameOf(fileUrl));
+        if (id != null) {
+            SpoolEntry entry = entries.remove(id);
+            if (entry != null) {
+                discard(entry);
+            }
+        }
+        minioFileStorageService.delete(fileUrl);
+    }
+
+    /**
+     * 객체가 MinIO 에 올라갈 때까지 기다립니다.
+     * - 이 서버의 스풀에 있으면 flush 차례를 기다리지 않고 바로 올립니다.
+     * - 다른 레플리카가 스풀한 객체면 그 서버의 flush 를 await-timeout 까지 기다립니다.
+     *
+     * @throws SystemException 업로드에 실패했거나 제한 시간 안에 MinIO 에 반영되지 않은 경우
+     */
+    @Override
+    public void awaitStored(String fileUrl) {
+        if (fileUrl == null) {
+            return;
+        }
+        String objectName = minioFileStorageService.objectNameOf(fileUrl);
+        String id = idsByObjectName.get(objectName);
+        SpoolEntry entry = id != null ? entries.get(id) : null;
+        if (entry != null) {
+            try {
+                upload(entry);
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Spool flush on demand failed. objectName={}", objectName, e);
+                throw new SystemException(StorageErrorCode.UPLOAD_FAILED,
+                        "스풀 파일 업로드 실패",
+                        "objectName=" + objectName + ", reason=" + e.getMessage());
+            }
+        }
+
+        long deadline = System.nanoTime() + awaitTimeout.toNanos();
+        while (!minioFileStorageService.exists(objectName)) {
+            if (System.nanoTime() >= deadline) {
+                throw new SystemException(StorageErrorCode.FILE_NOT_FOUND,
+                        "스풀 파일 MinIO 반영 대기 시간 초과",
+                        "objectName=" + objectName + ", timeout=" + awaitTimeout);
+            }
+            try {
+                Thread.sleep(flushInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SystemException(StorageErrorCode.FILE_NOT_FOUND,
+                        "스풀 파일 MinIO 반영 대기 중단",
+                        "objectName=" + objectName);
+            }
+        }
+    }
+
+    /**
+     * 아직 MinIO 에 올리지 않은 객체의 스풀 파일을 찾습니다.
+     * <p>
+     * flush 가 끝나면 파일이 바로 지워지므로, 호출한 쪽은 파일을 열지 못하면 MinIO 에서 읽어야 합니다.
+     *
+     * @param objectName 객체 키
+     * @return 스풀 항목 (flush 완료 또는 스풀 대상이 아니었으면 empty)
+     */
+    public Optional<SpooledObject> findSpooled(String objectName) {
+        String id = idsByObjectName.get(objectName);
+        SpoolEntry entry = id != null ? entries.get(id) : null;
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SpooledObject(dataPath(entry.id), "\"" + entry.id + "\"", entry.contentType, entry.createdAt));
+    }
+
+    /**
+     * 대기 중인 스풀 항목을 오래된 순으로 MinIO 에 올립니다.
+     */
+    @Scheduled(fixedDelayString = "${storage.spool.flush-interval-ms:1000}")
+    public void flush() {
+        Instant now = Instant.now();
+        List<SpoolEntry> due = entries.values().stream()
+                .filter(entry -> !entry.nextAttemptAt.isAfter(now))
+                .sorted(Comparator.comparing(entry -> entry.createdAt))
+                .limit(batchSize)
+                .toList();
+
+        for (SpoolEntry entry : due) {
+            try {
+                upload(entry);
+            } catch (IOException | RuntimeException e) {
+                entry.attempts++;
+                entry.nextAttemptAt = Instant.now().plus(backoff(entry.attempts));
+                flushFailureCounter.increment();
+                log.warn("Spool flush failed. objectName={}, attempts={}, nextAttemptAt={}",
+                        entry.objectName, entry.attempts, entry.nextAttemptAt, e);
+                writeMetaQuietly(entry);
+                // MinIO 장애 중에는 나머지 항목도 실패할 가능성이 높으므로 이번 주기는 중단
+                return;
+            }
+        }
+    }
+
+    /**
+     * 항목 하나를 MinIO 에 올리고 스풀에서 지웁니다.
+     * - 주기 flush 와 {@link #awaitStored} 가 같은 항목을 동시에 올려도 항목별로 한 번만 처리합니다.
+     */
+    private void upload(SpoolEntry entry) throws IOException {
+        synchronized (entry) {
+            if (!entries.containsKey(entry.id)) {
+                // 이미 올렸거나 삭제됨
+                return;
+            }
+            minioFileStorageService.putFile(dataPath(entry.id), entry.objectName, entry.contentType);
+
+            flushedCounter.increment();
+            flushLagTimer.record(Duration.between(entry.createdAt, Instant.now()));
+            if (entries.remove(entry.id) == null) {
+                // flush 중에 삭제 요청이 들어온 경우: 방금 올린 객체도 정리
+                minioFileStorageService.delete(minioFileStorageService.objectUrl(entry.objectName));
+            } else {
+                discard(entry);
+            }
+        }
+    }
+
+    /**
+     * 본문 -> fsync -> 메타데이터 -> fsync -> rename 순서로 적재합니다.
+     */
+    private void spool(InputStream in, String objectName, String contentType) throws IOException {
+        SpoolEntry entry = new SpoolEntry(UUID.randomUUID().toString(), objectName, contentType,
+                Instant.now(), 0, Instant.now());
+        Path data = dataPath(entry.id);
+        try {
+            try (FileChannel out = FileChannel.open(data, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                 ReadableByteChannel src = Channels.newChannel(in)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(src, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+                out.force(true);
+                entry.size = position;
+            }
+            writeMeta(entry);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(data);
+            Files.deleteIfExists(metaPath(entry.id));
+            throw e;
+        }
+
+        idsByObjectName.put(objectName, entry.id);
+        entries.put(entry.id, entry);
+        spooledBytes.addAndGet(entry.size);
+        spooledCounter.increment();
+    }
+
+    /**
+     * 재시작 시 커밋된(메타데이터가 있는) 항목만 복구하고, 쓰다 만 파일은 지웁니다.
+     */
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : files.toList()) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                } else if (name.endsWith(DATA_SUFFIX)
+                        && !Files.exists(metaPath(name.substring(0, name.length() - DATA_SUFFIX.length())))) {
+                    Files.deleteIfExists(path);
+                } else if (name.endsWith(META_SUFFIX)) {
+                    SpoolEntry entry = readMeta(path);
+                    entry.nextAttemptAt = Instant.now();
+                    idsByObjectName.put(entry.objectName, entry.id);
+                    entries.put(entry.id, entry);
+                    spooledBytes.addAndGet(entry.size);
+                }
+            }
+        }
+        if (!entries.isEmpty()) {
+            log.info("Spool recovered. pending={}, bytes={}", entries.size(), spooledBytes.get());
+        }
+    }
+
+    private void writeMeta(SpoolEntry entry) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("id", entry.id);
+        properties.setProperty("objectName", entry.objectName);
+        if (entry.contentType != null) {
+            properties.setProperty("contentType", entry.contentType);
+        }
+        properties.setProperty("size", Long.toString(entry.size));
+        properties.setProperty("createdAt", entry.createdAt.toString());
+        properties.setProperty("attempts", Integer.toString(entry.attempts));
+
+        Path temp = dir.resolve(entry.id + META_SUFFIX + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+            writer.flush();
+            channel.force(true);
+        }
+        Files.move(temp, metaPath(entry.id), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeMetaQuietly(SpoolEntry entry) {
+        try {
+            writeMeta(entry);
+        } catch (IOException e) {
+            log.warn("Spool meta update failed. id={}", entry.id, e);
+        }
+    }
+
+    private static SpoolEntry readMeta(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        SpoolEntry entry = new SpoolEntry(
+                properties.getProperty("id"),
+                properties.getProperty("objectName"),
+                properties.getProperty("contentType"),
+                Instant.parse(properties.getProperty("createdAt")),
+                Integer.parseInt(properties.getProperty("attempts", "0")),
+                Instant.now()
+        );
+        entry.size = Long.parseLong(properties.getProperty("size", "0"));
+        return entry;
+    }
+
+    private void discard(SpoolEntry entry) {
+        idsByObjectName.remove(entry.objectName, entry.id);
+        spooledBytes.addAndGet(-entry.size);
+        try {
+            // 메타데이터부터 지워야 재시작 시 본문 없는 항목이 복구되지 않음
+            Files.deleteIfExists(metaPath(entry.id));
+            Files.deleteIfExists(dataPath(entry.id));
+        } catch (IOException e) {
+            log.warn("Spool file cleanup failed. id={}", entry.id, e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long millis = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        return millis > maxBackoff.toMillis() ? maxBackoff : Duration.ofMillis(millis);
+    }
+
+    private Path dataPath(String id) {
+        return dir.resolve(id + DATA_SUFFIX);
+    }
+
+    private Path metaPath(String id) {
+        return dir.resolve(id + META_SUFFIX);
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            return "";
+        }
+        return filename.substring(filename.lastIndexOf('.'));
+    }
+
+    /**
+     * flush 전 객체의 스풀 본문 파일
+     *
+     * @param data        본문 파일 경로
+     * @param etag        강한 ETag (따옴표 포함, 스풀 ID 기반)
+     * @param contentType 업로드 시 Content-Type
+     * @param createdAt   스풀 적재 시각
+     */
+    public record SpooledObject(Path data, String etag, String contentType, Instant createdAt) {
+    }
+
+    /**
+     * 스풀 항목 (flush 스레드만 attempts / nextAttemptAt 을 변경)
+     */
+    private static final class SpoolEntry {
+        private final String id;
+        private final String objectName;
+        private final String contentType;
+        private final Instant createdAt;
+        private long size;
+        private int attempts;
+        private volatile Instant nextAttemptAt;
+
+        private SpoolEntry(String id, String objectName, String contentType,
+                           Instant createdAt, int attempts, Instant nextAttemptAt) {
+            this.id = id;
+            this.objectName = objectName;
+            this.contentType = contentType;
+            this.createdAt = createdAt;
+            this.attempts = attempts;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
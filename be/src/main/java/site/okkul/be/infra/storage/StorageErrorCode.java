@@ -0,0 +1,27 @@
+package site.okkul.be.infra.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import site.okkul.be.global.exception.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public enum StorageErrorCode implements ErrorCode {
+    UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "STORAGE_001", "파일 업로드에 실패했습니다."),
+    DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "STORAGE_002", "파일 삭제에 실패했습니다."),
+    PRESIGN_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "STORAGE_003", "업로드 URL 발급에 실패했습니다."),
+    FILE_REQUIRED(HttpStatus.BAD_REQUEST, "STORAGE_004", "음성 파일 또는 업로드된 객체 키가 필요합니다."),
+    INVALID_OBJECT_KEY(HttpStatus.BAD_REQUEST, "STORAGE_005", "유효하지 않은 객체 키입니다."),
+    UPLOADED_OBJECT_NOT_FOUND(HttpStatus.BAD_REQUEST, "STORAGE_006", "업로드된 파일을 찾을 수 없습니다."),
+    INVALID_CONTENT_TYPE(HttpStatus.BAD_REQUEST, "STORAGE_007", "지원하지 않는 파일 형식입니다."),
+    FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "STORAGE_008", "파일 크기가 허용 범위를 초과했습니다."),
+    FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "STORAGE_009", "파일을 찾을 수 없습니다."),
+    INVALID_UPLOAD_SIGNATURE(HttpStatus.FORBIDDEN, "STORAGE_010", "만료되었거나 유효하지 않은 업로드 URL입니다."),
+    DOWNLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "STORAGE_011", "파일을 불러오지 못했습니다."),
+    UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "STORAGE_012", "업로드 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+
+    private final HttpStatus status;
+    private final String code;
+    private final String message;
+}
@@ -0,0 +1,118 @@
+package site.okkul.be.infra.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.storage.dto.StreamedUpload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * multipart 요청 본문을 서블릿 입력 스트림에서 직접 읽어 스토리지로 흘려보냅니다.
+ * <p>
+ * spring.servlet.multipart.resolve-lazily=true 이므로 컨트롤러가 MultipartFile 을 요구하지 않으면
+ * 컨테이너가 파트를 메모리/임시 파일로 미리 받아두지 않습니다.
+ * 파일 파트는 도착하는 대로 {@link FileStorageService#uploadStream} 으로 업로드하고, 나머지 폼 필드만 메모리에 모읍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingMultipartReceiver {
+
+    /**
+     * 폼 필드 하나의 최대 크기 (STT 텍스트 등)
+     */
+    private static final int MAX_FIELD_BYTES = 64 * 1024;
+
+    private final FileStorageService fileStorageService;
+
+    @Value("${minio.max-object-size:25MB}")
+    private DataSize maxObjectSize;
+
+    /**
+     * @param filePartName 파일 파트 이름
+     * @param domain       파일이 속할 도메인
+     */
+    public StreamedUpload receive(HttpServletRequest request, String filePartName, String domain) {
+        if (!JakartaServletFileUpload.isMultipartContent(request)) {
+            throw new BusinessException(StorageErrorCode.FILE_REQUIRED);
+        }
+
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setFileSizeMax(maxObjectSize.toBytes());
+
+        Map<String, String> fields = new HashMap<>();
+        String url = null;
+        try {
+            FileItemInputIterator items = upload.getItemIterator(request);
+            while (items.hasNext()) {
+                FileItemInput item = items.next();
+                try (InputStream in = item.getInputStream()) {
+                    if (item.isFormField()) {
+                        fields.put(item.getFieldName(), readField(in));
+                    } else if (filePartName.equals(item.getFieldName()) && url == null) {
+                        validateContentType(item.getContentType());
+                        url = fileStorageService.uploadStream(in, item.getName(), item.getContentType(), domain);
+                    }
+                }
+            }
+        } catch (FileUploadSizeException e) {
+            discard(url);
+            throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+        } catch (IOException e) {
+            log.warn("multipart stream read failed", e);
+            discard(url);
+            throw new BusinessException(StorageErrorCode.UPLOAD_FAILED);
+        } catch (RuntimeException e) {
+            discard(url);
+            throw e;
+        }
+
+        if (url == null) {
+            throw new BusinessException(StorageErrorCode.FILE_REQUIRED);
+        }
+        return new StreamedUpload(url, fields);
+    }
+
+    private static String readField(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(MAX_FIELD_BYTES + 1);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new BusinessException(StorageErrorCode.FILE_TOO_LARGE);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void validateContentType(String contentType) {
+        if (contentType == null || !contentType.startsWith("audio/")) {
+            throw new BusinessException(StorageErrorCode.INVALID_CONTENT_TYPE);
+        }
+    }
+
+    /**
+     * 파일 업로드 후 나머지 본문 처리 중 실패한 경우 업로드된 파일 정리
+     */
+    private void discard(String url) {
+        if (url == null) {
+            return;
+        }
+        try {
+            fileStorageService.delete(url);
+        } catch (Exception e) {
+            log.warn("스트리밍 업로드 실패 후 파일 정리에 실패했습니다. url={}", url, e);
+        }
+    }
+}
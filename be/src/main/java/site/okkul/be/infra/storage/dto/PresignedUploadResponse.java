@@ -0,0 +1,16 @@
+package site.okkul.be.infra.storage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "직접 업로드용 Presigned URL 발급 응답")
+public record PresignedUploadResponse(
+        @Schema(description = "업로드 완료 후 답변 제출 시 전달할 객체 키", example = "exam/12/answer/3/0b6f...")
+        String objectKey,
+        @Schema(description = "PUT 으로 파일을 업로드할 URL (Content-Type 헤더에 오디오 MIME 타입 지정)")
+        String uploadUrl,
+        @Schema(description = "업로드 URL 만료 시각")
+        Instant expiresAt
+) {
+}
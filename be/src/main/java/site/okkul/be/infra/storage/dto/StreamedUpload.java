@@ -0,0 +1,19 @@
+package site.okkul.be.infra.storage.dto;
+
+import java.util.Map;
+
+/**
+ * 스트리밍 multipart 수신 결과
+ *
+ * @param url    업로드된 파일 URL (파일 파트가 없으면 null)
+ * @param fields 파일 외 폼 필드
+ */
+public record StreamedUpload(
+        String url,
+        Map<String, String> fields
+) {
+
+    public String field(String name) {
+        return fields.get(name);
+    }
+}
@@ -0,0 +1,307 @@
+package site.okkul.be.infra.storage.media;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 자주 재생되는 문제 음성을 로컬 디스크에 보관하는 크기 제한 LRU 캐시
+ * <p>
+ * 첫 요청 시 MinIO 에서 받아 {@code media.cache.dir} 아래 객체 키와 같은 경로로 저장하고,
+ * 전체 크기가 {@code media.cache.max-size} 를 넘으면 가장 오래 쓰지 않은 파일부터 지웁니다.
+ * 같은 키를 동시에 요청하면 다운로드는 한 번만 일어납니다.
+ * <p>
+ * 답변/프로필처럼 한두 번만 재생되는 객체({@code uncached-prefixes})는 캐시하지 않습니다.
+ * 재시작 시 디스크에 남은 파일로 인덱스를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class MediaCache {
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private final MinioClient minioClient;
+    private final String bucketName;
+    private final String objectUrlPrefix;
+    private final Path dir;
+    private final Path tempDir;
+    private final long maxBytes;
+    private final List<String> uncachedPrefixes;
+    private final boolean prewarmEnabled;
+
+    /**
+     * 객체 키 -> 파일 크기 (접근 순서 = LRU 순서)
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final Map<String, CompletableFuture<Path>> loading = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public MediaCache(
+            MinioClient minioClient,
+            MeterRegistry meterRegistry,
+            @Value("${minio.endpoint}") String endpoint,
+            @Value("${minio.bucket-name}") String bucketName,
+            @Value("${media.cache.dir}") Path dir,
+            @Value("${media.cache.max-size:2GB}") DataSize maxSize,
+            @Value("${media.cache.uncached-prefixes:exam/,answer/,practice/,profile/}") List<String> uncachedPrefixes,
+            @Value("${media.cache.prewarm:true}") boolean prewarmEnabled
+    ) {
+        this.minioClient = minioClient;
+        this.bucketName = bucketName;
+        this.objectUrlPrefix = endpoint + "/" + bucketName + "/";
+        this.dir = dir.toAbsolutePath().normalize();
+        this.tempDir = this.dir.resolve(TEMP_DIR);
+        this.maxBytes = maxSize.toBytes();
+        this.uncachedPrefixes = uncachedPrefixes;
+        this.prewarmEnabled = prewarmEnabled;
+
+        this.hitCounter = Counter.builder("media.cache.requests")
+                .description("미디어 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("media.cache.requests")
+                .description("미디어 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("media.cache.evictions")
+                .description("용량 초과로 삭제된 캐시 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("media.cache.hit.ratio", this, MediaCache::hitRatio)
+                .description("미디어 캐시 히트율 (기동 이후 누적)")
+                .register(meterRegistry);
+        Gauge.builder("media.cache.size", this, MediaCache::totalBytes)
+                .description("미디어 캐시 디스크 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("media.cache.entries", this, MediaCache::entryCount)
+                .description("미디어 캐시 파일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 디스크에 남아 있는 파일로 인덱스를 복구합니다. (수정 시각이 오래된 것부터 LRU 앞쪽)
+     */
+    @PostConstruct
+    void restore() throws IOException {
+        Files.createDirectories(tempDir);
+        try (Stream<Path> temps = Files.list(tempDir)) {
+            temps.forEach(this::deleteQuietly);
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> !path.startsWith(tempDir))
+                    .sorted(Comparator.comparingLong(MediaCache::lastModifiedMillis))
+                    .forEach(path -> register(dir.relativize(path).toString().replace('\\', '/'), sizeOf(path)));
+        }
+        log.info("Media cache restored. entries={}, bytes={}", entryCount(), totalBytes());
+    }
+
+    /**
+     * 캐시 대상 객체인지 확인합니다.
+     */
+    public boolean isCacheable(String objectKey) {
+        return uncachedPrefixes.stream().noneMatch(objectKey::startsWith);
+    }
+
+    /**
+     * 캐시된 파일을 반환하고, 없으면 MinIO 에서 받아 캐시한 뒤 반환합니다.
+     *
+     * @param objectKey 캐시 대상 객체 키
+     * @return 로컬 파일 경로
+     */
+    public Path get(String objectKey) throws IOException {
+        Path cached = lookup(objectKey);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        return load(objectKey);
+    }
+
+    /**
+     * 출제된 문제 음성을 미리 받아 둡니다. (히트/미스 통계에는 포함하지 않음)
+     *
+     * @param audioUrls 문제 음성 URL 목록 (MinIO URL 이 아닌 값은 무시)
+     */
+    @Async
+    public void prewarm(Collection<String> audioUrls) {
+        if (!prewarmEnabled) {
+            return;
+        }
+        for (String url : audioUrls) {
+            Optional<String> objectKey = objectKeyOf(url).filter(this::isCacheable);
+            if (objectKey.isEmpty() || lookup(objectKey.get()) != null) {
+                continue;
+            }
+            try {
+                load(objectKey.get());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Media cache prewarm failed. objectKey={}", objectKey.get(), e);
+            }
+        }
+    }
+
+    /**
+     * MinIO 객체 URL(endpoint/bucket/objectKey)에서 객체 키를 꺼냅니다.
+     */
+    public Optional<String> objectKeyOf(String url) {
+        if (url == null || !url.startsWith(objectUrlPrefix)) {
+            return Optional.empty();
+        }
+        return Optional.of(url.substring(objectUrlPrefix.length()));
+    }
+
+    private synchronized Path lookup(String objectKey) {
+        if (entries.get(objectKey) == null) {
+            return null;
+        }
+        Path path = dir.resolve(objectKey);
+        if (Files.isRegularFile(path)) {
+            return path;
+        }
+        // 외부에서 지워진 파일
+        totalBytes -= entries.remove(objectKey);
+        return null;
+    }
+
+    /**
+     * 같은 키의 동시 다운로드는 먼저 시작한 요청의 결과를 함께 기다립니다.
+     */
+    private Path load(String objectKey) throws IOException {
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> inFlight = loading.putIfAbsent(objectKey, mine);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+        try {
+            Path path = download(objectKey);
+            mine.complete(path);
+            return path;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(objectKey, mine);
+        }
+    }
+
+    private Path download(String objectKey) throws IOException {
+        Path target = dir.resolve(objectKey).normalize();
+        if (!target.startsWith(dir) || target.startsWith(tempDir)) {
+            throw new IOException("invalid media object key: " + objectKey);
+        }
+        Path temp = Files.createTempFile(tempDir, "media-", ".tmp");
+        try (GetObjectResponse in = minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectKey)
+                        .build()
+        )) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        } catch (Exception e) {
+            deleteQuietly(temp);
+            throw new IOException("media download failed: " + objectKey, e);
+        }
+        register(objectKey, sizeOf(target));
+        return target;
+    }
+
+    /**
+     * 항목을 추가하고 용량을 넘으면 오래된 항목부터 지웁니다.
+     * 방금 추가한 항목은 지우지 않으므로 최대 한 파일만큼 일시적으로 초과할 수 있습니다.
+     */
+    private synchronized void register(String objectKey, long size) {
+        Long previous = entries.put(objectKey, size);
+        totalBytes += size - (previous != null ? previous : 0);
+
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1 && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(objectKey)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            deleteQuietly(dir.resolve(entry.getKey()));
+            evictionCounter.increment();
+        }
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized int entryCount() {
+        return entries.size();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Media cache file delete failed. path={}", path, e);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModifiedMillis(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
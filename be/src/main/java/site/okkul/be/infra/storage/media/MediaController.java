@@ -0,0 +1,32 @@
+package site.okkul.be.infra.storage.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import site.okkul.be.infra.storage.LocalFileStorageService;
+
+import java.io.IOException;
+
+/**
+ * MinIO 객체 프록시. (local-storage 프로필에서는 /files 가 같은 역할을 합니다)
+ */
+@RestController
+@Profile("!" + LocalFileStorageService.PROFILE)
+@RequiredArgsConstructor
+public class MediaController implements MediaControllerDocs {
+
+    private static final String MEDIA_PATH = "/media/";
+
+    private final MediaService mediaService;
+
+    @Override
+    @GetMapping(MEDIA_PATH + "**")
+    public void stream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        mediaService.serve(path.substring(MEDIA_PATH.length()), request, response);
+    }
+}
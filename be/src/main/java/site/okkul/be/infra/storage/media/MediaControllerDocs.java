@@ -0,0 +1,33 @@
+package site.okkul.be.infra.storage.media;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+@Tag(name = "미디어", description = "문제/답변 음성을 백엔드에서 제공하는 API")
+public interface MediaControllerDocs {
+
+    @Operation(
+            summary = "음성 파일 스트리밍",
+            description = """
+                    MinIO 객체 URL 의 버킷 뒤 경로(객체 키)로 음성 파일을 조회합니다.
+                    예: https://minio.okkul.site/okkul/question/1.mp3 -> /media/question/1.mp3
+                    
+                    Range 요청(단일 구간)과 If-None-Match 를 지원하며, 객체는 바뀌지 않으므로 immutable 로 캐시됩니다.
+                    문제 음성은 서버 로컬 디스크 캐시에서 제공됩니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "전체 파일"),
+            @ApiResponse(responseCode = "206", description = "요청한 구간"),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "404", description = "파일 없음"),
+            @ApiResponse(responseCode = "416", description = "만족할 수 없는 Range")
+    })
+    void stream(HttpServletRequest request, HttpServletResponse response) throws IOException;
+}
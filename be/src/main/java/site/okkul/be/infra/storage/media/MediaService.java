@@ -0,0 +1,197 @@
+package site.okkul.be.infra.storage.media;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.SystemException;
+import site.okkul.be.infra.storage.RangeFileResponder;
+import site.okkul.be.infra.storage.SpoolingFileStorageService;
+import site.okkul.be.infra.storage.SpoolingFileStorageService.SpooledObject;
+import site.okkul.be.infra.storage.StorageErrorCode;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * MinIO 객체를 백엔드에서 대신 내려주는 미디어 서비스
+ * <p>
+ * 캐시 대상(문제 음성)은 {@link MediaCache} 의 로컬 파일로 응답하고,
+ * 그 외(답변 음성)는 요청한 구간만 MinIO 에서 읽어 그대로 흘려보냅니다.
+ * 스풀({@link SpoolingFileStorageService})에 남아 아직 MinIO 에 없는 객체는 스풀 파일로 응답합니다.
+ * 객체 키는 UUID 기반으로 내용이 바뀌지 않으므로 immutable 로 캐시하게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaService {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final MinioClient minioClient;
+    private final MediaCache mediaCache;
+    private final RangeFileResponder rangeFileResponder;
+    private final ObjectProvider<SpoolingFileStorageService> spoolingFileStorageService;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    /**
+     * 객체를 Range / ETag 를 반영해 응답합니다.
+     *
+     * @param objectKey 객체 키 (예: question/intro/1.mp3)
+     */
+    public void serve(String objectKey, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!StringUtils.hasText(objectKey) || objectKey.startsWith("/") || objectKey.contains("..")) {
+            throw new BusinessException(StorageErrorCode.INVALID_OBJECT_KEY);
+        }
+
+        if (serveSpooled(objectKey, request, response)) {
+            return;
+        }
+        if (mediaCache.isCacheable(objectKey)) {
+            rangeFileResponder.respond(request, response, loadCached(objectKey), contentTypeOf(objectKey), IMMUTABLE);
+            return;
+        }
+        proxy(objectKey, request, response);
+    }
+
+    /**
+     * flush 전 객체면 스풀 파일로 응답합니다.
+     * <p>
+     * 파일을 먼저 열어 두므로 응답 도중 flush 가 끝나 파일이 지워져도 끝까지 보낼 수 있고,
+     * 열기 전에 지워졌으면 MinIO 에 올라간 것이므로 false 를 반환해 MinIO 에서 읽게 합니다.
+     *
+     * @return 스풀 파일로 응답했으면 true
+     */
+    private boolean serveSpooled(String objectKey, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        SpoolingFileStorageService spool = spoolingFileStorageService.getIfAvailable();
+        Optional<SpooledObject> spooled = spool != null ? spool.findSpooled(objectKey) : Optional.empty();
+        if (spooled.isEmpty()) {
+            return false;
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(spooled.get().data(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try (channel) {
+            rangeFileResponder.respond(
+                    request,
+                    response,
+                    channel.size(),
+                    spooled.get().etag(),
+                    spooled.get().createdAt().toEpochMilli(),
+                    spooled.get().contentType(),
+                    IMMUTABLE,
+                    (start, count) -> {
+                        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+                        long position = start;
+                        long remaining = count;
+                        while (remaining > 0) {
+                            long sent = channel.transferTo(position, remaining, out);
+                            if (sent <= 0) {
+                                break;
+                            }
+                            position += sent;
+                            remaining -= sent;
+                        }
+                    }
+            );
+        }
+        return true;
+    }
+
+    private Path loadCached(String objectKey) {
+        try {
+            return mediaCache.get(objectKey);
+        } catch (IOException e) {
+            throw toStorageException(objectKey, e);
+        }
+    }
+
+    /**
+     * 캐시하지 않는 객체는 stat 으로 길이/ETag 를 얻고, 확정된 구간만 MinIO 에 요청합니다.
+     */
+    private void proxy(String objectKey, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StatObjectResponse stat;
+        try {
+            stat = minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectKey)
+                            .build()
+            );
+        } catch (Exception e) {
+            throw toStorageException(objectKey, e);
+        }
+
+        rangeFileResponder.respond(
+                request,
+                response,
+                stat.size(),
+                "\"" + stat.etag() + "\"",
+                stat.lastModified().toInstant().toEpochMilli(),
+                stat.contentType(),
+                IMMUTABLE,
+                (start, count) -> {
+                    try (GetObjectResponse in = minioClient.getObject(
+                            GetObjectArgs.builder()
+                                    .bucket(bucketName)
+                                    .object(objectKey)
+                                    .offset(start)
+                                    .length(count)
+                                    .build()
+                    )) {
+                        in.transferTo(response.getOutputStream());
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IOException("media proxy failed: " + objectKey, e);
+                    }
+                }
+        );
+    }
+
+    private static String contentTypeOf(String objectKey) {
+        return MediaTypeFactory.getMediaType(objectKey)
+                .map(MediaType::toString)
+                .orElse(null);
+    }
+
+    private static RuntimeException toStorageException(String objectKey, Exception e) {
+        // 캐시 다운로드 실패는 IOException 으로 감싸져 옴
+        Throwable cause = e instanceof ErrorResponseException ? e : e.getCause();
+        if (cause instanceof ErrorResponseException error && "NoSuchKey".equals(error.errorResponse().code())) {
+            return new BusinessException(StorageErrorCode.FILE_NOT_FOUND);
+        }
+        log.error("Media load error. objectKey={}", objectKey, e);
+        return new SystemException(StorageErrorCode.DOWNLOAD_FAILED,
+                "미디어 조회 실패",
+                "objectKey=" + objectKey + ", reason=" + e.getMessage());
+    }
+}
@@ -0,0 +1,47 @@
+package site.okkul.be.infra.storage.media;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 응답에 내려가는 MinIO 객체 URL 을 백엔드 미디어 프록시 URL 로 바꿉니다.
+ * <p>
+ * 예: {@code https://minio.okkul.site/okkul/question/intro/1.mp3}
+ * -> {@code https://api.okkul.site/media/question/intro/1.mp3}
+ * <p>
+ * MinIO URL 이 아닌 값(로컬 스토리지의 /files URL, 외부 URL, null)은 그대로 둡니다.
+ * DB 에는 원래 URL 을 그대로 저장하고, 클라이언트 응답과 AI 서버에 넘기는 답변 음성 URL 에만 적용합니다.
+ * AI 서버에 넘길 때는 프록시가 어느 레플리카에서든 읽을 수 있도록 먼저 저장소 반영을 기다립니다.
+ * ({@code FileStorageService#awaitStored}, 스풀은 업로드한 서버에만 있음)
+ */
+@Component
+public class MediaUrls {
+
+    private static final String MEDIA_PATH = "/media/";
+
+    private final String objectUrlPrefix;
+    private final String mediaBaseUrl;
+
+    public MediaUrls(
+            @Value("${minio.endpoint}") String endpoint,
+            @Value("${minio.bucket-name}") String bucketName,
+            @Value("${app.backend.url}") String backendUrl
+    ) {
+        this.objectUrlPrefix = endpoint + "/" + bucketName + "/";
+        this.mediaBaseUrl = StringUtils.trimTrailingCharacter(backendUrl, '/') + MEDIA_PATH;
+    }
+
+    /**
+     * MinIO 객체 URL 이면 {@code {app.backend.url}/media/{objectKey}} 로 바꿉니다.
+     *
+     * @param url 저장된 객체 URL
+     * @return 응답에 내려줄 URL
+     */
+    public String toMediaUrl(String url) {
+        if (url == null || !url.startsWith(objectUrlPrefix)) {
+            return url;
+        }
+        return mediaBaseUrl + url.substring(objectUrlPrefix.length());
+    }
+}
@@ -0,0 +1,15 @@
+-- 고아 오디오/이미지 정리 작업(OrphanObjectCollector)의 URL 일괄 조회용 인덱스
+-- 1. 모의고사 답변 음성
+CREATE INDEX IF NOT EXISTS idx_exam_answer_audio_url
+    ON exam_answer (audio_url)
+    WHERE audio_url IS NOT NULL;
+
+-- 2. 유형별 연습 답변 음성
+CREATE INDEX IF NOT EXISTS idx_practice_answers_english_record_url
+    ON practice_answers (english_record_url)
+    WHERE english_record_url IS NOT NULL;
+
+-- 3. 프로필 이미지
+CREATE INDEX IF NOT EXISTS idx_users_profile_image_url
+    ON users (profile_image_url)
+    WHERE profile_image_url IS NOT NULL;
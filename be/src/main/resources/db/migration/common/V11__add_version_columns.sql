@@ -0,0 +1,9 @@
+-- 상태 전이(조건부 UPDATE)와 엔티티 변경 사이의 낙관적 잠금용 버전 컬럼
+-- 1. 모의고사
+ALTER TABLE exam ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 모의고사 답변
+ALTER TABLE exam_answer ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- 3. 유형별 연습 답변
+ALTER TABLE practice_answers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- AI 분석 결과 쓰기용 분산 락 펜싱 토큰 (마지막으로 결과를 쓴 락의 번호, 더 작은 번호의 늦은 쓰기 거절)
+-- 1. 모의고사 리포트
+ALTER TABLE exam ADD COLUMN IF NOT EXISTS fencing_token BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 모의고사 답변 분석
+ALTER TABLE exam_answer ADD COLUMN IF NOT EXISTS fencing_token BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,20 @@
+-- 분석/처리 중에 멈춘 작업 정리(StuckJobReaper)용 컬럼과 인덱스
+-- 1. 유형별 연습 답변 변경 시각 (기존 행은 생성 시각으로 채움)
+ALTER TABLE practice_answers ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITHOUT TIME ZONE;
+UPDATE practice_answers SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE practice_answers ALTER COLUMN updated_at SET NOT NULL;
+
+-- 2. 리포트 분석 중인 모의고사
+CREATE INDEX IF NOT EXISTS idx_exam_analyzing_updated_at
+    ON exam (updated_at)
+    WHERE status = 'ANALYZING';
+
+-- 3. 분석 중인 모의고사 답변
+CREATE INDEX IF NOT EXISTS idx_exam_answer_analyzing_updated_at
+    ON exam_answer (updated_at)
+    WHERE status = 'ANALYZING';
+
+-- 4. 피드백 처리 중인 연습 답변
+CREATE INDEX IF NOT EXISTS idx_practice_answers_processing_updated_at
+    ON practice_answers (updated_at)
+    WHERE feedback_status = 'PROCESSING';
@@ -0,0 +1,6 @@
+-- 음성이 연결된 답변의 상태를 UPLOADED 로 맞춤
+-- 이전에는 제출된 답변도 READY 로 저장했지만, 이제 READY 는 음성 업로드 전 선점만 뜻하며 분석/재분석 대상이 아님
+UPDATE exam_answer
+SET status = 'UPLOADED'
+WHERE status = 'READY'
+  AND audio_url IS NOT NULL;
@@ -0,0 +1,20 @@
+-- 고아 객체 정리 작업(OrphanObjectCollector)이 전체 URL 대신 객체 키로 참조를 확인하도록 인덱스 교체
+-- URL 의 마지막 경로 조각(UUID 가 들어간 파일 이름)으로 찾으므로, 저장 당시 endpoint/호스트와 관계없이 인덱스를 씁니다.
+DROP INDEX IF EXISTS idx_exam_answer_audio_url;
+DROP INDEX IF EXISTS idx_practice_answers_english_record_url;
+DROP INDEX IF EXISTS idx_users_profile_image_url;
+
+-- 1. 모의고사 답변 음성
+CREATE INDEX IF NOT EXISTS idx_exam_answer_audio_url_file_name
+    ON exam_answer ((substring(audio_url FROM '[^/]+$')))
+    WHERE audio_url IS NOT NULL;
+
+-- 2. 유형별 연습 답변 음성
+CREATE INDEX IF NOT EXISTS idx_practice_answers_english_record_url_file_name
+    ON practice_answers ((substring(english_record_url FROM '[^/]+$')))
+    WHERE english_record_url IS NOT NULL;
+
+-- 3. 프로필 이미지
+CREATE INDEX IF NOT EXISTS idx_users_profile_image_url_file_name
+    ON users ((substring(profile_image_url FROM '[^/]+$')))
+    WHERE profile_image_url IS NOT NULL;
@@ -0,0 +1,13 @@
+-- 히스토리 커서 페이지네이션용 복합 인덱스
+-- 1. 모의고사 히스토리: (user_id, end_at DESC, exam_id DESC), 종료된 시험만
+CREATE INDEX IF NOT EXISTS idx_exam_user_end_at_exam_id
+    ON exam (user_id, end_at DESC, exam_id DESC)
+    WHERE end_at IS NOT NULL;
+
+-- 2. 유형별 연습 히스토리: (user_id, started_at DESC, practice_id DESC)
+CREATE INDEX IF NOT EXISTS idx_practice_user_started_at_practice_id
+    ON practice (user_id, started_at DESC, practice_id DESC);
+
+-- 3. 답변 존재 여부(EXISTS) 확인용
+CREATE INDEX IF NOT EXISTS idx_practice_answers_practice_id
+    ON practice_answers (practice_id);
@@ -0,0 +1,59 @@
+-- 모의고사 히스토리 조회 전용 비정규화 테이블
+-- exam + exam_report 를 한 행으로 펼쳐서 목록/상세 조회를 단일 쿼리로 처리합니다.
+-- 시험 종료, 리포트 생성/재생성 시점에 애플리케이션에서 UPSERT 로 갱신합니다.
+CREATE TABLE exam_history_view
+(
+    exam_id             BIGINT                      NOT NULL,
+    user_id             BIGINT                      NOT NULL,
+    created_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_at              TIMESTAMP WITHOUT TIME ZONE,
+    initial_difficulty  INTEGER                     NOT NULL,
+    adjusted_difficulty INTEGER,
+    grade               VARCHAR(255),
+    total_score         DECIMAL(5, 2),
+    avg_grammar         DECIMAL(5, 2),
+    avg_vocab           DECIMAL(5, 2),
+    avg_logic           DECIMAL(5, 2),
+    avg_fluency         DECIMAL(5, 2),
+    avg_relevance       DECIMAL(5, 2),
+    comment             TEXT,
+    strength_type       VARCHAR(100),
+    weakness_type       VARCHAR(100),
+    report_created_at   TIMESTAMP WITHOUT TIME ZONE,
+    report_updated_at   TIMESTAMP WITHOUT TIME ZONE,
+    updated_at          TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_exam_history_view PRIMARY KEY (exam_id)
+);
+
+-- 목록 조회용 커버링 인덱스: 정렬 키 + 요약 컬럼을 모두 포함해 index-only scan 이 가능하도록 합니다.
+CREATE INDEX idx_exam_history_view_user_end_at
+    ON exam_history_view (user_id, end_at DESC, exam_id DESC)
+    INCLUDE (created_at, initial_difficulty, adjusted_difficulty, grade)
+    WHERE end_at IS NOT NULL;
+
+-- 기존 종료된 시험 백필
+INSERT INTO exam_history_view (exam_id, user_id, created_at, end_at, initial_difficulty, adjusted_difficulty,
+                               grade, total_score, avg_grammar, avg_vocab, avg_logic, avg_fluency, avg_relevance,
+                               comment, strength_type, weakness_type, report_created_at, report_updated_at, updated_at)
+SELECT e.exam_id,
+       e.user_id,
+       e.created_at,
+       e.end_at,
+       e.initial_difficulty,
+       e.adjusted_difficulty,
+       r.grade,
+       r.total_score,
+       r.avg_grammar,
+       r.avg_vocab,
+       r.avg_logic,
+       r.avg_fluency,
+       r.avg_relevance,
+       r.comment,
+       r.strength_type,
+       r.weakness_type,
+       r.created_at,
+       r.updated_at,
+       now()
+FROM exam e
+         LEFT JOIN exam_report r ON r.exam_id = e.exam_id
+WHERE e.end_at IS NOT NULL;
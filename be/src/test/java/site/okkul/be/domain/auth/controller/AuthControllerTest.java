@@ -2,6 +2,8 @@ package site.okkul.be.domain.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +15,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import site.okkul.be.domain.auth.dto.LogoutRequest;
 import site.okkul.be.domain.auth.dto.TokenReissueRequest;
+import site.okkul.be.domain.auth.service.AuthService;
 import site.okkul.be.domain.auth.service.JwtProvider;
 import site.okkul.be.domain.user.entity.OAuthProvider;
 import site.okkul.be.domain.user.entity.OpicLevel;
@@ -21,6 +25,7 @@ import site.okkul.be.domain.user.entity.User;
 import site.okkul.be.domain.user.entity.UserRole;
 import site.okkul.be.domain.user.repository.UserJpaRepository;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,6 +46,9 @@ class AuthControllerTest {
 	@Autowired
 	private UserJpaRepository userRepository;
 
+	@Autowired
+	private AuthService authService;
+
 	@Autowired
 	private JwtProvider jwtProvider;
 
@@ -55,15 +63,15 @@ class AuthControllerTest {
 				.providerId("test-provider-id")
 				.name("Test User")
 				.email("test@example.com")
-				.roles(Set.of(UserRole.USER))
+				.roles(new HashSet<>(Set.of(UserRole.USER)))
 				.currentLevel(OpicLevel.INTERMEDIATE_MID_1)
 				.targetLevel(OpicLevel.ADVANCED_LOW)
 				.createdAt(Instant.now())
 				.build();
 		savedUser = userRepository.save(user);
 
-		// 유효한 리프레시 토큰 생성
-		validRefreshToken = jwtProvider.createRefreshToken(savedUser.getId());
+		// 유효한 리프레시 토큰 생성 (로그인과 같은 경로로 패밀리 등록)
+		validRefreshToken = authService.issueTokens(savedUser.getId(), savedUser.getRoles()).refreshToken();
 	}
 
 	@Nested
@@ -82,9 +90,64 @@ class AuthControllerTest {
 							.content(objectMapper.writeValueAsString(request)))
 					.andExpect(status().isOk())
 					.andExpect(jsonPath("$.accessToken").exists())
+					.andExpect(jsonPath("$.refreshToken").exists())
 					.andDo(print());
 		}
 
+		@Test
+		@DisplayName("성공: 직전 리프레시 토큰으로 유예 시간 안에 다시 요청하면 이미 교체된 토큰으로 다시 발급한다")
+		void success_concurrent_reissue() throws Exception {
+			// given
+			String rotatedToken = authService.reissueAccessToken(validRefreshToken).refreshToken();
+
+			// when
+			String reissuedToken = authService.reissueAccessToken(validRefreshToken).refreshToken();
+
+			// then
+			// 두 응답 모두 같은 현재 토큰(jti)이므로 어느 쪽으로든 다음 재발급이 가능하다
+			assertThat(jwtProvider.verify(reissuedToken).claims().getId())
+					.isEqualTo(jwtProvider.verify(rotatedToken).claims().getId());
+			mockMvc.perform(post("/auth/reissue")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(new TokenReissueRequest(reissuedToken))))
+					.andExpect(status().isOk());
+		}
+
+		@Test
+		@DisplayName("성공: 재발급한 액세스 토큰에는 DB 의 현재 권한이 반영된다")
+		void success_reloads_roles() throws Exception {
+			// given
+			savedUser.getRoles().add(UserRole.ADMIN);
+			userRepository.saveAndFlush(savedUser);
+
+			// when
+			String accessToken = authService.reissueAccessToken(validRefreshToken).accessToken();
+
+			// then
+			assertThat(jwtProvider.verify(accessToken).claims().get("roles", List.class))
+					.containsExactlyInAnyOrder("USER", "ADMIN");
+		}
+
+		@Test
+		@DisplayName("실패: 이미 교체된 리프레시 토큰을 재사용하면 401을 반환하고 새 토큰도 폐기된다")
+		void fail_reused_token() throws Exception {
+			// given
+			// 두 번 교체해 처음 토큰이 유예 대상(직전 토큰)이 아니게 만든다
+			String previousToken = authService.reissueAccessToken(validRefreshToken).refreshToken();
+			String rotatedToken = authService.reissueAccessToken(previousToken).refreshToken();
+
+			// when & then
+			mockMvc.perform(post("/auth/reissue")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(new TokenReissueRequest(validRefreshToken))))
+					.andExpect(status().isUnauthorized())
+					.andExpect(jsonPath("$.code").value("AUTH_004"));
+			mockMvc.perform(post("/auth/reissue")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(new TokenReissueRequest(rotatedToken))))
+					.andExpect(status().isUnauthorized());
+		}
+
 		@Test
 		@DisplayName("실패: 리프레시 토큰이 유효하지 않거나 만료된 경우 401 Unauthorized를 반환한다")
 		void fail_invalid_token() throws Exception {
@@ -101,11 +164,14 @@ class AuthControllerTest {
 		}
 
 		@Test
-		@DisplayName("실패: 사용자를 찾을 수 없는 경우 401 Unauthorized를 반환한다")
-		void fail_user_not_found() throws Exception {
+		@DisplayName("실패: 로그아웃으로 폐기된 리프레시 토큰은 401 Unauthorized를 반환한다")
+		void fail_logged_out() throws Exception {
 			// given
-			// 사용자를 삭제하여 토큰은 유효하지만 사용자가 없는 상황 재현
-			userRepository.delete(savedUser);
+			// 로그아웃하여 토큰 서명은 유효하지만 서버에서 폐기된 상황 재현
+			mockMvc.perform(post("/auth/logout")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(new LogoutRequest(validRefreshToken, false))))
+					.andExpect(status().isNoContent());
 
 			TokenReissueRequest request = new TokenReissueRequest(validRefreshToken);
 
@@ -0,0 +1,80 @@
+package site.okkul.be.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import site.okkul.be.domain.auth.dto.JwtUserDetails;
+import site.okkul.be.domain.auth.dto.JwtVerification;
+import site.okkul.be.domain.user.entity.UserRole;
+
+@Tag("test")
+class JwtProviderTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key";
+
+	private SimpleMeterRegistry meterRegistry;
+	private JwtProvider jwtProvider;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jwtProvider = new JwtProvider(SECRET, Duration.ofMinutes(15), Duration.ofDays(7), 100, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("만료된 토큰은 EXPIRED 로 거절되고 인증 정보를 꺼낼 수 없다")
+	void verify_expiredToken() {
+		// given
+		JwtProvider expiredProvider = new JwtProvider(SECRET, Duration.ofMillis(-1000), Duration.ofDays(7), 100, meterRegistry);
+		String token = expiredProvider.createAccessToken(1L, Set.of(UserRole.USER));
+
+		// when
+		JwtVerification verification = jwtProvider.verify(token);
+
+		// then
+		assertThat(verification.failure()).isEqualTo(JwtVerification.Failure.EXPIRED);
+		assertThat(jwtProvider.authenticate(token)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("서명이 변조된 토큰은 INVALID_SIGNATURE 로 거절된다")
+	void verify_tamperedSignature() {
+		// given
+		String token = jwtProvider.createAccessToken(1L, Set.of(UserRole.USER));
+		int signatureStart = token.lastIndexOf('.') + 1;
+		char first = token.charAt(signatureStart);
+		String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+		// when
+		JwtVerification verification = jwtProvider.verify(tampered);
+
+		// then
+		assertThat(verification.failure()).isEqualTo(JwtVerification.Failure.INVALID_SIGNATURE);
+		assertThat(jwtProvider.authenticate(tampered)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("같은 토큰의 두 번째 인증은 캐시에서 응답한다")
+	void authenticate_cachedAfterFirstVerification() {
+		// given
+		String token = jwtProvider.createAccessToken(7L, Set.of(UserRole.ADMIN));
+
+		// when
+		Authentication first = jwtProvider.authenticate(token).orElseThrow();
+		Authentication second = jwtProvider.authenticate(token).orElseThrow();
+
+		// then
+		assertThat(((JwtUserDetails) second.getPrincipal()).getUserId()).isEqualTo(7L);
+		assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+		assertThat(second).isNotSameAs(first);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1.0);
+	}
+}
@@ -0,0 +1,209 @@
+package site.okkul.be.domain.exam.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.okkul.be.domain.exam.entity.Exam;
+import site.okkul.be.domain.survey.entity.Survey;
+import site.okkul.be.domain.survey.repository.SurveyJpaRepository;
+import site.okkul.be.domain.user.entity.OAuthProvider;
+import site.okkul.be.domain.user.entity.User;
+import site.okkul.be.domain.user.repository.UserJpaRepository;
+import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.storage.FileStorageService;
+
+/**
+ * StuckJobReaper 가 쓰는 failStuck 네이티브 쿼리와 시험 종료 조건부 UPDATE 를 Flyway 스키마(실제 DB) 위에서 검증합니다.
+ */
+@Tag("integration")
+@SpringBootTest
+class ExamJpaRepositoryIntegrationTest {
+
+	private static final Duration STALE = Duration.ofMinutes(10);
+
+	@Autowired
+	private ExamJpaRepository examJpaRepository;
+	@Autowired
+	private ExamAnswerJpaRepository examAnswerJpaRepository;
+	@Autowired
+	private UserJpaRepository userJpaRepository;
+	@Autowired
+	private SurveyJpaRepository surveyJpaRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@MockitoBean
+	private AiClientProvider aiClientProvider;
+	@MockitoBean
+	private FileStorageService fileStorageService;
+
+	private User user;
+	private Survey survey;
+	private List<String> tableNames;
+
+	@BeforeEach
+	void setUp() {
+		// 테이블 이름 캐싱 (한 번만 실행)
+		if (tableNames == null) {
+			tableNames = jdbcTemplate.query("SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'",
+							(rs, rowNum) -> rs.getString(1))
+					.stream()
+					.filter(tableName -> !tableName.equals("flyway_schema_history"))
+					.collect(Collectors.toList());
+		}
+
+		user = userJpaRepository.save(User.builder().email("test@okkul.site").provider(OAuthProvider.GOOGLE).providerId("ABC").build());
+		survey = surveyJpaRepository.save(Survey.builder().userId(user.getId()).level(3).build());
+	}
+
+	@AfterEach
+	void cleanup() {
+		jdbcTemplate.execute("SET session_replication_role = 'replica';");
+		tableNames.forEach(tableName -> jdbcTemplate.execute("TRUNCATE TABLE " + tableName + " RESTART IDENTITY CASCADE;"));
+		jdbcTemplate.execute("SET session_replication_role = 'origin';");
+	}
+
+	/**
+	 * 주어진 상태로, minutes 분 전부터 멈춰 있는 시험을 만듭니다.
+	 */
+	private Long examIn(String status, int minutes) {
+		Long examId = examJpaRepository.save(Exam.create(survey.getSurveyId(), 3, user.getId())).getId();
+		jdbcTemplate.update("UPDATE exam SET status = ?, updated_at = ? WHERE exam_id = ?",
+				status, minutesAgo(minutes), examId);
+		return examId;
+	}
+
+	private Timestamp minutesAgo(int minutes) {
+		return Timestamp.from(Instant.now().minus(Duration.ofMinutes(minutes)));
+	}
+
+	private String examStatusOf(Long examId) {
+		return jdbcTemplate.queryForObject("SELECT status FROM exam WHERE exam_id = ?", String.class, examId);
+	}
+
+	@Nested
+	@DisplayName("ExamJpaRepository.failStuck 은")
+	class ExamFailStuckTest {
+
+		@Test
+		@DisplayName("기준 시각 이전부터 ANALYZING 인 시험만 ANALYZING_FAILED 로 바꾼다")
+		void failsOnlyStaleAnalyzingExams() {
+			// given
+			Long stale = examIn("ANALYZING", 30);
+			Long fresh = examIn("ANALYZING", 1);
+			Long completed = examIn("COMPLETED", 30);
+
+			// when
+			Instant now = Instant.now();
+			int reaped = transactionTemplate.execute(status -> examJpaRepository.failStuck(now.minus(STALE), now, 10));
+
+			// then
+			assertThat(reaped).isEqualTo(1);
+			assertThat(examStatusOf(stale)).isEqualTo("ANALYZING_FAILED");
+			assertThat(examStatusOf(fresh)).isEqualTo("ANALYZING");
+			assertThat(examStatusOf(completed)).isEqualTo("COMPLETED");
+		}
+
+		@Test
+		@DisplayName("한 번에 limit 개까지만 실패 처리한다")
+		void respectsLimit() {
+			// given
+			examIn("ANALYZING", 30);
+			examIn("ANALYZING", 20);
+			examIn("ANALYZING", 15);
+
+			// when
+			Instant now = Instant.now();
+			int first = transactionTemplate.execute(status -> examJpaRepository.failStuck(now.minus(STALE), now, 2));
+			int second = transactionTemplate.execute(status -> examJpaRepository.failStuck(now.minus(STALE), now, 2));
+
+			// then
+			assertThat(first).isEqualTo(2);
+			assertThat(second).isEqualTo(1);
+		}
+	}
+
+	@Nested
+	@DisplayName("ExamJpaRepository.end 는")
+	class ExamEndTest {
+
+		@Test
+		@DisplayName("종료 시각은 한 번만 기록하고, 다시 종료하면 갱신하지 않는다")
+		void endsOnlyOnce() {
+			// given
+			Long examId = examJpaRepository.save(Exam.create(survey.getSurveyId(), 3, user.getId())).getId();
+			Instant firstEnd = Instant.now().minus(Duration.ofMinutes(1));
+
+			// when
+			int first = transactionTemplate.execute(status -> examJpaRepository.end(examId, user.getId(), firstEnd));
+			int second = transactionTemplate.execute(status -> examJpaRepository.end(examId, user.getId(), Instant.now()));
+
+			// then
+			assertThat(first).isEqualTo(1);
+			assertThat(second).isZero();
+			assertThat(jdbcTemplate.queryForObject("SELECT end_at FROM exam WHERE exam_id = ?", Timestamp.class, examId).toInstant())
+					.isCloseTo(firstEnd, within(1, ChronoUnit.MILLIS));
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 시험이나 분석 중인 시험은 종료하지 않는다")
+		void skipsOtherUserAndAnalyzingExams() {
+			// given
+			Long examId = examJpaRepository.save(Exam.create(survey.getSurveyId(), 3, user.getId())).getId();
+			Long analyzing = examIn("ANALYZING", 1);
+
+			// when
+			int otherUser = transactionTemplate.execute(status -> examJpaRepository.end(examId, user.getId() + 1, Instant.now()));
+			int analyzingEnd = transactionTemplate.execute(status -> examJpaRepository.end(analyzing, user.getId(), Instant.now()));
+
+			// then
+			assertThat(otherUser).isZero();
+			assertThat(analyzingEnd).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("ExamAnswerJpaRepository.failStuck 은")
+	class ExamAnswerFailStuckTest {
+
+		@Test
+		@DisplayName("기준 시각 이전부터 ANALYZING 인 답변만 ANALYZING_FAILED 로 바꾼다")
+		void failsOnlyStaleAnalyzingAnswers() {
+			// given
+			Long examId = examIn("IN_PROGRESS", 0);
+			jdbcTemplate.update("""
+					INSERT INTO exam_answer (exam_id, question_order, status, created_at, updated_at)
+					VALUES (?, 1, 'ANALYZING', ?, ?),
+					       (?, 2, 'ANALYZING', ?, ?)
+					""", examId, minutesAgo(30), minutesAgo(30), examId, minutesAgo(0), minutesAgo(0));
+
+			// when
+			Instant now = Instant.now();
+			int reaped = transactionTemplate.execute(status -> examAnswerJpaRepository.failStuck(now.minus(STALE), now, 10));
+
+			// then
+			assertThat(reaped).isEqualTo(1);
+			assertThat(jdbcTemplate.queryForList("SELECT status FROM exam_answer WHERE exam_id = ? ORDER BY question_order", String.class, examId))
+					.containsExactly("ANALYZING_FAILED", "ANALYZING");
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package site.okkul.be.domain.exam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.ResourceAccessException;
+import site.okkul.be.domain.exam.entity.AnswerStatus;
+import site.okkul.be.domain.exam.entity.AnswerStatusTransition;
+import site.okkul.be.domain.exam.entity.Exam;
+import site.okkul.be.domain.exam.entity.ExamAnswer;
+import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.entity.ExamStatusTransition;
+import site.okkul.be.domain.exam.exception.ExamErrorCode;
+import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
+import site.okkul.be.domain.exam.repository.ExamJpaRepository;
+import site.okkul.be.domain.question.entity.Question;
+import site.okkul.be.domain.question.entity.QuestionSet;
+import site.okkul.be.domain.question.entity.QuestionType;
+import site.okkul.be.domain.question.repository.QuestionSetRepository;
+import site.okkul.be.domain.survey.entity.Survey;
+import site.okkul.be.domain.survey.repository.SurveyJpaRepository;
+import site.okkul.be.domain.topic.entity.Topic;
+import site.okkul.be.domain.topic.entity.TopicCategory;
+import site.okkul.be.domain.topic.repository.TopicCategoryRepository;
+import site.okkul.be.domain.topic.repository.TopicJpaRepository;
+import site.okkul.be.domain.user.entity.OAuthProvider;
+import site.okkul.be.domain.user.entity.User;
+import site.okkul.be.domain.user.repository.UserJpaRepository;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.ai.AiClient;
+import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.ai.AiErrorCode;
+import site.okkul.be.infra.storage.FileStorageService;
+
+@Slf4j
+@Tag("integration")
+@SpringBootTest
+class ExamAnswerServiceIntegrationTest {
+
+	@Autowired
+	private ExamAnswerService examAnswerService;
+	@Autowired
+	private ExamService examService;
+	@Autowired
+	private ExamJpaRepository examJpaRepository;
+	@Autowired
+	private ExamAnswerJpaRepository examAnswerJpaRepository;
+	@Autowired
+	private UserJpaRepository userJpaRepository;
+	@Autowired
+	private SurveyJpaRepository surveyJpaRepository;
+	@Autowired
+	private TopicJpaRepository topicJpaRepository;
+	@Autowired
+	private TopicCategoryRepository topicCategoryRepository;
+	@Autowired
+	private QuestionSetRepository questionSetRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private AiClientProvider aiClientProvider;
+	@MockitoBean
+	private FileStorageService fileStorageService;
+
+	private User user;
+	private Exam exam;
+	private List<String> tableNames;
+
+	@BeforeEach
+	void setUp() {
+		// 테이블 이름 캐싱 (한 번만 실행)
+		if (tableNames == null) {
+			tableNames = jdbcTemplate.query("SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'",
+							(rs, rowNum) -> rs.getString(1))
+					.stream()
+					.filter(tableName -> !tableName.equals("flyway_schema_history"))
+					.collect(Collectors.toList());
+		}
+
+		// 테스트 데이터 생성 (문항 2개짜리 시험)
+		user = userJpaRepository.save(User.builder().email("test@okkul.site").provider(OAuthProvider.GOOGLE).providerId("ABC").build());
+		TopicCategory topicCategory = topicCategoryRepository.save(TopicCategory.builder().id(1L).categoryName("categoryName").categoryCode("categoryCode").build());
+		Topic topic = topicJpaRepository.save(Topic.builder().id(101L).topicName("Topic1").topicCode("TopicCode").category(topicCategory).build());
+		Survey survey = surveyJpaRepository.save(Survey.builder().userId(user.getId()).level(3).build());
+
+		Question question1 = Question.builder().questionText("Q1. Tell me about yourself.").audioUrl("q1.mp3").order(1).build();
+		Question question2 = Question.builder().questionText("Q2. Describe your house.").audioUrl("q2.mp3").order(2).build();
+		QuestionSet questionSet = QuestionSet.builder()
+				.level(3)
+				.topic(topic)
+				.questionType(QuestionType.COMBO2)
+				.questions(List.of(question1, question2))
+				.build();
+		question1.assignTo(questionSet);
+		question2.assignTo(questionSet);
+		questionSetRepository.save(questionSet);
+
+		Exam created = Exam.create(survey.getSurveyId(), 3, user.getId());
+		created.getQuestionSets().add(questionSet);
+		created.getQuestions().addAll(questionSet.getQuestions());
+		exam = examJpaRepository.save(created);
+	}
+
+	@AfterEach
+	void cleanup() {
+		jdbcTemplate.execute("SET session_replication_role = 'replica';");
+		tableNames.forEach(tableName -> jdbcTemplate.execute("TRUNCATE TABLE " + tableName + " RESTART IDENTITY CASCADE;"));
+		jdbcTemplate.execute("SET session_replication_role = 'origin';");
+	}
+
+	@Nested
+	@DisplayName("claimAnswer 메서드는")
+	class ClaimAnswerTest {
+
+		@Test
+		@DisplayName("같은 문항을 동시에 선점하면 하나만 성공하고 나머지는 EXAM_ANSWER_ALREADY_SUBMITTED 로 거절된다")
+		void concurrentClaim_exactlyOneWins() throws Exception {
+			// given
+			int threads = 2;
+			CountDownLatch ready = new CountDownLatch(threads);
+			CountDownLatch start = new CountDownLatch(1);
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			Callable<Throwable> claim = () -> {
+				ready.countDown();
+				start.await();
+				try {
+					examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+					return null;
+				} catch (Throwable e) {
+					return e;
+				}
+			};
+
+			// when
+			List<Future<Throwable>> futures;
+			try {
+				futures = List.of(executor.submit(claim), executor.submit(claim));
+				ready.await();
+				start.countDown();
+			} finally {
+				executor.shutdown();
+			}
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+			// then
+			List<Throwable> failures = futures.stream()
+					.map(future -> {
+						try {
+							return future.get();
+						} catch (Exception e) {
+							throw new AssertionError(e);
+						}
+					})
+					.filter(failure -> failure != null)
+					.toList();
+			assertThat(failures).hasSize(1);
+			assertThat(failures.get(0)).isInstanceOf(BusinessException.class);
+			assertThat(((BusinessException) failures.get(0)).getErrorCode())
+					.isEqualTo(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+
+			ExamAnswer answer = examAnswerJpaRepository.findById(new ExamAnswer.ExamAnswerId(exam.getId(), 1)).orElseThrow();
+			assertThat(answer.getStatus()).isEqualTo(AnswerStatus.READY);
+			assertThat(answer.getAudioUrl()).isNull();
+		}
+
+		@Test
+		@DisplayName("음성 없이 CLAIM_TIMEOUT 이 지난 선점은 다시 선점할 수 있고, 진행 중인 선점은 거절된다")
+		void staleClaim_isTakenOver() {
+			// given
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+			assertThatThrownBy(() -> examAnswerService.claimAnswer(exam.getId(), 1, user.getId()))
+					.isInstanceOf(BusinessException.class)
+					.extracting("errorCode").isEqualTo(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+
+			// when: 업로드 도중 서버가 죽어 선점이 CLAIM_TIMEOUT(10분) 넘게 남은 상황
+			jdbcTemplate.update("UPDATE exam_answer SET updated_at = updated_at - INTERVAL '11 minutes' WHERE exam_id = ? AND question_order = 1",
+					exam.getId());
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+
+			// then: 가져온 선점은 updated_at 이 갱신되어 다시 거절 대상이 됨
+			assertThatThrownBy(() -> examAnswerService.claimAnswer(exam.getId(), 1, user.getId()))
+					.isInstanceOf(BusinessException.class)
+					.extracting("errorCode").isEqualTo(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+		}
+
+		@Test
+		@DisplayName("음성이 연결된 답변은 CLAIM_TIMEOUT 이 지나도 다시 선점할 수 없다")
+		void submittedAnswer_isNeverTakenOver() {
+			// given
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+			examAnswerService.saveAnswer(exam.getId(), 1, user.getId(), "stt", "http://storage/answer.webm");
+			jdbcTemplate.update("UPDATE exam_answer SET updated_at = updated_at - INTERVAL '11 minutes' WHERE exam_id = ? AND question_order = 1",
+					exam.getId());
+
+			// when & then
+			assertThatThrownBy(() -> examAnswerService.claimAnswer(exam.getId(), 1, user.getId()))
+					.isInstanceOf(BusinessException.class)
+					.extracting("errorCode").isEqualTo(ExamErrorCode.EXAM_ANSWER_ALREADY_SUBMITTED);
+			ExamAnswer answer = examAnswerJpaRepository.findById(new ExamAnswer.ExamAnswerId(exam.getId(), 1)).orElseThrow();
+			assertThat(answer.getStatus()).isEqualTo(AnswerStatus.UPLOADED);
+			assertThat(answer.getAudioUrl()).isEqualTo("http://storage/answer.webm");
+		}
+	}
+
+	@Nested
+	@DisplayName("상태 전이는")
+	class StatusTransitionTest {
+
+		@Test
+		@DisplayName("음성 업로드 전 선점(READY) 답변은 분석/재분석을 시작할 수 없다")
+		void answerTransition_rejectsClaimedAnswer() {
+			// given
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+			ExamAnswer.ExamAnswerId answerId = new ExamAnswer.ExamAnswerId(exam.getId(), 1);
+
+			// when & then
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.ANALYZE)).isFalse();
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.REANALYZE)).isFalse();
+			assertThat(examAnswerJpaRepository.findById(answerId).orElseThrow().getStatus()).isEqualTo(AnswerStatus.READY);
+		}
+
+		@Test
+		@DisplayName("답변 분석은 한 번만 시작되고, 분석 중에만 실패 처리된다")
+		void answerTransition_allowsOnlyFromAllowedStatus() {
+			// given
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+			examAnswerService.saveAnswer(exam.getId(), 1, user.getId(), "stt", "http://storage/answer.webm");
+			ExamAnswer.ExamAnswerId answerId = new ExamAnswer.ExamAnswerId(exam.getId(), 1);
+
+			// when & then: UPLOADED -> ANALYZING 은 한 번만 성공
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.ANALYZE)).isTrue();
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.ANALYZE)).isFalse();
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.REANALYZE)).isFalse();
+
+			// ANALYZING -> ANALYZING_FAILED 후에는 다시 실패 처리할 수 없음
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL)).isTrue();
+			assertThat(examAnswerService.transitionAnswerStatus(answerId, AnswerStatusTransition.FAIL)).isFalse();
+			assertThat(examAnswerJpaRepository.findById(answerId).orElseThrow().getStatus()).isEqualTo(AnswerStatus.ANALYZING_FAILED);
+
+			// 없는 답변은 전이되지 않음
+			assertThat(examAnswerService.transitionAnswerStatus(
+					new ExamAnswer.ExamAnswerId(exam.getId(), 2), AnswerStatusTransition.ANALYZE)).isFalse();
+		}
+
+		@Test
+		@DisplayName("시험 리포트 분석은 한 번만 시작되고, 시작 전 상태로는 돌아가지 않는다")
+		void examTransition_allowsOnlyFromAllowedStatus() {
+			// when & then: BEFORE_START -> IN_PROGRESS -> ANALYZING
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.START)).isTrue();
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.START)).isFalse();
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.ANALYZE)).isTrue();
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.ANALYZE)).isFalse();
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.REANALYZE)).isFalse();
+			assertThat(examService.transitionStatus(exam.getId(), ExamStatusTransition.FAIL)).isTrue();
+			assertThat(examJpaRepository.findById(exam.getId()).orElseThrow().getStatus()).isEqualTo(ExamStatus.ANALYZING_FAILED);
+		}
+	}
+
+	@Nested
+	@DisplayName("feedbackAnswer 메서드는")
+	class FeedbackAnswerTest {
+
+		private ExamAnswer.ExamAnswerId answerId;
+		private AiClient aiClient;
+
+		@BeforeEach
+		void setUpAnswer() {
+			examAnswerService.claimAnswer(exam.getId(), 1, user.getId());
+			examAnswerService.saveAnswer(exam.getId(), 1, user.getId(), "stt", "http://storage/answer.webm");
+			answerId = new ExamAnswer.ExamAnswerId(exam.getId(), 1);
+			aiClient = mock(AiClient.class);
+			given(aiClientProvider.getClient(anyBoolean())).willReturn(aiClient);
+		}
+
+		@Test
+		@DisplayName("AI 동시 요청 상한에 걸리면 답변을 바로 분석 실패 상태로 바꾼다")
+		void concurrencyLimited_failsAnswer() {
+			// given
+			given(aiClient.analyzeQuestion(any())).willThrow(new BusinessException(AiErrorCode.AI_CONCURRENCY_LIMITED));
+
+			// when & then
+			assertThatThrownBy(() -> examAnswerService.feedbackAnswer(exam.getId(), 1, false, 1L))
+					.isInstanceOf(BusinessException.class)
+					.extracting("errorCode").isEqualTo(AiErrorCode.AI_CONCURRENCY_LIMITED);
+			assertThat(examAnswerJpaRepository.findById(answerId).orElseThrow().getStatus()).isEqualTo(AnswerStatus.ANALYZING_FAILED);
+		}
+
+		@Test
+		@DisplayName("AI 서버 연결에 실패하면 답변을 바로 분석 실패 상태로 바꾼다")
+		void connectionFailure_failsAnswer() {
+			// given
+			given(aiClient.analyzeQuestion(any())).willThrow(new ResourceAccessException("connection refused"));
+
+			// when & then
+			assertThatThrownBy(() -> examAnswerService.feedbackAnswer(exam.getId(), 1, false, 1L))
+					.isInstanceOf(ResourceAccessException.class);
+			assertThat(examAnswerJpaRepository.findById(answerId).orElseThrow().getStatus()).isEqualTo(AnswerStatus.ANALYZING_FAILED);
+		}
+	}
+}
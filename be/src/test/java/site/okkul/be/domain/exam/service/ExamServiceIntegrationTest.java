@@ -0,0 +1,166 @@
+package site.okkul.be.domain.exam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.okkul.be.domain.exam.entity.Exam;
+import site.okkul.be.domain.exam.entity.ExamStatus;
+import site.okkul.be.domain.exam.repository.ExamJpaRepository;
+import site.okkul.be.domain.exam.repository.ExamReportJpaRepository;
+import site.okkul.be.domain.survey.entity.Survey;
+import site.okkul.be.domain.survey.repository.SurveyJpaRepository;
+import site.okkul.be.domain.user.entity.OAuthProvider;
+import site.okkul.be.domain.user.entity.User;
+import site.okkul.be.domain.user.repository.UserJpaRepository;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.global.exception.GlobalErrorCode;
+import site.okkul.be.infra.ai.AiClient;
+import site.okkul.be.infra.ai.AiClientProvider;
+import site.okkul.be.infra.ai.dto.exam.ExamTotalAnalysisResponse;
+import site.okkul.be.infra.storage.FileStorageService;
+
+/**
+ * 리포트 생성 경로를 Flyway 스키마(실제 DB) 위에서 검증합니다.
+ * (네이티브 쿼리의 컬럼 이름 오류는 리포지토리를 목으로 바꾼 테스트로는 잡을 수 없음)
+ */
+@Tag("integration")
+@SpringBootTest
+class ExamServiceIntegrationTest {
+
+	@Autowired
+	private ExamService examService;
+	@Autowired
+	private ExamJpaRepository examJpaRepository;
+	@Autowired
+	private ExamReportJpaRepository examReportJpaRepository;
+	@Autowired
+	private UserJpaRepository userJpaRepository;
+	@Autowired
+	private SurveyJpaRepository surveyJpaRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@MockitoBean
+	private AiClientProvider aiClientProvider;
+	@MockitoBean
+	private FileStorageService fileStorageService;
+
+	private Exam exam;
+	private AiClient aiClient;
+	private List<String> tableNames;
+
+	@BeforeEach
+	void setUp() {
+		// 테이블 이름 캐싱 (한 번만 실행)
+		if (tableNames == null) {
+			tableNames = jdbcTemplate.query("SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'",
+							(rs, rowNum) -> rs.getString(1))
+					.stream()
+					.filter(tableName -> !tableName.equals("flyway_schema_history"))
+					.collect(Collectors.toList());
+		}
+
+		User user = userJpaRepository.save(User.builder().email("test@okkul.site").provider(OAuthProvider.GOOGLE).providerId("ABC").build());
+		Survey survey = surveyJpaRepository.save(Survey.builder().userId(user.getId()).level(3).build());
+		exam = examJpaRepository.save(Exam.create(survey.getSurveyId(), 3, user.getId()));
+
+		aiClient = mock(AiClient.class);
+		given(aiClientProvider.getClient(anyBoolean())).willReturn(aiClient);
+	}
+
+	@AfterEach
+	void cleanup() {
+		jdbcTemplate.execute("SET session_replication_role = 'replica';");
+		tableNames.forEach(tableName -> jdbcTemplate.execute("TRUNCATE TABLE " + tableName + " RESTART IDENTITY CASCADE;"));
+		jdbcTemplate.execute("SET session_replication_role = 'origin';");
+	}
+
+	private Long fencingTokenOf(Long examId) {
+		return jdbcTemplate.queryForObject("SELECT fencing_token FROM exam WHERE exam_id = ?", Long.class, examId);
+	}
+
+	@Nested
+	@DisplayName("examCreateReport 메서드는")
+	class ExamCreateReportTest {
+
+		@Test
+		@DisplayName("AI 응답에 성공하면 펜싱 토큰을 올리고 리포트를 저장한 뒤 완료 상태로 바꾼다")
+		void success_savesReport() {
+			// given
+			given(aiClient.analyzeTotalExam(anyList())).willReturn(ResponseEntity.ok(new ExamTotalAnalysisResponse(
+					"IH", 83, "좋아요", List.of("묘사"), List.of("롤플레이"), 80, 81, 82, 83, 84
+			)));
+
+			// when
+			examService.examCreateReport(exam.getId(), false, 7L);
+
+			// then
+			assertThat(examJpaRepository.findById(exam.getId()).orElseThrow().getStatus()).isEqualTo(ExamStatus.COMPLETED);
+			assertThat(examReportJpaRepository.findById(exam.getId())).isPresent();
+			assertThat(fencingTokenOf(exam.getId())).isEqualTo(7L);
+		}
+
+		@Test
+		@DisplayName("더 최근 락이 이미 결과를 썼으면 리포트를 저장하지 않고 CONCURRENT_MODIFICATION 으로 거절한다")
+		void staleToken_isRejected() {
+			// given
+			given(aiClient.analyzeTotalExam(anyList())).willReturn(ResponseEntity.ok(new ExamTotalAnalysisResponse(
+					"IH", 83, "좋아요", List.of("묘사"), List.of("롤플레이"), 80, 81, 82, 83, 84
+			)));
+			jdbcTemplate.update("UPDATE exam SET fencing_token = 10 WHERE exam_id = ?", exam.getId());
+
+			// when & then
+			assertThatThrownBy(() -> examService.examCreateReport(exam.getId(), false, 5L))
+					.isInstanceOf(BusinessException.class)
+					.extracting("errorCode").isEqualTo(GlobalErrorCode.CONCURRENT_MODIFICATION);
+			assertThat(examReportJpaRepository.findById(exam.getId())).isEmpty();
+			assertThat(fencingTokenOf(exam.getId())).isEqualTo(10L);
+			// 분석 중 상태는 락을 가진 작업(또는 reaper)이 정리함
+			assertThat(examJpaRepository.findById(exam.getId()).orElseThrow().getStatus()).isEqualTo(ExamStatus.ANALYZING);
+		}
+	}
+
+	@Nested
+	@DisplayName("advanceFencingToken 쿼리는")
+	class AdvanceFencingTokenTest {
+
+		@Test
+		@DisplayName("저장된 토큰보다 큰 토큰만 받아들인다")
+		void acceptsOnlyGreaterToken() {
+			// when & then
+			assertThat(advance(exam.getId(), 3L)).isEqualTo(1);
+			assertThat(advance(exam.getId(), 3L)).isZero();
+			assertThat(advance(exam.getId(), 2L)).isZero();
+			assertThat(advance(exam.getId(), 4L)).isEqualTo(1);
+			assertThat(fencingTokenOf(exam.getId())).isEqualTo(4L);
+
+			// 없는 시험은 갱신되지 않음
+			assertThat(advance(-1L, 100L)).isZero();
+		}
+
+		private int advance(Long examId, long token) {
+			Integer updated = transactionTemplate.execute(status -> examJpaRepository.advanceFencingToken(examId, token));
+			return updated == null ? 0 : updated;
+		}
+	}
+}
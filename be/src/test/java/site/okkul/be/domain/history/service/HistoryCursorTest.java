@@ -0,0 +1,44 @@
+package site.okkul.be.domain.history.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import site.okkul.be.domain.history.exception.HistoryErrorCode;
+import site.okkul.be.global.exception.BusinessException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("test")
+class HistoryCursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩 후 디코딩하면 같은 값이 나온다")
+    void encodeAndDecode() {
+        // given
+        HistoryCursor cursor = new HistoryCursor(Instant.parse("2024-05-21T14:30:00.123456Z"), 101L);
+
+        // when
+        HistoryCursor decoded = HistoryCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 본다")
+    void decode_blank() {
+        assertThat(HistoryCursor.decode(null)).isNull();
+        assertThat(HistoryCursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 INVALID_CURSOR 예외를 던진다")
+    void decode_invalid() {
+        BusinessException exception = assertThrows(BusinessException.class, () -> HistoryCursor.decode("not-a-cursor!"));
+
+        assertThat(exception.getErrorCode()).isEqualTo(HistoryErrorCode.INVALID_CURSOR);
+    }
+}
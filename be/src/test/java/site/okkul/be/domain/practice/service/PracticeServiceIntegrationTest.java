@@ -71,6 +71,8 @@ class PracticeServiceIntegrationTest {
     @Autowired
     private PracticeAnswerJpaRepository practiceAnswerRepository;
     @Autowired
+    private AiFeedbackTrigger aiFeedbackTrigger;
+    @Autowired
     private JdbcTemplate jdbcTemplate;
 
     @MockitoBean
@@ -216,4 +218,65 @@ class PracticeServiceIntegrationTest {
             });
         }
     }
+
+    @Nested
+    @DisplayName("handleAiSuccess 메서드는")
+    class HandleAiSuccessTest {
+
+        private final AiFeedbackResponse lateResponse = AiFeedbackResponse.builder()
+                .relevance_feedback("Late relevance")
+                .improved_answer("Late answer")
+                .build();
+
+        @BeforeEach
+        void setup() {
+            mockAiClient = mock(AiClient.class);
+            given(aiClientProvider.getClient(anyBoolean())).willReturn(mockAiClient);
+            given(fileStorageService.upload(any(), any())).willReturn("http://storage.com/test.mp3");
+        }
+
+        @Test
+        @DisplayName("이미 완료된 답변에는 같은 응답이 다시 와도 피드백을 덮어쓰지 않는다")
+        void completedAnswer_isNotAppliedTwice() {
+            // given
+            given(mockAiClient.requestFeedback(any())).willReturn(AiFeedbackResponse.builder()
+                    .relevance_feedback("Good relevance")
+                    .improved_answer("Improved answer")
+                    .build());
+            Long practiceAnswerId = createAnswerAndAwait(FeedbackStatus.COMPLETED);
+
+            // when
+            aiFeedbackTrigger.handleAiSuccess(practiceAnswerId, lateResponse);
+
+            // then
+            PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId).orElseThrow();
+            assertThat(answer.getFeedbackStatus()).isEqualTo(FeedbackStatus.COMPLETED);
+            assertThat(answer.getImprovedAnswer()).isEqualTo("Improved answer");
+        }
+
+        @Test
+        @DisplayName("실패 처리된 답변에는 늦게 도착한 응답을 적용하지 않는다")
+        void failedAnswer_ignoresLateResponse() {
+            // given
+            given(mockAiClient.requestFeedback(any())).willThrow(new RuntimeException("AI Server Error"));
+            Long practiceAnswerId = createAnswerAndAwait(FeedbackStatus.FAILED);
+
+            // when
+            aiFeedbackTrigger.handleAiSuccess(practiceAnswerId, lateResponse);
+
+            // then
+            PracticeAnswer answer = practiceAnswerRepository.findById(practiceAnswerId).orElseThrow();
+            assertThat(answer.getFeedbackStatus()).isEqualTo(FeedbackStatus.FAILED);
+            assertThat(answer.getImprovedAnswer()).isNull();
+        }
+
+        private Long createAnswerAndAwait(FeedbackStatus status) {
+            var request = new PracticeFeedbackRequest(question1.getId(), "korean", "english");
+            var audioFile = new MockMultipartFile("audio", "test.mp3", "audio/mpeg", "data".getBytes());
+            Long practiceAnswerId = practiceService.createAnswerAndRequestFeedbackAsync(practice.getPracticeId(), request, audioFile, user.getId(), false);
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                    assertThat(practiceAnswerRepository.findById(practiceAnswerId).orElseThrow().getFeedbackStatus()).isEqualTo(status));
+            return practiceAnswerId;
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package site.okkul.be.global.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import site.okkul.be.global.exception.AsyncErrorReporter;
+import site.okkul.be.infra.lock.DistributedLock;
+
+@Tag("test")
+class AiJobDispatcherTest {
+
+	private ThreadPoolTaskExecutor executor;
+	private AiDispatchProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private AiJobHandoffStore handoffStore;
+	private DistributedLock distributedLock;
+	private AiJobDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.initialize();
+		properties = new AiDispatchProperties();
+		meterRegistry = new SimpleMeterRegistry();
+		handoffStore = mock(AiJobHandoffStore.class);
+		distributedLock = mock(DistributedLock.class);
+		dispatcher = new AiJobDispatcher(executor, properties, mock(AsyncErrorReporter.class), handoffStore, distributedLock, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("관리자 작업이 먼저 쌓여 있어도 응시 중 답변이 먼저 실행된다")
+	void dispatch_liveExamBeforeAdmin() throws Exception {
+		// given: 워커 하나를 막아 두고 관리자 작업 3개, 응시 중 답변 1개를 차례로 넣음
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(5);
+		List<String> order = new CopyOnWriteArrayList<>();
+		dispatcher.dispatch(AiWorkload.ADMIN, 100L, "blocker", new Object[]{}, () -> {
+			await(blocker);
+			done.countDown();
+		});
+		for (int i = 0; i < 3; i++) {
+			dispatcher.dispatch(AiWorkload.ADMIN, 200L, "admin", new Object[]{}, () -> {
+				order.add("admin");
+				done.countDown();
+			});
+		}
+		dispatcher.dispatch(AiWorkload.LIVE_EXAM_ANSWER, 1L, "live", new Object[]{}, () -> {
+			order.add("live");
+			done.countDown();
+		});
+
+		// when
+		blocker.countDown();
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(order).containsExactly("live", "admin", "admin", "admin");
+		assertThat(meterRegistry.get("ai.job.wait").tag("workload", "live_exam_answer").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("오래 기다린 낮은 우선순위 작업은 새로 들어온 높은 우선순위 작업보다 먼저 실행된다")
+	void dispatch_agingPreventsStarvation() throws Exception {
+		// given: 노화 주기를 짧게 두고, 관리자 작업이 충분히 기다린 뒤 응시 중 답변을 넣음
+		properties.setAgingPeriod(Duration.ofMillis(10));
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(3);
+		List<String> order = new CopyOnWriteArrayList<>();
+		dispatcher.dispatch(AiWorkload.ADMIN, 100L, "blocker", new Object[]{}, () -> {
+			await(blocker);
+			done.countDown();
+		});
+		dispatcher.dispatch(AiWorkload.ADMIN, 200L, "admin", new Object[]{}, () -> {
+			order.add("admin");
+			done.countDown();
+		});
+		Thread.sleep(200);
+		dispatcher.dispatch(AiWorkload.LIVE_EXAM_ANSWER, 1L, "live", new Object[]{}, () -> {
+			order.add("live");
+			done.countDown();
+		});
+
+		// when
+		blocker.countDown();
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(order).containsExactly("admin", "live");
+	}
+
+	@Test
+	@DisplayName("한 사용자가 연습 피드백을 몰아서 요청해도 다른 사용자의 작업은 사용자 순서대로 실행된다")
+	void dispatch_roundRobinAcrossUsers() throws Exception {
+		// given: 워커를 막아 두고, 사용자 1의 작업 3개 뒤에 사용자 2의 작업 1개를 넣음
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(5);
+		List<String> order = new CopyOnWriteArrayList<>();
+		dispatcher.dispatch(AiWorkload.ADMIN, 100L, "blocker", new Object[]{}, () -> {
+			await(blocker);
+			done.countDown();
+		});
+		for (int i = 0; i < 3; i++) {
+			dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 1L, "heavy", new Object[]{}, () -> {
+				order.add("user1");
+				done.countDown();
+			});
+		}
+		dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 2L, "light", new Object[]{}, () -> {
+			order.add("user2");
+			done.countDown();
+		});
+
+		// when
+		blocker.countDown();
+
+		// then: 사용자 2 는 사용자 1 의 두 번째 작업보다 먼저 실행됨
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(order).containsExactly("user1", "user2", "user1", "user1");
+	}
+
+	@Test
+	@DisplayName("동시 실행 상한에 걸린 사용자의 작업은 상한이 풀릴 때까지 대기하고 다른 사용자의 작업이 먼저 실행된다")
+	void dispatch_perUserInFlightCap() throws Exception {
+		// given: 워커 두 개, 사용자당 동시 실행 1개. 사용자 1의 작업이 실행 중인 상태에서 사용자 1, 2의 작업을 넣음
+		executor.setMaxPoolSize(2);
+		executor.setCorePoolSize(2);
+		properties.setMaxInFlightPerUser(1);
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(3);
+		List<String> order = new CopyOnWriteArrayList<>();
+		dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 1L, "running", new Object[]{}, () -> {
+			await(blocker);
+			done.countDown();
+		});
+		dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 1L, "capped", new Object[]{}, () -> {
+			order.add("user1");
+			done.countDown();
+		});
+		dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 2L, "other", new Object[]{}, () -> {
+			order.add("user2");
+			done.countDown();
+		});
+
+		// when: 사용자 2 의 작업은 남은 워커에서 바로 실행되고, 사용자 1 은 상한에 걸려 대기
+		Thread.sleep(200);
+		List<String> beforeRelease = List.copyOf(order);
+		int throttledBeforeRelease = dispatcher.throttledUsers();
+		blocker.countDown();
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(beforeRelease).containsExactly("user2");
+		assertThat(throttledBeforeRelease).isEqualTo(1);
+		assertThat(order).containsExactly("user2", "user1");
+		assertThat(dispatcher.throttledUsers()).isZero();
+	}
+
+	@Test
+	@DisplayName("종료 시 대기 작업은 넘기고, 시간 안에 끝나지 않은 실행 중 작업은 락을 풀고 넘긴다")
+	void stop_handsOffPendingAndInterruptedJobs() throws Exception {
+		// given: 워커 하나가 끝나지 않는 작업을 실행 중이고, 작업 2개가 대기 중
+		properties.setDrainTimeout(Duration.ofMillis(200));
+		dispatcher.start();
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		dispatcher.dispatch(AiWorkload.EXAM_REPORT, 100L, "examCreateReport", new Object[]{1L, true}, () -> {
+			started.countDown();
+			await(blocker);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		dispatcher.dispatch(AiWorkload.LIVE_EXAM_ANSWER, 200L, "feedbackAnswer", new Object[]{2L, 3, true}, () -> {
+		});
+		dispatcher.dispatch(AiWorkload.PRACTICE_FEEDBACK, 300L, "triggerAiFeedback", new Object[]{4L, true}, () -> {
+		});
+
+		// when
+		dispatcher.stop();
+		dispatcher.dispatch(AiWorkload.REGENERATE, 400L, "feedbackAnswer", new Object[]{5L, 1, true}, () -> {
+		});
+		blocker.countDown();
+
+		// then
+		verify(handoffStore).push(argThat(jobs -> jobs.size() == 2 && jobs.stream().noneMatch(HandedOffJob::interrupted)));
+		verify(distributedLock).releaseHeld();
+		verify(handoffStore).push(argThat(jobs -> jobs.size() == 1 && jobs.get(0).interrupted()
+				&& jobs.get(0).name().equals("examCreateReport") && jobs.get(0).longParam(0) == 1L));
+		verify(handoffStore).push(argThat(jobs -> jobs.size() == 1 && !jobs.get(0).interrupted()
+				&& jobs.get(0).userId().equals(400L)));
+		assertThat(dispatcher.isRunning()).isFalse();
+		assertThat(dispatcher.pendingOf(AiWorkload.LIVE_EXAM_ANSWER)).isZero();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package site.okkul.be.global.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import site.okkul.be.domain.exam.repository.ExamAnswerJpaRepository;
+import site.okkul.be.domain.exam.repository.ExamJpaRepository;
+import site.okkul.be.domain.practice.repository.PracticeAnswerJpaRepository;
+
+@Tag("test")
+class StuckJobReaperTest {
+
+	private ExamJpaRepository examRepository;
+	private SimpleMeterRegistry meterRegistry;
+	private StuckJobReaper reaper;
+
+	@BeforeEach
+	void setUp() {
+		examRepository = mock(ExamJpaRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+		StuckJobProperties properties = new StuckJobProperties();
+		properties.setBatchSize(2);
+		properties.setMaxPerRun(5);
+		reaper = new StuckJobReaper(examRepository, mock(ExamAnswerJpaRepository.class),
+				mock(PracticeAnswerJpaRepository.class), properties, meterRegistry);
+		reaper.setSelf(reaper);
+	}
+
+	@Test
+	@DisplayName("배치가 가득 차면 실행당 최대 수까지 이어서 실패 처리한다")
+	void reap_continuesUntilMaxPerRun() {
+		// given: 매 배치마다 요청한 만큼 멈춘 시험이 있음
+		when(examRepository.failStuck(any(), any(), anyInt())).thenAnswer(invocation -> invocation.getArgument(2));
+
+		// when
+		int reaped = reaper.reap(StuckJobReaper.Kind.EXAM_REPORT, Instant.now());
+
+		// then: 2 + 2 + 1 (마지막 배치는 남은 수만큼만)
+		assertThat(reaped).isEqualTo(5);
+		verify(examRepository, times(2)).failStuck(any(), any(), eq(2));
+		verify(examRepository).failStuck(any(), any(), eq(1));
+		assertThat(meterRegistry.get("ai.reaper.reaped").tag("kind", "exam-report").counter().count()).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("배치가 가득 차지 않으면 더 조회하지 않는다")
+	void reap_stopsOnPartialBatch() {
+		// given: 멈춘 시험이 하나뿐
+		when(examRepository.failStuck(any(), any(), anyInt())).thenReturn(1);
+
+		// when
+		int reaped = reaper.reap(StuckJobReaper.Kind.EXAM_REPORT, Instant.now());
+
+		// then
+		assertThat(reaped).isEqualTo(1);
+		verify(examRepository, times(1)).failStuck(any(), any(), anyInt());
+	}
+}
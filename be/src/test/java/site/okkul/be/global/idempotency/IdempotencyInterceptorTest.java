@@ -0,0 +1,143 @@
+package site.okkul.be.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import site.okkul.be.global.config.SwaggerConfig;
+import site.okkul.be.global.exception.BusinessException;
+
+@Tag("test")
+class IdempotencyInterceptorTest {
+
+	private static final String PATH = "/exam/1/answers/3";
+
+	private IdempotencyStore store;
+	private IdempotencyInterceptor interceptor;
+	private HandlerMethod handler;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		store = mock(IdempotencyStore.class);
+		interceptor = new IdempotencyInterceptor(store,
+				Duration.ofHours(24), Duration.ofMinutes(10), Duration.ofMillis(50), Duration.ofMillis(10));
+		handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("submit"));
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("7", null, AuthorityUtils.NO_AUTHORITIES));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("완료된 키로 재요청하면 핸들러를 실행하지 않고 저장된 202 응답을 재생한다")
+	void preHandle_replaysCompletedResponse() throws Exception {
+		// given
+		given(store.tryAcquire(eq("7:key-1"), any(), any())).willReturn(false);
+		given(store.find("7:key-1")).willReturn(Optional.of(
+				IdempotencyRecord.completed(fingerprint(), 202, "application/json", "{\"practiceAnswerId\":5}")));
+
+		// when
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		boolean proceed = interceptor.preHandle(request("key-1"), response, handler);
+
+		// then
+		assertThat(proceed).isFalse();
+		assertThat(response.getStatus()).isEqualTo(202);
+		assertThat(response.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(response.getContentAsString()).isEqualTo("{\"practiceAnswerId\":5}");
+	}
+
+	@Test
+	@DisplayName("다른 경로에 사용된 키는 거부하고, 처리 중인 키는 대기 시간 초과 시 거부한다")
+	void preHandle_rejectsReusedOrInProgressKey() {
+		// given
+		given(store.tryAcquire(anyString(), any(), any())).willReturn(false);
+		given(store.find("7:reused")).willReturn(Optional.of(
+				IdempotencyRecord.completed("POST /exam/2/answers/1", 202, null, null)));
+		given(store.find("7:running")).willReturn(Optional.of(
+				IdempotencyRecord.processing("other", fingerprint())));
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.preHandle(request("reused"), new MockHttpServletResponse(), handler))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+		assertThatThrownBy(() -> interceptor.preHandle(request("running"), new MockHttpServletResponse(), handler))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(IdempotencyErrorCode.REQUEST_IN_PROGRESS);
+	}
+
+	@Test
+	@DisplayName("같은 경로라도 본문 길이나 실제 AI 사용 여부가 다르면 다른 요청으로 보고 거부한다")
+	void preHandle_rejectsDifferentLengthOrRealAi() {
+		// given
+		given(store.tryAcquire(anyString(), any(), any())).willReturn(false);
+		given(store.find("7:key-3")).willReturn(Optional.of(
+				IdempotencyRecord.completed(fingerprint(), 202, null, null)));
+		MockHttpServletRequest longer = request("key-3");
+		longer.setContent(new byte[10]);
+		MockHttpServletRequest realAi = request("key-3");
+		realAi.addHeader(SwaggerConfig.REAL_AI_USE, "true");
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.preHandle(longer, new MockHttpServletResponse(), handler))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+		assertThatThrownBy(() -> interceptor.preHandle(realAi, new MockHttpServletResponse(), handler))
+				.isInstanceOf(BusinessException.class)
+				.extracting("errorCode").isEqualTo(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+	}
+
+	@Test
+	@DisplayName("선점한 요청이 실패하면 키를 해제해 재시도할 수 있게 한다")
+	void afterCompletion_releasesOnFailure() throws Exception {
+		// given
+		given(store.tryAcquire(eq("7:key-2"), any(), any())).willReturn(true);
+		MockHttpServletRequest request = request("key-2");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		interceptor.preHandle(request, response, handler);
+
+		// when
+		response.setStatus(500);
+		interceptor.afterCompletion(request, response, handler, null);
+
+		// then
+		verify(store).release(eq("7:key-2"), anyString());
+	}
+
+	private static MockHttpServletRequest request(String key) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+		request.addHeader(SwaggerConfig.IDEMPOTENCY_KEY, key);
+		return request;
+	}
+
+	private static String fingerprint() {
+		return IdempotencyInterceptor.fingerprintOf(request("any"));
+	}
+
+	static class SampleController {
+		@Idempotent
+		public void submit() {
+		}
+	}
+}
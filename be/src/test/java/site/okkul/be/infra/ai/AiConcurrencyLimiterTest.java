@@ -0,0 +1,106 @@
+package site.okkul.be.infra.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import site.okkul.be.global.exception.BusinessException;
+
+@Tag("test")
+class AiConcurrencyLimiterTest {
+
+	private static final long BASE_RTT = Duration.ofSeconds(2).toNanos();
+
+	private AiConcurrencyProperties properties;
+	private AiConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AiConcurrencyProperties();
+		properties.setInitialLimit(10);
+		properties.setMaxWait(Duration.ZERO);
+		limiter = new AiConcurrencyLimiter(properties, new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("한도를 채워 쓰는 동안 RTT 가 기준 지연 그대로면 한도가 늘어난다")
+	void update_increasesWhenRttIsFlat() {
+		// given
+		int before = limiter.currentLimit();
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			limiter.update(BASE_RTT, limiter.currentLimit(), false);
+		}
+
+		// then
+		assertThat(limiter.currentLimit()).isGreaterThan(before);
+	}
+
+	@Test
+	@DisplayName("RTT 가 기준 지연의 몇 배로 늘어나면(AI 서버 대기열 증가) 한도가 줄어든다")
+	void update_decreasesWhenRttGrows() {
+		// given: 기준 지연 측정
+		limiter.update(BASE_RTT, 10, false);
+		int before = limiter.currentLimit();
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			limiter.update(BASE_RTT * 4, limiter.currentLimit(), false);
+		}
+
+		// then
+		assertThat(limiter.currentLimit()).isLessThan(before);
+	}
+
+	@Test
+	@DisplayName("바로 실패한 요청의 짧은 RTT 는 기준 지연이 되지 않아, 복구 후 정상 RTT 에서 한도가 다시 늘어난다")
+	void update_ignoresRttOfDroppedSamples() {
+		// given: 기준 지연 측정 후 연결 오류가 1ms 만에 반환됨
+		limiter.update(BASE_RTT, 10, false);
+		limiter.update(Duration.ofMillis(1).toNanos(), 10, true);
+		int afterDrop = limiter.currentLimit();
+
+		// when: AI 서버 복구 후 기준 지연 그대로 응답
+		for (int i = 0; i < 5; i++) {
+			limiter.update(BASE_RTT, limiter.currentLimit(), false);
+		}
+
+		// then
+		assertThat(limiter.currentLimit()).isGreaterThan(afterDrop);
+	}
+
+	@Test
+	@DisplayName("한도를 절반도 쓰지 않을 때의 빠른 응답으로는 한도가 늘지 않는다")
+	void update_ignoresAppLimitedSamples() {
+		// given
+		int before = limiter.currentLimit();
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			limiter.update(BASE_RTT, 1, false);
+		}
+
+		// then
+		assertThat(limiter.currentLimit()).isEqualTo(before);
+	}
+
+	@Test
+	@DisplayName("한도만큼 요청 중이면 다음 요청은 기다린 뒤 거절된다")
+	void acquire_rejectsBeyondLimit() {
+		// given
+		properties.setInitialLimit(1);
+		AiConcurrencyLimiter single = new AiConcurrencyLimiter(properties, new SimpleMeterRegistry());
+		AiConcurrencyLimiter.Permit permit = single.acquire();
+
+		// when & then
+		assertThatThrownBy(single::acquire).isInstanceOf(BusinessException.class);
+		single.release(permit, false);
+		single.release(single.acquire(), false);
+	}
+}
@@ -0,0 +1,120 @@
+package site.okkul.be.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@Tag("test")
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private CacheInvalidationPublisher publisher;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("remote");
+        publisher = mock(CacheInvalidationPublisher.class);
+        cache = new TwoLevelCache(
+                "test",
+                Caffeine.newBuilder().maximumSize(100).recordStats().build(),
+                remote,
+                publisher,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 조회하면 원본 적재는 한 번만 수행된다")
+    void get_coalescesConcurrentLoads() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(50);
+                    return "value";
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(remote.get("1").get()).isEqualTo("value");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 L2 값을 가져와 L1을 채운다")
+    void get_fallsBackToRemote() {
+        // given
+        remote.put("1", "remote-value");
+
+        // when
+        String value = cache.get(1L, () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("remote-value");
+        remote.clear();
+        assertThat(cache.get(1L).get()).isEqualTo("remote-value");
+    }
+
+    @Test
+    @DisplayName("삭제 시 L1/L2를 비우고 다른 노드에 무효화 메시지를 발행한다")
+    void evict_clearsBothTiersAndPublishes() {
+        // given
+        cache.put(1L, "value");
+        clearInvocations(publisher); // put 도 다른 노드의 L1 무효화를 발행함
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remote.get("1")).isNull();
+        verify(publisher).publishEvict("test", "1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1만 비운다")
+    void evictLocal_keepsRemote() {
+        // given
+        cache.put(1L, "value");
+
+        // when
+        cache.evictLocal("1");
+
+        // then
+        assertThat(remote.get("1").get()).isEqualTo("value");
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+    }
+}
@@ -0,0 +1,144 @@
+package site.okkul.be.infra.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 로컬 Redis(Testcontainers)에 대한 분산 락 검증
+ * (./gradlew integrationTest --tests '*RedisDistributedLockTest')
+ */
+@Tag("integration")
+@Testcontainers
+class RedisDistributedLockTest {
+
+	private static final String KEY_PREFIX = "okkul:test:lock:";
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine")
+			.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private RedisDistributedLock lock;
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+		lock = new RedisDistributedLock(redisTemplate, KEY_PREFIX);
+	}
+
+	@Test
+	@DisplayName("잡혀 있는 락은 다시 잡을 수 없고, 해제하면 다시 잡을 수 있다")
+	void tryAcquire_exclusiveUntilReleased() {
+		// given
+		LockLease first = lock.tryAcquire("exam:1", Duration.ofSeconds(30)).orElseThrow();
+
+		// when
+		Optional<LockLease> contended = lock.tryAcquire("exam:1", Duration.ofSeconds(30));
+		boolean released = lock.release(first);
+		Optional<LockLease> second = lock.tryAcquire("exam:1", Duration.ofSeconds(30));
+
+		// then
+		assertThat(contended).isEmpty();
+		assertThat(released).isTrue();
+		assertThat(second).isPresent();
+		assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "exam:1")).isEqualTo(second.get().owner());
+	}
+
+	@Test
+	@DisplayName("서로 다른 키의 락은 따로 잡힌다")
+	void tryAcquire_independentKeys() {
+		// when
+		Optional<LockLease> a = lock.tryAcquire("exam:1", Duration.ofSeconds(30));
+		Optional<LockLease> b = lock.tryAcquire("exam:2", Duration.ofSeconds(30));
+
+		// then
+		assertThat(a).isPresent();
+		assertThat(b).isPresent();
+	}
+
+	@Test
+	@DisplayName("임대 시간이 지나면 다른 쪽이 더 큰 펜싱 토큰으로 락을 잡고, 이전 소유자의 해제는 무시된다")
+	void tryAcquire_afterLeaseExpiry() throws Exception {
+		// given
+		LockLease stale = lock.tryAcquire("exam:1", Duration.ofMillis(200)).orElseThrow();
+		Thread.sleep(400);
+		RedisDistributedLock otherReplica = new RedisDistributedLock(redisTemplate, KEY_PREFIX);
+
+		// when
+		LockLease current = otherReplica.tryAcquire("exam:1", Duration.ofSeconds(30)).orElseThrow();
+		boolean staleReleased = lock.release(stale);
+
+		// then
+		assertThat(current.fencingToken()).isGreaterThan(stale.fencingToken());
+		assertThat(staleReleased).isFalse();
+		assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "exam:1")).isEqualTo(current.owner());
+	}
+
+	@Test
+	@DisplayName("펜싱 토큰은 키와 관계없이 계속 커지고, 카운터가 초기화되어도 작아지지 않는다")
+	void fencingToken_monotonic() {
+		// given
+		long previous = 0;
+		for (int i = 0; i < 20; i++) {
+			LockLease lease = lock.tryAcquire("exam:" + (i % 3), Duration.ofSeconds(30)).orElseThrow();
+			assertThat(lease.fencingToken()).isGreaterThan(previous);
+			previous = lease.fencingToken();
+			lock.release(lease);
+		}
+
+		// when
+		redisTemplate.delete(KEY_PREFIX + "fencing-token");
+		LockLease afterReset = lock.tryAcquire("exam:0", Duration.ofSeconds(30)).orElseThrow();
+
+		// then
+		assertThat(afterReset.fencingToken()).isGreaterThan(previous);
+	}
+
+	@Test
+	@DisplayName("releaseHeld 는 이 서버가 잡은 락만 모두 해제한다")
+	void releaseHeld_releasesOnlyOwnLeases() {
+		// given
+		RedisDistributedLock otherReplica = new RedisDistributedLock(redisTemplate, KEY_PREFIX);
+		lock.tryAcquire("exam:1", Duration.ofSeconds(30)).orElseThrow();
+		lock.tryAcquire("exam:2", Duration.ofSeconds(30)).orElseThrow();
+		LockLease others = otherReplica.tryAcquire("exam:3", Duration.ofSeconds(30)).orElseThrow();
+
+		// when
+		lock.releaseHeld();
+
+		// then
+		assertThat(redisTemplate.hasKey(KEY_PREFIX + "exam:1")).isFalse();
+		assertThat(redisTemplate.hasKey(KEY_PREFIX + "exam:2")).isFalse();
+		assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "exam:3")).isEqualTo(others.owner());
+	}
+}
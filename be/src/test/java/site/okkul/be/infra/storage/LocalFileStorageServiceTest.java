@@ -0,0 +1,121 @@
+package site.okkul.be.infra.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import site.okkul.be.global.exception.BusinessException;
+import site.okkul.be.infra.storage.dto.PresignedUploadResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("test")
+class LocalFileStorageServiceTest {
+
+    private static final String BASE_URL = "http://localhost:8080";
+
+    @TempDir
+    Path root;
+
+    private LocalFileStorageService storageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageService = new LocalFileStorageService(
+                root, BASE_URL + "/", "secret", Duration.ofMinutes(10), DataSize.ofKilobytes(1));
+    }
+
+    @Test
+    @DisplayName("스트림 업로드는 MinIO 와 같은 {domain}/{uuid}.{ext} 키로 저장되고 삭제할 수 있다")
+    void uploadStream_minioCompatibleKey() throws Exception {
+        // given
+        byte[] body = "audio".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String url = storageService.uploadStream(new ByteArrayInputStream(body), "answer.webm", "audio/webm", "answer");
+
+        // then
+        String objectKey = url.substring((BASE_URL + "/files/").length());
+        assertThat(objectKey).matches("answer/[0-9a-f-]{36}\\.webm");
+        assertThat(Files.readAllBytes(root.resolve(objectKey))).isEqualTo(body);
+        assertThat(storageService.contentTypeOf(objectKey)).contains("audio/webm");
+
+        storageService.delete(url);
+        assertThat(root.resolve(objectKey)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("한도가 없는 업로드는 전송 청크(8MB)보다 큰 본문도 끝까지 저장한다")
+    void uploadStream_largerThanChunk() throws Exception {
+        // given
+        byte[] body = new byte[9 * 1024 * 1024 + 1];
+        body[body.length - 1] = 1;
+
+        // when
+        String url = storageService.uploadStream(new ByteArrayInputStream(body), "answer.webm", "audio/webm", "answer");
+
+        // then
+        String objectKey = url.substring((BASE_URL + "/files/").length());
+        assertThat(Files.readAllBytes(root.resolve(objectKey))).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("서명된 업로드 URL 로 올린 파일은 confirmUpload 로 확정되고, 서명이 틀리면 거부된다")
+    void signedUpload_thenConfirm() {
+        // given
+        PresignedUploadResponse issued = storageService.issueUpload("exam/1/answer/3/");
+        String signature = issued.uploadUrl().substring(issued.uploadUrl().indexOf("signature=") + "signature=".length());
+        long expires = issued.expiresAt().getEpochSecond();
+
+        // when
+        assertThatThrownBy(() -> storageService.receiveSignedUpload(
+                issued.objectKey(), expires, "wrong", new ByteArrayInputStream(new byte[1]), "audio/webm", 1))
+                .isInstanceOf(BusinessException.class);
+        storageService.receiveSignedUpload(
+                issued.objectKey(), expires, signature, new ByteArrayInputStream(new byte[10]), "audio/webm", 10);
+
+        // then
+        assertThat(storageService.confirmUpload(issued.objectKey(), "exam/1/answer/3/"))
+                .isEqualTo(BASE_URL + "/files/" + issued.objectKey());
+        assertThatThrownBy(() -> storageService.confirmUpload(issued.objectKey(), "exam/2/answer/3/"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 한도를 넘는 본문을 보내면 받는 도중 중단되고 파일이 남지 않는다")
+    void signedUpload_chunkedOverLimit_rejects() throws Exception {
+        // given
+        PresignedUploadResponse issued = storageService.issueUpload("exam/1/answer/3/");
+        String signature = issued.uploadUrl().substring(issued.uploadUrl().indexOf("signature=") + "signature=".length());
+        long expires = issued.expiresAt().getEpochSecond();
+
+        // when & then
+        assertThatThrownBy(() -> storageService.receiveSignedUpload(
+                issued.objectKey(), expires, signature, new ByteArrayInputStream(new byte[1025]), "audio/webm", -1))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(StorageErrorCode.FILE_TOO_LARGE);
+        try (Stream<Path> files = Files.walk(root.resolve("exam"))) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("루트 밖이나 메타 디렉터리를 가리키는 키는 거부된다")
+    void locate_rejectsTraversal() {
+        assertThatThrownBy(() -> storageService.locate("../etc/passwd"))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> storageService.locate(".meta/answer/x"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
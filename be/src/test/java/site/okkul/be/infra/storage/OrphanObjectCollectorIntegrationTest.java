@@ -0,0 +1,58 @@
+package site.okkul.be.infra.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import site.okkul.be.infra.ai.AiClientProvider;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고아 객체 판별 쿼리를 Flyway 스키마(실제 DB) 위에서 검증합니다.
+ */
+@Tag("integration")
+@SpringBootTest(properties = "storage.gc.enabled=true")
+class OrphanObjectCollectorIntegrationTest {
+
+    @Autowired
+    private OrphanObjectCollector collector;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AiClientProvider aiClientProvider;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("TRUNCATE TABLE users RESTART IDENTITY CASCADE;");
+    }
+
+    private void userWithProfileImage(String providerId, String profileImageUrl) {
+        jdbcTemplate.update("INSERT INTO users (provider, provider_id, profile_image_url, created_at) VALUES ('GOOGLE', ?, ?, now())",
+                providerId, profileImageUrl);
+    }
+
+    @Test
+    @DisplayName("저장 당시 endpoint 나 스토리지 종류와 관계없이 객체 키가 같으면 참조로 본다")
+    void referencedKeys_matchesByObjectKey() {
+        // given: 이전 MinIO endpoint, 다른 스킴/호스트, 로컬 스토리지 URL 로 저장된 행
+        userWithProfileImage("A", "http://old-minio:9000/okkul/profile/a.png");
+        userWithProfileImage("B", "https://storage.okkul.site/okkul/profile/b.png");
+        userWithProfileImage("C", "http://localhost:8080/files/profile/c.png");
+
+        // when
+        var referenced = collector.referencedKeys(List.of(
+                "profile/a.png", "profile/b.png", "profile/c.png", "profile/d.png", "other/a.png"
+        ));
+
+        // then: 파일 이름만 같고 키가 다른 객체는 참조되지 않은 것으로 봄
+        assertThat(referenced).containsExactlyInAnyOrder("profile/a.png", "profile/b.png", "profile/c.png");
+    }
+}
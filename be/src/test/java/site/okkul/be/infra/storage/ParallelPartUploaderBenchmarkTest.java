@@ -0,0 +1,125 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.BucketExistsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 MinIO(Testcontainers)에 대한 스트리밍 업로드 처리량 측정
+ * <p>
+ * 같은 본문을 단일 스트림 putObject, 병렬 multipart(parallelism 1, 4)로 올려 MB/s 를 기록합니다.
+ * 처리량은 환경에 따라 달라지므로 결과는 로그로 남기고, 검증은 업로드된 객체 크기만 확인합니다.
+ * (./gradlew integrationTest --tests '*ParallelPartUploaderBenchmarkTest')
+ */
+@Slf4j
+@Tag("integration")
+@Testcontainers
+class ParallelPartUploaderBenchmarkTest {
+
+    private static final String BUCKET = "okkul-bench";
+    private static final int BODY_SIZE = 64 * 1024 * 1024;
+    private static final DataSize PART_SIZE = DataSize.ofMegabytes(8);
+    private static final int ROUNDS = 3;
+
+    @Container
+    private static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private static MinioClient minioClient;
+    private static MultipartMinioClient multipartClient;
+    private static byte[] body;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        minioClient = MinioClient.builder()
+                .endpoint(MINIO.getS3URL())
+                .credentials(MINIO.getUserName(), MINIO.getPassword())
+                .build();
+        multipartClient = new MultipartMinioClient(MinioAsyncClient.builder()
+                .endpoint(MINIO.getS3URL())
+                .credentials(MINIO.getUserName(), MINIO.getPassword())
+                .build());
+        if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(BUCKET).build())) {
+            minioClient.makeBucket(MakeBucketArgs.builder().bucket(BUCKET).build());
+        }
+        body = new byte[BODY_SIZE];
+        ThreadLocalRandom.current().nextBytes(body);
+    }
+
+    @Test
+    @DisplayName("단일 스트림 putObject 와 병렬 multipart 업로드의 처리량을 측정한다")
+    void measureThroughput() throws Exception {
+        double baseline = measure("single-stream putObject", objectName -> {
+            try (InputStream in = new ByteArrayInputStream(body)) {
+                minioClient.putObject(PutObjectArgs.builder()
+                        .bucket(BUCKET)
+                        .object(objectName)
+                        .stream(in, -1, PART_SIZE.toBytes())
+                        .contentType("audio/mpeg")
+                        .build());
+            }
+        });
+        double sequential = measureUploader(1);
+        double parallel = measureUploader(4);
+
+        log.info("Upload throughput (MB/s): single-stream={}, multipart x1={}, multipart x4={}",
+                String.format("%.1f", baseline), String.format("%.1f", sequential), String.format("%.1f", parallel));
+    }
+
+    private double measureUploader(int parallelism) throws Exception {
+        ParallelPartUploader uploader = new ParallelPartUploader(
+                minioClient, multipartClient, new SimpleMeterRegistry(), BUCKET,
+                PART_SIZE, 8, parallelism, Duration.ofSeconds(30));
+        try {
+            return measure("multipart x" + parallelism,
+                    objectName -> uploader.upload(new ByteArrayInputStream(body), objectName, "audio/mpeg"));
+        } finally {
+            uploader.shutdown();
+        }
+    }
+
+    /**
+     * 워밍업 1회 후 ROUNDS 번 올린 평균 처리량 (MB/s)
+     */
+    private double measure(String label, Upload upload) throws Exception {
+        upload.run("bench/" + label.replace(' ', '-') + "/warmup");
+        long elapsed = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            String objectName = "bench/" + label.replace(' ', '-') + "/" + i;
+            long start = System.nanoTime();
+            upload.run(objectName);
+            elapsed += System.nanoTime() - start;
+            assertThat(minioClient.statObject(StatObjectArgs.builder().bucket(BUCKET).object(objectName).build()).size())
+                    .isEqualTo(BODY_SIZE);
+        }
+        double seconds = elapsed / 1e9;
+        double throughput = (double) BODY_SIZE * ROUNDS / (1024 * 1024) / seconds;
+        log.info("{}: {} MB in {} s -> {} MB/s", label, BODY_SIZE * ROUNDS / (1024 * 1024),
+                String.format("%.2f", seconds), String.format("%.1f", throughput));
+        return throughput;
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        void run(String objectName) throws Exception;
+    }
+}
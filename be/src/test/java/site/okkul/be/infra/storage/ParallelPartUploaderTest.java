@@ -0,0 +1,221 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import io.minio.messages.Part;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+import site.okkul.be.global.exception.BusinessException;
+
+import java.io.ByteArrayInputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("test")
+class ParallelPartUploaderTest {
+
+    private static final int PART_SIZE = (int) ParallelPartUploader.MIN_PART_SIZE;
+    private static final int MAX_IN_FLIGHT_PARTS = 2;
+
+    private MinioClient minioClient;
+    private MultipartMinioClient multipartClient;
+    private SimpleMeterRegistry meterRegistry;
+    private ParallelPartUploader uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        minioClient = mock(MinioClient.class);
+        multipartClient = mock(MultipartMinioClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(multipartClient.createMultipartUpload(anyString(), anyString(), anyString())).willReturn("upload-1");
+        given(multipartClient.uploadPart(anyString(), anyString(), anyString(), anyInt(), any(), anyInt()))
+                .willAnswer(invocation -> new Part(invocation.getArgument(3), "etag-" + invocation.getArgument(3)));
+        uploader = new ParallelPartUploader(
+                minioClient,
+                multipartClient,
+                meterRegistry,
+                "bucket",
+                DataSize.ofBytes(PART_SIZE),
+                MAX_IN_FLIGHT_PARTS,
+                4,
+                Duration.ofSeconds(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("파트 하나보다 작은 파일은 multipart 없이 바로 업로드한다")
+    void upload_smallFile_singlePut() throws Exception {
+        // given
+        byte[] body = new byte[1024];
+
+        // when
+        long uploaded = uploader.upload(new ByteArrayInputStream(body), "exam/1/answer/a.mp3", "audio/mpeg");
+
+        // then
+        assertThat(uploaded).isEqualTo(body.length);
+        verify(minioClient, times(1)).putObject(any());
+        verify(multipartClient, never()).createMultipartUpload(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("큰 파일은 multipart 업로드로 파트를 나눠 올린 뒤 번호 순서대로 완료한다")
+    void upload_largeFile_multipartUpload() throws Exception {
+        // given: 5MB + 5MB + 1KB -> 3개 파트
+        byte[] body = new byte[PART_SIZE * 2 + 1024];
+
+        // when
+        long uploaded = uploader.upload(new ByteArrayInputStream(body), "exam/1/answer/a.mp3", "audio/mpeg");
+
+        // then
+        assertThat(uploaded).isEqualTo(body.length);
+        verify(minioClient, never()).putObject(any());
+        verify(multipartClient).createMultipartUpload("bucket", "exam/1/answer/a.mp3", "audio/mpeg");
+        verify(multipartClient, times(2)).uploadPart(eq("bucket"), eq("exam/1/answer/a.mp3"), eq("upload-1"), anyInt(), any(), eq(PART_SIZE));
+        verify(multipartClient).uploadPart(eq("bucket"), eq("exam/1/answer/a.mp3"), eq("upload-1"), eq(3), any(), eq(1024));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Part>> partsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(multipartClient).completeMultipartUpload(eq("bucket"), eq("exam/1/answer/a.mp3"), eq("upload-1"), partsCaptor.capture());
+        assertThat(partsCaptor.getValue())
+                .extracting(Part::partNumber)
+                .containsExactly(1, 2, 3);
+        verify(multipartClient, never()).abortMultipartUpload(anyString(), anyString(), anyString());
+        assertThat(meterRegistry.get("storage.upload.stream.bytes").summary().totalAmount()).isEqualTo(body.length);
+    }
+
+    @Test
+    @DisplayName("동시에 업로드 중인 파트 수는 슬롯 수를 넘지 않는다")
+    void upload_boundedByPartSlots() throws Exception {
+        // given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        given(multipartClient.uploadPart(anyString(), anyString(), anyString(), anyInt(), any(), anyInt())).willAnswer(invocation -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            Thread.sleep(30);
+            inFlight.decrementAndGet();
+            return new Part(invocation.getArgument(3), "etag");
+        });
+        byte[] body = new byte[PART_SIZE * 6];
+
+        // when
+        uploader.upload(new ByteArrayInputStream(body), "exam/1/answer/a.mp3", "audio/mpeg");
+
+        // then
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT_PARTS);
+        assertThat(meterRegistry.get("storage.upload.parts.available").gauge().value()).isEqualTo(MAX_IN_FLIGHT_PARTS);
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트가 파트를 보내는 동안에는 슬롯을 잡지 않아 다른 업로드를 막지 않는다")
+    void upload_slowClient_doesNotHoldSlots() throws Exception {
+        // given: 파트 절반만 보내고 멈춘 클라이언트들
+        PipedOutputStream[] clients = new PipedOutputStream[MAX_IN_FLIGHT_PARTS + 1];
+        List<Thread> slowUploads = new ArrayList<>();
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = new PipedOutputStream();
+            PipedInputStream in = new PipedInputStream(clients[i], PART_SIZE);
+            clients[i].write(new byte[PART_SIZE / 2]);
+            String objectName = "exam/" + i + "/answer/slow.mp3";
+            Thread thread = new Thread(() -> {
+                try {
+                    uploader.upload(in, objectName, "audio/mpeg");
+                } catch (Exception ignored) {
+                    // 테스트 종료
+                }
+            });
+            thread.start();
+            slowUploads.add(thread);
+        }
+
+        // when
+        uploader.upload(new ByteArrayInputStream(new byte[PART_SIZE * 3]), "exam/1/answer/a.mp3", "audio/mpeg");
+
+        // then
+        assertThat(meterRegistry.get("storage.upload.parts.available").gauge().value()).isEqualTo(MAX_IN_FLIGHT_PARTS);
+        for (PipedOutputStream client : clients) {
+            client.close();
+        }
+        for (Thread thread : slowUploads) {
+            thread.join(5000);
+        }
+    }
+
+    @Test
+    @DisplayName("파트 슬롯이 대기 시간 안에 비지 않으면 503 으로 거절한다")
+    void upload_partSlotsExhausted_rejects() throws Exception {
+        // given: 파트 업로드가 끝나지 않아 슬롯 2개가 모두 사용 중
+        ParallelPartUploader busyUploader = new ParallelPartUploader(
+                minioClient, multipartClient, meterRegistry, "bucket",
+                DataSize.ofBytes(PART_SIZE), MAX_IN_FLIGHT_PARTS, 4, Duration.ofMillis(50));
+        CountDownLatch blocker = new CountDownLatch(1);
+        given(multipartClient.uploadPart(anyString(), anyString(), anyString(), anyInt(), any(), anyInt())).willAnswer(invocation -> {
+            blocker.await(5, TimeUnit.SECONDS);
+            return new Part(invocation.getArgument(3), "etag");
+        });
+        byte[] body = new byte[PART_SIZE * 4];
+        new Thread(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException ignored) {
+                // 테스트 종료
+            }
+            blocker.countDown();
+        }).start();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> busyUploader.upload(new ByteArrayInputStream(body), "exam/1/answer/a.mp3", "audio/mpeg"))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(StorageErrorCode.UPLOAD_BUSY);
+            verify(multipartClient).abortMultipartUpload("bucket", "exam/1/answer/a.mp3", "upload-1");
+        } finally {
+            busyUploader.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 예외를 던지고 multipart 업로드를 취소한다")
+    void upload_partFailure_cleansUp() throws Exception {
+        // given
+        given(multipartClient.uploadPart(anyString(), anyString(), anyString(), anyInt(), any(), anyInt()))
+                .willThrow(new RuntimeException("minio down"));
+        byte[] body = new byte[PART_SIZE * 2 + 1];
+
+        // when & then
+        assertThatThrownBy(() -> uploader.upload(new ByteArrayInputStream(body), "exam/1/answer/a.mp3", "audio/mpeg"))
+                .isInstanceOf(BusinessException.class);
+        verify(multipartClient, never()).completeMultipartUpload(anyString(), anyString(), anyString(), any());
+        verify(multipartClient).abortMultipartUpload("bucket", "exam/1/answer/a.mp3", "upload-1");
+        assertThat(meterRegistry.get("storage.upload.parts.available").gauge().value()).isEqualTo(MAX_IN_FLIGHT_PARTS);
+    }
+}
@@ -0,0 +1,147 @@
+package site.okkul.be.infra.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import site.okkul.be.global.exception.SystemException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("test")
+class SpoolingFileStorageServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private MinioFileStorageService minio;
+
+    @BeforeEach
+    void setUp() {
+        minio = mock(MinioFileStorageService.class);
+        given(minio.objectUrl(anyString())).willAnswer(invocation -> "http://minio/okkul/" + invocation.getArgument(0));
+        given(minio.objectNameOf(anyString())).willAnswer(invocation ->
+                invocation.<String>getArgument(0).substring("http://minio/okkul/".length()));
+    }
+
+    private SpoolingFileStorageService newService() throws IOException {
+        return new SpoolingFileStorageService(minio, new SimpleMeterRegistry(), dir,
+                DataSize.ofMegabytes(1), 10, Duration.ZERO, Duration.ZERO, 10, Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("업로드는 MinIO 호출 없이 최종 URL 을 반환하고, flush 후 스풀이 비워진다")
+    void upload_returnsFinalUrlBeforeFlush() throws Exception {
+        // given
+        SpoolingFileStorageService service = newService();
+
+        // when
+        String url = service.uploadStream(new ByteArrayInputStream(new byte[10]), "a.webm", "audio/webm", "answer");
+
+        // then
+        assertThat(url).startsWith("http://minio/okkul/answer/").endsWith(".webm");
+        verify(minio, never()).putFile(any(), anyString(), anyString());
+
+        service.flush();
+        verify(minio, times(1)).putFile(any(), eq(url.substring("http://minio/okkul/".length())), eq("audio/webm"));
+        try (var files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("flush 전에는 스풀 파일로 객체를 찾을 수 있고, flush 후에는 찾지 않는다")
+    void findSpooled_untilFlushed() throws Exception {
+        // given
+        SpoolingFileStorageService service = newService();
+        byte[] body = "audio".getBytes();
+        String url = service.uploadStream(new ByteArrayInputStream(body), "a.webm", "audio/webm", "answer");
+        String objectName = url.substring("http://minio/okkul/".length());
+
+        // when
+        var spooled = service.findSpooled(objectName);
+
+        // then
+        assertThat(spooled).isPresent();
+        assertThat(Files.readAllBytes(spooled.get().data())).isEqualTo(body);
+        assertThat(spooled.get().contentType()).isEqualTo("audio/webm");
+
+        service.flush();
+        assertThat(service.findSpooled(objectName)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("MinIO 장애 중 재시작해도 스풀 항목이 복구되어 다시 업로드된다")
+    void flush_recoversAfterRestart() throws Exception {
+        // given: MinIO 장애로 flush 실패
+        willThrow(new IOException("minio down")).given(minio).putFile(any(), anyString(), anyString());
+        SpoolingFileStorageService beforeRestart = newService();
+        beforeRestart.uploadStream(new ByteArrayInputStream(new byte[10]), "a.webm", "audio/webm", "answer");
+        beforeRestart.flush();
+
+        // when: 재시작 후 MinIO 복구
+        SpoolingFileStorageService afterRestart = newService();
+        reset(minio);
+        afterRestart.flush();
+
+        // then
+        verify(minio, times(1)).putFile(any(), anyString(), eq("audio/webm"));
+        try (var files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("이 서버가 스풀한 객체는 awaitStored 에서 flush 차례를 기다리지 않고 바로 올리고, 주기 flush 는 다시 올리지 않는다")
+    void awaitStored_uploadsLocalEntryImmediately() throws Exception {
+        // given
+        SpoolingFileStorageService service = newService();
+        String url = service.uploadStream(new ByteArrayInputStream(new byte[10]), "a.webm", "audio/webm", "answer");
+        String objectName = url.substring("http://minio/okkul/".length());
+
+        // when
+        service.awaitStored(url);
+        service.flush();
+
+        // then
+        verify(minio, times(1)).putFile(any(), eq(objectName), eq("audio/webm"));
+        assertThat(service.findSpooled(objectName)).isEmpty();
+        verify(minio, never()).exists(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 스풀한 객체는 MinIO 에 반영될 때까지 기다리고, 제한 시간이 지나면 실패한다")
+    void awaitStored_waitsForOtherReplica() throws Exception {
+        // given
+        SpoolingFileStorageService service = newService();
+        given(minio.exists("answer/remote.webm")).willReturn(false, false, true);
+        given(minio.exists("answer/missing.webm")).willReturn(false);
+
+        // when & then
+        service.awaitStored("http://minio/okkul/answer/remote.webm");
+        verify(minio, times(3)).exists("answer/remote.webm");
+
+        assertThatThrownBy(() -> service.awaitStored("http://minio/okkul/answer/missing.webm"))
+                .isInstanceOf(SystemException.class);
+    }
+}
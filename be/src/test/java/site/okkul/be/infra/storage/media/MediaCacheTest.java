@@ -0,0 +1,95 @@
+package site.okkul.be.infra.storage.media;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import okhttp3.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Tag("test")
+class MediaCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private MinioClient minioClient;
+    private SimpleMeterRegistry meterRegistry;
+    private MediaCache mediaCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        minioClient = mock(MinioClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // 객체마다 100 바이트
+        given(minioClient.getObject(any(GetObjectArgs.class))).willAnswer(invocation -> {
+            GetObjectArgs args = invocation.getArgument(0);
+            return new GetObjectResponse(Headers.of(), "bucket", "", args.object(), new ByteArrayInputStream(new byte[100]));
+        });
+        mediaCache = new MediaCache(minioClient, meterRegistry, "http://minio", "bucket",
+                dir, DataSize.ofBytes(250), List.of("exam/"), true);
+        mediaCache.restore();
+    }
+
+    @Test
+    @DisplayName("두 번째 요청은 디스크 캐시에서 응답하고 히트율에 반영된다")
+    void get_hitAfterMiss() throws Exception {
+        // when
+        Path first = mediaCache.get("question/1.mp3");
+        Path second = mediaCache.get("question/1.mp3");
+
+        // then
+        assertThat(second).isEqualTo(first).exists();
+        verify(minioClient, times(1)).getObject(any(GetObjectArgs.class));
+        assertThat(meterRegistry.get("media.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 쓰지 않은 파일부터 지운다")
+    void get_evictsLeastRecentlyUsed() throws Exception {
+        // given
+        Path q1 = mediaCache.get("question/1.mp3");
+        Path q2 = mediaCache.get("question/2.mp3");
+        mediaCache.get("question/1.mp3"); // 1번을 최근 사용으로
+
+        // when
+        Path q3 = mediaCache.get("question/3.mp3");
+
+        // then
+        assertThat(q1).exists();
+        assertThat(q2).doesNotExist();
+        assertThat(q3).exists();
+        assertThat(meterRegistry.get("media.cache.size").gauge().value()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("prewarm 은 MinIO URL 중 캐시 대상만 미리 받아 둔다")
+    void prewarm_onlyCacheableMinioUrls() throws Exception {
+        // when
+        mediaCache.prewarm(List.of(
+                "http://minio/bucket/question/1.mp3",
+                "http://minio/bucket/exam/1/answer/1/a.webm",
+                "https://elsewhere/question/2.mp3"
+        ));
+
+        // then
+        verify(minioClient, times(1)).getObject(any(GetObjectArgs.class));
+        assertThat(dir.resolve("question/1.mp3")).exists();
+    }
+}